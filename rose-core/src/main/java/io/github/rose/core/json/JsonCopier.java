@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.rose.core.reflect.Accessors;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 基于{@link TokenBuffer}的深拷贝工具，对象被序列化为内存中的token序列后直接反序列化，不经过json文本的编码和解析，数字、二进制等值保持原始类型。
+ *
+ * <p>不可变的值（字符串、包装类型、枚举、{@code java.time}等）直接返回。对已知的bean类型，可以通过{@link #register}注册自定义拷贝函数，
+ * 或通过{@link #registerFields}注册按字段拷贝的函数（基于{@link Accessors}编译的方法句柄），跳过jackson的序列化过程。不支持循环引用。
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class JsonCopier {
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigInteger.class,
+            BigDecimal.class,
+            UUID.class,
+            Class.class));
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, UnaryOperator<?>> copiers = new ConcurrentHashMap<>();
+
+    public JsonCopier(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 注册类型的拷贝函数，只用于运行时类型完全相同的对象
+     *
+     * @param type   类型
+     * @param copier 拷贝函数
+     * @param <T>    类型
+     * @return this
+     */
+    public <T> JsonCopier register(Class<T> type, UnaryOperator<T> copier) {
+        copiers.put(type, copier);
+        return this;
+    }
+
+    /**
+     * 注册按字段拷贝的函数：通过无参构造函数创建实例，再逐个深拷贝所有非静态字段（包括父类字段）。与jackson序列化不同，忽略json注解，
+     * 也会拷贝transient字段
+     *
+     * @param type 类型，必须有无参构造函数
+     * @param <T>  类型
+     * @return this
+     */
+    public <T> JsonCopier registerFields(Class<T> type) {
+        return register(type, new FieldCopier<>(type));
+    }
+
+    public <T> T copy(T value) {
+        if (value == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Class<T> valueClass = (Class<T>) value.getClass();
+        return copy(value, objectMapper.constructType(valueClass));
+    }
+
+    public <T> T copy(Object value, TypeReference<T> type) {
+        return copy(value, objectMapper.getTypeFactory().constructType(type));
+    }
+
+    /**
+     * 按指定类型深拷贝，类型中的泛型参数用于还原集合元素等信息
+     *
+     * @param value 原对象
+     * @param type  类型
+     * @param <T>   类型
+     * @return 拷贝后的对象
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(Object value, JavaType type) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> valueClass = value.getClass();
+        if (isImmutable(valueClass)) {
+            return (T) value;
+        }
+        UnaryOperator<Object> copier = (UnaryOperator<Object>) copiers.get(valueClass);
+        if (copier != null) {
+            return (T) copier.apply(value);
+        }
+        if (!type.isContainerType() && type.getRawClass() != valueClass) {
+            type = objectMapper.getTypeFactory().constructSpecializedType(type, valueClass);
+        }
+        try (TokenBuffer buffer = new TokenBuffer(objectMapper, false)) {
+            objectMapper.writeValue(buffer, value);
+            try (JsonParser parser = buffer.asParserOnFirstToken()) {
+                return objectMapper.readValue(parser, type);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The given value cannot be copied: " + valueClass.getName(), e);
+        }
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE_TYPES.contains(type)
+                || type.isEnum()
+                || (type.getSuperclass() != null && type.getSuperclass().isEnum())
+                || type.getName().startsWith("java.time.");
+    }
+
+    private final class FieldCopier<T> implements UnaryOperator<T> {
+        private final Accessors.Factory<T> factory;
+        private final List<FieldAccessor> fields = new ArrayList<>();
+
+        private FieldCopier(Class<T> type) {
+            this.factory = Accessors.factory(type);
+            for (Class<?> current = type;
+                    current != null && current != Object.class;
+                    current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        fields.add(new FieldAccessor(field));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public T apply(T source) {
+            T target = factory.newInstance();
+            for (FieldAccessor field : fields) {
+                field.copy(source, target);
+            }
+            return target;
+        }
+    }
+
+    private final class FieldAccessor {
+        private final Accessors.Getter<Object, Object> getter;
+        private final Accessors.Setter<Object, Object> setter;
+        private final JavaType type;
+        private final boolean shared;
+
+        private FieldAccessor(Field field) {
+            this.getter = Accessors.getter(field);
+            this.setter = Accessors.setter(field);
+            this.type = objectMapper.constructType(field.getGenericType());
+            this.shared = field.getType().isPrimitive() || field.isSynthetic();
+        }
+
+        void copy(Object source, Object target) {
+            Object value = getter.get(source);
+            setter.set(target, shared ? value : JsonCopier.this.copy(value, type));
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于{@link JsonParser}的流式扁平化工具，在不构建{@link JsonNode}树的情况下把json转换为以点号分隔路径为键的{@link Map}，并支持反向还原。
+ *
+ * <p>扁平化时路径保存在一个复用的{@link StringBuilder}中，每层只记录路径长度，不为每个节点拼接新字符串。数组的路径格式由{@link ArrayNotation}决定，
+ * 超过最大深度的子结构保留为json文本。路径中不支持转义，包含点号或方括号的键无法正确还原。
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class JsonFlattener {
+    /**
+     * 数组使用方括号下标，如 {@code a.b[0].c}
+     */
+    public static final JsonFlattener DEFAULT = new JsonFlattener(ArrayNotation.BRACKETS, Integer.MAX_VALUE);
+
+    /**
+     * 忽略数组，与{@link JsonUtils#toFlatMap(JsonNode)}原有行为一致
+     */
+    public static final JsonFlattener OBJECTS_ONLY = new JsonFlattener(ArrayNotation.NONE, Integer.MAX_VALUE);
+
+    private static final char SEPARATOR = '.';
+    private static final JsonFactory JSON_FACTORY = JsonUtils.OBJECT_MAPPER.getFactory();
+
+    private final ArrayNotation arrayNotation;
+    private final int maxDepth;
+
+    private JsonFlattener(ArrayNotation arrayNotation, int maxDepth) {
+        this.arrayNotation = arrayNotation;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @param arrayNotation 数组路径格式
+     * @return 新的扁平化工具
+     */
+    public JsonFlattener withArrayNotation(ArrayNotation arrayNotation) {
+        if (arrayNotation == null) {
+            throw new IllegalArgumentException("Array notation cannot be null");
+        }
+        return new JsonFlattener(arrayNotation, maxDepth);
+    }
+
+    /**
+     * @param maxDepth 展开的最大层数，更深的对象或数组以json文本作为值
+     * @return 新的扁平化工具
+     */
+    public JsonFlattener withMaxDepth(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Max depth cannot be negative: " + maxDepth);
+        }
+        return new JsonFlattener(arrayNotation, maxDepth);
+    }
+
+    public ArrayNotation getArrayNotation() {
+        return arrayNotation;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public Map<String, String> flatten(String json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return flatten(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The given string value cannot be flattened: " + json, e);
+        }
+    }
+
+    public Map<String, String> flatten(byte[] json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return flatten(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The given bytes cannot be flattened", e);
+        }
+    }
+
+    public Map<String, String> flatten(InputStream json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return flatten(parser);
+        }
+    }
+
+    public Map<String, String> flatten(JsonNode node) {
+        try (JsonParser parser = node.traverse(JsonUtils.OBJECT_MAPPER)) {
+            return flatten(parser);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 从解析器的当前位置读取一个json值并扁平化，读取结束后解析器停在该值的最后一个token上
+     *
+     * @param parser json解析器
+     * @return 按出现顺序排列的路径和文本值，null值为字符串{@code "null"}
+     * @throws IOException 读取失败
+     */
+    public Map<String, String> flatten(JsonParser parser) throws IOException {
+        Map<String, String> result = new LinkedHashMap<>();
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        StringBuilder path = new StringBuilder(64);
+        // 每层容器的路径长度、是否为数组以及数组的下一个下标
+        int[] bases = new int[16];
+        boolean[] arrays = new boolean[16];
+        int[] indexes = new int[16];
+        int depth = 0;
+
+        for (; token != null; token = parser.nextToken()) {
+            if (token == JsonToken.FIELD_NAME) {
+                path.setLength(bases[depth - 1]);
+                if (path.length() > 0) {
+                    path.append(SEPARATOR);
+                }
+                path.append(parser.currentName());
+                continue;
+            }
+            if (token.isStructEnd()) {
+                if (--depth == 0) {
+                    break;
+                }
+                continue;
+            }
+            if (depth > 0 && arrays[depth - 1]) {
+                path.setLength(bases[depth - 1]);
+                appendIndex(path, indexes[depth - 1]++);
+            }
+            if (!token.isStructStart()) {
+                result.put(path.toString(), parser.getText());
+            } else if (token == JsonToken.START_ARRAY && arrayNotation == ArrayNotation.NONE) {
+                parser.skipChildren();
+            } else if (depth >= maxDepth) {
+                result.put(path.toString(), copyStructure(parser));
+            } else {
+                if (depth == bases.length) {
+                    bases = Arrays.copyOf(bases, depth << 1);
+                    arrays = Arrays.copyOf(arrays, depth << 1);
+                    indexes = Arrays.copyOf(indexes, depth << 1);
+                }
+                bases[depth] = path.length();
+                arrays[depth] = token == JsonToken.START_ARRAY;
+                indexes[depth] = 0;
+                depth++;
+                continue;
+            }
+            if (depth == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 把扁平化的路径还原为json树，字符串、数字、布尔值和null分别还原为对应类型的节点，其他值使用其字符串形式
+     *
+     * @param flatMap 路径和值
+     * @return 还原后的对象或数组，只有空路径时为该值本身
+     */
+    public JsonNode unflatten(Map<String, ?> flatMap) {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        JsonNode root = null;
+        List<Object> segments = new ArrayList<>();
+        for (Map.Entry<String, ?> entry : flatMap.entrySet()) {
+            String key = entry.getKey();
+            JsonNode value = valueNode(factory, entry.getValue());
+            if (key.isEmpty()) {
+                if (flatMap.size() > 1) {
+                    throw new IllegalArgumentException("The empty path conflicts with the other paths");
+                }
+                return value;
+            }
+            parsePath(key, segments);
+            if (root == null) {
+                root = segments.get(0) instanceof Integer ? factory.arrayNode() : factory.objectNode();
+            }
+            JsonNode container = root;
+            for (int i = 0, n = segments.size(); i < n; i++) {
+                Object segment = segments.get(i);
+                JsonNode child = i == n - 1
+                        ? value
+                        : (segments.get(i + 1) instanceof Integer ? factory.arrayNode() : factory.objectNode());
+                container = setIfAbsent(container, segment, child, key, i == n - 1);
+            }
+        }
+        return root == null ? factory.objectNode() : root;
+    }
+
+    private void appendIndex(StringBuilder path, int index) {
+        if (arrayNotation == ArrayNotation.BRACKETS) {
+            path.append('[').append(index).append(']');
+        } else {
+            if (path.length() > 0) {
+                path.append(SEPARATOR);
+            }
+            path.append(index);
+        }
+    }
+
+    private void parsePath(String key, List<Object> segments) {
+        segments.clear();
+        boolean brackets = arrayNotation == ArrayNotation.BRACKETS;
+        int length = key.length();
+        int i = 0;
+        while (i < length) {
+            int end;
+            if (brackets && key.charAt(i) == '[') {
+                end = key.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed array index in path " + key);
+                }
+                segments.add(parseIndex(key, i + 1, end));
+                end++;
+            } else {
+                end = i;
+                while (end < length && key.charAt(end) != SEPARATOR && !(brackets && key.charAt(end) == '[')) {
+                    end++;
+                }
+                addSegment(key.substring(i, end), segments);
+            }
+            i = end < length && key.charAt(end) == SEPARATOR ? end + 1 : end;
+        }
+    }
+
+    private void addSegment(String segment, List<Object> segments) {
+        if (arrayNotation == ArrayNotation.DOTS && isIndex(segment)) {
+            segments.add(Integer.valueOf(segment));
+        } else {
+            segments.add(segment);
+        }
+    }
+
+    private static boolean isIndex(String segment) {
+        if (segment.isEmpty() || segment.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Integer parseIndex(String key, int start, int end) {
+        String index = key.substring(start, end);
+        if (!isIndex(index)) {
+            throw new IllegalArgumentException("Invalid array index in path " + key);
+        }
+        return Integer.valueOf(index);
+    }
+
+    private static JsonNode setIfAbsent(JsonNode container, Object segment, JsonNode child, String key, boolean leaf) {
+        JsonNode existing;
+        if (segment instanceof Integer) {
+            if (!container.isArray()) {
+                throw conflict(key);
+            }
+            ArrayNode array = (ArrayNode) container;
+            int index = (Integer) segment;
+            while (array.size() <= index) {
+                array.addNull();
+            }
+            existing = array.get(index);
+            if (existing.isNull()) {
+                array.set(index, child);
+                return child;
+            }
+        } else {
+            if (!container.isObject()) {
+                throw conflict(key);
+            }
+            ObjectNode object = (ObjectNode) container;
+            existing = object.get((String) segment);
+            if (existing == null) {
+                object.set((String) segment, child);
+                return child;
+            }
+        }
+        if (leaf || !existing.isContainerNode() || existing.isArray() != child.isArray()) {
+            throw conflict(key);
+        }
+        return existing;
+    }
+
+    private static IllegalArgumentException conflict(String key) {
+        return new IllegalArgumentException("The path " + key + " conflicts with another path");
+    }
+
+    private static JsonNode valueNode(JsonNodeFactory factory, Object value) {
+        if (value == null) {
+            return NullNode.getInstance();
+        }
+        if (value instanceof JsonNode) {
+            return (JsonNode) value;
+        }
+        if (value instanceof CharSequence) {
+            return factory.textNode(value.toString());
+        }
+        if (value instanceof Boolean) {
+            return factory.booleanNode((Boolean) value);
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return factory.numberNode(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return factory.numberNode((Long) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return factory.numberNode(((Number) value).doubleValue());
+        }
+        if (value instanceof BigDecimal) {
+            return factory.numberNode((BigDecimal) value);
+        }
+        if (value instanceof BigInteger) {
+            return factory.numberNode((BigInteger) value);
+        }
+        return factory.textNode(value.toString());
+    }
+
+    private static String copyStructure(JsonParser parser) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * 数组元素的路径格式
+     */
+    public enum ArrayNotation {
+        /**
+         * 忽略数组及其中的所有值
+         */
+        NONE,
+        /**
+         * 方括号下标，如 {@code a[0].b}
+         */
+        BRACKETS,
+        /**
+         * 点号下标，如 {@code a.0.b}，还原时纯数字的路径段视为数组下标
+         */
+        DOTS
+    }
+}
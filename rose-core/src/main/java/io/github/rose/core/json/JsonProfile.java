@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 命名的{@link ObjectMapper}配置，每个配置按类型缓存预先创建的{@link ObjectReader}和{@link ObjectWriter}，调用方按场景显式选择：
+ *
+ * <ul>
+ *   <li>{@link #CANONICAL}：即{@link JsonUtils#OBJECT_MAPPER}，按键排序输出map，结果稳定，用于签名、比较和缓存键</li>
+ *   <li>{@link #FAST}：不排序map的键，用于消息、响应等不要求输出稳定的热点路径</li>
+ *   <li>{@link #LOGGING}：在{@link #FAST}的基础上把自引用输出为null，打印日志时不会因为对象结构而失败</li>
+ * </ul>
+ *
+ * <p>可以通过{@link #register(String, ObjectMapper)}注册其他配置，注册后的{@link ObjectMapper}不应再修改。
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class JsonProfile {
+    private static final Map<String, JsonProfile> profiles = new ConcurrentHashMap<>();
+
+    public static final JsonProfile CANONICAL = register("canonical", JsonUtils.OBJECT_MAPPER);
+
+    public static final JsonProfile FAST = register(
+            "fast", JsonUtils.OBJECT_MAPPER.copy().disable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+
+    public static final JsonProfile LOGGING = register(
+            "logging",
+            JsonUtils.OBJECT_MAPPER
+                    .copy()
+                    .disable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .disable(SerializationFeature.FAIL_ON_SELF_REFERENCES)
+                    .enable(SerializationFeature.WRITE_SELF_REFERENCES_AS_NULL));
+
+    private final String name;
+    private final ObjectMapper objectMapper;
+    private final ClassValue<ObjectReader> readers = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return objectMapper.readerFor(type);
+        }
+    };
+    private final ClassValue<ObjectWriter> writers = new ClassValue<ObjectWriter>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return objectMapper.writerFor(type);
+        }
+    };
+
+    private JsonProfile(String name, ObjectMapper objectMapper) {
+        this.name = name;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 注册配置
+     *
+     * @param name         唯一的名称
+     * @param objectMapper 配置完成的{@link ObjectMapper}
+     * @return 配置
+     */
+    public static JsonProfile register(String name, ObjectMapper objectMapper) {
+        JsonProfile profile = new JsonProfile(name, objectMapper);
+        if (profiles.putIfAbsent(name, profile) != null) {
+            throw new IllegalStateException("A json profile named " + name + " is already registered");
+        }
+        return profile;
+    }
+
+    /**
+     * 获取已注册的配置
+     *
+     * @param name 名称
+     * @return 配置
+     */
+    public static JsonProfile get(String name) {
+        JsonProfile profile = profiles.get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("No json profile named " + name);
+        }
+        return profile;
+    }
+
+    public static Collection<JsonProfile> profiles() {
+        return Collections.unmodifiableCollection(profiles.values());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public ObjectReader readerFor(Class<?> type) {
+        return readers.get(type);
+    }
+
+    public ObjectWriter writerFor(Class<?> type) {
+        return writers.get(type);
+    }
+
+    public byte[] toBytes(Object value) {
+        try {
+            return value != null ? writerFor(value.getClass()).writeValueAsBytes(value) : null;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public String toJson(Object value) {
+        try {
+            return value != null ? writerFor(value.getClass()).writeValueAsString(value) : null;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> T fromJson(byte[] bytes, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValue(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> T fromJson(String string, Class<T> clazz) {
+        try {
+            return readerFor(clazz).readValue(string);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "The given string value cannot be transformed to Json object: " + string, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonProfile{" + name + "}";
+    }
+}
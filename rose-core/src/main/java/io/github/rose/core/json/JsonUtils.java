@@ -44,6 +44,7 @@ import java.util.*;
  */
 public class JsonUtils {
     public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    public static final JsonCopier COPIER = new JsonCopier(OBJECT_MAPPER);
 
     static {
         OBJECT_MAPPER
@@ -172,9 +173,11 @@ public class JsonUtils {
     }
 
     public static <T> T clone(T value) {
-        @SuppressWarnings("unchecked")
-        Class<T> valueClass = (Class<T>) value.getClass();
-        return fromJson(toJson(value), valueClass);
+        return COPIER.copy(value);
+    }
+
+    public static <T> T clone(Object value, TypeReference<T> type) {
+        return COPIER.copy(value, type);
     }
 
     public static JsonNode getSafely(JsonNode node, String... path) {
@@ -200,21 +203,14 @@ public class JsonUtils {
     }
 
     public static Map<String, String> toFlatMap(JsonNode node) {
-        HashMap<String, String> map = new HashMap<>();
-        toFlatMap(node, "", map);
-        return map;
-    }
-
-    private static void toFlatMap(JsonNode node, String currentPath, Map<String, String> map) {
-        if (node.isObject()) {
-            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
-            currentPath = currentPath.isEmpty() ? "" : currentPath + ".";
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> entry = fields.next();
-                toFlatMap(entry.getValue(), currentPath + entry.getKey(), map);
-            }
-        } else if (node.isValueNode()) {
-            map.put(currentPath, node.asText());
-        }
+        return JsonFlattener.OBJECTS_ONLY.flatten(node);
+    }
+
+    public static Map<String, String> toFlatMap(String json) {
+        return JsonFlattener.OBJECTS_ONLY.flatten(json);
+    }
+
+    public static JsonNode fromFlatMap(Map<String, ?> flatMap) {
+        return JsonFlattener.OBJECTS_ONLY.unflatten(flatMap);
     }
 }
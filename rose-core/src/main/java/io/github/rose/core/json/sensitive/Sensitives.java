@@ -16,6 +16,7 @@
 package io.github.rose.core.json.sensitive;
 
 import io.github.rose.core.util.StringPool;
+import java.util.Arrays;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -30,24 +31,44 @@ public class Sensitives {
 
     public static final String IPV6_MASK = ":*:*:*:*:*:*:*";
 
+    /**
+     * 保留前后指定长度的字符，中间的每个字符替换为打码字符串
+     *
+     * @param origin     原始字符串
+     * @param prefixKeep 前置不需要打码的长度
+     * @param suffixKeep 后置不需要打码的长度
+     * @param mask       打码字符串
+     * @return 结果，原始字符串为空白时返回空字符串
+     */
     public static String deSensitive(String origin, int prefixKeep, int suffixKeep, String mask) {
         if (StringUtils.isBlank(origin)) {
             return StringPool.EMPTY;
         }
 
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0, n = origin.length(); i < n; i++) {
-            if (i < prefixKeep) {
-                sb.append(origin.charAt(i));
-                continue;
-            }
-            if (i > (n - suffixKeep - 1)) {
-                sb.append(origin.charAt(i));
-                continue;
+        final int length = origin.length();
+        final int maskStart = Math.min(Math.max(prefixKeep, 0), length);
+        final int maskEnd = Math.max(maskStart, length - Math.max(suffixKeep, 0));
+        final int masked = maskEnd - maskStart;
+        if (masked == 0) {
+            return origin;
+        }
+
+        final String maskString = String.valueOf(mask);
+        final int maskLength = maskString.length();
+        final char[] chars = new char[length - masked + masked * maskLength];
+        origin.getChars(0, maskStart, chars, 0);
+        int position = maskStart;
+        if (maskLength == 1) {
+            Arrays.fill(chars, position, position + masked, maskString.charAt(0));
+            position += masked;
+        } else {
+            for (int i = 0; i < masked; i++) {
+                maskString.getChars(0, maskLength, chars, position);
+                position += maskLength;
             }
-            sb.append(mask);
         }
-        return sb.toString();
+        origin.getChars(maskEnd, length, chars, position);
+        return new String(chars);
     }
 
     /**
@@ -22,74 +22,107 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import io.github.rose.core.spring.expression.SpringExpressionResolver;
+import io.github.rose.core.util.StringPool;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.expression.Expression;
 
 /**
+ * 脱敏序列化器，{@link FieldSensitive}在{@link #createContextual}中预先解析为打码函数和编译后的禁用表达式，序列化时不再解析注解和表达式
+ *
  * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
  * @since 0.0.1
  */
 public class StringSensitiveSerialize extends JsonSerializer<String> implements ContextualSerializer {
 
-    private FieldSensitive fieldSensitive;
+    private final UnaryOperator<String> masker;
+
+    /**
+     * 禁用表达式，为null时始终脱敏
+     */
+    private final Expression disabled;
 
     public StringSensitiveSerialize(FieldSensitive fieldSensitive) {
-        this.fieldSensitive = fieldSensitive;
+        this.masker = compileMasker(fieldSensitive);
+        this.disabled = compileDisabled(fieldSensitive.disabled());
     }
 
-    public StringSensitiveSerialize() {}
-
-    private String handler(FieldSensitive fieldSensitive, String origin) {
-        Object disable = SpringExpressionResolver.getInstance().resolve(fieldSensitive.disabled());
-        if (Boolean.TRUE.equals(disable)) {
-            return origin;
-        }
+    public StringSensitiveSerialize() {
+        this.masker = UnaryOperator.identity();
+        this.disabled = null;
+    }
 
+    private static UnaryOperator<String> compileMasker(FieldSensitive fieldSensitive) {
         ObjectUtils.requireNonEmpty(fieldSensitive.type(), "Sensitive type enum should not be null.");
         switch (fieldSensitive.type()) {
             case CHINESE_NAME:
-                return Sensitives.chineseName(origin);
+                return Sensitives::chineseName;
             case ID_CARD:
-                return Sensitives.idCardNum(origin);
+                return Sensitives::idCardNum;
             case BANK_CARD:
-                return Sensitives.bankCard(origin);
+                return Sensitives::bankCard;
             case CAR_LICENSE:
-                return Sensitives.carLicense(origin);
+                return Sensitives::carLicense;
             case TEL:
-                return Sensitives.tel(origin);
+                return Sensitives::tel;
             case PHONE:
-                return Sensitives.phone(origin);
+                return Sensitives::phone;
             case ADDRESS:
-                return Sensitives.address(origin);
+                return Sensitives::address;
             case EMAIL:
-                return Sensitives.email(origin);
+                return Sensitives::email;
             case SECRET:
-                return Sensitives.secret(origin);
+                return Sensitives::secret;
             case IPV4:
-                return Sensitives.ipv4(origin);
+                return Sensitives::ipv4;
             case IPV6:
-                return Sensitives.ipv6(origin);
+                return Sensitives::ipv6;
             case FIRST_MASK:
-                return Sensitives.deSensitive(origin, 1, 0, fieldSensitive.mask());
+                final String firstMask = fieldSensitive.mask();
+                return origin -> Sensitives.deSensitive(origin, 1, 0, firstMask);
             case CUSTOM:
-                return Sensitives.deSensitive(
-                        origin, fieldSensitive.prefixKeep(), fieldSensitive.suffixKeep(), fieldSensitive.mask());
+                final int prefixKeep = fieldSensitive.prefixKeep();
+                final int suffixKeep = fieldSensitive.suffixKeep();
+                final String mask = fieldSensitive.mask();
+                return origin -> Sensitives.deSensitive(origin, prefixKeep, suffixKeep, mask);
             default:
                 throw new IllegalArgumentException("Unknown sensitive type enum " + fieldSensitive.type());
         }
     }
 
+    /**
+     * 模板中没有表达式时结果为字符串本身，不可能为{@link Boolean#TRUE}，无需在序列化时求值
+     */
+    private static Expression compileDisabled(String disabled) {
+        if (StringUtils.isBlank(disabled) || !disabled.contains(StringPool.DOLLAR_LEFT_BRACE)) {
+            return null;
+        }
+        return SpringExpressionResolver.parse(disabled);
+    }
+
+    private boolean isDisabled() {
+        if (disabled == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(SpringExpressionResolver.getInstance().getValue(disabled));
+    }
+
     @Override
     public void serialize(
             final String origin, final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider)
             throws IOException {
-        jsonGenerator.writeString(handler(fieldSensitive, origin));
+        jsonGenerator.writeString(isDisabled() ? origin : masker.apply(origin));
     }
 
     @Override
     public JsonSerializer<?> createContextual(
             final SerializerProvider serializerProvider, final BeanProperty beanProperty) throws JsonMappingException {
+        if (beanProperty == null) {
+            return this;
+        }
         FieldSensitive annotation = beanProperty.getAnnotation(FieldSensitive.class);
         if (Objects.nonNull(annotation)
                 && Objects.equals(String.class, beanProperty.getType().getRawClass())) {
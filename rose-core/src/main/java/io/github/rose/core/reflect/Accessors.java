@@ -0,0 +1,326 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import io.github.rose.core.exception.RoseErrorCode;
+import io.github.rose.core.exception.RoseException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Compiles fields, methods and constructors into cached accessors backed by {@link MethodHandle}s (and by
+ * {@link LambdaMetafactory} for no-arg constructors), which avoid the access checks and argument boxing of
+ * {@link Field#get(Object)}, {@link Method#invoke(Object, Object...)} and {@link Constructor#newInstance(Object...)}.
+ *
+ * <p>When the member cannot be made accessible (for instance because its module is not open), the accessors
+ * fall back to plain reflection. Unchecked exceptions and errors thrown by the members are propagated unchanged,
+ * checked exceptions are wrapped in a {@link RoseException}.
+ */
+public final class Accessors {
+    private static final MetadataCache<Field, Getter<?, ?>> getters =
+            MetadataCaches.create("accessors.getters", Member::getDeclaringClass);
+    private static final MetadataCache<Field, Setter<?, ?>> setters =
+            MetadataCaches.create("accessors.setters", Member::getDeclaringClass);
+    private static final MetadataCache<Method, Invoker<?, ?>> invokers =
+            MetadataCaches.create("accessors.invokers", Member::getDeclaringClass);
+    private static final MetadataCache<Constructor<?>, Factory<?>> factories =
+            MetadataCaches.create("accessors.factories", Member::getDeclaringClass);
+
+    private Accessors() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Returns a getter of the specified field. Static fields ignore the target passed to the getter.
+     *
+     * @param field the field.
+     * @param <T>   the type of the object declaring the field.
+     * @param <V>   the type of the field value.
+     * @return the cached getter.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> Getter<T, V> getter(Field field) {
+        return (Getter<T, V>) getters.get(field, Accessors::compileGetter);
+    }
+
+    /**
+     * Returns a setter of the specified field. Static fields ignore the target passed to the setter.
+     *
+     * @param field the field.
+     * @param <T>   the type of the object declaring the field.
+     * @param <V>   the type of the field value.
+     * @return the cached setter.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> Setter<T, V> setter(Field field) {
+        return (Setter<T, V>) setters.get(field, Accessors::compileSetter);
+    }
+
+    /**
+     * Returns an invoker of the specified method. Static methods ignore the target passed to the invoker.
+     *
+     * @param method the method.
+     * @param <T>    the type of the object declaring the method.
+     * @param <R>    the type of the method return value.
+     * @return the cached invoker.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Invoker<T, R> invoker(Method method) {
+        return (Invoker<T, R>) invokers.get(method, Accessors::compileInvoker);
+    }
+
+    /**
+     * Returns a factory invoking the specified constructor.
+     *
+     * @param constructor the constructor.
+     * @param <T>         the type of the created objects.
+     * @return the cached factory.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Factory<T> factory(Constructor<T> constructor) {
+        return (Factory<T>) factories.get(constructor, Accessors::compileFactory);
+    }
+
+    /**
+     * Returns a factory invoking the default constructor of the specified class.
+     *
+     * @param someClass the class to instantiate.
+     * @param <T>       the type of the created objects.
+     * @return the cached factory.
+     */
+    public static <T> Factory<T> factory(Class<T> someClass) {
+        try {
+            return factory(someClass.getDeclaredConstructor());
+        } catch (NoSuchMethodException e) {
+            throw RoseException.wrap(e, RoseErrorCode.UNABLE_TO_INSTANTIATE_CLASS)
+                    .put("class", someClass);
+        }
+    }
+
+    private static Getter<?, ?> compileGetter(Field field) {
+        try {
+            MethodHandle handle = lookup(field).unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            MethodHandle getter = handle.asType(methodType(Object.class, Object.class));
+            return target -> {
+                try {
+                    return getter.invokeExact(target);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw RoseException.wrap(t, RoseErrorCode.UNABLE_TO_GET_FIELD)
+                            .put("field", field.toGenericString());
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException e) {
+            return target -> ReflectUtils.getValue(field, target);
+        }
+    }
+
+    private static Setter<?, ?> compileSetter(Field field) {
+        try {
+            MethodHandle handle = lookup(field).unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            MethodHandle setter = handle.asType(methodType(void.class, Object.class, Object.class));
+            return (target, value) -> {
+                try {
+                    setter.invokeExact(target, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw RoseException.wrap(t, RoseErrorCode.UNABLE_TO_SET_FIELD)
+                            .put("field", field.toGenericString());
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException e) {
+            return (target, value) -> ReflectUtils.setValue(field, target, value);
+        }
+    }
+
+    private static Invoker<?, ?> compileInvoker(Method method) {
+        try {
+            MethodHandle handle = lookup(method).unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            int parameterCount = method.getParameterCount();
+            MethodHandle invoker = handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                    .asSpreader(Object[].class, parameterCount);
+            return (target, args) -> {
+                try {
+                    return invoker.invokeExact(target, args);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw RoseException.wrap(t, RoseErrorCode.UNABLE_TO_INVOKE_METHOD)
+                            .put("method", method.toGenericString());
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException e) {
+            return (target, args) -> ReflectUtils.invoke(method, target, args);
+        }
+    }
+
+    private static Factory<?> compileFactory(Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            // reported with an InstantiationException rather than the InstantiationError of the method handle
+            return reflectiveFactory(constructor);
+        }
+        try {
+            MethodHandles.Lookup lookup = lookup(constructor);
+            MethodHandle handle = lookup.unreflectConstructor(constructor).asFixedArity();
+            int parameterCount = constructor.getParameterCount();
+            if (parameterCount == 0) {
+                Supplier<?> supplier = compileSupplier(lookup, handle);
+                if (supplier != null) {
+                    return args -> {
+                        try {
+                            return supplier.get();
+                        } catch (RuntimeException | Error e) {
+                            throw e;
+                        } catch (Throwable t) {
+                            throw RoseException.wrap(t, RoseErrorCode.UNABLE_TO_INSTANTIATE_CLASS)
+                                    .put("class", constructor.getDeclaringClass());
+                        }
+                    };
+                }
+            }
+            MethodHandle factory = handle.asType(MethodType.genericMethodType(parameterCount))
+                    .asSpreader(Object[].class, parameterCount);
+            return args -> {
+                try {
+                    return factory.invokeExact(args);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw RoseException.wrap(t, RoseErrorCode.UNABLE_TO_INSTANTIATE_CLASS)
+                            .put("class", constructor.getDeclaringClass());
+                }
+            };
+        } catch (IllegalAccessException | RuntimeException e) {
+            return reflectiveFactory(constructor);
+        }
+    }
+
+    private static Factory<?> reflectiveFactory(Constructor<?> constructor) {
+        return args -> {
+            try {
+                return ReflectUtils.makeAccessible(constructor).newInstance(args);
+            } catch (Exception e) {
+                throw RoseException.wrap(e, RoseErrorCode.UNABLE_TO_INSTANTIATE_CLASS)
+                        .put("class", constructor.getDeclaringClass());
+            }
+        };
+    }
+
+    /**
+     * Spins a {@link Supplier} calling the no-arg constructor directly. Only possible with a lookup having private
+     * access to the declaring class, otherwise null is returned and the method handle is used instead.
+     */
+    private static Supplier<?> compileSupplier(MethodHandles.Lookup lookup, MethodHandle constructor) {
+        if ((lookup.lookupModes() & MethodHandles.Lookup.PRIVATE) == 0
+                || lookup.lookupClass() != constructor.type().returnType()) {
+            return null;
+        }
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "get",
+                    methodType(Supplier.class),
+                    methodType(Object.class),
+                    constructor,
+                    constructor.type());
+            return (Supplier<?>) callSite.getTarget().invoke();
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            // linkage failures fall back on the method handle
+            return null;
+        }
+    }
+
+    /**
+     * Returns a lookup with private access to the declaring class of the member when its module is open to this
+     * one, otherwise a lookup relying on the member being made accessible.
+     */
+    private static <T extends AccessibleObject & Member> MethodHandles.Lookup lookup(T member) {
+        try {
+            return MethodHandles.privateLookupIn(member.getDeclaringClass(), MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            ReflectUtils.makeAccessible(member);
+            return MethodHandles.lookup();
+        }
+    }
+
+    /**
+     * Reads the value of a field.
+     *
+     * @param <T> the type of the object declaring the field.
+     * @param <V> the type of the field value.
+     */
+    @FunctionalInterface
+    public interface Getter<T, V> {
+        V get(T target);
+    }
+
+    /**
+     * Writes the value of a field.
+     *
+     * @param <T> the type of the object declaring the field.
+     * @param <V> the type of the field value.
+     */
+    @FunctionalInterface
+    public interface Setter<T, V> {
+        void set(T target, V value);
+    }
+
+    /**
+     * Invokes a method.
+     *
+     * @param <T> the type of the object declaring the method.
+     * @param <R> the type of the method return value.
+     */
+    @FunctionalInterface
+    public interface Invoker<T, R> {
+        R invoke(T target, Object... args);
+    }
+
+    /**
+     * Invokes a constructor.
+     *
+     * @param <T> the type of the created objects.
+     */
+    @FunctionalInterface
+    public interface Factory<T> {
+        T newInstance(Object... args);
+    }
+}
@@ -20,16 +20,18 @@ import static io.github.rose.core.reflect.ExecutablePredicates.executableIsEquiv
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 public final class Annotations {
     private static final String JAVA_LANG = "java.lang";
     private static final String KOTLIN_ANNOTATION = "kotlin.annotation";
-    private static Map<Context, List<Annotation>> cache = new ConcurrentHashMap<>();
+    private static final MetadataCache<Context, AnnotationIndex> cache =
+            MetadataCaches.create("annotations", Context::owner);
 
     private Annotations() {
         // no instantiation allowed
@@ -51,6 +53,17 @@ public final class Annotations {
         return new OnClass(new Context(someClass));
     }
 
+    /**
+     * Returns the elements annotated with the specified annotation as recorded at compile time in the
+     * {@link ClasspathAnnotationIndex}, without scanning the classpath.
+     *
+     * @param annotationClass the annotation, which must be indexed.
+     * @return the stream of annotated types, constructors, methods and fields.
+     */
+    public static Stream<AnnotatedElement> indexed(Class<? extends Annotation> annotationClass) {
+        return ClasspathAnnotationIndex.get().elements(annotationClass);
+    }
+
     public static class OnClass {
         final Context context;
 
@@ -80,22 +93,19 @@ public final class Annotations {
          * @param <T>             the annotation type.
          * @return the optionally found annotation.
          */
-        @SuppressWarnings("unchecked")
         public <T extends Annotation> Optional<T> find(Class<T> annotationClass) {
-            return (Optional<T>) findAll()
-                    .filter(AnnotationPredicates.annotationIsOfClass(annotationClass))
-                    .findFirst();
+            return index().first(annotationClass);
         }
 
         /**
-         * Returns a stream of all the annotations found.
+         * Returns a stream of all the annotations of the specified class found.
          *
+         * @param annotationClass the class of the annotations to return.
+         * @param <T>             the annotation type.
          * @return a stream of annotation objects.
          */
-        @SuppressWarnings("unchecked")
         public <T extends Annotation> Stream<T> findAll(Class<T> annotationClass) {
-            return (Stream<T>)
-                    cache.get(context).stream().filter(AnnotationPredicates.annotationIsOfClass(annotationClass));
+            return index().all(annotationClass).stream();
         }
 
         /**
@@ -104,7 +114,11 @@ public final class Annotations {
          * @return a stream of annotation objects.
          */
         public Stream<Annotation> findAll() {
-            return cache.computeIfAbsent(context, Context::gather).stream();
+            return index().annotations.stream();
+        }
+
+        private AnnotationIndex index() {
+            return cache.get(context, Context::index);
         }
     }
 
@@ -163,6 +177,21 @@ public final class Annotations {
             this.includingMetaAnnotations = includingMetaAnnotations;
         }
 
+        Class<?> owner() {
+            if (annotatedElement instanceof Class<?>) {
+                return (Class<?>) annotatedElement;
+            } else if (annotatedElement instanceof Member) {
+                return ((Member) annotatedElement).getDeclaringClass();
+            } else if (annotatedElement instanceof Parameter) {
+                return ((Parameter) annotatedElement).getDeclaringExecutable().getDeclaringClass();
+            }
+            return null;
+        }
+
+        AnnotationIndex index() {
+            return new AnnotationIndex(gather());
+        }
+
         List<Annotation> gather() {
             List<Annotation> annotations = new ArrayList<>(32);
             gather(annotations);
@@ -293,4 +322,42 @@ public final class Annotations {
             return result;
         }
     }
+
+    /**
+     * The annotations gathered for a context, indexed by annotation type so that lookups by type do not scan the
+     * annotations. Each lookup still creates its {@link Context} key and, for the {@code findAll} methods, a
+     * {@link Stream} over the cached list.
+     */
+    private static final class AnnotationIndex {
+        private final List<Annotation> annotations;
+        private final Map<Class<? extends Annotation>, Optional<Annotation>> first;
+        private final Map<Class<? extends Annotation>, List<Annotation>> all;
+
+        private AnnotationIndex(List<Annotation> annotations) {
+            Map<Class<? extends Annotation>, List<Annotation>> byType = new IdentityHashMap<>();
+            for (Annotation annotation : annotations) {
+                byType.computeIfAbsent(annotation.annotationType(), k -> new ArrayList<>(1))
+                        .add(annotation);
+            }
+            this.annotations = Collections.unmodifiableList(annotations);
+            this.first = new IdentityHashMap<>(byType.size());
+            this.all = new IdentityHashMap<>(byType.size());
+            for (Map.Entry<Class<? extends Annotation>, List<Annotation>> entry : byType.entrySet()) {
+                first.put(entry.getKey(), Optional.of(entry.getValue().get(0)));
+                all.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends Annotation> Optional<T> first(Class<T> annotationClass) {
+            Optional<Annotation> annotation = first.get(annotationClass);
+            return annotation == null ? Optional.empty() : (Optional<T>) annotation;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends Annotation> List<T> all(Class<T> annotationClass) {
+            List<Annotation> annotations = all.get(annotationClass);
+            return annotations == null ? Collections.emptyList() : (List<T>) annotations;
+        }
+    }
 }
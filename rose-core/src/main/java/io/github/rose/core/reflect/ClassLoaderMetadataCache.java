@@ -0,0 +1,329 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Default {@link MetadataCache} which splits its entries into one segment per class loader.
+ *
+ * <p>Segments are weakly referenced by the cache and strongly referenced from the classes of their class loader
+ * (through a {@link ClassValue}), so a segment and all its entries become unreachable together with the class
+ * loader owning them. When a maximum size is specified, each segment evicts its least recently used entries
+ * beyond that size. Segments are concurrent maps read without locking, the recency of the entries being tracked
+ * per insertion rather than per read.
+ *
+ * <p>A missing entry is loaded by a single thread: concurrent lookups of the same key wait for its value and are
+ * recorded as hits, so each key is loaded and recorded as a miss once. Loaders may look up other keys of the
+ * cache, but not the key being loaded.
+ *
+ * @param <K> the type of the cache keys.
+ * @param <V> the type of the cached metadata.
+ */
+public class ClassLoaderMetadataCache<K, V> implements MetadataCache<K, V> {
+    public static final int UNBOUNDED = 0;
+    private final String name;
+    private final Function<? super K, Class<?>> ownerResolver;
+    private volatile int maximumSize;
+    private final MetadataCacheStats stats = new MetadataCacheStats();
+    private final Map<ClassLoader, WeakReference<Segment>> segments = new WeakHashMap<>();
+    private final Segment sharedSegment = new Segment();
+    private final ClassValue<Segment> anchors = new ClassValue<Segment>() {
+        @Override
+        protected Segment computeValue(Class<?> type) {
+            return segmentOf(type.getClassLoader(), true);
+        }
+    };
+
+    /**
+     * Creates a cache.
+     *
+     * @param name          the name of the cache.
+     * @param ownerResolver resolves the class owning a key.
+     * @param maximumSize   the maximum number of entries per class loader, or {@link #UNBOUNDED}.
+     */
+    public ClassLoaderMetadataCache(String name, Function<? super K, Class<?>> ownerResolver, int maximumSize) {
+        this.name = name;
+        this.ownerResolver = ownerResolver;
+        this.maximumSize = checkMaximumSize(maximumSize);
+    }
+
+    /**
+     * Returns a factory of caches bounded to the specified number of entries per class loader.
+     *
+     * @param maximumSize the maximum number of entries per class loader, or {@link #UNBOUNDED}.
+     * @return the factory.
+     */
+    public static MetadataCacheFactory factory(int maximumSize) {
+        return new MetadataCacheFactory() {
+            @Override
+            public <K, V> MetadataCache<K, V> create(String name, Function<? super K, Class<?>> ownerResolver) {
+                return new ClassLoaderMetadataCache<>(name, ownerResolver, maximumSize);
+            }
+        };
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Segment segment = segmentFor(key);
+        V value = segment.get(key);
+        if (value != null) {
+            stats.recordHit();
+            return value;
+        }
+        return segment.load(key, loader);
+    }
+
+    @Override
+    public void invalidate(ClassLoader classLoader) {
+        Segment segment = segmentOf(classLoader, false);
+        if (segment != null) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Segment segment : liveSegments()) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (Segment segment : liveSegments()) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public MetadataCacheStats stats() {
+        return stats;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Changes the maximum number of entries per class loader, evicting the entries beyond the new size.
+     *
+     * @param maximumSize the maximum number of entries per class loader, or {@link #UNBOUNDED}.
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = checkMaximumSize(maximumSize);
+        for (Segment segment : liveSegments()) {
+            segment.evict();
+        }
+    }
+
+    private static int checkMaximumSize(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative: " + maximumSize);
+        }
+        return maximumSize;
+    }
+
+    private Segment segmentFor(K key) {
+        Class<?> owner = ownerResolver.apply(key);
+        return owner == null ? sharedSegment : anchors.get(owner);
+    }
+
+    private Segment segmentOf(ClassLoader classLoader, boolean create) {
+        if (classLoader == null) {
+            return sharedSegment;
+        }
+        synchronized (segments) {
+            WeakReference<Segment> reference = segments.get(classLoader);
+            Segment segment = reference == null ? null : reference.get();
+            if (segment == null && create) {
+                segment = new Segment();
+                segments.put(classLoader, new WeakReference<>(segment));
+            }
+            return segment;
+        }
+    }
+
+    private List<Segment> liveSegments() {
+        List<Segment> result = new ArrayList<>();
+        result.add(sharedSegment);
+        synchronized (segments) {
+            for (WeakReference<Segment> reference : segments.values()) {
+                Segment segment = reference.get();
+                if (segment != null) {
+                    result.add(segment);
+                }
+            }
+        }
+        return result;
+    }
+
+    private final class Segment {
+        private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+        private final Map<K, Loading<V>> loadings = new ConcurrentHashMap<>();
+        private final AtomicLong clock = new AtomicLong();
+        private final ReentrantLock evictionLock = new ReentrantLock();
+
+        V get(K key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.touch(clock.get());
+            return entry.value;
+        }
+
+        V load(K key, Function<? super K, ? extends V> loader) {
+            Loading<V> loading = new Loading<>();
+            Loading<V> pending = loadings.putIfAbsent(key, loading);
+            if (pending != null) {
+                V value = pending.await(key);
+                stats.recordHit();
+                return value;
+            }
+            try {
+                // the entry may have been stored between the lookup and the registration of the loading
+                V value = get(key);
+                if (value != null) {
+                    stats.recordHit();
+                } else {
+                    stats.recordMiss();
+                    value = loader.apply(key);
+                    V existing = putIfAbsent(key, value);
+                    if (existing != null) {
+                        value = existing;
+                    }
+                }
+                loading.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            } finally {
+                loadings.remove(key, loading);
+            }
+        }
+
+        V putIfAbsent(K key, V value) {
+            Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value, clock.getAndIncrement()));
+            if (existing != null) {
+                existing.touch(clock.get());
+                return existing.value;
+            }
+            evict();
+            return null;
+        }
+
+        /**
+         * Removes the least recently used entries beyond the maximum size, plus a sixteenth of it so that
+         * consecutive insertions do not scan the segment each time. A thread finding the eviction in progress
+         * leaves it to the evicting thread.
+         */
+        void evict() {
+            int max = maximumSize;
+            if (max == UNBOUNDED || entries.size() <= max || !evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                List<Map.Entry<K, Entry<V>>> candidates = new ArrayList<>(entries.entrySet());
+                int excess = candidates.size() - max + max / 16;
+                if (excess <= 0) {
+                    return;
+                }
+                candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().accessed));
+                for (int i = 0; i < excess; i++) {
+                    Map.Entry<K, Entry<V>> candidate = candidates.get(i);
+                    if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                        stats.recordEviction();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        void clear() {
+            entries.clear();
+        }
+
+        int size() {
+            return entries.size();
+        }
+    }
+
+    /**
+     * A value being loaded by a thread, awaited by the other threads looking up the same key.
+     */
+    private static final class Loading<V> extends CompletableFuture<V> {
+        private final Thread thread = Thread.currentThread();
+
+        V await(Object key) {
+            if (thread == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive load of " + key);
+            }
+            try {
+                return join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * A cached value with the insertion count of its segment when it was last read. Reads only write the entry
+     * once per insertion, the entries read between two insertions being equally recent.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long accessed;
+
+        private Entry(V value, long accessed) {
+            this.value = value;
+            this.accessed = accessed;
+        }
+
+        void touch(long now) {
+            if (accessed != now) {
+                accessed = now;
+            }
+        }
+    }
+}
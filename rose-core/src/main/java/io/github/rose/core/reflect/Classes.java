@@ -15,18 +15,17 @@
  */
 package io.github.rose.core.reflect;
 
-import io.github.rose.core.exception.RoseErrorCode;
-import io.github.rose.core.exception.RoseException;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 public final class Classes {
-    private static Map<Context, List<Class<?>>> cache = new ConcurrentHashMap<>();
+    private static final MetadataCache<Context, List<Class<?>>> cache =
+            MetadataCaches.create("classes", Context::startingClass);
 
     private Classes() {
         // no instantiation allowed
@@ -63,14 +62,7 @@ public final class Classes {
             } else if (char.class.equals(someClass) || Character.class.equals(someClass)) {
                 return (T) Character.valueOf((char) 0);
             } else {
-                try {
-                    Constructor<T> defaultConstructor = someClass.getDeclaredConstructor();
-                    defaultConstructor.setAccessible(true);
-                    return defaultConstructor.newInstance();
-                } catch (Exception e) {
-                    throw RoseException.wrap(e, RoseErrorCode.UNABLE_TO_INSTANTIATE_CLASS)
-                            .put("class", someClass);
-                }
+                return Accessors.factory(someClass).newInstance();
             }
         }
     }
@@ -114,6 +106,17 @@ public final class Classes {
         return (T) object;
     }
 
+    /**
+     * Returns the classes annotated with the specified annotation as recorded at compile time in the
+     * {@link ClasspathAnnotationIndex}, without scanning the classpath.
+     *
+     * @param annotationClass the annotation, which must be indexed.
+     * @return the stream of annotated classes.
+     */
+    public static Stream<Class<?>> annotatedWith(Class<? extends Annotation> annotationClass) {
+        return ClasspathAnnotationIndex.get().types(annotationClass);
+    }
+
     /**
      * Define the starting point of class reflection.
      *
@@ -137,7 +140,7 @@ public final class Classes {
          * @return a stream of class objects.
          */
         public Stream<Class<?>> classes() {
-            return cache.computeIfAbsent(context, Context::gather).stream();
+            return cache.get(context, Context::gather).stream();
         }
 
         /**
@@ -252,6 +255,10 @@ public final class Classes {
             this.startingClass = startingClass;
         }
 
+        Class<?> startingClass() {
+            return startingClass;
+        }
+
         void setIncludeInterfaces(boolean includeInterfaces) {
             this.includeInterfaces = includeInterfaces;
         }
@@ -0,0 +1,313 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Runtime view of the {@value #INDEX_LOCATION} resources generated at compile time by the rose-processor
+ * {@code AnnotationIndexProcessor}, allowing to find the types, methods and fields annotated with an indexed
+ * annotation without scanning the classpath.
+ *
+ * <p>The index only holds element names and resolves them lazily, so it does not retain any class. It can be
+ * disabled with the {@value #IGNORE_INDEX_PROPERTY} system property, in which case it is never {@link #isPresent()
+ * present} and callers are expected to fall back to scanning.
+ */
+public final class ClasspathAnnotationIndex {
+    public static final String INDEX_LOCATION = "META-INF/rose/annotation-index";
+    public static final String IGNORE_INDEX_PROPERTY = "rose.index.ignore";
+    private static final Logger log = LoggerFactory.getLogger(ClasspathAnnotationIndex.class);
+    private static final String ENTRY_SEPARATOR = ";";
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final Map<ClassLoader, ClasspathAnnotationIndex> indexes = new WeakHashMap<>();
+    private final WeakReference<ClassLoader> classLoader;
+    private final Map<String, Set<String>> entries = new HashMap<>();
+    private final Map<String, Set<String>> owners = new HashMap<>();
+    private final Set<String> roots = new HashSet<>();
+    private final Map<String, Boolean> metaAnnotating = new ConcurrentHashMap<>();
+    private final ClassValue<Boolean> covered = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            String root = rootOf(type);
+            return root != null && roots.contains(root);
+        }
+    };
+
+    private ClasspathAnnotationIndex(ClassLoader classLoader) {
+        this.classLoader = new WeakReference<>(classLoader);
+        load(classLoader);
+    }
+
+    /**
+     * Returns the index of the default class loader.
+     *
+     * @return the index.
+     */
+    public static ClasspathAnnotationIndex get() {
+        return get(ClassUtils.getDefaultClassLoader());
+    }
+
+    /**
+     * Returns the index merging all the index resources visible from the specified class loader.
+     *
+     * @param classLoader the class loader.
+     * @return the index, loaded once per class loader.
+     */
+    public static ClasspathAnnotationIndex get(ClassLoader classLoader) {
+        if (classLoader == null) {
+            classLoader = ClasspathAnnotationIndex.class.getClassLoader();
+        }
+        synchronized (indexes) {
+            ClasspathAnnotationIndex index = indexes.get(classLoader);
+            if (index == null) {
+                index = new ClasspathAnnotationIndex(classLoader);
+                indexes.put(classLoader, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Returns true if at least one index resource was found and the index is not ignored.
+     *
+     * @return true if the index can be used instead of scanning.
+     */
+    public boolean isPresent() {
+        return !entries.isEmpty();
+    }
+
+    /**
+     * Returns true if the specified annotation is recorded in the index. An annotation which is not recorded may
+     * still be used by classes compiled without the processor.
+     *
+     * @param annotationClass the annotation.
+     * @return true if the annotation is indexed.
+     */
+    public boolean isIndexed(Class<? extends Annotation> annotationClass) {
+        return entries.containsKey(annotationClass.getName());
+    }
+
+    /**
+     * Returns true if the specified class comes from a classpath root (directory or jar) holding an index resource,
+     * i.e. was compiled with the processor. The index is complete for such classes, while the others have to be
+     * scanned.
+     *
+     * @param someClass the class.
+     * @return true if the annotations of the class are indexed.
+     */
+    public boolean covers(Class<?> someClass) {
+        return covered.get(someClass);
+    }
+
+    /**
+     * Returns false when the index proves that the specified annotation is used neither on the class nor on its
+     * superclasses and interfaces, or on their members, allowing callers to skip scanning them. This requires the
+     * annotation to be indexed and all these classes to be {@link #covers(Class) covered}, except the ones of the
+     * bootstrap and platform class loaders. Annotations used as meta-annotations in the index always return true,
+     * since the annotation types they annotate may be used anywhere.
+     *
+     * @param someClass       the class.
+     * @param annotationClass the annotation.
+     * @return true if the class or its members may be annotated, false if they are not.
+     */
+    public boolean mayBeAnnotated(Class<?> someClass, Class<? extends Annotation> annotationClass) {
+        Set<String> annotationOwners = owners.get(annotationClass.getName());
+        if (annotationOwners == null || isMetaAnnotating(annotationClass)) {
+            return true;
+        }
+        return Classes.from(someClass)
+                .traversingSuperclasses()
+                .traversingInterfaces()
+                .classes()
+                .anyMatch(type -> !isPlatformClass(type)
+                        && (annotationOwners.contains(type.getName()) || !covers(type)));
+    }
+
+    /**
+     * Returns the raw entries recorded for an annotation, as written by the processor.
+     *
+     * @param annotationClass the annotation.
+     * @return the entries, empty if the annotation is not indexed.
+     */
+    public Set<String> getEntries(Class<? extends Annotation> annotationClass) {
+        return entries.getOrDefault(annotationClass.getName(), Collections.emptySet());
+    }
+
+    /**
+     * Returns the indexed types annotated with the specified annotation.
+     *
+     * @param annotationClass the annotation.
+     * @return the stream of annotated types.
+     */
+    public Stream<Class<?>> types(Class<? extends Annotation> annotationClass) {
+        return elements(annotationClass).filter(Class.class::isInstance).map(Class.class::cast);
+    }
+
+    /**
+     * Returns the indexed methods annotated with the specified annotation.
+     *
+     * @param annotationClass the annotation.
+     * @return the stream of annotated methods.
+     */
+    public Stream<Method> methods(Class<? extends Annotation> annotationClass) {
+        return elements(annotationClass).filter(Method.class::isInstance).map(Method.class::cast);
+    }
+
+    /**
+     * Returns the indexed fields annotated with the specified annotation.
+     *
+     * @param annotationClass the annotation.
+     * @return the stream of annotated fields.
+     */
+    public Stream<Field> fields(Class<? extends Annotation> annotationClass) {
+        return elements(annotationClass).filter(Field.class::isInstance).map(Field.class::cast);
+    }
+
+    /**
+     * Returns all the indexed elements annotated with the specified annotation. Entries which cannot be resolved
+     * (missing class, changed signature) are skipped.
+     *
+     * @param annotationClass the annotation.
+     * @return the stream of annotated types, constructors, methods and fields.
+     */
+    public Stream<AnnotatedElement> elements(Class<? extends Annotation> annotationClass) {
+        ClassLoader loader = classLoader.get();
+        if (loader == null) {
+            return Stream.empty();
+        }
+        return getEntries(annotationClass).stream()
+                .map(entry -> resolve(entry, loader))
+                .filter(Objects::nonNull);
+    }
+
+    private boolean isMetaAnnotating(Class<? extends Annotation> annotationClass) {
+        return metaAnnotating.computeIfAbsent(
+                annotationClass.getName(), name -> types(annotationClass).anyMatch(Class::isAnnotation));
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        return classLoader == null || classLoader == ClassLoader.getPlatformClassLoader();
+    }
+
+    private static AnnotatedElement resolve(String entry, ClassLoader classLoader) {
+        try {
+            int memberIndex = entry.indexOf('#');
+            if (memberIndex < 0) {
+                return ClassUtils.forName(entry, classLoader);
+            }
+            Class<?> owner = ClassUtils.forName(entry.substring(0, memberIndex), classLoader);
+            String member = entry.substring(memberIndex + 1);
+            int parametersIndex = member.indexOf('(');
+            if (parametersIndex < 0) {
+                return owner.getDeclaredField(member);
+            }
+            String name = member.substring(0, parametersIndex);
+            String parameters = member.substring(parametersIndex + 1, member.length() - 1);
+            List<Class<?>> parameterTypes = new ArrayList<>();
+            if (!parameters.isEmpty()) {
+                for (String parameter : parameters.split(",")) {
+                    parameterTypes.add(ClassUtils.forName(parameter, classLoader));
+                }
+            }
+            Class<?>[] parameterArray = parameterTypes.toArray(new Class<?>[0]);
+            if (CONSTRUCTOR_NAME.equals(name)) {
+                return owner.getDeclaredConstructor(parameterArray);
+            }
+            return owner.getDeclaredMethod(name, parameterArray);
+        } catch (ClassNotFoundException | NoSuchFieldException | NoSuchMethodException | LinkageError e) {
+            log.debug("Skipping unresolvable annotation index entry {}", entry, e);
+            return null;
+        }
+    }
+
+    private static String rootOf(Class<?> someClass) {
+        String resourceName =
+                ClassUtils.convertClassNameToResourcePath(someClass.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+        URL resource = someClass.getClassLoader() == null
+                ? ClassLoader.getSystemResource(resourceName)
+                : someClass.getClassLoader().getResource(resourceName);
+        if (resource == null) {
+            return null;
+        }
+        String location = resource.toString();
+        if (!location.endsWith(resourceName)) {
+            return null;
+        }
+        return location.substring(0, location.length() - resourceName.length());
+    }
+
+    private void load(ClassLoader classLoader) {
+        if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return;
+        }
+        Map<String, Set<String>> loadedEntries = new HashMap<>();
+        Set<String> loadedRoots = new HashSet<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                String location = url.toString();
+                loadedRoots.add(location.substring(0, location.length() - INDEX_LOCATION.length()));
+                try (BufferedReader reader =
+                        new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int separator = line.indexOf('=');
+                        if (line.startsWith("#") || separator < 0) {
+                            continue;
+                        }
+                        Set<String> annotationEntries = loadedEntries.computeIfAbsent(
+                                line.substring(0, separator).trim(), k -> new LinkedHashSet<>());
+                        for (String entry : line.substring(separator + 1).split(ENTRY_SEPARATOR)) {
+                            if (!entry.trim().isEmpty()) {
+                                annotationEntries.add(entry.trim());
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to load annotation index {}, falling back to classpath scanning", INDEX_LOCATION, e);
+            return;
+        }
+        for (Map.Entry<String, Set<String>> entry : loadedEntries.entrySet()) {
+            entries.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+            Set<String> annotationOwners = new HashSet<>();
+            for (String element : entry.getValue()) {
+                int memberIndex = element.indexOf('#');
+                annotationOwners.add(memberIndex < 0 ? element : element.substring(0, memberIndex));
+            }
+            owners.put(entry.getKey(), annotationOwners);
+        }
+        roots.addAll(loadedRoots);
+    }
+}
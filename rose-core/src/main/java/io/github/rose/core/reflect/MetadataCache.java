@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import java.util.function.Function;
+
+/**
+ * A cache of reflection metadata (gathered classes, annotations, ...) used by {@link Classes} and
+ * {@link Annotations}. Implementations must not prevent the class loaders of cached elements from being
+ * garbage collected.
+ *
+ * @param <K> the type of the cache keys.
+ * @param <V> the type of the cached metadata.
+ * @see MetadataCaches
+ * @see MetadataCacheFactory
+ */
+public interface MetadataCache<K, V> {
+    /**
+     * Returns the name of this cache, used to identify it in metrics.
+     *
+     * @return the cache name.
+     */
+    String name();
+
+    /**
+     * Returns the metadata associated with the specified key, computing it with the loader if absent.
+     * Implementations may run the loaders of distinct keys concurrently, but must not call the loader of a key
+     * again while it is running.
+     *
+     * @param key    the cache key.
+     * @param loader the function computing the metadata on a miss.
+     * @return the cached or computed metadata.
+     */
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    /**
+     * Discards all the entries owned by classes of the specified class loader.
+     *
+     * @param classLoader the class loader, or null for the bootstrap class loader.
+     */
+    void invalidate(ClassLoader classLoader);
+
+    /**
+     * Discards all the entries of this cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns the approximate number of entries of this cache.
+     *
+     * @return the entry count.
+     */
+    long size();
+
+    /**
+     * Returns the hit/miss/eviction counters of this cache.
+     *
+     * @return the cache statistics.
+     */
+    MetadataCacheStats stats();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import java.util.function.Function;
+
+/**
+ * Service provider interface creating the {@link MetadataCache}s of {@link Classes} and {@link Annotations}.
+ * Implementations are discovered with {@link java.util.ServiceLoader} (the one with the highest priority wins)
+ * before the first reflection lookup; when none is found a {@link ClassLoaderMetadataCache} is used.
+ */
+public interface MetadataCacheFactory {
+    /**
+     * Creates a metadata cache.
+     *
+     * @param name          the name of the cache.
+     * @param ownerResolver resolves the class owning a key, whose class loader scopes the entry. It may return
+     *                      null when the key has no owning class.
+     * @param <K>           the type of the cache keys.
+     * @param <V>           the type of the cached metadata.
+     * @return the created cache.
+     */
+    <K, V> MetadataCache<K, V> create(String name, Function<? super K, Class<?>> ownerResolver);
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import io.github.rose.core.util.ServiceLoaders;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registry of the {@link MetadataCache}s used by {@link Classes} and {@link Annotations}.
+ *
+ * <p>The caches are created by the {@link MetadataCacheFactory} found with {@link ServiceLoaders}, or by a
+ * {@link ClassLoaderMetadataCache} factory bounded by the {@value #MAXIMUM_SIZE_PROPERTY} system property until
+ * {@link #setMaximumSize(int)} is called, the Spring Boot starter calling it with the property of the same name.
+ */
+public final class MetadataCaches {
+    public static final String MAXIMUM_SIZE_PROPERTY = "rose.metadata-cache.maximum-size";
+    private static final Logger log = LoggerFactory.getLogger(MetadataCaches.class);
+    private static final Map<String, MetadataCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private static volatile int maximumSize =
+            Integer.getInteger(MAXIMUM_SIZE_PROPERTY, ClassLoaderMetadataCache.UNBOUNDED);
+    private static final MetadataCacheFactory factory = loadFactory();
+
+    private MetadataCaches() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Creates and registers a metadata cache with the configured factory.
+     *
+     * @param name          the unique name of the cache.
+     * @param ownerResolver resolves the class owning a key.
+     * @param <K>           the type of the cache keys.
+     * @param <V>           the type of the cached metadata.
+     * @return the created cache.
+     */
+    public static <K, V> MetadataCache<K, V> create(String name, Function<? super K, Class<?>> ownerResolver) {
+        MetadataCache<K, V> cache = factory.create(name, ownerResolver);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("A metadata cache named " + name + " is already registered");
+        }
+        return cache;
+    }
+
+    /**
+     * Returns all the registered caches.
+     *
+     * @return an unmodifiable view of the caches.
+     */
+    public static Collection<MetadataCache<?, ?>> caches() {
+        // the built-in caches are registered when their owning class is initialized
+        initialize(Classes.class);
+        initialize(Annotations.class);
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    /**
+     * Changes the maximum number of entries per class loader of the caches created by the default factory, the
+     * existing caches evicting their entries beyond the new size. Caches created by another
+     * {@link MetadataCacheFactory} are left unchanged.
+     *
+     * @param maximumSize the maximum number of entries per class loader, or
+     *                    {@link ClassLoaderMetadataCache#UNBOUNDED}.
+     */
+    public static void setMaximumSize(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative: " + maximumSize);
+        }
+        MetadataCaches.maximumSize = maximumSize;
+        for (MetadataCache<?, ?> cache : caches()) {
+            if (cache instanceof ClassLoaderMetadataCache) {
+                ((ClassLoaderMetadataCache<?, ?>) cache).setMaximumSize(maximumSize);
+            }
+        }
+    }
+
+    /**
+     * Discards the entries owned by classes of the specified class loader in all the caches. To be called when a
+     * class loader is discarded (plugin unloading, hot redeploy) to release its metadata early.
+     *
+     * @param classLoader the class loader.
+     */
+    public static void invalidate(ClassLoader classLoader) {
+        for (MetadataCache<?, ?> cache : caches.values()) {
+            cache.invalidate(classLoader);
+        }
+    }
+
+    /**
+     * Discards all the entries of all the caches.
+     */
+    public static void invalidateAll() {
+        for (MetadataCache<?, ?> cache : caches.values()) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Pre-populates the caches with the class hierarchies and the annotations of the classes, their declared
+     * methods and their declared fields found in the specified packages and their sub-packages.
+     *
+     * @param classLoader  the class loader used to scan and load the classes.
+     * @param basePackages the packages to scan.
+     * @return the number of warmed classes.
+     */
+    public static int prewarm(ClassLoader classLoader, String... basePackages) {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        MetadataReaderFactory readerFactory = new CachingMetadataReaderFactory(resolver);
+        int count = 0;
+        for (String basePackage : basePackages) {
+            String pattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                    + ClassUtils.convertClassNameToResourcePath(basePackage.trim()) + "/**/*.class";
+            Resource[] resources;
+            try {
+                resources = resolver.getResources(pattern);
+            } catch (IOException e) {
+                log.warn("Unable to scan package {} for metadata cache pre-warming", basePackage, e);
+                continue;
+            }
+            for (Resource resource : resources) {
+                try {
+                    String className = readerFactory
+                            .getMetadataReader(resource)
+                            .getClassMetadata()
+                            .getClassName();
+                    prewarm(ClassUtils.forName(className, classLoader));
+                    count++;
+                } catch (IOException | ClassNotFoundException | LinkageError e) {
+                    log.debug("Skipping {} during metadata cache pre-warming", resource, e);
+                }
+            }
+        }
+        log.info("Pre-warmed metadata caches with {} classes", count);
+        return count;
+    }
+
+    private static void prewarm(Class<?> someClass) {
+        Classes.from(someClass).classes();
+        Classes.from(someClass).traversingSuperclasses().traversingInterfaces().classes();
+        Annotations.on(someClass).findAll();
+        Annotations.on(someClass).traversingSuperclasses().traversingInterfaces().findAll();
+        for (Method method : someClass.getDeclaredMethods()) {
+            if (!method.isSynthetic()) {
+                Annotations.on(method).findAll();
+            }
+        }
+        for (Field field : someClass.getDeclaredFields()) {
+            Annotations.on(field).findAll();
+        }
+    }
+
+    private static void initialize(Class<?> someClass) {
+        try {
+            Class.forName(someClass.getName(), true, someClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MetadataCacheFactory loadFactory() {
+        Iterator<MetadataCacheFactory> factories =
+                ServiceLoaders.load(MetadataCacheFactory.class).iterator();
+        if (factories.hasNext()) {
+            return factories.next();
+        }
+        return new MetadataCacheFactory() {
+            @Override
+            public <K, V> MetadataCache<K, V> create(String name, Function<? super K, Class<?>> ownerResolver) {
+                return new ClassLoaderMetadataCache<>(name, ownerResolver, maximumSize);
+            }
+        };
+    }
+}
@@ -24,6 +24,9 @@ import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
+/**
+ * Reflective access helpers. For members accessed repeatedly, prefer the compiled accessors of {@link Accessors}.
+ */
 public final class ReflectUtils {
     private ReflectUtils() {
         // no instantiation allowed
@@ -15,16 +15,19 @@
  */
 package io.github.rose.core.spring;
 
+import io.github.rose.core.reflect.MetadataCache;
+import io.github.rose.core.reflect.MetadataCaches;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.cglib.beans.BeanCopier;
 import org.springframework.cglib.beans.BeanMap;
 import org.springframework.cglib.core.Converter;
-import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -71,6 +74,91 @@ public class BeanUtils {
         return desc;
     }
 
+    /**
+     * 单对象基于对象创建拷贝，使用 {@link PropertyCopier} 的方法句柄拷贝
+     *
+     * @param source               数据来源实体
+     * @param desc                 转换后的对象
+     * @param ignoreNullProperties 是否忽略值为 null 的属性
+     * @return desc
+     */
+    public static <T, V> V copy(T source, V desc, boolean ignoreNullProperties) {
+        if (ObjectUtils.isEmpty(source)) {
+            return null;
+        }
+        if (ObjectUtils.isEmpty(desc)) {
+            return null;
+        }
+        propertyCopier(source.getClass(), desc.getClass()).copy(source, desc, ignoreNullProperties);
+        return desc;
+    }
+
+    /**
+     * 列表拷贝，同一源类与目标类的元素共用一个 {@link BeanCopier}
+     *
+     * @param sources        数据来源实体列表
+     * @param targetSupplier 目标对象的创建方法
+     * @return 转换后的对象列表，源为 null 的元素转换为 null
+     */
+    public static <T, V> List<V> copyList(Collection<T> sources, Supplier<V> targetSupplier) {
+        List<V> targets = new ArrayList<>(sources == null ? 0 : sources.size());
+        if (ObjectUtils.isEmpty(sources)) {
+            return targets;
+        }
+        BeanCopier beanCopier = null;
+        Class<?> sourceClass = null;
+        Class<?> targetClass = null;
+        for (T source : sources) {
+            if (source == null) {
+                targets.add(null);
+                continue;
+            }
+            V target = targetSupplier.get();
+            if (source.getClass() != sourceClass || target.getClass() != targetClass) {
+                sourceClass = source.getClass();
+                targetClass = target.getClass();
+                beanCopier = BeanCopierCache.INSTANCE.get(sourceClass, targetClass, null);
+            }
+            beanCopier.copy(source, target, null);
+            targets.add(target);
+        }
+        return targets;
+    }
+
+    /**
+     * 列表拷贝，同一源类与目标类的元素共用一个 {@link PropertyCopier}
+     *
+     * @param sources              数据来源实体列表
+     * @param targetSupplier       目标对象的创建方法
+     * @param ignoreNullProperties 是否忽略值为 null 的属性
+     * @return 转换后的对象列表，源为 null 的元素转换为 null
+     */
+    public static <T, V> List<V> copyList(
+            Collection<T> sources, Supplier<V> targetSupplier, boolean ignoreNullProperties) {
+        List<V> targets = new ArrayList<>(sources == null ? 0 : sources.size());
+        if (ObjectUtils.isEmpty(sources)) {
+            return targets;
+        }
+        PropertyCopier<Object, Object> copier = null;
+        Class<?> sourceClass = null;
+        Class<?> targetClass = null;
+        for (T source : sources) {
+            if (source == null) {
+                targets.add(null);
+                continue;
+            }
+            V target = targetSupplier.get();
+            if (source.getClass() != sourceClass || target.getClass() != targetClass) {
+                sourceClass = source.getClass();
+                targetClass = target.getClass();
+                copier = propertyCopier(sourceClass, targetClass);
+            }
+            copier.copy(source, target, ignoreNullProperties);
+            targets.add(target);
+        }
+        return targets;
+    }
+
     /**
      * bean拷贝到map
      *
@@ -103,9 +191,14 @@ public class BeanUtils {
         return bean;
     }
 
+    @SuppressWarnings("unchecked")
+    private static PropertyCopier<Object, Object> propertyCopier(Class<?> sourceClass, Class<?> targetClass) {
+        return PropertyCopier.of((Class<Object>) sourceClass, (Class<Object>) targetClass);
+    }
+
     /**
      * BeanCopier属性缓存<br>
-     * 缓存用于防止多次反射造成的性能问题
+     * 缓存用于防止多次生成拷贝类造成的性能问题及元空间泄漏
      */
     public enum BeanCopierCache {
 
@@ -114,36 +207,42 @@ public class BeanUtils {
          */
         INSTANCE;
 
-        private final ConcurrentReferenceHashMap<String, BeanCopier> cache = new ConcurrentReferenceHashMap<>();
+        private final MetadataCache<CopierKey, BeanCopier> cache =
+                MetadataCaches.create("beans.bean-copiers", BeanCopierCache::owner);
 
         /**
-         * 获得类与转换器生成的key在{@link BeanCopier}的Map中对应的元素
+         * 获得源类、目标类及是否使用转换器对应的{@link BeanCopier}，首次获取时生成并缓存。
+         * 生成的拷贝类只取决于是否使用转换器，转换器实例在拷贝时传入。
+         * 并发的首次获取由缓存保证只生成一次
          *
          * @param srcClass    源Bean的类
          * @param targetClass 目标Bean的类
          * @param converter   转换器
-         * @return Map中对应的BeanCopier
+         * @return 缓存中对应的BeanCopier
          */
         public BeanCopier get(Class<?> srcClass, Class<?> targetClass, Converter converter) {
-            final String key = genKey(srcClass, targetClass, converter);
-            return cache.getOrDefault(key, BeanCopier.create(srcClass, targetClass, converter != null));
+            return cache.get(new CopierKey(srcClass, targetClass, converter != null), BeanCopierCache::load);
+        }
+
+        private static BeanCopier load(CopierKey key) {
+            return BeanCopier.create(key.source(), key.target(), key.converter());
         }
 
         /**
-         * 获得类与转换器生成的key
-         *
-         * @param srcClass    源Bean的类
-         * @param targetClass 目标Bean的类
-         * @param converter   转换器
-         * @return 属性名和Map映射的key
+         * 拷贝器同时引用源类和目标类，缓存到两者中类加载器较早释放的一方，避免父类加载器的缓存持有子类加载器的类：
+         * 源类的类加载器是目标类类加载器的祖先时归属目标类，否则归属源类
          */
-        private String genKey(Class<?> srcClass, Class<?> targetClass, Converter converter) {
-            final StringBuilder key =
-                    new StringBuilder().append(srcClass.getName()).append('#').append(targetClass.getName());
-            if (null != converter) {
-                key.append('#').append(converter.getClass().getName());
+        private static Class<?> owner(CopierKey key) {
+            ClassLoader sourceLoader = key.source().getClassLoader();
+            if (sourceLoader == null) {
+                return key.target();
+            }
+            for (ClassLoader loader = key.target().getClassLoader(); loader != null; loader = loader.getParent()) {
+                if (loader == sourceLoader) {
+                    return key.target();
+                }
             }
-            return key.toString();
+            return key.source();
         }
     }
 }
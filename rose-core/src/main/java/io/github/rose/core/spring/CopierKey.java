@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.spring;
+
+/**
+ * 拷贝器缓存的键：源类、目标类及是否使用转换器
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+final class CopierKey {
+    private final Class<?> source;
+    private final Class<?> target;
+    private final boolean converter;
+
+    CopierKey(Class<?> source, Class<?> target, boolean converter) {
+        this.source = source;
+        this.target = target;
+        this.converter = converter;
+    }
+
+    Class<?> source() {
+        return source;
+    }
+
+    Class<?> target() {
+        return target;
+    }
+
+    boolean converter() {
+        return converter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CopierKey)) {
+            return false;
+        }
+        CopierKey other = (CopierKey) o;
+        return source == other.source && target == other.target && converter == other.converter;
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * source.hashCode() + target.hashCode()) * 2 + (converter ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return source.getName() + "->" + target.getName() + (converter ? "(converter)" : "");
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.github.rose.core.spring;
 
+import io.github.rose.core.util.context.ContextSnapshot;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import org.slf4j.Logger;
@@ -27,6 +28,9 @@ import org.springframework.core.task.AsyncTaskExecutor;
  * <p>
  * ExceptionHandleAsyncTaskExecutor class.
  * </p>
+ * <p>
+ * Tasks run with the {@link ContextSnapshot} captured in the submitting thread.
+ * </p>
  */
 public class ExceptionHandleAsyncTaskExecutor implements AsyncTaskExecutor, InitializingBean, DisposableBean {
 
@@ -64,24 +68,24 @@ public class ExceptionHandleAsyncTaskExecutor implements AsyncTaskExecutor, Init
     }
 
     private <T> Callable<T> createCallable(Callable<T> task) {
-        return () -> {
+        return ContextSnapshot.capture().wrap((Callable<T>) () -> {
             try {
                 return task.call();
             } catch (Exception e) {
                 handle(e);
                 throw e;
             }
-        };
+        });
     }
 
     private Runnable createWrappedRunnable(Runnable task) {
-        return () -> {
+        return ContextSnapshot.capture().wrap((Runnable) () -> {
             try {
                 task.run();
             } catch (Exception e) {
                 handle(e);
             }
-        };
+        });
     }
 
     /**
@@ -119,6 +123,9 @@ public class ExceptionHandleAsyncTaskExecutor implements AsyncTaskExecutor, Init
         if (executor instanceof DisposableBean) {
             DisposableBean bean = (DisposableBean) executor;
             bean.destroy();
+        } else if (executor instanceof AutoCloseable) {
+            AutoCloseable closeable = (AutoCloseable) executor;
+            closeable.close();
         }
     }
 
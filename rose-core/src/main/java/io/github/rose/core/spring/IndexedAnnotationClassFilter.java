@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.spring;
+
+import io.github.rose.core.reflect.ClasspathAnnotationIndex;
+import java.lang.annotation.Annotation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ClassFilter} rejecting the classes which the {@link ClasspathAnnotationIndex} proves not to use an
+ * annotation, to be intersected with the pointcut matching that annotation so that the methods of these classes
+ * are not introspected when creating proxies. The classes the index does not cover are always accepted.
+ */
+public class IndexedAnnotationClassFilter implements ClassFilter {
+    private final Class<? extends Annotation> annotationType;
+
+    public IndexedAnnotationClassFilter(Class<? extends Annotation> annotationType) {
+        this.annotationType = annotationType;
+    }
+
+    @Override
+    public boolean matches(Class<?> clazz) {
+        Class<?> userClass = ClassUtils.getUserClass(clazz);
+        return ClasspathAnnotationIndex.get(userClass.getClassLoader()).mayBeAnnotated(userClass, annotationType);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof IndexedAnnotationClassFilter
+                        && annotationType.equals(((IndexedAnnotationClassFilter) other).annotationType));
+    }
+
+    @Override
+    public int hashCode() {
+        return annotationType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + ": " + annotationType.getName();
+    }
+}
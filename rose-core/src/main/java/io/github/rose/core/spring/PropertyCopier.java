@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.spring;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import io.github.rose.core.exception.RoseErrorCode;
+import io.github.rose.core.exception.RoseException;
+import io.github.rose.core.reflect.MetadataCache;
+import io.github.rose.core.reflect.MetadataCaches;
+import io.github.rose.core.reflect.ReflectUtils;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 基于 {@link MethodHandle} 的属性拷贝器
+ * <p>
+ * 按属性名匹配源类的 getter 与目标类的 setter（类型可赋值，含基本类型与包装类型），
+ * 首次使用时编译为方法句柄并按类对缓存。拷贝时不经过反射、{@link org.springframework.beans.BeanWrapperImpl}
+ * 或 cglib 生成的类，并支持忽略值为 null 的属性。值为 null 的属性不会写入基本类型的 setter。
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class PropertyCopier<S, T> {
+    private static final MetadataCache<CopierKey, PropertyCopier<?, ?>> copiers =
+            MetadataCaches.create("beans.property-copiers", CopierKey::source);
+    private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+    private final String[] names;
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+    private final boolean[] primitives;
+
+    private PropertyCopier(Class<?> sourceClass, Class<?> targetClass) {
+        List<String> names = new ArrayList<>();
+        List<MethodHandle> getters = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        List<Boolean> primitives = new ArrayList<>();
+        for (PropertyDescriptor targetProperty : BeanUtils.getPropertyDescriptors(targetClass)) {
+            Method writeMethod = targetProperty.getWriteMethod();
+            PropertyDescriptor sourceProperty = BeanUtils.getPropertyDescriptor(sourceClass, targetProperty.getName());
+            Method readMethod = sourceProperty == null ? null : sourceProperty.getReadMethod();
+            if (writeMethod == null
+                    || readMethod == null
+                    || !ClassUtils.isAssignable(writeMethod.getParameterTypes()[0], readMethod.getReturnType())) {
+                continue;
+            }
+            names.add(targetProperty.getName());
+            getters.add(unreflect(readMethod).asType(GETTER_TYPE));
+            setters.add(unreflect(writeMethod).asType(SETTER_TYPE));
+            primitives.add(writeMethod.getParameterTypes()[0].isPrimitive());
+        }
+        this.names = names.toArray(new String[0]);
+        this.getters = getters.toArray(new MethodHandle[0]);
+        this.setters = setters.toArray(new MethodHandle[0]);
+        this.primitives = new boolean[primitives.size()];
+        for (int i = 0; i < this.primitives.length; i++) {
+            this.primitives[i] = primitives.get(i);
+        }
+    }
+
+    /**
+     * 获取源类到目标类的拷贝器，首次调用时编译并缓存
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     * @return 拷贝器
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> PropertyCopier<S, T> of(Class<S> sourceClass, Class<T> targetClass) {
+        CopierKey key = new CopierKey(sourceClass, targetClass, false);
+        return (PropertyCopier<S, T>) copiers.get(key, k -> new PropertyCopier<>(k.source(), k.target()));
+    }
+
+    /**
+     * @return 拷贝的属性名
+     */
+    public List<String> propertyNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * 拷贝所有属性
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @return 目标对象
+     */
+    public T copy(S source, T target) {
+        return copy(source, target, false);
+    }
+
+    /**
+     * 拷贝属性
+     *
+     * @param source               源对象
+     * @param target               目标对象
+     * @param ignoreNullProperties 是否忽略值为 null 的属性
+     * @return 目标对象
+     */
+    public T copy(S source, T target, boolean ignoreNullProperties) {
+        for (int i = 0; i < getters.length; i++) {
+            Object value;
+            try {
+                value = getters[i].invokeExact((Object) source);
+                if (value == null && (ignoreNullProperties || primitives[i])) {
+                    continue;
+                }
+                setters[i].invokeExact((Object) target, value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw RoseException.wrap(t, RoseErrorCode.UNABLE_TO_INVOKE_METHOD)
+                        .put("property", names[i]);
+            }
+        }
+        return target;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // public accessor declared by a non-public class
+            try {
+                return MethodHandles.lookup().unreflect(ReflectUtils.makeAccessible(method));
+            } catch (IllegalAccessException | RuntimeException e1) {
+                throw RoseException.wrap(e1, RoseErrorCode.UNABLE_TO_INVOKE_METHOD)
+                        .put("method", method.toGenericString());
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.spring.expression;
+
+import io.github.rose.core.util.date.DateUtils;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.expression.AccessException;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypedValue;
+
+/**
+ * Variables whose value changes over time, such as {@code uuid} or {@code localDateTime}. The values are computed
+ * each time they are read, either as variables ({@code ${#uuid}}) through the evaluation contexts of
+ * {@link SpringExpressionResolver}, or as properties of the root object ({@code ${uuid}}) through this
+ * {@link PropertyAccessor}. Nothing is stored, so concurrent evaluations never observe each other's values.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class DynamicVariables implements PropertyAccessor {
+    static final DynamicVariables INSTANCE = new DynamicVariables();
+    private static final Class<?>[] TARGET_CLASSES = {DynamicVariables.class};
+
+    private final Map<String, Supplier<Object>> variables;
+
+    private DynamicVariables() {
+        Map<String, Supplier<Object>> map = new HashMap<>();
+        map.put("randomNumber2", () -> RandomStringUtils.randomNumeric(2));
+        map.put("randomNumber4", () -> RandomStringUtils.randomNumeric(4));
+        map.put("randomNumber6", () -> RandomStringUtils.randomNumeric(6));
+        map.put("randomNumber8", () -> RandomStringUtils.randomNumeric(8));
+        map.put("randomString4", () -> RandomStringUtils.randomAlphabetic(4));
+        map.put("randomString6", () -> RandomStringUtils.randomAlphabetic(6));
+        map.put("randomString8", () -> RandomStringUtils.randomAlphabetic(8));
+        map.put("uuid", () -> UUID.randomUUID().toString());
+
+        map.put("localStartWorkDay", () -> DateUtils.getStartWorkDay().toString());
+        map.put("localEndWorkDay", () -> DateUtils.getEndWorkDay().toString());
+        map.put("localStartDay", () -> DateUtils.getStartDay().toString());
+        map.put("localEndDay", () -> DateUtils.getEndDay().toString());
+        map.put("localDateTime", () -> DateUtils.getLocalDateTime().toString());
+        map.put("localDateTimeUtc", () -> DateUtils.getLocalDateTimeUTC().toString());
+        map.put("localDate", () -> LocalDate.now(ZoneId.systemDefault()).toString());
+        map.put("localDateUtc", () -> LocalDate.now(Clock.systemUTC()).toString());
+        map.put("zonedDateTime", () -> ZonedDateTime.now(ZoneId.systemDefault()).toString());
+        map.put("zonedDateTimeUtc", () -> ZonedDateTime.now(Clock.systemUTC()).toString());
+        this.variables = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns whether a dynamic variable has the specified name.
+     *
+     * @param name the variable name
+     * @return true if the variable exists
+     */
+    public boolean contains(String name) {
+        return variables.containsKey(name);
+    }
+
+    /**
+     * Computes the current value of a dynamic variable.
+     *
+     * @param name the variable name
+     * @return the value, or null if no dynamic variable has this name
+     */
+    public Object get(String name) {
+        Supplier<Object> supplier = variables.get(name);
+        return supplier == null ? null : supplier.get();
+    }
+
+    @Override
+    public Class<?>[] getSpecificTargetClasses() {
+        return TARGET_CLASSES;
+    }
+
+    @Override
+    public boolean canRead(EvaluationContext context, Object target, String name) {
+        return target == this && contains(name);
+    }
+
+    @Override
+    public TypedValue read(EvaluationContext context, Object target, String name) throws AccessException {
+        if (!canRead(context, target, name)) {
+            throw new AccessException("No dynamic variable named " + name);
+        }
+        return new TypedValue(get(name));
+    }
+
+    @Override
+    public boolean canWrite(EvaluationContext context, Object target, String name) {
+        return false;
+    }
+
+    @Override
+    public void write(EvaluationContext context, Object target, String name, Object newValue)
+            throws AccessException {
+        throw new AccessException("Dynamic variables are read-only");
+    }
+}
@@ -16,22 +16,18 @@
 package io.github.rose.core.spring.expression;
 
 import io.github.rose.core.spring.SpringContextHolder;
-import io.github.rose.core.util.date.DateUtils;
-import java.time.Clock;
-import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Properties;
-import java.util.UUID;
 import java.util.function.Function;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.expression.BeanFactoryResolver;
-import org.springframework.core.DefaultParameterNameDiscoverer;
-import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.AccessException;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParserContext;
 import org.springframework.expression.common.TemplateParserContext;
@@ -39,20 +35,37 @@ import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
+ * Evaluates SpEL expressions and {@code ${...}} templates.
+ *
+ * <p>Parsed expressions are kept in {@link ConcurrentLruCache least recently used caches} bounded by the
+ * {@value #CACHE_MAXIMUM_SIZE_PROPERTY} system property and are compiled in {@link SpelCompilerMode#MIXED} mode once
+ * they are hot. The shared evaluation context only holds constant variables and is never modified after
+ * construction: each evaluation runs against a child context, so that variable assignments made by an expression
+ * stay local to it, and the {@link DynamicVariables} are computed at each lookup. The resolver can therefore be used
+ * concurrently without locking.
+ *
  * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
  * @since 0.0.1
  */
 public class SpringExpressionResolver implements Function<Object, Object> {
+    public static final String CACHE_MAXIMUM_SIZE_PROPERTY = "rose.expression-cache.maximum-size";
     private static final Logger log = LoggerFactory.getLogger(SpringExpressionResolver.class);
 
     private static final ParserContext PARSER_CONTEXT = new TemplateParserContext("${", "}");
-    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
     private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
-            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, SpringExpressionResolver.class.getClassLoader()));
-    private static SpringExpressionResolver INSTANCE;
-    private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, SpringExpressionResolver.class.getClassLoader()));
+    private static final int CACHE_MAXIMUM_SIZE = Integer.getInteger(CACHE_MAXIMUM_SIZE_PROPERTY, 1024);
+    private static final ConcurrentLruCache<String, Expression> TEMPLATES = new ConcurrentLruCache<>(
+            CACHE_MAXIMUM_SIZE, value -> EXPRESSION_PARSER.parseExpression(value, PARSER_CONTEXT));
+    private static final ConcurrentLruCache<String, Expression> EXPRESSIONS =
+            new ConcurrentLruCache<>(CACHE_MAXIMUM_SIZE, EXPRESSION_PARSER::parseExpression);
+    private static final BeanResolver BEAN_RESOLVER = SpringExpressionResolver::resolveBean;
+    private static final SpringExpressionResolver INSTANCE = new SpringExpressionResolver();
+
+    private final ResolverEvaluationContext evaluationContext = new ResolverEvaluationContext(null);
 
     private SpringExpressionResolver() {
         Properties properties = System.getProperties();
@@ -67,8 +80,6 @@ public class SpringExpressionResolver implements Function<Object, Object> {
 
         evaluationContext.setVariable("tempDir", System.getProperty("java.io.tmpdir"));
         evaluationContext.setVariable("zoneId", ZoneId.systemDefault().getId());
-
-        evaluationContext.setBeanResolver(new BeanFactoryResolver(SpringContextHolder.getApplicationContext()));
     }
 
     /**
@@ -76,11 +87,7 @@ public class SpringExpressionResolver implements Function<Object, Object> {
      *
      * @return the instance
      */
-    public static synchronized SpringExpressionResolver getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new SpringExpressionResolver();
-        }
-        INSTANCE.initializeDynamicVariables();
+    public static SpringExpressionResolver getInstance() {
         return INSTANCE;
     }
 
@@ -93,46 +100,86 @@ public class SpringExpressionResolver implements Function<Object, Object> {
     public Object resolve(final String value) {
         if (StringUtils.isNotBlank(value)) {
             log.trace("Parsing expression as [{}]", value);
-            Expression expression = EXPRESSION_PARSER.parseExpression(value, PARSER_CONTEXT);
-            Object result = expression.getValue(evaluationContext);
+            Object result = getValue(parse(value));
             log.trace("Parsed expression result is [{}]", result);
             return result;
         }
         return value;
     }
 
+    /**
+     * Parse a template once, so that it can be evaluated many times with {@link #getValue(Expression)}.
+     *
+     * @param value the template, such as {@code ${#env['MASK_DISABLED']}}
+     * @return the cached parsed expression
+     */
+    public static Expression parse(final String value) {
+        return TEMPLATES.get(value);
+    }
+
+    /**
+     * Parse a plain SpEL expression, without template delimiters.
+     *
+     * @param value the expression, such as {@code #user.name}
+     * @return the cached parsed expression
+     */
+    public static Expression parseExpression(final String value) {
+        return EXPRESSIONS.get(value);
+    }
+
+    /**
+     * Evaluate a parsed expression against the variables of this resolver.
+     *
+     * @param expression the expression returned by {@link #parse(String)}
+     * @return the result
+     */
+    public Object getValue(final Expression expression) {
+        return expression.getValue(createEvaluationContext());
+    }
+
+    /**
+     * Create an evaluation context for a single evaluation. Variables set on it are local to it; the variables of
+     * this resolver are visible unless shadowed.
+     *
+     * @return a new evaluation context
+     */
+    public EvaluationContext createEvaluationContext() {
+        return new ResolverEvaluationContext(evaluationContext);
+    }
+
     @Override
     public Object apply(final Object o) {
         return resolve(o.toString());
     }
 
-    private void initializeDynamicVariables() {
-        evaluationContext.setVariable("randomNumber2", RandomStringUtils.randomNumeric(2));
-        evaluationContext.setVariable("randomNumber4", RandomStringUtils.randomNumeric(4));
-        evaluationContext.setVariable("randomNumber6", RandomStringUtils.randomNumeric(6));
-        evaluationContext.setVariable("randomNumber8", RandomStringUtils.randomNumeric(8));
-        evaluationContext.setVariable("randomString4", RandomStringUtils.randomAlphabetic(4));
-        evaluationContext.setVariable("randomString6", RandomStringUtils.randomAlphabetic(6));
-        evaluationContext.setVariable("randomString8", RandomStringUtils.randomAlphabetic(8));
-        evaluationContext.setVariable("uuid", UUID.randomUUID().toString());
-
-        evaluationContext.setVariable(
-                "localStartWorkDay", DateUtils.getStartWorkDay().toString());
-        evaluationContext.setVariable(
-                "localEndWorkDay", DateUtils.getEndWorkDay().toString());
-        evaluationContext.setVariable("localStartDay", DateUtils.getStartDay().toString());
-        evaluationContext.setVariable("localEndDay", DateUtils.getEndDay().toString());
-        evaluationContext.setVariable(
-                "localDateTime", DateUtils.getLocalDateTime().toString());
-        evaluationContext.setVariable(
-                "localDateTimeUtc", DateUtils.getLocalDateTimeUTC().toString());
-        evaluationContext.setVariable(
-                "localDate", LocalDate.now(ZoneId.systemDefault()).toString());
-        evaluationContext.setVariable(
-                "localDateUtc", LocalDate.now(Clock.systemUTC()).toString());
-        evaluationContext.setVariable(
-                "zonedDateTime", ZonedDateTime.now(ZoneId.systemDefault()).toString());
-        evaluationContext.setVariable(
-                "zonedDateTimeUtc", ZonedDateTime.now(Clock.systemUTC()).toString());
+    private static Object resolveBean(EvaluationContext context, String beanName) throws AccessException {
+        ApplicationContext applicationContext = SpringContextHolder.getApplicationContext();
+        if (applicationContext == null) {
+            throw new AccessException("No application context available to resolve bean " + beanName);
+        }
+        return new BeanFactoryResolver(applicationContext).resolve(context, beanName);
+    }
+
+    private static final class ResolverEvaluationContext extends StandardEvaluationContext {
+        private final ResolverEvaluationContext parent;
+
+        private ResolverEvaluationContext(ResolverEvaluationContext parent) {
+            super(DynamicVariables.INSTANCE);
+            this.parent = parent;
+            addPropertyAccessor(DynamicVariables.INSTANCE);
+            setBeanResolver(BEAN_RESOLVER);
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            Object value = super.lookupVariable(name);
+            if (value != null) {
+                return value;
+            }
+            if (parent != null) {
+                return parent.lookupVariable(name);
+            }
+            return DynamicVariables.INSTANCE.get(name);
+        }
     }
 }
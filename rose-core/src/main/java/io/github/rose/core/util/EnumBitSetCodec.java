@@ -0,0 +1,528 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * Encodes sets of enum constants into bit sets of any size, stored in {@code long[]} words where the bit
+ * {@code ordinal % 64} of the word {@code ordinal / 64} is set for each constant of the set.
+ *
+ * <p>The words can be persisted as:
+ * <ul>
+ *   <li>hex: the bits as a big-endian hexadecimal number without leading zeros, so an enum with less than 64
+ *   constants has the same encoding as {@code Long.toHexString(EnumUtil.bitSetOf(...))};</li>
+ *   <li>Base64: the bytes of the words in little-endian order without trailing zero bytes, URL-safe and without
+ *   padding.</li>
+ * </ul>
+ * Bits without a matching constant, for instance persisted by a newer version of the enum, are ignored when
+ * decoding. Membership can be tested on the words and on both encodings without decoding the whole set, and the
+ * static operations combine words or hex encodings without creating any {@link EnumSet}.
+ *
+ * @param <E> the type of enum.
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class EnumBitSetCodec<E extends Enum<E>> {
+    private static final long[] EMPTY_WORDS = new long[0];
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final String BASE64_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final byte[] BASE64_VALUES = new byte[128];
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+    private static final ClassValue<EnumBitSetCodec<?>> CODECS = new ClassValue<EnumBitSetCodec<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumBitSetCodec<?> computeValue(Class<?> type) {
+            return new EnumBitSetCodec(type);
+        }
+    };
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        for (int i = 0; i < BASE64_ALPHABET.length(); i++) {
+            BASE64_VALUES[BASE64_ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final Class<E> enumClass;
+    private final E[] constants;
+    private final int wordCount;
+
+    private EnumBitSetCodec(Class<E> enumClass) {
+        this.enumClass = enumClass;
+        this.constants = EnumUtil.constants(enumClass);
+        this.wordCount = (constants.length + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Returns the codec of the specified enum.
+     *
+     * @param enumClass the class of the enum.
+     * @param <E>       the type of enum.
+     * @return the cached codec.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumBitSetCodec<E> of(Class<E> enumClass) {
+        return (EnumBitSetCodec<E>) CODECS.get(Objects.requireNonNull(enumClass, "Enum class must not be null"));
+    }
+
+    /**
+     * Returns the number of words needed to hold all the constants of the enum.
+     *
+     * @return the number of words.
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Encodes constants into words. Null constants are ignored.
+     *
+     * @param enums the constants, may be null.
+     * @return the words, always {@link #getWordCount()} long.
+     */
+    public long[] encode(Collection<E> enums) {
+        long[] words = new long[wordCount];
+        if (enums != null) {
+            for (E e : enums) {
+                if (e != null) {
+                    words[e.ordinal() >>> 6] |= 1L << e.ordinal();
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Encodes constants into words. Null constants are ignored.
+     *
+     * @param enums the constants.
+     * @return the words, always {@link #getWordCount()} long.
+     */
+    @SafeVarargs
+    public final long[] encode(E... enums) {
+        long[] words = new long[wordCount];
+        for (E e : enums) {
+            if (e != null) {
+                words[e.ordinal() >>> 6] |= 1L << e.ordinal();
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Decodes words into a set of constants.
+     *
+     * @param words the words, may be null or of any length.
+     * @return a new set.
+     */
+    public EnumSet<E> decode(long[] words) {
+        EnumSet<E> set = EnumSet.noneOf(enumClass);
+        if (words == null) {
+            return set;
+        }
+        int length = Math.min(words.length, wordCount);
+        for (int i = 0; i < length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int ordinal = (i << 6) + Long.numberOfTrailingZeros(word);
+                if (ordinal < constants.length) {
+                    set.add(constants[ordinal]);
+                }
+                word &= word - 1;
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Encodes constants as hex.
+     *
+     * @param enums the constants, may be null.
+     * @return the hex encoding, {@code "0"} for an empty set.
+     */
+    public String toHex(Collection<E> enums) {
+        return toHex(encode(enums));
+    }
+
+    /**
+     * Decodes the hex encoding of a set of constants.
+     *
+     * @param hex the hex encoding, may be null or empty.
+     * @return a new set.
+     * @throws IllegalArgumentException if the value is not hexadecimal.
+     */
+    public EnumSet<E> fromHex(String hex) {
+        return decode(hexToWords(hex));
+    }
+
+    /**
+     * Encodes constants as Base64.
+     *
+     * @param enums the constants, may be null.
+     * @return the Base64 encoding, empty for an empty set.
+     */
+    public String toBase64(Collection<E> enums) {
+        return toBase64(encode(enums));
+    }
+
+    /**
+     * Decodes the Base64 encoding of a set of constants.
+     *
+     * @param base64 the Base64 encoding, may be null or empty.
+     * @return a new set.
+     * @throws IllegalArgumentException if the value is not URL-safe Base64.
+     */
+    public EnumSet<E> fromBase64(String base64) {
+        return decode(base64ToWords(base64));
+    }
+
+    /**
+     * Returns true if the words contain the constant.
+     *
+     * @param words the words, may be null or of any length.
+     * @param e     the constant.
+     * @return true if the bit of the constant is set.
+     */
+    public boolean contains(long[] words, E e) {
+        int index = e.ordinal() >>> 6;
+        return words != null && index < words.length && (words[index] & (1L << e.ordinal())) != 0;
+    }
+
+    /**
+     * Returns true if the hex encoding contains the constant, reading only the digit holding its bit.
+     *
+     * @param hex the hex encoding, may be null or empty.
+     * @param e   the constant.
+     * @return true if the bit of the constant is set.
+     * @throws IllegalArgumentException if the digit holding the bit is not hexadecimal.
+     */
+    public boolean containsHex(String hex, E e) {
+        int ordinal = e.ordinal();
+        int index = hex == null ? -1 : hex.length() - 1 - (ordinal >>> 2);
+        return index >= 0 && (hexValue(hex.charAt(index)) & (1 << (ordinal & 3))) != 0;
+    }
+
+    /**
+     * Returns true if the Base64 encoding contains the constant, reading only the character holding its bit.
+     *
+     * @param base64 the Base64 encoding, may be null or empty.
+     * @param e      the constant.
+     * @return true if the bit of the constant is set.
+     * @throws IllegalArgumentException if the character holding the bit is not URL-safe Base64.
+     */
+    public boolean containsBase64(String base64, E e) {
+        int ordinal = e.ordinal();
+        // position of the bit in the byte stream, bytes being written most significant bit first
+        int position = (ordinal & ~7) + 7 - (ordinal & 7);
+        int index = position / 6;
+        return base64 != null
+                && index < base64.length()
+                && (base64Value(base64.charAt(index)) & (1 << (5 - position % 6))) != 0;
+    }
+
+    /**
+     * Returns the union of two bit sets.
+     *
+     * @param words1 the first words.
+     * @param words2 the second words.
+     * @return new words as long as the longest ones.
+     */
+    public static long[] union(long[] words1, long[] words2) {
+        long[] longest = words1.length >= words2.length ? words1 : words2;
+        long[] shortest = longest == words1 ? words2 : words1;
+        long[] result = longest.clone();
+        for (int i = 0; i < shortest.length; i++) {
+            result[i] |= shortest[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the intersection of two bit sets.
+     *
+     * @param words1 the first words.
+     * @param words2 the second words.
+     * @return new words as long as the shortest ones.
+     */
+    public static long[] intersect(long[] words1, long[] words2) {
+        long[] result = new long[Math.min(words1.length, words2.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words1[i] & words2[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bits of the first bit set which are not in the second one.
+     *
+     * @param words1 the first words.
+     * @param words2 the second words.
+     * @return new words as long as the first ones.
+     */
+    public static long[] difference(long[] words1, long[] words2) {
+        long[] result = words1.clone();
+        int length = Math.min(words1.length, words2.length);
+        for (int i = 0; i < length; i++) {
+            result[i] &= ~words2[i];
+        }
+        return result;
+    }
+
+    /**
+     * Adds the bits of a bit set to another one, in place.
+     *
+     * @param target the words to modify.
+     * @param words  the words to add, their bits beyond the length of the target must not be set.
+     * @return the target.
+     * @throws IllegalArgumentException if the target is too short to hold the added bits.
+     */
+    public static long[] addAll(long[] target, long[] words) {
+        for (int i = 0; i < words.length; i++) {
+            if (i < target.length) {
+                target[i] |= words[i];
+            } else if (words[i] != 0) {
+                throw new IllegalArgumentException("Target bit set is too short: " + target.length + " words");
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Keeps the bits of a bit set which are also in another one, in place.
+     *
+     * @param target the words to modify.
+     * @param words  the words to retain.
+     * @return the target.
+     */
+    public static long[] retainAll(long[] target, long[] words) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = i < words.length ? target[i] & words[i] : 0;
+        }
+        return target;
+    }
+
+    /**
+     * Returns true if the first bit set contains all the bits of the second one.
+     *
+     * @param words     the words to check.
+     * @param testWords the words to look for.
+     * @return true if all the bits are set.
+     */
+    public static boolean containsAll(long[] words, long[] testWords) {
+        for (int i = 0; i < testWords.length; i++) {
+            long word = i < words.length ? words[i] : 0;
+            if ((word & testWords[i]) != testWords[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the first bit set contains any bit of the second one.
+     *
+     * @param words     the words to check.
+     * @param testWords the words to look for.
+     * @return true if at least one bit is set.
+     */
+    public static boolean containsAny(long[] words, long[] testWords) {
+        int length = Math.min(words.length, testWords.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & testWords[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of bits set.
+     *
+     * @param words the words.
+     * @return the number of constants of the set.
+     */
+    public static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the union of two hex encoded bit sets, computed digit by digit.
+     *
+     * @param hex1 the first hex encoding.
+     * @param hex2 the second hex encoding.
+     * @return the hex encoding of the union.
+     * @throws IllegalArgumentException if a value is not hexadecimal.
+     */
+    public static String unionHex(String hex1, String hex2) {
+        int length = Math.max(hex1.length(), hex2.length());
+        char[] result = new char[length];
+        for (int i = 1; i <= length; i++) {
+            int digit = hexDigit(hex1, hex1.length() - i) | hexDigit(hex2, hex2.length() - i);
+            result[length - i] = HEX_DIGITS[digit];
+        }
+        return trimHex(result);
+    }
+
+    /**
+     * Returns the intersection of two hex encoded bit sets, computed digit by digit.
+     *
+     * @param hex1 the first hex encoding.
+     * @param hex2 the second hex encoding.
+     * @return the hex encoding of the intersection.
+     * @throws IllegalArgumentException if a value is not hexadecimal.
+     */
+    public static String intersectHex(String hex1, String hex2) {
+        int length = Math.min(hex1.length(), hex2.length());
+        char[] result = new char[length];
+        for (int i = 1; i <= length; i++) {
+            int digit = hexDigit(hex1, hex1.length() - i) & hexDigit(hex2, hex2.length() - i);
+            result[length - i] = HEX_DIGITS[digit];
+        }
+        return trimHex(result);
+    }
+
+    /**
+     * Encodes words as hex.
+     *
+     * @param words the words.
+     * @return the hex encoding, {@code "0"} for an empty set.
+     */
+    public static String toHex(long[] words) {
+        int last = lastNonZero(words);
+        if (last < 0) {
+            return "0";
+        }
+        int leadingDigits = (Long.SIZE - Long.numberOfLeadingZeros(words[last]) + 3) >>> 2;
+        char[] chars = new char[leadingDigits + last * 16];
+        int index = 0;
+        for (int i = last; i >= 0; i--) {
+            long word = words[i];
+            for (int shift = (i == last ? leadingDigits : 16) * 4 - 4; shift >= 0; shift -= 4) {
+                chars[index++] = HEX_DIGITS[(int) (word >>> shift) & 0xF];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Decodes the hex encoding of words.
+     *
+     * @param hex the hex encoding, may be null or empty.
+     * @return the words.
+     * @throws IllegalArgumentException if the value is not hexadecimal.
+     */
+    public static long[] hexToWords(String hex) {
+        if (hex == null || hex.isEmpty()) {
+            return EMPTY_WORDS;
+        }
+        int length = hex.length();
+        long[] words = new long[(length + 15) / 16];
+        for (int i = 0; i < length; i++) {
+            int bit = i * 4;
+            words[bit >>> 6] |= (long) hexValue(hex.charAt(length - 1 - i)) << bit;
+        }
+        return words;
+    }
+
+    /**
+     * Encodes words as Base64.
+     *
+     * @param words the words.
+     * @return the Base64 encoding, empty for an empty set.
+     */
+    public static String toBase64(long[] words) {
+        int last = lastNonZero(words);
+        if (last < 0) {
+            return StringPool.EMPTY;
+        }
+        int length = last * 8 + (Long.SIZE - Long.numberOfLeadingZeros(words[last]) + 7) / 8;
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) * 8));
+        }
+        return BASE64_ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * Decodes the Base64 encoding of words.
+     *
+     * @param base64 the Base64 encoding, may be null or empty.
+     * @return the words.
+     * @throws IllegalArgumentException if the value is not URL-safe Base64.
+     */
+    public static long[] base64ToWords(String base64) {
+        if (base64 == null || base64.isEmpty()) {
+            return EMPTY_WORDS;
+        }
+        byte[] bytes = BASE64_DECODER.decode(base64);
+        long[] words = new long[(bytes.length + 7) / 8];
+        for (int i = 0; i < bytes.length; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) * 8);
+        }
+        return words;
+    }
+
+    private static int lastNonZero(long[] words) {
+        int last = words.length - 1;
+        while (last >= 0 && words[last] == 0) {
+            last--;
+        }
+        return last;
+    }
+
+    private static String trimHex(char[] digits) {
+        int start = 0;
+        while (start < digits.length - 1 && digits[start] == '0') {
+            start++;
+        }
+        return digits.length == 0 ? "0" : new String(digits, start, digits.length - start);
+    }
+
+    private static int hexDigit(String hex, int index) {
+        return index < 0 ? 0 : hexValue(hex.charAt(index));
+    }
+
+    private static int hexValue(char c) {
+        int value = Character.digit(c, 16);
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid hex digit: " + c);
+        }
+        return value;
+    }
+
+    private static int base64Value(char c) {
+        int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid Base64 character: " + c);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "EnumBitSetCodec[" + enumClass.getName() + "]";
+    }
+}
@@ -16,15 +16,16 @@
 package io.github.rose.core.util;
 
 import java.lang.reflect.Array;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Utilities method to Enums.
  *
+ * <p>The {@code long} bit sets can only hold enums with less than 64 constants, use {@link EnumBitSetCodec} for
+ * larger enums.
+ *
  * @author Pedro Ruivo
  * @since infinispan 8.2
  */
@@ -33,6 +34,17 @@ public abstract class EnumUtil {
     // Represents an empty bit set.
     public static final long EMPTY_BIT_SET = 0L;
 
+    private static final ClassValue<Object[]> CONSTANTS = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            if (constants == null) {
+                throw new IllegalArgumentException(type.getName() + " is not an enum");
+            }
+            return constants;
+        }
+    };
+
     private EnumUtil() {
         throw new IllegalStateException("Utility class");
     }
@@ -49,10 +61,13 @@ public abstract class EnumUtil {
         if (enums == null || enums.isEmpty()) {
             return EMPTY_BIT_SET;
         }
-        return enums.stream()
-                .filter(Objects::nonNull)
-                .mapToLong(EnumUtil::bitSetOf)
-                .reduce(EMPTY_BIT_SET, (a, b) -> a | b);
+        long bitSet = EMPTY_BIT_SET;
+        for (E e : enums) {
+            if (e != null) {
+                bitSet |= bitSetOf(e);
+            }
+        }
+        return bitSet;
     }
 
     /**
@@ -60,9 +75,15 @@ public abstract class EnumUtil {
      *
      * @param first the enum
      * @return the bit set representing the enum
+     * @throws IllegalArgumentException if the ordinal of the enum does not fit in a {@code long}
      */
     public static long bitSetOf(Enum<?> first) {
-        return 1L << first.ordinal();
+        int ordinal = first.ordinal();
+        if (ordinal >= Long.SIZE) {
+            throw new IllegalArgumentException(
+                    first.getDeclaringClass().getName() + " has too many constants, use EnumBitSetCodec instead");
+        }
+        return 1L << ordinal;
     }
 
     /**
@@ -122,12 +143,17 @@ public abstract class EnumUtil {
      */
     public static <E extends Enum<E>> EnumSet<E> enumSetOf(long bitSet, Class<E> eClass) {
         Objects.requireNonNull(eClass, "Enum class must not be null");
-        if (bitSet == EMPTY_BIT_SET) {
-            return EnumSet.noneOf(eClass);
+        EnumSet<E> set = EnumSet.noneOf(eClass);
+        E[] constants = constants(eClass);
+        long bits = bitSet;
+        while (bits != EMPTY_BIT_SET) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            if (ordinal < constants.length) {
+                set.add(constants[ordinal]);
+            }
+            bits &= bits - 1;
         }
-        return EnumSet.copyOf(Arrays.stream(eClass.getEnumConstants())
-                .filter(e -> hasEnum(bitSet, e))
-                .collect(Collectors.toSet()));
+        return set;
     }
 
     /**
@@ -272,13 +298,28 @@ public abstract class EnumUtil {
         if (bitSet == EMPTY_BIT_SET) {
             return null;
         }
-        E[] array = (E[]) Array.newInstance(eClass, bitSetSize(bitSet));
+        E[] constants = constants(eClass);
+        long bits = constants.length < Long.SIZE ? bitSet & ((1L << constants.length) - 1) : bitSet;
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) Array.newInstance(eClass, bitSetSize(bits));
         int i = 0;
-        for (E f : eClass.getEnumConstants()) {
-            if (hasEnum(bitSet, f)) {
-                array[i++] = f;
-            }
+        while (bits != EMPTY_BIT_SET) {
+            array[i++] = constants[Long.numberOfTrailingZeros(bits)];
+            bits &= bits - 1;
         }
         return array;
     }
+
+    /**
+     * Returns the constants of an enum, in ordinal order, from a per-class cache instead of copying them like
+     * {@code values()}. The returned array is shared and must not be modified.
+     *
+     * @param eClass the class of the enum
+     * @param <E>    the type of enum
+     * @return the shared array of constants
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> E[] constants(Class<E> eClass) {
+        return (E[]) CONSTANTS.get(eClass);
+    }
 }
@@ -64,16 +64,16 @@ public abstract class NanoId {
      * The generated NanoId String will have 21 symbols.
      * <p>
      * The NanoId String is generated using a cryptographically strong pseudo random
-     * number generator.
+     * number generator, through {@link NanoIdGenerator#DEFAULT}.
      *
      * @return A randomly generated NanoId String.
      */
     public static String randomNanoId() {
-        return randomNanoId(DEFAULT_NUMBER_GENERATOR, DEFAULT_ALPHABET, DEFAULT_SIZE);
+        return NanoIdGenerator.DEFAULT.next();
     }
 
     public static String randomNanoId(final int size) {
-        return randomNanoId(DEFAULT_NUMBER_GENERATOR, DEFAULT_ALPHABET, size);
+        return NanoIdGenerator.DEFAULT.next(size);
     }
 
     /**
@@ -103,20 +103,21 @@ public abstract class NanoId {
             throw new IllegalArgumentException("size must be greater than zero.");
         }
 
-        final int mask = (2 << (int) Math.floor(Math.log(alphabet.length - 1) / Math.log(2))) - 1;
+        final int mask = NanoIdGenerator.mask(alphabet.length);
         final int step = (int) Math.ceil(1.6 * mask * size / alphabet.length);
 
-        final StringBuilder idBuilder = new StringBuilder();
+        final char[] id = new char[size];
+        final byte[] bytes = new byte[step];
+        int filled = 0;
         while (true) {
-            final byte[] bytes = new byte[step];
             random.nextBytes(bytes);
 
             for (int i = 0; i < step; i++) {
                 final int alphabetIndex = bytes[i] & mask;
                 if (alphabetIndex < alphabet.length) {
-                    idBuilder.append(alphabet[alphabetIndex]);
-                    if (idBuilder.length() == size) {
-                        return idBuilder.toString();
+                    id[filled++] = alphabet[alphabetIndex];
+                    if (filled == size) {
+                        return new String(id);
                     }
                 }
             }
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A reusable NanoId generator configured once with an alphabet and a size.
+ * <p>
+ * The mask is computed once, and the random bytes are drawn from a per-thread pool refilled in bulk from an
+ * {@link EntropySource}, so generating an ID neither locks a shared random number generator nor allocates anything
+ * but the resulting String.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @see NanoId
+ * @since 0.0.1
+ */
+public final class NanoIdGenerator {
+
+    /**
+     * Generates url-friendly NanoId Strings of {@link NanoId#DEFAULT_SIZE} symbols from a cryptographically strong
+     * source.
+     */
+    public static final NanoIdGenerator DEFAULT =
+            new NanoIdGenerator(NanoId.DEFAULT_ALPHABET, NanoId.DEFAULT_SIZE, EntropySource.SECURE);
+
+    private static final int POOL_SIZE = 1024;
+
+    private final char[] alphabet;
+    private final int size;
+    private final int mask;
+    private final int step;
+    private final EntropySource source;
+    private final ThreadLocal<EntropyPool> pools;
+
+    private NanoIdGenerator(final char[] alphabet, final int size, final EntropySource source) {
+        if (alphabet == null) {
+            throw new IllegalArgumentException("alphabet cannot be null.");
+        }
+        if (alphabet.length == 0 || alphabet.length >= 256) {
+            throw new IllegalArgumentException("alphabet must contain between 1 and 255 symbols.");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be greater than zero.");
+        }
+        if (source == null) {
+            throw new IllegalArgumentException("source cannot be null.");
+        }
+        this.alphabet = alphabet.clone();
+        this.size = size;
+        this.mask = mask(alphabet.length);
+        this.step = (int) Math.ceil(1.6 * mask * size / alphabet.length);
+        this.source = source;
+        this.pools = ThreadLocal.withInitial(() -> new EntropyPool(Math.max(POOL_SIZE, step)));
+    }
+
+    /**
+     * Creates a generator drawing from a cryptographically strong source.
+     *
+     * @param alphabet The symbols used in the NanoId Strings.
+     * @param size     The number of symbols in the NanoId Strings.
+     * @return The generator.
+     */
+    public static NanoIdGenerator of(final char[] alphabet, final int size) {
+        return new NanoIdGenerator(alphabet, size, EntropySource.SECURE);
+    }
+
+    /**
+     * Creates a generator drawing from the given source, such as {@link EntropySource#FAST} for IDs which do not
+     * need to be unpredictable.
+     *
+     * @param alphabet The symbols used in the NanoId Strings.
+     * @param size     The number of symbols in the NanoId Strings.
+     * @param source   The source of random bytes.
+     * @return The generator.
+     */
+    public static NanoIdGenerator of(final char[] alphabet, final int size, final EntropySource source) {
+        return new NanoIdGenerator(alphabet, size, source);
+    }
+
+    /**
+     * Returns the smallest {@code 2^n - 1} mask covering every index of an alphabet of the given length.
+     */
+    static int mask(final int alphabetLength) {
+        if (alphabetLength <= 2) {
+            return 1;
+        }
+        return (2 << (31 - Integer.numberOfLeadingZeros(alphabetLength - 1))) - 1;
+    }
+
+    /**
+     * @return A NanoId String of the configured size.
+     */
+    public String next() {
+        return next(size);
+    }
+
+    /**
+     * @param size The number of symbols in the NanoId String.
+     * @return A NanoId String of the given size, using the configured alphabet and source.
+     */
+    public String next(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be greater than zero.");
+        }
+        final char[] id = new char[size];
+        final EntropyPool pool = pools.get();
+        final int length = alphabet.length;
+        int filled = 0;
+        while (filled < size) {
+            final int alphabetIndex = pool.next(source) & mask;
+            if (alphabetIndex < length) {
+                id[filled++] = alphabet[alphabetIndex];
+            }
+        }
+        return new String(id);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * A source of random bytes used to refill the per-thread pools.
+     */
+    @FunctionalInterface
+    public interface EntropySource {
+
+        /**
+         * Cryptographically strong bytes, from one {@link SecureRandom} per thread.
+         */
+        EntropySource SECURE = new EntropySource() {
+            private final ThreadLocal<SecureRandom> randoms = ThreadLocal.withInitial(SecureRandom::new);
+
+            @Override
+            public void nextBytes(final byte[] bytes) {
+                randoms.get().nextBytes(bytes);
+            }
+        };
+
+        /**
+         * Fast but predictable bytes, from {@link ThreadLocalRandom}. Only for IDs which are not secrets.
+         */
+        EntropySource FAST = bytes -> ThreadLocalRandom.current().nextBytes(bytes);
+
+        void nextBytes(byte[] bytes);
+    }
+
+    private static final class EntropyPool {
+        private final byte[] bytes;
+        private int position;
+
+        private EntropyPool(final int capacity) {
+            this.bytes = new byte[capacity];
+            this.position = capacity;
+        }
+
+        int next(final EntropySource source) {
+            if (position == bytes.length) {
+                source.nextBytes(bytes);
+                position = 0;
+            }
+            return bytes[position++];
+        }
+    }
+}
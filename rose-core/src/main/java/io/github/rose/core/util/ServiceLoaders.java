@@ -22,6 +22,10 @@ import org.slf4j.LoggerFactory;
 /**
  * ServiceLoaders is a {@link ServiceLoader} replacement which understands multiple classpaths.
  *
+ * <p>The providers are read once per class loader by the {@link ServiceRegistry}. As with {@link ServiceLoader},
+ * {@link #load(Class, ClassLoader...)} returns new instances on each call. {@link #loadShared(Class, ClassLoader...)}
+ * returns instances shared between calls and callers instead, for stateless or thread-safe providers.
+ *
  * @author Tristan Tarrant
  * @author Brett Meyer
  * @since 6.0
@@ -34,49 +38,58 @@ public class ServiceLoaders {
     }
 
     public static <T> Collection<T> load(Class<T> contract, ClassLoader... loaders) {
-        List<T> services = new ArrayList<>();
+        return instantiate(contract, false, loaders);
+    }
+
+    /**
+     * Returns the shared instances of the providers of a contract, each provider being instantiated once.
+     *
+     * @param contract the service contract.
+     * @param <T>      the type of the service.
+     * @return the instances, by descending priority.
+     */
+    public static <T> Collection<T> loadShared(Class<T> contract) {
+        return loadShared(contract, ClassLoaders.findMostCompleteClassLoader());
+    }
 
+    /**
+     * Returns the shared instances of the providers of a contract found in the specified class loaders.
+     *
+     * @param contract the service contract.
+     * @param loaders  the class loaders.
+     * @param <T>      the type of the service.
+     * @return the instances, by descending priority.
+     */
+    public static <T> Collection<T> loadShared(Class<T> contract, ClassLoader... loaders) {
+        return instantiate(contract, true, loaders);
+    }
+
+    private static <T> Collection<T> instantiate(Class<T> contract, boolean shared, ClassLoader... loaders) {
+        List<ServiceRegistry.Provider<T>> ordered;
         if (loaders.length == 0) {
-            try {
-                ServiceLoader<T> loadedServices = ServiceLoader.load(contract);
-                addServices(loadedServices, services);
-            } catch (Exception e) {
-                // Ignore
+            ordered = ServiceRegistry.get().providers(contract);
+        } else if (loaders.length == 1) {
+            ordered = ServiceRegistry.get(Objects.requireNonNull(loaders[0])).providers(contract);
+        } else {
+            Map<String, ServiceRegistry.Provider<T>> providers = new LinkedHashMap<>();
+            for (ClassLoader loader : loaders) {
+                for (ServiceRegistry.Provider<T> provider :
+                        ServiceRegistry.get(Objects.requireNonNull(loader)).providers(contract)) {
+                    providers.putIfAbsent(provider.getClassName(), provider);
+                }
             }
+            ordered = new ArrayList<>(providers.values());
+            PriorityUtils.sortByPriority(ordered, ServiceRegistry.Provider::getPriority);
         }
 
-        for (ClassLoader loader : loaders) {
-            if (loader == null) {
-                throw new NullPointerException();
-            }
+        List<T> services = new ArrayList<>(ordered.size());
+        for (ServiceRegistry.Provider<T> provider : ordered) {
             try {
-                ServiceLoader<T> loadedServices = ServiceLoader.load(contract, loader);
-                addServices(loadedServices, services);
-            } catch (Exception e) {
-                // Ignore
+                services.add(contract.cast(shared ? provider.get() : provider.newInstance()));
+            } catch (ServiceConfigurationError | ClassCastException e) {
+                log.warn("Ignoring service provider {}", provider.getClassName(), e);
             }
         }
-
-        if (services.isEmpty()) {
-            log.info("No service impls found: {}", contract.getSimpleName());
-        }
-
-        PriorityUtils.sortByObjectPriority(services);
         return services;
     }
-
-    private static <T> void addServices(ServiceLoader<T> loadedServices, List<T> services) {
-        Iterator<T> i = loadedServices.iterator();
-        while (i.hasNext()) {
-            T service = i.next();
-            if (!services.contains(service.getClass().getName())) {
-                services.add(service);
-                log.info("Loading service impl: {}", service.getClass().getName());
-            } else {
-                log.info(
-                        "Ignoring already loaded service: {}",
-                        service.getClass().getName());
-            }
-        }
-    }
 }
@@ -0,0 +1,398 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+
+/**
+ * Registry of the service providers declared in the {@code META-INF/services} resources visible from a class loader,
+ * as described in {@link ServiceLoader}.
+ *
+ * <p>The providers of a contract are read once per class loader and ordered by <strong>descending</strong> priority
+ * as {@link PriorityUtils} does. The priority is read from the {@code # priority=<value>} comment written by the
+ * rose-processor {@code AutoServiceProcessor}, so these providers are neither loaded nor instantiated until they are
+ * used. Providers without this comment are loaded to read their annotations, and providers implementing
+ * {@link Ordered} are instantiated to get their order.
+ *
+ * <p>Unlike {@link ServiceLoader}, which creates new instances on each iteration, each provider class is instantiated
+ * at most once and its instance is shared by all the contracts it provides and by all the callers, so stateful
+ * providers must be thread-safe. {@link Provider#newInstance()} creates an instance which is not shared.
+ * The registry only holds provider names and priorities, the instances being attached to the provider classes, so it
+ * does not prevent the class loader from being garbage collected.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class ServiceRegistry {
+    public static final String SERVICES_LOCATION = "META-INF/services/";
+    public static final String PRIORITY_COMMENT = "priority=";
+    private static final Logger log = LoggerFactory.getLogger(ServiceRegistry.class);
+    private static final Map<ClassLoader, ServiceRegistry> registries = new WeakHashMap<>();
+    private static final ClassValue<Instance> instances = new ClassValue<Instance>() {
+        @Override
+        protected Instance computeValue(Class<?> type) {
+            return new Instance(type);
+        }
+    };
+    private static volatile ServiceRegistry lastRegistry;
+    private final WeakReference<ClassLoader> classLoader;
+    private final Map<String, List<Provider<?>>> providers = new ConcurrentHashMap<>();
+
+    private ServiceRegistry(ClassLoader classLoader) {
+        this.classLoader = new WeakReference<>(classLoader);
+    }
+
+    /**
+     * Returns the registry of the most complete class loader.
+     *
+     * @return the registry.
+     * @see ClassLoaders#findMostCompleteClassLoader()
+     */
+    public static ServiceRegistry get() {
+        return get(ClassLoaders.findMostCompleteClassLoader());
+    }
+
+    /**
+     * Returns the registry of the specified class loader.
+     *
+     * @param classLoader the class loader.
+     * @return the registry, created once per class loader.
+     */
+    public static ServiceRegistry get(ClassLoader classLoader) {
+        if (classLoader == null) {
+            classLoader = ClassLoaders.findMostCompleteClassLoader(ServiceRegistry.class);
+        }
+        ServiceRegistry registry = lastRegistry;
+        if (registry != null && registry.classLoader.get() == classLoader) {
+            return registry;
+        }
+        synchronized (registries) {
+            registry = registries.get(classLoader);
+            if (registry == null) {
+                registry = new ServiceRegistry(classLoader);
+                registries.put(classLoader, registry);
+            }
+        }
+        lastRegistry = registry;
+        return registry;
+    }
+
+    /**
+     * Discards the providers read from the specified class loader, which will be read again on next use.
+     *
+     * @param classLoader the class loader.
+     */
+    public static void invalidate(ClassLoader classLoader) {
+        synchronized (registries) {
+            registries.remove(classLoader);
+        }
+        lastRegistry = null;
+    }
+
+    /**
+     * Returns the providers of a contract without instantiating them.
+     *
+     * @param contract the service contract.
+     * @param <T>      the type of the service.
+     * @return the unmodifiable list of providers, by descending priority.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> List<Provider<T>> providers(Class<T> contract) {
+        List<Provider<?>> result = providers.get(contract.getName());
+        if (result == null) {
+            // read outside of the map: instantiating an Ordered provider may look other services up
+            List<Provider<?>> read = readProviders(contract.getName());
+            result = providers.putIfAbsent(contract.getName(), read);
+            if (result == null) {
+                result = read;
+            }
+        }
+        return (List) result;
+    }
+
+    /**
+     * Returns the instances of the providers of a contract. Providers which cannot be instantiated are logged and
+     * skipped.
+     *
+     * @param contract the service contract.
+     * @param <T>      the type of the service.
+     * @return a new list of the shared provider instances, by descending priority.
+     */
+    public <T> List<T> load(Class<T> contract) {
+        List<Provider<T>> list = providers(contract);
+        List<T> services = new ArrayList<>(list.size());
+        for (Provider<T> provider : list) {
+            T service = provider.getIfAvailable(contract);
+            if (service != null) {
+                services.add(service);
+            }
+        }
+        return services;
+    }
+
+    /**
+     * Returns the instance of the provider of a contract with the highest priority, only instantiating the
+     * providers needed to find it.
+     *
+     * @param contract the service contract.
+     * @param <T>      the type of the service.
+     * @return the instance, or empty if there is no provider which can be instantiated.
+     */
+    public <T> Optional<T> first(Class<T> contract) {
+        for (Provider<T> provider : providers(contract)) {
+            T service = provider.getIfAvailable(contract);
+            if (service != null) {
+                return Optional.of(service);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<Provider<?>> readProviders(String contract) {
+        ClassLoader loader = classLoader.get();
+        if (loader == null) {
+            return Collections.emptyList();
+        }
+        Map<String, Integer> declarations = readDeclarations(loader, contract);
+        List<Provider<?>> result = new ArrayList<>(declarations.size());
+        for (Map.Entry<String, Integer> declaration : declarations.entrySet()) {
+            Provider<?> provider = new Provider<>(classLoader, declaration.getKey(), declaration.getValue());
+            if (provider.resolvePriority()) {
+                result.add(provider);
+            }
+        }
+        result.sort(Collections.reverseOrder(Comparator.comparingInt(Provider::getPriority)));
+        if (result.isEmpty()) {
+            log.info("No service impls found: {}", contract);
+        } else {
+            log.debug("Found service impls of {}: {}", contract, result);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Reads the provider names of a contract and their priority when declared, in the order of the resources.
+     */
+    private static Map<String, Integer> readDeclarations(ClassLoader loader, String contract) {
+        Map<String, Integer> declarations = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> urls = loader.getResources(SERVICES_LOCATION + contract);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try (BufferedReader reader =
+                        new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int commentIndex = line.indexOf('#');
+                        String name = (commentIndex < 0 ? line : line.substring(0, commentIndex)).trim();
+                        if (!name.isEmpty() && !declarations.containsKey(name)) {
+                            declarations.put(name, commentIndex < 0 ? null : parsePriority(line, commentIndex + 1));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to read the service declarations of {}", contract, e);
+        }
+        return declarations;
+    }
+
+    private static Integer parsePriority(String line, int commentStart) {
+        String comment = line.substring(commentStart).trim();
+        if (!comment.startsWith(PRIORITY_COMMENT)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(comment.substring(PRIORITY_COMMENT.length()).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A service provider, loaded and instantiated on first use.
+     *
+     * @param <T> the type of the service.
+     */
+    public static final class Provider<T> {
+        private final WeakReference<ClassLoader> classLoader;
+        private final String className;
+        private final boolean declared;
+        private volatile WeakReference<Class<?>> type;
+        private int priority;
+
+        private Provider(WeakReference<ClassLoader> classLoader, String className, Integer priority) {
+            this.classLoader = classLoader;
+            this.className = className;
+            this.declared = priority != null;
+            this.priority = declared ? priority : 0;
+        }
+
+        /**
+         * Returns the binary name of the provider class.
+         *
+         * @return the class name.
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Returns the priority of the provider.
+         *
+         * @return the priority.
+         */
+        public int getPriority() {
+            return priority;
+        }
+
+        /**
+         * Returns the provider class, loading it if needed.
+         *
+         * @return the class.
+         * @throws ServiceConfigurationError if the class cannot be loaded.
+         */
+        @SuppressWarnings("unchecked")
+        public Class<? extends T> type() {
+            WeakReference<Class<?>> reference = type;
+            Class<?> resolved = reference == null ? null : reference.get();
+            if (resolved == null) {
+                ClassLoader loader = classLoader.get();
+                if (loader == null) {
+                    throw new ServiceConfigurationError("Class loader of provider " + className + " was collected");
+                }
+                try {
+                    resolved = Class.forName(className, false, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    throw new ServiceConfigurationError("Provider " + className + " not found", e);
+                }
+                type = new WeakReference<>(resolved);
+            }
+            return (Class<? extends T>) resolved;
+        }
+
+        /**
+         * Returns the shared instance of the provider, instantiating it on first call.
+         *
+         * @return the instance.
+         * @throws ServiceConfigurationError if the provider cannot be loaded or instantiated.
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            return (T) instances.get(type()).get();
+        }
+
+        /**
+         * Returns a new instance of the provider, as {@link ServiceLoader} does on each iteration.
+         *
+         * @return the new instance, not shared with other callers.
+         * @throws ServiceConfigurationError if the provider cannot be loaded or instantiated.
+         */
+        public T newInstance() {
+            return instantiate(type());
+        }
+
+        private T getIfAvailable(Class<T> contract) {
+            try {
+                T service = get();
+                if (contract.isInstance(service)) {
+                    return service;
+                }
+                log.warn("Ignoring service provider {} which does not implement {}", className, contract.getName());
+            } catch (ServiceConfigurationError e) {
+                log.warn("Ignoring service provider {}", className, e);
+            }
+            return null;
+        }
+
+        /**
+         * Computes the priority when it was not declared, returning false if the provider is unusable.
+         */
+        private boolean resolvePriority() {
+            if (declared) {
+                return true;
+            }
+            try {
+                Class<? extends T> resolved = type();
+                if (Ordered.class.isAssignableFrom(resolved)) {
+                    priority = PriorityUtils.priorityOfObject(get());
+                } else {
+                    priority = PriorityUtils.priorityOf(resolved);
+                }
+                return true;
+            } catch (ServiceConfigurationError e) {
+                log.warn("Ignoring service provider {}", className, e);
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return className + " (priority " + priority + ")";
+        }
+    }
+
+    private static <T> T instantiate(Class<T> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            throw new ServiceConfigurationError("Provider " + type.getName() + " could not be instantiated", e);
+        }
+    }
+
+    private static final class Instance {
+        private final Class<?> type;
+        private volatile Object instance;
+
+        private Instance(Class<?> type) {
+            this.type = type;
+        }
+
+        Object get() {
+            Object result = instance;
+            if (result == null) {
+                synchronized (this) {
+                    result = instance;
+                    if (result == null) {
+                        result = instantiate(type);
+                        instance = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -16,19 +16,15 @@
 package io.github.rose.core.util;
 
 import com.github.f4b6a3.uuid.UuidCreator;
-import java.nio.ByteBuffer;
-import java.util.Base64;
+import io.github.rose.core.util.id.IdEncoding;
 import java.util.UUID;
 
 /**
  * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @see io.github.rose.core.util.id.SnowflakeIdGenerator
  * @since
  */
 public abstract class Uuids {
-    // Use Java 8's built-in Base64 encoder/decoder
-    private static final Base64.Encoder URL_SAFE_ENCODER =
-            Base64.getUrlEncoder().withoutPadding();
-    private static final Base64.Decoder URL_SAFE_DECODER = Base64.getUrlDecoder();
 
     private Uuids() {}
 
@@ -42,10 +38,7 @@ public abstract class Uuids {
      * @return A URL-safe Base64 encoded UUID string.
      */
     public static String uuidToBase64(UUID uuid) {
-        ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
-        bb.putLong(uuid.getMostSignificantBits());
-        bb.putLong(uuid.getLeastSignificantBits());
-        return URL_SAFE_ENCODER.encodeToString(bb.array());
+        return IdEncoding.toBase64(uuid);
     }
 
     /**
@@ -55,10 +48,26 @@ public abstract class Uuids {
      * @return The decoded UUID.
      */
     public static UUID base64ToUuid(String base64) {
-        byte[] bytes = URL_SAFE_DECODER.decode(base64);
-        ByteBuffer bb = ByteBuffer.wrap(bytes);
-        long high = bb.getLong();
-        long low = bb.getLong();
-        return new UUID(high, low);
+        return IdEncoding.base64ToUuid(base64);
+    }
+
+    /**
+     * Encode a UUID to a 22 characters Base62 string, which sorts like the UUID.
+     *
+     * @param uuid The UUID.
+     * @return A Base62 encoded UUID string.
+     */
+    public static String uuidToBase62(UUID uuid) {
+        return IdEncoding.toBase62(uuid);
+    }
+
+    /**
+     * Decode a Base62 string back to a UUID.
+     *
+     * @param base62 A Base62 encoded UUID string.
+     * @return The decoded UUID.
+     */
+    public static UUID base62ToUuid(String base62) {
+        return IdEncoding.base62ToUuid(base62);
     }
 }
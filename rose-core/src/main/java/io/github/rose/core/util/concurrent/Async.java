@@ -15,28 +15,155 @@
  */
 package io.github.rose.core.util.concurrent;
 
+import io.github.rose.core.util.concurrent.FanOut.DelayScheduler;
+import io.github.rose.core.util.context.ContextSnapshot;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
+/**
+ * Starts asynchronous stages running with the {@link ContextSnapshot} captured in the calling thread.
+ *
+ * <p>The stages without executor run in the common {@link java.util.concurrent.ForkJoinPool}, which suits CPU-bound
+ * work. Blocking I/O (remote calls, JDBC, Redis) should rather be started with {@link #supplyBlocking(Supplier)} or
+ * {@link #runBlocking(Runnable)}, which run in the {@link TaskExecutors#blocking() blocking executor}: virtual
+ * threads on Java 21 and later, a bounded platform pool otherwise.
+ *
+ * <p>The fan-out helpers ({@link #all}, {@link #any}, {@link #firstSuccessful} and {@link #hedged}) run sibling
+ * tasks and complete one stage from their outcomes. Once that stage is completed, by the tasks, the timeout or a
+ * cancellation of {@link CompletionStage#toCompletableFuture()}, the siblings not started yet are dropped and the
+ * running ones are interrupted. Their timeouts and hedges are scheduled in the {@link RetryScheduler#shared() shared
+ * retry scheduler}. Since the siblings are typically remote calls, the overloads without executor run them in the
+ * blocking executor, at most {@value #DEFAULT_PARALLELISM} at the same time unless the
+ * {@value #PARALLELISM_PROPERTY} system property says otherwise.
+ */
 public final class Async {
+    public static final String PARALLELISM_PROPERTY = "rose.async.fan-out-parallelism";
+    static final int DEFAULT_PARALLELISM = 16;
+    private static final int PARALLELISM = Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY, DEFAULT_PARALLELISM));
 
     private Async() {}
 
     public static <U> CompletionStage<U> supplyAsync(Supplier<U> supplier) {
-        return SameExecutorCompletionStage.of(CompletableFuture.supplyAsync(supplier), null);
+        Supplier<U> task = ContextSnapshot.capture().wrap(supplier);
+        return SameExecutorCompletionStage.of(CompletableFuture.supplyAsync(task), null);
     }
 
     public static <U> CompletionStage<U> supplyAsync(Supplier<U> supplier, Executor executor) {
-        return SameExecutorCompletionStage.of(CompletableFuture.supplyAsync(supplier, executor), executor);
+        Supplier<U> task = ContextSnapshot.capture().wrap(supplier);
+        return SameExecutorCompletionStage.of(CompletableFuture.supplyAsync(task, executor), executor);
     }
 
     public static CompletionStage<Void> runAsync(Runnable runnable, Executor executor) {
-        return SameExecutorCompletionStage.of(CompletableFuture.runAsync(runnable, executor), executor);
+        Runnable task = ContextSnapshot.capture().wrap(runnable);
+        return SameExecutorCompletionStage.of(CompletableFuture.runAsync(task, executor), executor);
     }
 
     public static CompletionStage<Void> runAsync(Runnable runnable) {
-        return SameExecutorCompletionStage.of(CompletableFuture.runAsync(runnable), null);
+        Runnable task = ContextSnapshot.capture().wrap(runnable);
+        return SameExecutorCompletionStage.of(CompletableFuture.runAsync(task), null);
+    }
+
+    public static <U> CompletionStage<U> supplyBlocking(Supplier<U> supplier) {
+        return supplyAsync(supplier, TaskExecutors.blocking());
+    }
+
+    public static CompletionStage<Void> runBlocking(Runnable runnable) {
+        return runAsync(runnable, TaskExecutors.blocking());
+    }
+
+    public static <T> CompletionStage<List<T>> all(
+            Collection<? extends Supplier<? extends T>> tasks, Duration timeout) {
+        return all(tasks, timeout, TaskExecutors.blocking(), parallelism(tasks));
+    }
+
+    /**
+     * Runs the tasks and completes with their results, in the order of the tasks, or with the first failure.
+     *
+     * @param tasks       the tasks.
+     * @param timeout     the delay after which the stage completes with a
+     *                    {@link java.util.concurrent.TimeoutException}.
+     * @param executor    the executor running the tasks and the dependent stages.
+     * @param parallelism the maximum number of tasks running at the same time.
+     * @param <T>         the type of the task results.
+     * @return the stage completed with the results.
+     */
+    public static <T> CompletionStage<List<T>> all(
+            Collection<? extends Supplier<? extends T>> tasks, Duration timeout, Executor executor, int parallelism) {
+        CompletableFuture<List<T>> future = FanOut.all(tasks, timeout, executor, parallelism, DelayScheduler.SHARED);
+        return SameExecutorCompletionStage.of(future, executor);
+    }
+
+    public static <T> CompletionStage<T> any(Collection<? extends Supplier<? extends T>> tasks, Duration timeout) {
+        return any(tasks, timeout, TaskExecutors.blocking(), parallelism(tasks));
+    }
+
+    /**
+     * Runs the tasks and completes with the outcome of the first one to complete, successfully or not.
+     *
+     * @param tasks       the tasks.
+     * @param timeout     the delay after which the stage completes with a
+     *                    {@link java.util.concurrent.TimeoutException}.
+     * @param executor    the executor running the tasks and the dependent stages.
+     * @param parallelism the maximum number of tasks running at the same time.
+     * @param <T>         the type of the task results.
+     * @return the stage completed with the first outcome.
+     */
+    public static <T> CompletionStage<T> any(
+            Collection<? extends Supplier<? extends T>> tasks, Duration timeout, Executor executor, int parallelism) {
+        CompletableFuture<T> future = FanOut.any(tasks, timeout, executor, parallelism, DelayScheduler.SHARED);
+        return SameExecutorCompletionStage.of(future, executor);
+    }
+
+    public static <T> CompletionStage<T> firstSuccessful(
+            Collection<? extends Supplier<? extends T>> tasks, Duration timeout) {
+        return firstSuccessful(tasks, timeout, TaskExecutors.blocking(), parallelism(tasks));
+    }
+
+    /**
+     * Runs the tasks and completes with the result of the first one to succeed. When all the tasks fail, completes
+     * with the first failure, the other ones being suppressed.
+     *
+     * @param tasks       the tasks.
+     * @param timeout     the delay after which the stage completes with a
+     *                    {@link java.util.concurrent.TimeoutException}.
+     * @param executor    the executor running the tasks and the dependent stages.
+     * @param parallelism the maximum number of tasks running at the same time.
+     * @param <T>         the type of the task results.
+     * @return the stage completed with the first result.
+     */
+    public static <T> CompletionStage<T> firstSuccessful(
+            Collection<? extends Supplier<? extends T>> tasks, Duration timeout, Executor executor, int parallelism) {
+        CompletableFuture<T> future =
+                FanOut.firstSuccessful(tasks, timeout, executor, parallelism, DelayScheduler.SHARED);
+        return SameExecutorCompletionStage.of(future, executor);
+    }
+
+    public static <T> CompletionStage<T> hedged(Supplier<? extends T> task, Duration delay) {
+        return hedged(task, delay, TaskExecutors.blocking());
+    }
+
+    /**
+     * Runs the task, and runs it a second time when the first attempt has not completed after the delay, or as soon
+     * as it fails, to cut the tail latency of idempotent calls. Completes with the first success, or with the first
+     * failure when both attempts fail.
+     *
+     * @param task     the idempotent task.
+     * @param delay    the delay before the second attempt, typically a high percentile of the task latency.
+     * @param executor the executor running the attempts and the dependent stages.
+     * @param <T>      the type of the task result.
+     * @return the stage completed with the first result.
+     */
+    public static <T> CompletionStage<T> hedged(Supplier<? extends T> task, Duration delay, Executor executor) {
+        CompletableFuture<T> future = FanOut.hedged(task, delay, executor, DelayScheduler.SHARED);
+        return SameExecutorCompletionStage.of(future, executor);
+    }
+
+    private static int parallelism(Collection<?> tasks) {
+        return Math.max(1, Math.min(tasks.size(), PARALLELISM));
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes the delay to wait before retrying a failed attempt.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface Backoff {
+    /**
+     * Returns the delay to wait before the next attempt.
+     *
+     * @param attempt       the number of the attempt which just failed, starting at 1.
+     * @param previousDelay the delay waited before the failed attempt in milliseconds, 0 for the first attempt.
+     * @return the delay in milliseconds.
+     */
+    long delayMillis(int attempt, long previousDelay);
+
+    /**
+     * Returns a backoff waiting the same delay before each retry.
+     *
+     * @param delay the delay.
+     * @return the backoff.
+     */
+    static Backoff fixed(Duration delay) {
+        long millis = RetryPolicy.toMillis(delay, "delay");
+        return (attempt, previousDelay) -> millis;
+    }
+
+    /**
+     * Returns a backoff multiplying the delay by the specified multiplier after each retry, up to a maximum delay.
+     *
+     * @param initialDelay the delay before the first retry.
+     * @param multiplier   the multiplier applied to the delay after each retry, at least 1.
+     * @param maxDelay     the maximum delay.
+     * @return the backoff.
+     */
+    static Backoff exponential(Duration initialDelay, double multiplier, Duration maxDelay) {
+        long initial = RetryPolicy.toMillis(initialDelay, "initialDelay");
+        long max = Math.max(initial, RetryPolicy.toMillis(maxDelay, "maxDelay"));
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier cannot be less than 1: " + multiplier);
+        }
+        return (attempt, previousDelay) -> {
+            double delay = initial * Math.pow(multiplier, attempt - 1);
+            return delay >= max ? max : (long) delay;
+        };
+    }
+
+    /**
+     * Returns the "decorrelated jitter" backoff, which picks each delay randomly between the base delay and three
+     * times the previous delay, up to a maximum delay. It spreads the retries of concurrent clients better than an
+     * exponential backoff with jitter.
+     *
+     * @param baseDelay the minimum delay.
+     * @param maxDelay  the maximum delay.
+     * @return the backoff.
+     */
+    static Backoff decorrelatedJitter(Duration baseDelay, Duration maxDelay) {
+        long base = RetryPolicy.toMillis(baseDelay, "baseDelay");
+        long max = Math.max(base, RetryPolicy.toMillis(maxDelay, "maxDelay"));
+        return (attempt, previousDelay) -> {
+            long upper = Math.min(max, Math.max(base, previousDelay) * 3);
+            return upper <= base ? base : ThreadLocalRandom.current().nextLong(base, upper + 1);
+        };
+    }
+
+    /**
+     * Returns a backoff subtracting a random part of the delays of this one. A ratio of 1 gives the "full jitter"
+     * backoff (a delay picked between 0 and the computed one), a ratio of 0.5 the "equal jitter" one.
+     *
+     * @param ratio the maximum part of the delay to subtract, between 0 and 1.
+     * @return the backoff.
+     */
+    default Backoff withJitter(double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Jitter ratio must be between 0 and 1: " + ratio);
+        }
+        return (attempt, previousDelay) -> {
+            long delay = delayMillis(attempt, previousDelay);
+            long jitter = (long) (delay * ratio);
+            return jitter == 0 ? delay : delay - ThreadLocalRandom.current().nextLong(jitter + 1);
+        };
+    }
+}
@@ -17,13 +17,16 @@ package io.github.rose.core.util.concurrent;
 
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ManagedBlocker;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.*;
 
 /**
  * A factory class for methods that wrap functional interfaces like {@link Supplier} in a
  * "blocking" ({@link ManagedBlocker}) equivalent, which can be used with the
  * {@link ForkJoinPool}.
+ * <p>
+ * Outside of the workers of a {@link ForkJoinPool}, and in particular in virtual threads or in the
+ * {@link TaskExecutors#blocking() blocking executor}, the wrapped functions are called directly.
  *
  * @author Lukas Eder
  */
@@ -67,9 +70,7 @@ public final class Blocking {
     }
 
     static class BlockingSupplier<T> implements Supplier<T> {
-        private static final Object NULL_MARKER = new Object();
         private final Supplier<? extends T> supplier;
-        private final AtomicReference<Object> resultRef = new AtomicReference<>(NULL_MARKER);
 
         BlockingSupplier(Supplier<? extends T> supplier) {
             this.supplier = supplier;
@@ -77,25 +78,33 @@ public final class Blocking {
 
         @Override
         public T get() {
+            // only the workers of a pool can be compensated, and virtual threads unmount on blocking calls anyway
+            if (!(Thread.currentThread() instanceof ForkJoinWorkerThread)) {
+                return supplier.get();
+            }
+            TaskBlocker blocker = new TaskBlocker();
             try {
-                ForkJoinPool.managedBlock(new TaskBlocker());
+                ForkJoinPool.managedBlock(blocker);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
-            return (T) resultRef.get();
+            return blocker.result;
         }
 
         private class TaskBlocker implements ForkJoinPool.ManagedBlocker {
+            private T result;
+            private boolean done;
+
             @Override
             public boolean block() {
-                T result = supplier.get();
-                resultRef.set(result);
+                result = supplier.get();
+                done = true;
                 return true;
             }
 
             @Override
             public boolean isReleasable() {
-                return resultRef.get() != NULL_MARKER;
+                return done;
             }
         }
     }
@@ -0,0 +1,293 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import io.github.rose.core.util.context.ContextSnapshot;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs sibling tasks in an executor, at most {@code parallelism} at a time, and completes a single future from their
+ * outcomes. As soon as the future is completed, by the tasks, the timeout or the caller cancelling it, the tasks not
+ * started yet are dropped and the running ones are interrupted.
+ *
+ * <p>The tasks run with the {@link ContextSnapshot} of the thread which created the fan-out. The timeout and the
+ * hedges are scheduled with a {@link DelayScheduler}, so they can be driven by a fake clock.
+ *
+ * @param <T> the type of the task results.
+ * @param <R> the type of the fan-out result.
+ */
+final class FanOut<T, R> {
+    private final List<Callable<T>> tasks;
+    private final Mode mode;
+    private final Executor executor;
+    private final DelayScheduler scheduler;
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final List<Branch> branches;
+    private final Object[] values;
+    private int permits;
+    private int completed;
+    private Throwable failure;
+    private Future<?> timeout;
+    private Future<?> hedge;
+
+    private FanOut(
+            Collection<? extends Supplier<? extends T>> tasks,
+            Mode mode,
+            Executor executor,
+            int parallelism,
+            DelayScheduler scheduler) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        this.tasks = new ArrayList<>(tasks.size());
+        for (Supplier<? extends T> task : tasks) {
+            this.tasks.add(snapshot.wrap((Callable<T>) task::get));
+        }
+        this.mode = mode;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.branches = new ArrayList<>(tasks.size());
+        this.values = mode == Mode.ALL ? new Object[tasks.size()] : null;
+        this.permits = parallelism;
+    }
+
+    /**
+     * Completes with the results of all the tasks, in the order of the tasks, or with the first failure.
+     */
+    static <T> CompletableFuture<List<T>> all(
+            Collection<? extends Supplier<? extends T>> tasks,
+            Duration timeout,
+            Executor executor,
+            int parallelism,
+            DelayScheduler scheduler) {
+        return new FanOut<T, List<T>>(tasks, Mode.ALL, executor, parallelism, scheduler).start(timeout, null);
+    }
+
+    /**
+     * Completes with the outcome of the first task to complete, successfully or not.
+     */
+    static <T> CompletableFuture<T> any(
+            Collection<? extends Supplier<? extends T>> tasks,
+            Duration timeout,
+            Executor executor,
+            int parallelism,
+            DelayScheduler scheduler) {
+        return new FanOut<T, T>(tasks, Mode.ANY, executor, parallelism, scheduler).start(timeout, null);
+    }
+
+    /**
+     * Completes with the result of the first task to succeed, or with the first failure, the other ones being
+     * suppressed, when all the tasks fail.
+     */
+    static <T> CompletableFuture<T> firstSuccessful(
+            Collection<? extends Supplier<? extends T>> tasks,
+            Duration timeout,
+            Executor executor,
+            int parallelism,
+            DelayScheduler scheduler) {
+        return new FanOut<T, T>(tasks, Mode.FIRST_SUCCESSFUL, executor, parallelism, scheduler).start(timeout, null);
+    }
+
+    /**
+     * Runs the task, and runs it a second time when the first attempt has not succeeded after the delay or has
+     * failed, completing with the first success.
+     */
+    static <T> CompletableFuture<T> hedged(
+            Supplier<? extends T> task, Duration delay, Executor executor, DelayScheduler scheduler) {
+        FanOut<T, T> fanOut = new FanOut<>(Arrays.asList(task, task), Mode.FIRST_SUCCESSFUL, executor, 1, scheduler);
+        return fanOut.start(null, delay);
+    }
+
+    private CompletableFuture<R> start(Duration timeoutDuration, Duration hedgeDelay) {
+        if (tasks.isEmpty()) {
+            completeEmpty();
+            return result;
+        }
+        if (timeoutDuration != null) {
+            long millis = RetryPolicy.toMillis(timeoutDuration, "timeout");
+            timeout = scheduler.schedule(
+                    () -> result.completeExceptionally(
+                            new TimeoutException("Tasks did not complete within " + timeoutDuration)),
+                    millis);
+        }
+        if (hedgeDelay != null) {
+            hedge = scheduler.schedule(this::hedge, RetryPolicy.toMillis(hedgeDelay, "delay"));
+        }
+        result.whenComplete((value, error) -> cancelAll());
+        launch();
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void completeEmpty() {
+        if (mode == Mode.ALL) {
+            result.complete((R) Collections.emptyList());
+        } else {
+            result.completeExceptionally(new IllegalArgumentException("No task to run"));
+        }
+    }
+
+    private void hedge() {
+        synchronized (this) {
+            permits++;
+        }
+        launch();
+    }
+
+    /**
+     * Starts the next tasks while permitted, outside of the lock since the executor may run them in place.
+     */
+    private void launch() {
+        while (true) {
+            Branch branch;
+            synchronized (this) {
+                if (result.isDone() || branches.size() == tasks.size() || branches.size() - completed >= permits) {
+                    return;
+                }
+                branch = new Branch(branches.size());
+                branches.add(branch);
+            }
+            try {
+                executor.execute(branch);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onDone(Branch branch) {
+        if (branch.isCancelled()) {
+            return;
+        }
+        T value = null;
+        Throwable error = null;
+        try {
+            value = branch.get();
+        } catch (ExecutionException e) {
+            error = e.getCause();
+        } catch (InterruptedException | CancellationException e) {
+            error = e;
+        }
+        switch (mode) {
+            case ALL:
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                boolean allCompleted;
+                synchronized (this) {
+                    values[branch.index] = value;
+                    allCompleted = ++completed == tasks.size();
+                }
+                if (allCompleted) {
+                    result.complete((R) Collections.unmodifiableList(Arrays.asList(values)));
+                    return;
+                }
+                break;
+            case ANY:
+                if (error == null) {
+                    result.complete((R) value);
+                } else {
+                    result.completeExceptionally(error);
+                }
+                return;
+            default:
+                if (error == null) {
+                    result.complete((R) value);
+                    return;
+                }
+                boolean allFailed;
+                synchronized (this) {
+                    if (failure == null) {
+                        failure = error;
+                    } else if (failure != error) {
+                        failure.addSuppressed(error);
+                    }
+                    allFailed = ++completed == tasks.size();
+                }
+                if (allFailed) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+        }
+        launch();
+    }
+
+    private void cancelAll() {
+        if (timeout != null) {
+            timeout.cancel(false);
+        }
+        if (hedge != null) {
+            hedge.cancel(false);
+        }
+        List<Branch> started;
+        synchronized (this) {
+            started = new ArrayList<>(branches);
+        }
+        for (Branch branch : started) {
+            branch.cancel(true);
+        }
+    }
+
+    private enum Mode {
+        ALL,
+        ANY,
+        FIRST_SUCCESSFUL
+    }
+
+    /**
+     * Schedules the timeouts and the hedges of the fan-outs.
+     */
+    @FunctionalInterface
+    interface DelayScheduler {
+        DelayScheduler SHARED = (command, delayMillis) ->
+                RetryScheduler.shared().schedule(command, Duration.ofMillis(delayMillis));
+
+        Future<?> schedule(Runnable command, long delayMillis);
+    }
+
+    private final class Branch extends FutureTask<T> {
+        private final int index;
+
+        private Branch(int index) {
+            super(tasks.get(index));
+            this.index = index;
+        }
+
+        @Override
+        protected void done() {
+            onDone(this);
+        }
+    }
+}
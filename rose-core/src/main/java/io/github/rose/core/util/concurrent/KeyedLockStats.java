@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acquisition, contention and timeout counters of {@link KeyedLocks}.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class KeyedLockStats {
+    private final LongAdder uncontended = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public void recordUncontended() {
+        uncontended.increment();
+    }
+
+    public void recordContended(long waitNanos) {
+        contended.increment();
+        this.waitNanos.add(waitNanos);
+    }
+
+    public void recordTimeout(long waitNanos) {
+        timeouts.increment();
+        this.waitNanos.add(waitNanos);
+    }
+
+    /**
+     * @return the number of locks acquired right away.
+     */
+    public long uncontendedCount() {
+        return uncontended.sum();
+    }
+
+    /**
+     * @return the number of locks acquired after waiting for another thread to release them.
+     */
+    public long contendedCount() {
+        return contended.sum();
+    }
+
+    /**
+     * @return the number of locks not acquired within the timeout, or whose waiting thread was interrupted.
+     */
+    public long timeoutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * @return the time spent waiting for locks held by other threads, in nanoseconds.
+     */
+    public long totalWaitTime() {
+        return waitNanos.sum();
+    }
+
+    public void reset() {
+        uncontended.reset();
+        contended.reset();
+        timeouts.reset();
+        waitNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedLockStats{uncontended=" + uncontendedCount() + ", contended=" + contendedCount() + ", timeouts="
+                + timeoutCount() + ", totalWaitTime=" + TimeUnit.NANOSECONDS.toMillis(totalWaitTime()) + "ms}";
+    }
+}
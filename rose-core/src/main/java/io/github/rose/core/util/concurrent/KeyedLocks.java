@@ -0,0 +1,390 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mutual exclusion per key (tenant, user, device...), without the ever-growing map of locks built by hand.
+ *
+ * <ul>
+ *   <li>{@link #striped(String, int) Striped} locks hash the keys to a fixed array of locks: the memory is bounded
+ *       but unrelated keys sharing a stripe also exclude each other.
+ *   <li>{@link #weak(String) Weak} locks give each key its own lock, only referenced weakly by the map: the lock is
+ *       reclaimed by the garbage collector once no thread holds it or waits for it.
+ * </ul>
+ *
+ * <p>The locks are reentrant and acquired within a timeout, 3 seconds by default like {@link TryLock}, with a
+ * {@link Handle} meant for try-with-resources:
+ *
+ * <pre>{@code
+ * try (KeyedLocks.Handle handle = locks.tryLock(tenantId)) {
+ *     if (handle == null) {
+ *         // not acquired within the timeout
+ *     }
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>As with any set of locks, a thread holding several keys at the same time must acquire them in a consistent
+ * order, striped keys being possibly mapped to the same lock. The locks are registered by name and count their
+ * contention in their {@link KeyedLockStats}. {@link #close() Closing} them unregisters them, so that their name can
+ * be registered again, such as when a Spring context declaring them is refreshed.
+ *
+ * @param <K> the type of the keys.
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class KeyedLocks<K> implements AutoCloseable {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Map<String, KeyedLocks<?>> registry = new ConcurrentHashMap<>();
+    private static final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final String name;
+    private final LockStore<K> store;
+    private final boolean fair;
+    private final long timeoutNanos;
+    private final KeyedLockStats stats = new KeyedLockStats();
+
+    private KeyedLocks(String name, LockStore<K> store, boolean fair, Duration timeout) {
+        this.name = name;
+        this.store = store;
+        this.fair = fair;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(RetryPolicy.toMillis(timeout, "timeout"));
+    }
+
+    public static <K> KeyedLocks<K> striped(String name, int stripes) {
+        return striped(name, stripes, false, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates and registers locks hashing the keys to a fixed number of stripes.
+     *
+     * @param name    the unique name of the locks.
+     * @param stripes the minimum number of stripes, rounded up to a power of two.
+     * @param fair    whether the locks are granted in arrival order rather than to barging threads.
+     * @param timeout the default time to wait for a lock.
+     * @param <K>     the type of the keys.
+     * @return the created locks.
+     */
+    public static <K> KeyedLocks<K> striped(String name, int stripes, boolean fair, Duration timeout) {
+        if (stripes < 1 || stripes > 1 << 30) {
+            throw new IllegalArgumentException("stripes must be between 1 and 2^30: " + stripes);
+        }
+        return register(new KeyedLocks<>(name, new StripedStore<>(stripes, fair), fair, timeout));
+    }
+
+    public static <K> KeyedLocks<K> weak(String name) {
+        return weak(name, false, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates and registers locks giving each key its own lock, evicted once no thread holds it or waits for it.
+     *
+     * @param name    the unique name of the locks.
+     * @param fair    whether the locks are granted in arrival order rather than to barging threads.
+     * @param timeout the default time to wait for a lock.
+     * @param <K>     the type of the keys.
+     * @return the created locks.
+     */
+    public static <K> KeyedLocks<K> weak(String name, boolean fair, Duration timeout) {
+        return register(new KeyedLocks<>(name, new WeakStore<>(fair), fair, timeout));
+    }
+
+    private static <K> KeyedLocks<K> register(KeyedLocks<K> locks) {
+        synchronized (listeners) {
+            if (registry.putIfAbsent(locks.name, locks) != null) {
+                throw new IllegalStateException("Keyed locks named " + locks.name + " are already registered");
+            }
+            for (Listener listener : listeners) {
+                listener.registered(locks);
+            }
+        }
+        return locks;
+    }
+
+    /**
+     * Adds a listener, which is notified right away of the locks already registered.
+     *
+     * @param listener the listener.
+     */
+    public static void addListener(Listener listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            for (KeyedLocks<?> locks : registry.values()) {
+                listener.registered(locks);
+            }
+        }
+    }
+
+    /**
+     * Removes a listener, which is not notified anymore once this method returns.
+     *
+     * @param listener the listener.
+     */
+    public static void removeListener(Listener listener) {
+        synchronized (listeners) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Returns all the registered locks.
+     *
+     * @return an unmodifiable view of the locks.
+     */
+    public static Collection<KeyedLocks<?>> locks() {
+        return Collections.unmodifiableCollection(registry.values());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public KeyedLockStats stats() {
+        return stats;
+    }
+
+    /**
+     * @return the number of stripes, or the number of keys whose lock has not been reclaimed yet.
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Acquires the lock of the key within the default timeout.
+     *
+     * @param key the key.
+     * @return the handle releasing the lock, or {@code null} when the lock was not acquired within the timeout or
+     * the thread was interrupted while waiting, the interruption status being kept.
+     */
+    public Handle tryLock(K key) {
+        return tryLock(key, timeoutNanos);
+    }
+
+    /**
+     * Acquires the lock of the key within the specified timeout.
+     *
+     * @param key     the key.
+     * @param timeout the time to wait for the lock.
+     * @return the handle releasing the lock, or {@code null} when the lock was not acquired within the timeout or
+     * the thread was interrupted while waiting, the interruption status being kept.
+     */
+    public Handle tryLock(K key, Duration timeout) {
+        return tryLock(key, TimeUnit.MILLISECONDS.toNanos(RetryPolicy.toMillis(timeout, "timeout")));
+    }
+
+    /**
+     * Returns whether the lock of the key is held by the current thread.
+     *
+     * @param key the key.
+     * @return true when the current thread holds the lock.
+     */
+    public boolean isHeldByCurrentThread(K key) {
+        return store.get(Objects.requireNonNull(key, "key")).isHeldByCurrentThread();
+    }
+
+    /**
+     * Returns whether threads are waiting for the lock of the key, for monitoring purposes.
+     *
+     * @param key the key.
+     * @return true when other threads may be waiting to acquire the lock.
+     */
+    public boolean hasQueuedThreads(K key) {
+        return store.get(Objects.requireNonNull(key, "key")).hasQueuedThreads();
+    }
+
+    private Handle tryLock(K key, long timeoutNanos) {
+        ReentrantLock lock = store.get(Objects.requireNonNull(key, "key"));
+        long start = 0;
+        boolean waiting = false;
+        try {
+            // tryLock() barges even into a fair lock, a zero timeout honours the fairness
+            if (fair ? lock.tryLock(0, TimeUnit.NANOSECONDS) : lock.tryLock()) {
+                stats.recordUncontended();
+                return new Handle(lock);
+            }
+            waiting = true;
+            start = System.nanoTime();
+            if (lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                stats.recordContended(System.nanoTime() - start);
+                return new Handle(lock);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats.recordTimeout(waiting ? System.nanoTime() - start : 0);
+        return null;
+    }
+
+    /**
+     * Unregisters these locks, which remain usable by the threads still referencing them. Closing them more than once
+     * has no effect.
+     */
+    @Override
+    public void close() {
+        synchronized (listeners) {
+            if (registry.remove(name, this)) {
+                for (Listener listener : listeners) {
+                    listener.closed(this);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedLocks[" + name + "]";
+    }
+
+    /**
+     * Notified when locks are registered and when they are closed, while holding the registration lock.
+     */
+    public interface Listener {
+        /**
+         * Called when locks are registered, or when the listener is added for the locks already registered.
+         *
+         * @param locks the locks.
+         */
+        void registered(KeyedLocks<?> locks);
+
+        /**
+         * Called when locks are closed.
+         *
+         * @param locks the locks.
+         */
+        default void closed(KeyedLocks<?> locks) {}
+    }
+
+    /**
+     * Releases a lock acquired by {@link #tryLock(Object)}, to be closed by the thread which acquired it. Closing it
+     * more than once has no effect.
+     */
+    public static final class Handle implements AutoCloseable {
+        private ReentrantLock lock;
+
+        private Handle(ReentrantLock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public void close() {
+            if (lock != null) {
+                ReentrantLock held = lock;
+                lock = null;
+                held.unlock();
+            }
+        }
+    }
+
+    /**
+     * Maps the keys to their locks.
+     */
+    private interface LockStore<K> {
+        ReentrantLock get(K key);
+
+        int size();
+    }
+
+    private static final class StripedStore<K> implements LockStore<K> {
+        private final ReentrantLock[] locks;
+        private final int mask;
+
+        private StripedStore(int stripes, boolean fair) {
+            int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+            this.locks = new ReentrantLock[size];
+            for (int i = 0; i < size; i++) {
+                locks[i] = new ReentrantLock(fair);
+            }
+            this.mask = size - 1;
+        }
+
+        @Override
+        public ReentrantLock get(K key) {
+            int hash = key.hashCode();
+            // spreads the higher bits to the lower ones, as HashMap does
+            return locks[(hash ^ (hash >>> 16)) & mask];
+        }
+
+        @Override
+        public int size() {
+            return locks.length;
+        }
+    }
+
+    private static final class WeakStore<K> implements LockStore<K> {
+        private final Map<K, LockReference<K>> locks = new ConcurrentHashMap<>();
+        private final ReferenceQueue<ReentrantLock> queue = new ReferenceQueue<>();
+        private final boolean fair;
+
+        private WeakStore(boolean fair) {
+            this.fair = fair;
+        }
+
+        @Override
+        public ReentrantLock get(K key) {
+            purge();
+            while (true) {
+                LockReference<K> reference = locks.get(key);
+                ReentrantLock lock = reference == null ? null : reference.get();
+                if (lock != null) {
+                    return lock;
+                }
+                ReentrantLock created = new ReentrantLock(fair);
+                LockReference<K> createdReference = new LockReference<>(key, created, queue);
+                if (reference == null
+                        ? locks.putIfAbsent(key, createdReference) == null
+                        : locks.replace(key, reference, createdReference)) {
+                    return created;
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            purge();
+            return locks.size();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void purge() {
+            LockReference<K> reference;
+            while ((reference = (LockReference<K>) queue.poll()) != null) {
+                locks.remove(reference.key, reference);
+            }
+        }
+    }
+
+    private static final class LockReference<K> extends WeakReference<ReentrantLock> {
+        private final K key;
+
+        private LockReference(K key, ReentrantLock lock, ReferenceQueue<ReentrantLock> queue) {
+            super(lock, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The result of a task submitted to a {@link RetryScheduler}, completed with the result of the first successful
+ * attempt or with the failure of the last one. Cancelling it cancels the pending retry, if any.
+ *
+ * @param <T> the type of the task result.
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class RetryHandle<T> extends CompletableFuture<T> {
+    private final AtomicInteger attempts = new AtomicInteger();
+    private volatile Future<?> pending;
+
+    RetryHandle() {}
+
+    /**
+     * @return the number of attempts started so far.
+     */
+    public int getAttempts() {
+        return attempts.get();
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        Future<?> retry = pending;
+        if (retry != null) {
+            retry.cancel(false);
+        }
+        return cancelled;
+    }
+
+    int startAttempt() {
+        return attempts.incrementAndGet();
+    }
+
+    void setPending(Future<?> retry) {
+        pending = retry;
+        // cancelled while the retry was being scheduled
+        if (isDone()) {
+            retry.cancel(false);
+        }
+    }
+}
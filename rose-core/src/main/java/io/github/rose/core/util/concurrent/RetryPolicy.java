@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Immutable description of when and how often a failed task is retried: the {@link Backoff} between attempts, an
+ * attempt budget (a maximum number of attempts and optionally a maximum elapsed time) and the failures worth a
+ * retry.
+ *
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.DEFAULT
+ *         .withMaxAttempts(5)
+ *         .withBackoff(Backoff.exponential(Duration.ofMillis(100), 2, Duration.ofSeconds(5)).withJitter(0.5))
+ *         .retryOn(IOException.class);
+ * }</pre>
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class RetryPolicy {
+    /**
+     * 3 attempts one second apart, retrying any exception.
+     */
+    public static final RetryPolicy DEFAULT =
+            new RetryPolicy(3, 0, Backoff.fixed(Duration.ofSeconds(1)), Exception.class::isInstance);
+
+    /**
+     * Value returned by {@link #nextDelayMillis(int, long, long, Throwable)} when the task should not be retried.
+     */
+    static final long GIVE_UP = -1;
+
+    private static final int MAX_CAUSE_DEPTH = 32;
+
+    private final int maxAttempts;
+    private final long maxElapsedMillis;
+    private final Backoff backoff;
+    private final Predicate<? super Throwable> retryOn;
+
+    private RetryPolicy(int maxAttempts, long maxElapsedMillis, Backoff backoff, Predicate<? super Throwable> retryOn) {
+        this.maxAttempts = maxAttempts;
+        this.maxElapsedMillis = maxElapsedMillis;
+        this.backoff = backoff;
+        this.retryOn = retryOn;
+    }
+
+    /**
+     * @param maxAttempts the maximum number of attempts including the first one, {@link Integer#MAX_VALUE} for no
+     *                    limit.
+     * @return the new policy.
+     */
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, maxElapsedMillis, backoff, retryOn);
+    }
+
+    /**
+     * @param maxElapsed the time after which no retry is scheduled anymore, measured from the start of the first
+     *                   attempt, {@link Duration#ZERO} for no limit.
+     * @return the new policy.
+     */
+    public RetryPolicy withMaxElapsed(Duration maxElapsed) {
+        return new RetryPolicy(maxAttempts, toMillis(maxElapsed, "maxElapsed"), backoff, retryOn);
+    }
+
+    /**
+     * @param backoff the backoff between attempts.
+     * @return the new policy.
+     */
+    public RetryPolicy withBackoff(Backoff backoff) {
+        return new RetryPolicy(maxAttempts, maxElapsedMillis, Objects.requireNonNull(backoff, "backoff"), retryOn);
+    }
+
+    /**
+     * Retries only the failures which are, or are caused by, an instance of one of the specified types.
+     *
+     * @param types the types of the failures to retry.
+     * @return the new policy.
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Throwable>... types) {
+        Class<?>[] retryable = types.clone();
+        return retryIf(failure -> {
+            Throwable cause = failure;
+            // bounded to not loop forever on a cyclic cause chain
+            for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++) {
+                for (Class<?> type : retryable) {
+                    if (type.isInstance(cause)) {
+                        return true;
+                    }
+                }
+                cause = cause.getCause();
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Retries only the failures matching the specified predicate.
+     *
+     * @param retryOn the predicate.
+     * @return the new policy.
+     */
+    public RetryPolicy retryIf(Predicate<? super Throwable> retryOn) {
+        return new RetryPolicy(maxAttempts, maxElapsedMillis, backoff, Objects.requireNonNull(retryOn, "retryOn"));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getMaxElapsed() {
+        return Duration.ofMillis(maxElapsedMillis);
+    }
+
+    public Backoff getBackoff() {
+        return backoff;
+    }
+
+    /**
+     * Returns whether the specified failure is worth a retry, regardless of the attempt budget.
+     *
+     * @param failure the failure.
+     * @return true if the failure may be retried.
+     */
+    public boolean isRetryable(Throwable failure) {
+        return retryOn.test(failure);
+    }
+
+    /**
+     * Returns the delay to wait before the next attempt, or {@link #GIVE_UP} when the failure is not retryable or
+     * the attempt budget is exhausted.
+     *
+     * @param attempt       the number of the attempt which just failed, starting at 1.
+     * @param previousDelay the delay waited before the failed attempt in milliseconds.
+     * @param elapsedMillis the time elapsed since the start of the first attempt.
+     * @param failure       the failure of the attempt.
+     * @return the delay in milliseconds, or {@link #GIVE_UP}.
+     */
+    long nextDelayMillis(int attempt, long previousDelay, long elapsedMillis, Throwable failure) {
+        if (attempt >= maxAttempts || !retryOn.test(failure)) {
+            return GIVE_UP;
+        }
+        long delay = Math.max(0, backoff.delayMillis(attempt, previousDelay));
+        if (maxElapsedMillis > 0 && elapsedMillis + delay > maxElapsedMillis) {
+            return GIVE_UP;
+        }
+        return delay;
+    }
+
+    static long toMillis(Duration duration, String name) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " cannot be negative: " + duration);
+        }
+        return duration.toMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + maxAttempts + ", maxElapsed=" + getMaxElapsed() + "}";
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import io.github.rose.core.function.CheckedSupplier;
+import io.github.rose.core.util.context.ContextSnapshot;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks until they succeed or their {@link RetryPolicy} gives up, waiting between attempts without holding a
+ * thread.
+ *
+ * <p>Pending retries are queued in a {@link ScheduledExecutorService}, so thousands of them only cost their queue
+ * entries, and a failing task cannot kill the scheduler thread as it would with a {@link java.util.Timer}. The
+ * attempts run with the {@link ContextSnapshot} of the thread which submitted the task. The attempts, retries,
+ * successes and give-ups are counted in the {@link RetryStats} of each scheduler.
+ *
+ * <p>The {@link #shared() shared} scheduler uses {@value #POOL_SIZE_PROPERTY} daemon threads (2 by default), other
+ * schedulers are created with {@link #create(String, ScheduledExecutorService)} and registered by name until they
+ * are shut down. A {@link Listener} is notified of the registrations and the shutdowns, for instance to bind the
+ * schedulers created after the metrics.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class RetryScheduler {
+    public static final String SHARED_NAME = "retry";
+    public static final String POOL_SIZE_PROPERTY = "rose.retry-scheduler.pool-size";
+    private static final Logger log = LoggerFactory.getLogger(RetryScheduler.class);
+    private static final Map<String, RetryScheduler> schedulers = new ConcurrentHashMap<>();
+    private static final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final String name;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier ticker;
+    private final Sleeper sleeper;
+    private final RetryStats stats = new RetryStats();
+
+    RetryScheduler(String name, ScheduledExecutorService scheduler, LongSupplier ticker, Sleeper sleeper) {
+        this.name = name;
+        this.scheduler = scheduler;
+        this.ticker = ticker;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Returns the scheduler shared by the application, backed by daemon threads.
+     *
+     * @return the shared scheduler.
+     */
+    public static RetryScheduler shared() {
+        return SharedHolder.SHARED;
+    }
+
+    /**
+     * Creates and registers a scheduler queuing its retries in the specified executor service.
+     *
+     * @param name      the unique name of the scheduler.
+     * @param scheduler the executor service.
+     * @return the created scheduler.
+     */
+    public static RetryScheduler create(String name, ScheduledExecutorService scheduler) {
+        return register(new RetryScheduler(name, scheduler, System::nanoTime, TimeUnit.MILLISECONDS::sleep));
+    }
+
+    static RetryScheduler register(RetryScheduler retryScheduler) {
+        synchronized (listeners) {
+            if (schedulers.putIfAbsent(retryScheduler.name, retryScheduler) != null) {
+                throw new IllegalStateException(
+                        "A retry scheduler named " + retryScheduler.name + " is already registered");
+            }
+            for (Listener listener : listeners) {
+                listener.registered(retryScheduler);
+            }
+        }
+        return retryScheduler;
+    }
+
+    /**
+     * Adds a listener, which is notified right away of the schedulers already registered.
+     *
+     * @param listener the listener.
+     */
+    public static void addListener(Listener listener) {
+        shared();
+        synchronized (listeners) {
+            listeners.add(listener);
+            for (RetryScheduler scheduler : schedulers.values()) {
+                listener.registered(scheduler);
+            }
+        }
+    }
+
+    /**
+     * Removes a listener, which is not notified anymore once this method returns.
+     *
+     * @param listener the listener.
+     */
+    public static void removeListener(Listener listener) {
+        synchronized (listeners) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Creates a {@link ScheduledThreadPoolExecutor} with daemon threads, which removes the cancelled retries from its
+     * queue right away.
+     *
+     * @param name     the prefix of the thread names.
+     * @param poolSize the number of threads.
+     * @return the executor service.
+     */
+    public static ScheduledThreadPoolExecutor newScheduledExecutor(String name, int poolSize) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                poolSize,
+                new BasicThreadFactory.Builder()
+                        .namingPattern(name + "-%d")
+                        .daemon(true)
+                        .build());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Returns all the registered schedulers.
+     *
+     * @return an unmodifiable view of the schedulers.
+     */
+    public static Collection<RetryScheduler> schedulers() {
+        shared();
+        return Collections.unmodifiableCollection(schedulers.values());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public RetryStats stats() {
+        return stats;
+    }
+
+    /**
+     * Submits a task whose attempts run in the threads of this scheduler.
+     *
+     * @param task   the task.
+     * @param policy the retry policy.
+     * @param <T>    the type of the task result.
+     * @return the handle completed by the first successful attempt or the last failed one.
+     */
+    public <T> RetryHandle<T> submit(Callable<? extends T> task, RetryPolicy policy) {
+        return submit(task, policy, null);
+    }
+
+    /**
+     * Submits a task whose attempts run in the specified executor, this scheduler only waiting between them.
+     *
+     * @param task     the task.
+     * @param policy   the retry policy.
+     * @param executor the executor running the attempts, or {@code null} to run them in this scheduler.
+     * @param <T>      the type of the task result.
+     * @return the handle completed by the first successful attempt or the last failed one.
+     */
+    public <T> RetryHandle<T> submit(Callable<? extends T> task, RetryPolicy policy, Executor executor) {
+        RetryHandle<T> handle = new RetryHandle<>();
+        Attempt<T> attempt = new Attempt<>(handle, ContextSnapshot.capture().wrap(task), policy, executor);
+        attempt.schedule(0);
+        return handle;
+    }
+
+    /**
+     * Calls the task in the current thread until it succeeds or the policy gives up, sleeping between attempts.
+     *
+     * @param task   the task.
+     * @param policy the retry policy.
+     * @param <T>    the type of the task result.
+     * @return the result of the first successful attempt.
+     * @throws Throwable the failure of the last attempt. When the thread is interrupted while waiting, the
+     *                   interruption is added as a suppressed exception and the thread remains interrupted.
+     */
+    public <T> T call(CheckedSupplier<? extends T> task, RetryPolicy policy) throws Throwable {
+        long start = ticker.getAsLong();
+        long previousDelay = 0;
+        for (int attempt = 1; ; attempt++) {
+            stats.recordAttempt();
+            try {
+                T result = task.get();
+                stats.recordSuccess();
+                return result;
+            } catch (Throwable failure) {
+                long delay = policy.nextDelayMillis(attempt, previousDelay, elapsedMillis(start), failure);
+                if (delay == RetryPolicy.GIVE_UP) {
+                    stats.recordGiveUp();
+                    throw failure;
+                }
+                stats.recordRetry();
+                log.debug("Attempt {} failed in retry scheduler {}, retrying in {} ms", attempt, name, delay, failure);
+                try {
+                    sleeper.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure.addSuppressed(e);
+                    stats.recordGiveUp();
+                    throw failure;
+                }
+                previousDelay = delay;
+            }
+        }
+    }
+
+    /**
+     * Schedules a command in this scheduler.
+     *
+     * @param command the command.
+     * @param delay   the delay before running the command.
+     * @return the scheduled future, to cancel the command.
+     */
+    public ScheduledFuture<?> schedule(Runnable command, Duration delay) {
+        return scheduler.schedule(command, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Unregisters this scheduler and shuts its executor service down, cancelling the pending retries.
+     */
+    public void shutdown() {
+        if (this == SharedHolder.SHARED) {
+            throw new IllegalStateException("The shared retry scheduler cannot be shut down");
+        }
+        synchronized (listeners) {
+            if (schedulers.remove(name, this)) {
+                for (Listener listener : listeners) {
+                    listener.shutdown(this);
+                }
+            }
+        }
+        scheduler.shutdownNow();
+    }
+
+    private long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(ticker.getAsLong() - start);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryScheduler[" + name + "]";
+    }
+
+    /**
+     * Notified when a scheduler is registered and when it is shut down, while holding the registration lock.
+     */
+    public interface Listener {
+        /**
+         * Called when a scheduler is registered, or when the listener is added for the schedulers already registered.
+         *
+         * @param scheduler the scheduler.
+         */
+        void registered(RetryScheduler scheduler);
+
+        /**
+         * Called when a scheduler is shut down.
+         *
+         * @param scheduler the scheduler.
+         */
+        default void shutdown(RetryScheduler scheduler) {}
+    }
+
+    /**
+     * Waits between two attempts of a synchronous call.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private static final class SharedHolder {
+        private static final RetryScheduler SHARED = create(
+                SHARED_NAME, newScheduledExecutor("retry-scheduler", Integer.getInteger(POOL_SIZE_PROPERTY, 2)));
+    }
+
+    /**
+     * The state of a submitted task, running one attempt at a time.
+     */
+    private final class Attempt<T> implements Runnable {
+        private final RetryHandle<T> handle;
+        private final Callable<? extends T> task;
+        private final RetryPolicy policy;
+        private final Executor executor;
+        private final long start = ticker.getAsLong();
+        private long previousDelay;
+        private Throwable lastFailure;
+
+        private Attempt(RetryHandle<T> handle, Callable<? extends T> task, RetryPolicy policy, Executor executor) {
+            this.handle = handle;
+            this.task = task;
+            this.policy = policy;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            if (handle.isDone()) {
+                return;
+            }
+            int attempt = handle.startAttempt();
+            stats.recordAttempt();
+            T result;
+            try {
+                result = task.call();
+            } catch (Throwable failure) {
+                long delay = policy.nextDelayMillis(attempt, previousDelay, elapsedMillis(start), failure);
+                if (delay == RetryPolicy.GIVE_UP) {
+                    stats.recordGiveUp();
+                    handle.completeExceptionally(failure);
+                    return;
+                }
+                stats.recordRetry();
+                log.debug("Attempt {} failed in retry scheduler {}, retrying in {} ms", attempt, name, delay, failure);
+                previousDelay = delay;
+                lastFailure = failure;
+                schedule(delay);
+                return;
+            }
+            stats.recordSuccess();
+            handle.complete(result);
+        }
+
+        void schedule(long delay) {
+            if (delay == 0 && executor != null) {
+                execute();
+                return;
+            }
+            Runnable command = executor == null ? this : this::execute;
+            try {
+                handle.setPending(scheduler.schedule(command, delay, TimeUnit.MILLISECONDS));
+            } catch (RejectedExecutionException e) {
+                reject(e);
+            }
+        }
+
+        private void execute() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                reject(e);
+            }
+        }
+
+        private void reject(RejectedExecutionException e) {
+            stats.recordGiveUp();
+            if (lastFailure == null) {
+                handle.completeExceptionally(e);
+            } else {
+                lastFailure.addSuppressed(e);
+                handle.completeExceptionally(lastFailure);
+            }
+        }
+    }
+}
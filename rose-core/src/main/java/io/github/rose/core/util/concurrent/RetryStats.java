@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attempt, retry, success and give-up counters of a {@link RetryScheduler}.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class RetryStats {
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder giveUps = new LongAdder();
+
+    public void recordAttempt() {
+        attempts.increment();
+    }
+
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    public void recordSuccess() {
+        successes.increment();
+    }
+
+    public void recordGiveUp() {
+        giveUps.increment();
+    }
+
+    /**
+     * @return the number of attempts, including the first ones.
+     */
+    public long attemptCount() {
+        return attempts.sum();
+    }
+
+    /**
+     * @return the number of retries scheduled after a failed attempt.
+     */
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * @return the number of tasks which eventually succeeded.
+     */
+    public long successCount() {
+        return successes.sum();
+    }
+
+    /**
+     * @return the number of tasks which failed with a non retryable failure or exhausted their attempt budget.
+     */
+    public long giveUpCount() {
+        return giveUps.sum();
+    }
+
+    public void reset() {
+        attempts.reset();
+        retries.reset();
+        successes.reset();
+        giveUps.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryStats{attempts=" + attemptCount() + ", retries=" + retryCount() + ", successes=" + successCount()
+                + ", giveUps=" + giveUpCount() + "}";
+    }
+}
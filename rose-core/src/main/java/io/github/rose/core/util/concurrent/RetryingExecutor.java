@@ -16,9 +16,9 @@
 package io.github.rose.core.util.concurrent;
 
 import java.time.Duration;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,22 +26,30 @@ import org.slf4j.LoggerFactory;
 /**
  * Simple {@link Executor} that executes the command continuously in a loop and implements a delayed retry logic
  * when the command throws an exception.
+ *
+ * <p>The restarts are scheduled in a {@link RetryScheduler} (the shared one by default) after a delay computed by a
+ * {@link Backoff}, fixed by default. The number of consecutive failures passed to the backoff is reset once the
+ * command completes normally.
  */
 public class RetryingExecutor implements Executor {
     private static final Logger LOGGER = LoggerFactory.getLogger(RetryingExecutor.class);
     private static final int DEFAULT_RETRY_DELAY = 10000;
     private final AtomicBoolean active = new AtomicBoolean(false);
-    private final Timer timer = new Timer();
+    private final RetryScheduler scheduler;
     private final String name;
     private volatile Duration retryDelay = Duration.ofMillis(DEFAULT_RETRY_DELAY);
+    private volatile Backoff backoff = Backoff.fixed(retryDelay);
     private volatile Thread thread;
     private volatile Runnable command;
+    private Future<?> restart;
+    private int failures;
+    private long previousDelay;
 
     /**
      * Creates a {@link RetryingExecutor} with default parameters.
      */
     public RetryingExecutor() {
-        this.name = "retry";
+        this("retry");
     }
 
     /**
@@ -51,6 +59,7 @@ public class RetryingExecutor implements Executor {
      */
     public RetryingExecutor(String name) {
         this.name = name;
+        this.scheduler = RetryScheduler.shared();
     }
 
     /**
@@ -60,8 +69,21 @@ public class RetryingExecutor implements Executor {
      * @param retryDelay the delay to wait before attempting a retry.
      */
     public RetryingExecutor(String name, Duration retryDelay) {
+        this(name);
+        setRetryDelay(retryDelay);
+    }
+
+    /**
+     * Creates a {@link RetryingExecutor} with the specified name, backoff and scheduler.
+     *
+     * @param name      the name of the executor (used for naming the executing thread).
+     * @param backoff   the backoff computing the delay to wait before attempting a retry.
+     * @param scheduler the scheduler of the retries.
+     */
+    public RetryingExecutor(String name, Backoff backoff, RetryScheduler scheduler) {
         this.name = name;
-        this.retryDelay = retryDelay;
+        this.backoff = backoff;
+        this.scheduler = scheduler;
     }
 
     /**
@@ -72,12 +94,29 @@ public class RetryingExecutor implements Executor {
     }
 
     /**
-     * Sets the delay to way before attempting a retry.
+     * Sets the delay to way before attempting a retry, replacing the backoff with a fixed one.
      *
      * @param retryDelay the retry delay.
      */
     public void setRetryDelay(Duration retryDelay) {
         this.retryDelay = retryDelay;
+        this.backoff = Backoff.fixed(retryDelay);
+    }
+
+    /**
+     * @return the backoff computing the delay to wait before attempting a retry.
+     */
+    public Backoff getBackoff() {
+        return backoff;
+    }
+
+    /**
+     * Sets the backoff computing the delay to wait before attempting a retry.
+     *
+     * @param backoff the backoff.
+     */
+    public void setBackoff(Backoff backoff) {
+        this.backoff = backoff;
     }
 
     /**
@@ -94,7 +133,10 @@ public class RetryingExecutor implements Executor {
      */
     public synchronized void stop() {
         if (active.getAndSet(false)) {
-            timer.cancel();
+            if (restart != null) {
+                restart.cancel(false);
+                restart = null;
+            }
             thread.interrupt();
         }
     }
@@ -118,9 +160,11 @@ public class RetryingExecutor implements Executor {
         thread = new Thread(() -> {
             LOGGER.debug("Retry executor {} is starting", getName());
 
+            boolean completed = false;
             while (active.get()) {
                 try {
                     command.run();
+                    completed = true;
                 } catch (Exception e) {
                     LOGGER.error("An exception occurred during {} command execution", getName(), e);
                     break;
@@ -128,15 +172,7 @@ public class RetryingExecutor implements Executor {
             }
 
             if (active.get()) {
-                LOGGER.warn(
-                        "Interruption of {} command execution. A retry is scheduled in {} ms",
-                        getName(),
-                        retryDelay.toMillis());
-                try {
-                    timer.schedule(new MyTimerTask(), retryDelay.toMillis());
-                } catch (Exception e) {
-                    LOGGER.error("Unable to schedule a retry of {} command execution", getName(), e);
-                }
+                scheduleRestart(completed);
             } else {
                 LOGGER.debug("Retry executor {} is stopping", getName());
             }
@@ -145,20 +181,42 @@ public class RetryingExecutor implements Executor {
         thread.start();
     }
 
-    private String getName() {
-        return name + "-" + thread.getId();
+    private synchronized void scheduleRestart(boolean completed) {
+        if (!active.get()) {
+            return;
+        }
+        if (completed) {
+            failures = 0;
+            previousDelay = 0;
+        }
+        failures++;
+        long delay = Math.max(0, backoff.delayMillis(failures, previousDelay));
+        previousDelay = delay;
+        LOGGER.warn("Interruption of {} command execution. A retry is scheduled in {} ms", getName(), delay);
+        schedule(delay);
     }
 
-    private class MyTimerTask extends TimerTask {
-        @Override
-        public void run() {
-            synchronized (RetryingExecutor.this) {
-                if (!thread.isAlive()) {
-                    startThread();
-                } else {
-                    timer.schedule(new MyTimerTask(), retryDelay.toMillis());
-                }
-            }
+    private synchronized void restart() {
+        if (!active.get()) {
+            return;
+        }
+        if (!thread.isAlive()) {
+            startThread();
+        } else {
+            // the thread is about to terminate
+            schedule(Math.max(1, previousDelay));
+        }
+    }
+
+    private void schedule(long delay) {
+        try {
+            restart = scheduler.schedule(this::restart, Duration.ofMillis(delay));
+        } catch (RejectedExecutionException e) {
+            LOGGER.error("Unable to schedule a retry of {} command execution", getName(), e);
         }
     }
+
+    private String getName() {
+        return name + "-" + thread.getId();
+    }
 }
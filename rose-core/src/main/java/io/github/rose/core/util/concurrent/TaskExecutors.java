@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * Creates the executors of the application according to their workload: blocking I/O (remote calls, JDBC, Redis)
+ * or CPU-bound computations.
+ *
+ * <p>On Java 21 and later, blocking executors start a virtual thread per task, so thousands of tasks waiting for
+ * I/O only cost their stacks. On older runtimes, or when the {@value #VIRTUAL_THREADS_PROPERTY} system property is
+ * {@code false}, they are bounded pools of platform threads, whose size defaults to 8 times the number of
+ * processors and is set with the {@value #BLOCKING_POOL_SIZE_PROPERTY} system property. CPU-bound executors always
+ * use platform threads, since virtual threads do not add parallelism. The virtual threads are looked up by
+ * reflection, so this class runs on Java 8.
+ *
+ * <p>The executors do not propagate any context by themselves: the tasks are wrapped by their callers with the
+ * {@link io.github.rose.core.util.context.ContextSnapshot} of the submitting thread, as {@link Async} does.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class TaskExecutors {
+    public static final String VIRTUAL_THREADS_PROPERTY = "rose.virtual-threads.enabled";
+    public static final String BLOCKING_POOL_SIZE_PROPERTY = "rose.blocking-executor.pool-size";
+    private static final int DEFAULT_BLOCKING_POOL_SIZE_FACTOR = 8;
+    private static final MethodHandle OF_VIRTUAL = findOfVirtual();
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR = findNewThreadPerTaskExecutor();
+
+    private TaskExecutors() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Returns whether the runtime supports virtual threads and they are not disabled by the
+     * {@value #VIRTUAL_THREADS_PROPERTY} system property.
+     *
+     * @return true when the blocking executors use virtual threads.
+     */
+    public static boolean isVirtualThreadsEnabled() {
+        return OF_VIRTUAL != null
+                && NEW_THREAD_PER_TASK_EXECUTOR != null
+                && Boolean.parseBoolean(System.getProperty(VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString()));
+    }
+
+    /**
+     * Returns whether the specified thread is a virtual thread.
+     *
+     * @param thread the thread.
+     * @return true when the thread is virtual, false on runtimes without virtual threads.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the executor shared by the application for blocking I/O tasks, whose threads are daemon threads.
+     *
+     * @return the shared blocking executor.
+     */
+    public static Executor blocking() {
+        return SharedHolder.BLOCKING;
+    }
+
+    /**
+     * Returns the executor shared by the application for CPU-bound tasks, which is the common
+     * {@link ForkJoinPool}.
+     *
+     * @return the shared CPU-bound executor.
+     */
+    public static Executor cpu() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Creates an executor for blocking I/O tasks, starting a virtual thread per task when they are
+     * {@link #isVirtualThreadsEnabled() enabled}, otherwise a bounded pool of daemon platform threads.
+     *
+     * @param name the prefix of the thread names.
+     * @return the executor, to be shut down by the caller.
+     */
+    public static ExecutorService newBlockingExecutor(String name) {
+        if (isVirtualThreadsEnabled()) {
+            try {
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invokeExact(newVirtualThreadFactory(name));
+            } catch (Throwable t) {
+                throw new IllegalStateException("Unable to create a virtual thread executor", t);
+            }
+        }
+        return newPlatformExecutor(name, blockingPoolSize());
+    }
+
+    /**
+     * Creates an executor for CPU-bound tasks, always backed by platform threads.
+     *
+     * @param name        the prefix of the thread names.
+     * @param parallelism the number of threads.
+     * @return the executor, to be shut down by the caller.
+     */
+    public static ExecutorService newCpuExecutor(String name, int parallelism) {
+        return newPlatformExecutor(name, parallelism);
+    }
+
+    /**
+     * Creates a factory of virtual threads named with the specified prefix followed by a sequence number.
+     *
+     * @param name the prefix of the thread names.
+     * @return the thread factory.
+     * @throws UnsupportedOperationException when virtual threads are not supported by the runtime.
+     */
+    public static ThreadFactory newVirtualThreadFactory(String name) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            return (ThreadFactory) OF_VIRTUAL.invokeExact(name + "-", 0L);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unable to create a virtual thread factory", t);
+        }
+    }
+
+    private static ExecutorService newPlatformExecutor(String name, int poolSize) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new BasicThreadFactory.Builder()
+                        .namingPattern(name + "-%d")
+                        .daemon(true)
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static int blockingPoolSize() {
+        return Integer.getInteger(
+                BLOCKING_POOL_SIZE_PROPERTY,
+                DEFAULT_BLOCKING_POOL_SIZE_FACTOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Finds {@code Thread.ofVirtual().name(prefix, start).factory()} as a handle taking the prefix and the start.
+     */
+    private static MethodHandle findOfVirtual() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", methodType(ofVirtualClass));
+            MethodHandle name =
+                    lookup.findVirtual(ofVirtualClass, "name", methodType(ofVirtualClass, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builderClass, "factory", methodType(ThreadFactory.class));
+            MethodHandle named = MethodHandles.foldArguments(name, ofVirtual);
+            return MethodHandles.filterReturnValue(
+                    named, factory.asType(methodType(ThreadFactory.class, ofVirtualClass)));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findNewThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(
+                            Executors.class,
+                            "newThreadPerTaskExecutor",
+                            methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", methodType(boolean.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final Executor BLOCKING = newBlockingExecutor("blocking-executor")::execute;
+    }
+}
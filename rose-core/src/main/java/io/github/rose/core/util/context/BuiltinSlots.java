@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.context;
+
+import io.github.rose.core.util.CurrentInstance;
+import java.util.Map;
+import org.slf4j.MDC;
+
+/**
+ * Registers the slots of the contexts known by rose-core, and plugs the snapshots into TransmittableThreadLocal
+ * when it is available.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+final class BuiltinSlots {
+    static final String MDC_SLOT = "mdc";
+    static final String CURRENT_INSTANCE_SLOT = "current-instance";
+    private static final String TTL_CLASS_NAME = "com.alibaba.ttl.TransmittableThreadLocal";
+
+    private BuiltinSlots() {
+        // no instantiation allowed
+    }
+
+    static void register() {
+        ContextSlot.register(MDC_SLOT, BuiltinSlots::mdc, MDC::setContextMap, MDC::clear);
+        ContextSlot.register(
+                CURRENT_INSTANCE_SLOT,
+                BuiltinSlots::currentInstances,
+                BuiltinSlots::setCurrentInstances,
+                CurrentInstance::clearAll);
+        if (isTtlPresent()) {
+            TtlContextTransmittee.register();
+        }
+    }
+
+    private static Map<String, String> mdc() {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return context == null || context.isEmpty() ? null : context;
+    }
+
+    private static Map<Class<?>, CurrentInstance> currentInstances() {
+        Map<Class<?>, CurrentInstance> instances = CurrentInstance.getInstances();
+        return instances.isEmpty() ? null : instances;
+    }
+
+    private static void setCurrentInstances(Map<Class<?>, CurrentInstance> instances) {
+        CurrentInstance.clearAll();
+        CurrentInstance.restoreInstances(instances);
+    }
+
+    private static boolean isTtlPresent() {
+        try {
+            Class.forName(TTL_CLASS_NAME, false, BuiltinSlots.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
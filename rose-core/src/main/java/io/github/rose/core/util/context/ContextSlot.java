@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.context;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A thread-bound value propagated by {@link ContextSnapshot} when a task hops from one thread to another.
+ *
+ * <p>Slots are registered once, usually from a static initializer next to the thread local they expose, and get a
+ * fixed index in the snapshots captured afterwards. A {@code null} value means that the slot is not set: restoring it
+ * calls the remover instead of the setter.
+ *
+ * @param <T> the type of the slot value.
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class ContextSlot<T> {
+    private static volatile Registry registry = new Registry(new ContextSlot<?>[0]);
+    private final String name;
+    private final int index;
+    private final Supplier<? extends T> getter;
+    private final Consumer<? super T> setter;
+    private final Runnable remover;
+
+    static {
+        BuiltinSlots.register();
+    }
+
+    private ContextSlot(
+            String name, int index, Supplier<? extends T> getter, Consumer<? super T> setter, Runnable remover) {
+        this.name = name;
+        this.index = index;
+        this.getter = getter;
+        this.setter = setter;
+        this.remover = remover;
+    }
+
+    /**
+     * Registers a slot exposing the specified thread local.
+     *
+     * @param name        the unique name of the slot.
+     * @param threadLocal the thread local holding the value.
+     * @param <T>         the type of the slot value.
+     * @return the registered slot.
+     */
+    public static <T> ContextSlot<T> register(String name, ThreadLocal<T> threadLocal) {
+        return register(name, threadLocal::get, threadLocal::set, threadLocal::remove);
+    }
+
+    /**
+     * Registers a slot reading and writing its value with the specified functions.
+     *
+     * @param name    the unique name of the slot.
+     * @param getter  returns the value of the current thread, or {@code null} when it is not set.
+     * @param setter  sets the value of the current thread, never called with {@code null}.
+     * @param remover clears the value of the current thread.
+     * @param <T>     the type of the slot value.
+     * @return the registered slot.
+     */
+    public static <T> ContextSlot<T> register(
+            String name, Supplier<? extends T> getter, Consumer<? super T> setter, Runnable remover) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(getter, "getter");
+        Objects.requireNonNull(setter, "setter");
+        Objects.requireNonNull(remover, "remover");
+        synchronized (ContextSlot.class) {
+            ContextSlot<?>[] slots = registry.slots;
+            for (ContextSlot<?> slot : slots) {
+                if (slot.name.equals(name)) {
+                    throw new IllegalStateException("A context slot named " + name + " is already registered");
+                }
+            }
+            ContextSlot<T> slot = new ContextSlot<>(name, slots.length, getter, setter, remover);
+            ContextSlot<?>[] newSlots = new ContextSlot<?>[slots.length + 1];
+            System.arraycopy(slots, 0, newSlots, 0, slots.length);
+            newSlots[slots.length] = slot;
+            registry = new Registry(newSlots);
+            return slot;
+        }
+    }
+
+    /**
+     * Returns the names of the registered slots, in registration order.
+     *
+     * @return the slot names.
+     */
+    public static String[] names() {
+        ContextSlot<?>[] slots = registry.slots;
+        String[] names = new String[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            names[i] = slots[i].name;
+        }
+        return names;
+    }
+
+    static Registry registry() {
+        return registry;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the value of the current thread.
+     *
+     * @return the value, or {@code null} when it is not set.
+     */
+    public T get() {
+        return getter.get();
+    }
+
+    /**
+     * Sets the value of the current thread, a {@code null} value clearing it.
+     *
+     * @param value the value.
+     */
+    public void set(T value) {
+        if (value == null) {
+            remover.run();
+        } else {
+            setter.accept(value);
+        }
+    }
+
+    /**
+     * Returns the value of this slot in the specified snapshot.
+     *
+     * @param snapshot the snapshot.
+     * @return the value, or {@code null} when it was not set or the slot was registered after the capture.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(ContextSnapshot snapshot) {
+        return (T) snapshot.value(index);
+    }
+
+    int index() {
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    void restore(Object value) {
+        set((T) value);
+    }
+
+    @Override
+    public String toString() {
+        return "ContextSlot[" + name + "]";
+    }
+
+    /**
+     * The slots registered at some point, with the empty snapshot sharing them.
+     */
+    static final class Registry {
+        final ContextSlot<?>[] slots;
+        final ContextSnapshot empty;
+
+        Registry(ContextSlot<?>[] slots) {
+            this.slots = slots;
+            this.empty = new ContextSnapshot(slots, null);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.context;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * The values of all the {@link ContextSlot}s of a thread, captured to be restored on another thread.
+ *
+ * <p>This is the single carrier of the thread-bound contexts (MDC, {@code CurrentInstance}, tenant, data permission,
+ * ...) used when handing a task over to an executor:
+ *
+ * <pre>{@code
+ * ContextSnapshot snapshot = ContextSnapshot.capture();
+ * executor.execute(() -> {
+ *     ContextSnapshot backup = snapshot.apply();
+ *     try {
+ *         task.run();
+ *     } finally {
+ *         backup.restore();
+ *     }
+ * });
+ * }</pre>
+ *
+ * which is what {@link #wrap(Runnable)} does. The values are held in one array indexed by slot, so capturing,
+ * applying or restoring visits each slot once and a capture allocates nothing but that array and its holder. When no
+ * slot is set, a shared empty snapshot is returned, so applying a snapshot in a clean worker thread allocates
+ * nothing. When TransmittableThreadLocal is on the classpath, the snapshots are also transmitted by TTL-wrapped
+ * executors ({@code TtlRunnable}, {@code TtlExecutors}).
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class ContextSnapshot {
+    private final ContextSlot<?>[] slots;
+    private final Object[] values;
+
+    ContextSnapshot(ContextSlot<?>[] slots, Object[] values) {
+        this.slots = slots;
+        this.values = values;
+    }
+
+    /**
+     * Captures the values of the registered slots in the current thread.
+     *
+     * @return the snapshot.
+     */
+    public static ContextSnapshot capture() {
+        return capture(ContextSlot.registry().slots);
+    }
+
+    /**
+     * Returns the snapshot without any value, applying it clears all the registered slots.
+     *
+     * @return the empty snapshot.
+     */
+    public static ContextSnapshot empty() {
+        return ContextSlot.registry().empty;
+    }
+
+    private static ContextSnapshot capture(ContextSlot<?>[] slots) {
+        Object[] values = null;
+        for (int i = 0; i < slots.length; i++) {
+            Object value = slots[i].get();
+            if (value != null) {
+                if (values == null) {
+                    values = new Object[slots.length];
+                }
+                values[i] = value;
+            }
+        }
+        return values == null ? empty(slots) : new ContextSnapshot(slots, values);
+    }
+
+    private static ContextSnapshot empty(ContextSlot<?>[] slots) {
+        ContextSlot.Registry registry = ContextSlot.registry();
+        return registry.slots == slots ? registry.empty : new ContextSnapshot(slots, null);
+    }
+
+    /**
+     * Returns whether no slot was set when this snapshot was captured.
+     *
+     * @return true if the snapshot is empty.
+     */
+    public boolean isEmpty() {
+        return values == null;
+    }
+
+    /**
+     * Sets the values of this snapshot in the current thread, clearing the slots that were not set.
+     *
+     * @return the values previously set in the current thread, to be restored with {@link #restore()}.
+     */
+    public ContextSnapshot apply() {
+        Object[] values = this.values;
+        Object[] backup = null;
+        for (int i = 0; i < slots.length; i++) {
+            ContextSlot<?> slot = slots[i];
+            Object current = slot.get();
+            if (current != null) {
+                if (backup == null) {
+                    backup = new Object[slots.length];
+                }
+                backup[i] = current;
+            }
+            Object value = values == null ? null : values[i];
+            if (value != null || current != null) {
+                slot.restore(value);
+            }
+        }
+        return backup == null ? empty(slots) : new ContextSnapshot(slots, backup);
+    }
+
+    /**
+     * Sets the values of this snapshot in the current thread, clearing the slots that were not set. Unlike
+     * {@link #apply()}, the current values are discarded.
+     */
+    public void restore() {
+        // every slot is written, so the values set by a task do not leak into the next task of a pooled thread
+        Object[] values = this.values;
+        for (int i = 0; i < slots.length; i++) {
+            slots[i].restore(values == null ? null : values[i]);
+        }
+    }
+
+    /**
+     * Returns a runnable running the specified task with the values of this snapshot.
+     *
+     * @param task the task.
+     * @return the wrapped task.
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            ContextSnapshot backup = apply();
+            try {
+                task.run();
+            } finally {
+                backup.restore();
+            }
+        };
+    }
+
+    /**
+     * Returns a callable calling the specified task with the values of this snapshot.
+     *
+     * @param task the task.
+     * @param <V>  the type of the task result.
+     * @return the wrapped task.
+     */
+    public <V> Callable<V> wrap(Callable<V> task) {
+        return () -> {
+            ContextSnapshot backup = apply();
+            try {
+                return task.call();
+            } finally {
+                backup.restore();
+            }
+        };
+    }
+
+    /**
+     * Returns a supplier calling the specified supplier with the values of this snapshot.
+     *
+     * @param supplier the supplier.
+     * @param <V>      the type of the supplied values.
+     * @return the wrapped supplier.
+     */
+    public <V> Supplier<V> wrap(Supplier<V> supplier) {
+        return () -> {
+            ContextSnapshot backup = apply();
+            try {
+                return supplier.get();
+            } finally {
+                backup.restore();
+            }
+        };
+    }
+
+    /**
+     * Returns an executor running the tasks with the values captured in the submitting thread.
+     *
+     * @param executor the executor.
+     * @return the wrapped executor.
+     */
+    public static Executor wrap(Executor executor) {
+        if (executor instanceof ContextExecutor) {
+            return executor;
+        }
+        return new ContextExecutor(executor);
+    }
+
+    Object value(int index) {
+        return values == null || index >= values.length ? null : values[index];
+    }
+
+    private static final class ContextExecutor implements Executor {
+        private final Executor delegate;
+
+        private ContextExecutor(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(capture().wrap(command));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.context;
+
+import com.alibaba.ttl.TransmittableThreadLocal;
+
+/**
+ * Transmits the {@link ContextSnapshot}s through the TTL wrappers ({@code TtlRunnable}, {@code TtlCallable},
+ * {@code TtlExecutors}), so the executors decorated with TTL propagate the registered slots as well.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+final class TtlContextTransmittee
+        implements TransmittableThreadLocal.Transmitter.Transmittee<ContextSnapshot, ContextSnapshot> {
+
+    private TtlContextTransmittee() {}
+
+    static void register() {
+        TransmittableThreadLocal.Transmitter.registerTransmittee(new TtlContextTransmittee());
+    }
+
+    @Override
+    public ContextSnapshot capture() {
+        return ContextSnapshot.capture();
+    }
+
+    @Override
+    public ContextSnapshot replay(ContextSnapshot captured) {
+        return captured.apply();
+    }
+
+    @Override
+    public ContextSnapshot clear() {
+        return ContextSnapshot.empty().apply();
+    }
+
+    @Override
+    public void restore(ContextSnapshot backup) {
+        backup.restore();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.id;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Leases a worker id by holding an exclusive lock on {@code worker-<id>.lease} in a directory. The operating system
+ * releases the lock when the process exits, so a crashed process never keeps its id.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class FileLeaseWorkerIdAssigner implements WorkerIdAssigner, Closeable {
+    private final Path directory;
+    private FileChannel channel;
+    private FileLock lock;
+    private int workerId = -1;
+
+    public FileLeaseWorkerIdAssigner(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public synchronized int assign(int maxWorkerId) {
+        if (lock != null) {
+            return workerId;
+        }
+        try {
+            Files.createDirectories(directory);
+            for (int id = 0; id <= maxWorkerId; id++) {
+                FileChannel candidate = FileChannel.open(
+                        directory.resolve("worker-" + id + ".lease"),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                FileLock candidateLock = tryLock(candidate);
+                if (candidateLock != null) {
+                    candidate.truncate(0);
+                    candidate.write(ByteBuffer.wrap(
+                            ManagementFactory.getRuntimeMXBean().getName().getBytes(StandardCharsets.UTF_8)));
+                    channel = candidate;
+                    lock = candidateLock;
+                    workerId = id;
+                    return id;
+                }
+                candidate.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to lease a worker id in " + directory, e);
+        }
+        throw new IllegalStateException("No free worker id in " + directory);
+    }
+
+    public synchronized int getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Releases the leased worker id. Identifiers must no longer be generated with it.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (lock != null) {
+            try {
+                lock.release();
+            } finally {
+                channel.close();
+                lock = null;
+                channel = null;
+                workerId = -1;
+            }
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // already leased by this process
+            return null;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.id;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Encodes identifiers to fixed-length Base62 and URL-safe Base64 strings, directly from their bits: no intermediate
+ * byte array, buffer or {@link java.math.BigInteger} is allocated, and the {@code write} methods allocate nothing.
+ *
+ * <p>The Base62 alphabet is in ASCII order ({@code 0-9A-Za-z}) and the encodings are zero-padded, so encoded
+ * identifiers sort like the unsigned values they encode.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class IdEncoding {
+    public static final int BASE62_LONG_LENGTH = 11;
+    public static final int BASE62_UUID_LENGTH = 22;
+    public static final int BASE64_UUID_LENGTH = 22;
+
+    private static final char[] BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final byte[] BASE62_VALUES = values(BASE62);
+    private static final long MAX_LONG_DIV_62 = Long.divideUnsigned(-1L, 62);
+    private static final int MAX_LONG_MOD_62 = (int) Long.remainderUnsigned(-1L, 62);
+    private static final byte[] BASE64_URL_VALUES = values(BASE64_URL);
+
+    private IdEncoding() {}
+
+    public static String toBase62(long value) {
+        char[] chars = new char[BASE62_LONG_LENGTH];
+        writeBase62(value, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Writes the {@value #BASE62_LONG_LENGTH} Base62 digits of an unsigned long.
+     *
+     * @param value  the value, read as unsigned
+     * @param dst    the destination
+     * @param offset the index of the first digit in the destination
+     */
+    public static void writeBase62(long value, char[] dst, int offset) {
+        for (int i = offset + BASE62_LONG_LENGTH - 1; i >= offset; i--) {
+            dst[i] = BASE62[(int) Long.remainderUnsigned(value, 62)];
+            value = Long.divideUnsigned(value, 62);
+        }
+    }
+
+    public static long base62ToLong(CharSequence value) {
+        checkLength(value, BASE62_LONG_LENGTH);
+        long result = 0;
+        for (int i = 0; i < BASE62_LONG_LENGTH; i++) {
+            int digit = digit(value, i, BASE62_VALUES);
+            if (Long.compareUnsigned(result, MAX_LONG_DIV_62) > 0
+                    || (result == MAX_LONG_DIV_62 && digit > MAX_LONG_MOD_62)) {
+                throw new IllegalArgumentException("Base62 value out of range: " + value);
+            }
+            result = result * 62 + digit;
+        }
+        return result;
+    }
+
+    public static String toBase62(UUID uuid) {
+        char[] chars = new char[BASE62_UUID_LENGTH];
+        writeBase62(uuid, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Writes the {@value #BASE62_UUID_LENGTH} Base62 digits of a UUID read as an unsigned 128-bit value.
+     *
+     * @param uuid   the UUID
+     * @param dst    the destination
+     * @param offset the index of the first digit in the destination
+     */
+    public static void writeBase62(UUID uuid, char[] dst, int offset) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        // four unsigned 32-bit limbs, most significant first, divided by 62 in place
+        long l0 = msb >>> 32;
+        long l1 = msb & 0xFFFFFFFFL;
+        long l2 = lsb >>> 32;
+        long l3 = lsb & 0xFFFFFFFFL;
+        for (int i = offset + BASE62_UUID_LENGTH - 1; i >= offset; i--) {
+            long r = l0 % 62;
+            l0 /= 62;
+            long n = (r << 32) | l1;
+            l1 = n / 62;
+            n = ((n % 62) << 32) | l2;
+            l2 = n / 62;
+            n = ((n % 62) << 32) | l3;
+            l3 = n / 62;
+            dst[i] = BASE62[(int) (n % 62)];
+        }
+    }
+
+    public static UUID base62ToUuid(CharSequence value) {
+        checkLength(value, BASE62_UUID_LENGTH);
+        long l0 = 0;
+        long l1 = 0;
+        long l2 = 0;
+        long l3 = 0;
+        for (int i = 0; i < BASE62_UUID_LENGTH; i++) {
+            long n = l3 * 62 + digit(value, i, BASE62_VALUES);
+            l3 = n & 0xFFFFFFFFL;
+            n = l2 * 62 + (n >>> 32);
+            l2 = n & 0xFFFFFFFFL;
+            n = l1 * 62 + (n >>> 32);
+            l1 = n & 0xFFFFFFFFL;
+            n = l0 * 62 + (n >>> 32);
+            l0 = n & 0xFFFFFFFFL;
+            if ((n >>> 32) != 0) {
+                throw new IllegalArgumentException("Base62 value out of range: " + value);
+            }
+        }
+        return new UUID((l0 << 32) | l1, (l2 << 32) | l3);
+    }
+
+    /**
+     * @param uuid the UUID
+     * @return the unpadded URL-safe Base64 encoding of the 16 bytes of the UUID
+     */
+    public static String toBase64(UUID uuid) {
+        char[] chars = new char[BASE64_UUID_LENGTH];
+        writeBase64(uuid, chars, 0);
+        return new String(chars);
+    }
+
+    public static void writeBase64(UUID uuid, char[] dst, int offset) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int position = offset;
+        // 15 bytes as five groups of 3 bytes, then the last byte alone
+        for (int i = 0; i < 15; i += 3) {
+            int group = (byteAt(msb, lsb, i) << 16) | (byteAt(msb, lsb, i + 1) << 8) | byteAt(msb, lsb, i + 2);
+            dst[position++] = BASE64_URL[(group >>> 18) & 0x3F];
+            dst[position++] = BASE64_URL[(group >>> 12) & 0x3F];
+            dst[position++] = BASE64_URL[(group >>> 6) & 0x3F];
+            dst[position++] = BASE64_URL[group & 0x3F];
+        }
+        int last = byteAt(msb, lsb, 15);
+        dst[position++] = BASE64_URL[last >>> 2];
+        dst[position] = BASE64_URL[(last & 0x03) << 4];
+    }
+
+    /**
+     * @param value the URL-safe Base64 encoding of a UUID, with or without padding
+     * @return the UUID
+     */
+    public static UUID base64ToUuid(CharSequence value) {
+        int length = value.length();
+        if (length == BASE64_UUID_LENGTH + 2 && value.charAt(length - 1) == '=' && value.charAt(length - 2) == '=') {
+            length = BASE64_UUID_LENGTH;
+        }
+        if (length != BASE64_UUID_LENGTH) {
+            throw new IllegalArgumentException("Invalid Base64 UUID length: " + value);
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 20; i += 4) {
+            int group = (digit(value, i, BASE64_URL_VALUES) << 18)
+                    | (digit(value, i + 1, BASE64_URL_VALUES) << 12)
+                    | (digit(value, i + 2, BASE64_URL_VALUES) << 6)
+                    | digit(value, i + 3, BASE64_URL_VALUES);
+            for (int shift = 16; shift >= 0; shift -= 8) {
+                long b = (group >>> shift) & 0xFF;
+                msb = (msb << 8) | (lsb >>> 56);
+                lsb = (lsb << 8) | b;
+            }
+        }
+        int last = (digit(value, 20, BASE64_URL_VALUES) << 2) | (digit(value, 21, BASE64_URL_VALUES) >>> 4);
+        msb = (msb << 8) | (lsb >>> 56);
+        lsb = (lsb << 8) | last;
+        return new UUID(msb, lsb);
+    }
+
+    private static int byteAt(long msb, long lsb, int index) {
+        return index < 8 ? (int) (msb >>> (56 - 8 * index)) & 0xFF : (int) (lsb >>> (120 - 8 * index)) & 0xFF;
+    }
+
+    private static int digit(CharSequence value, int index, byte[] values) {
+        char c = value.charAt(index);
+        int digit = c < values.length ? values[c] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid character '" + c + "' in " + value);
+        }
+        return digit;
+    }
+
+    private static void checkLength(CharSequence value, int length) {
+        if (value.length() != length) {
+            throw new IllegalArgumentException("Expected " + length + " characters: " + value);
+        }
+    }
+
+    private static byte[] values(char[] alphabet) {
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < alphabet.length; i++) {
+            values[alphabet[i]] = (byte) i;
+        }
+        return values;
+    }
+}
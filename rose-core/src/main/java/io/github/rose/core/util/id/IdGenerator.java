@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.id;
+
+/**
+ * Generates unique, increasing 64-bit identifiers.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public interface IdGenerator {
+
+    /**
+     * @return the next identifier, greater than all the identifiers previously returned by this generator
+     */
+    long nextId();
+
+    /**
+     * Reserves a batch of identifiers at once.
+     *
+     * @param count the number of identifiers
+     * @return increasing identifiers, greater than all the identifiers previously returned by this generator
+     */
+    default long[] nextIds(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be greater than zero.");
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = nextId();
+        }
+        return ids;
+    }
+}
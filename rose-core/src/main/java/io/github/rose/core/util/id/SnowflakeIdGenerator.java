@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.id;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free Snowflake identifier generator: 1 unused sign bit, 41 bits of milliseconds since an epoch, 10 bits of
+ * worker id and 12 bits of sequence. The default epoch and layout are those of the MyBatis-Plus default identifier
+ * generator, so identifiers keep increasing when switching from it.
+ *
+ * <p>The generator keeps a logical clock made of the last timestamp and sequence. Each call takes the maximum of the
+ * wall clock and the last value plus one, so identifiers stay increasing when the clock goes backwards or when the
+ * sequence of a millisecond is exhausted: the logical clock then runs ahead of the wall clock until it catches up.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class SnowflakeIdGenerator implements IdGenerator {
+    public static final long DEFAULT_EPOCH = 1288834974657L;
+    public static final int WORKER_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_WORKER_ID = (1 << WORKER_ID_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << (63 - TIMESTAMP_SHIFT)) - 1;
+
+    private final int workerId;
+    private final long workerBits;
+    private final long epoch;
+    private final Clock clock;
+    /**
+     * The last reserved tick: the timestamp shifted left by {@link #SEQUENCE_BITS}, plus the sequence. Incrementing
+     * it past the last sequence of a millisecond moves to the next millisecond.
+     */
+    private final AtomicLong lastTick = new AtomicLong(-1);
+
+    public SnowflakeIdGenerator(int workerId) {
+        this(workerId, DEFAULT_EPOCH, Clock.systemUTC());
+    }
+
+    public SnowflakeIdGenerator(WorkerIdAssigner assigner) {
+        this(assigner.assign(MAX_WORKER_ID), DEFAULT_EPOCH, Clock.systemUTC());
+    }
+
+    public SnowflakeIdGenerator(int workerId, long epoch, Clock clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("worker id must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        if (epoch < 0 || epoch > clock.millis()) {
+            throw new IllegalArgumentException("epoch must be between 0 and the current time: " + epoch);
+        }
+        this.workerId = workerId;
+        this.workerBits = (long) workerId << SEQUENCE_BITS;
+        this.epoch = epoch;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        return toId(reserve(1));
+    }
+
+    @Override
+    public long[] nextIds(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be greater than zero.");
+        }
+        long first = reserve(count);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = toId(first + i);
+        }
+        return ids;
+    }
+
+    public int getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * @return how many milliseconds the logical clock is ahead of the wall clock, after a clock rollback or a burst
+     */
+    public long getClockDrift() {
+        long drift = (lastTick.get() >> SEQUENCE_BITS) - (clock.millis() - epoch);
+        return Math.max(drift, 0);
+    }
+
+    /**
+     * @param id an identifier of this generator
+     * @return the epoch milliseconds encoded in the identifier
+     */
+    public long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + epoch;
+    }
+
+    public static int workerIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_WORKER_ID);
+    }
+
+    public static int sequenceOf(long id) {
+        return (int) (id & SEQUENCE_MASK);
+    }
+
+    private long reserve(int count) {
+        long now = (clock.millis() - epoch) << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTick.get();
+            long first = Math.max(now, last + 1);
+            long next = first + count - 1;
+            if ((next >>> SEQUENCE_BITS) > MAX_TIMESTAMP) {
+                throw new IllegalStateException("Timestamp overflow, the epoch is too old: " + epoch);
+            }
+            if (lastTick.compareAndSet(last, next)) {
+                return first;
+            }
+        }
+    }
+
+    private long toId(long tick) {
+        return ((tick >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | workerBits | (tick & SEQUENCE_MASK);
+    }
+}
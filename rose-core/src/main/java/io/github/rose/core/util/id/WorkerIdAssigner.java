@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.id;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Assigns the worker id of a {@link SnowflakeIdGenerator}. Deployments with a coordinator (a database table, Redis,
+ * ZooKeeper...) implement this interface on top of it; otherwise {@link #fileLease(Path)} guarantees distinct ids
+ * among the processes of a host sharing the same directory.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface WorkerIdAssigner {
+
+    /**
+     * @param maxWorkerId the largest worker id supported by the generator
+     * @return the worker id, between 0 and {@code maxWorkerId}
+     */
+    int assign(int maxWorkerId);
+
+    static WorkerIdAssigner fixed(int workerId) {
+        return maxWorkerId -> {
+            if (workerId < 0 || workerId > maxWorkerId) {
+                throw new IllegalArgumentException("worker id must be between 0 and " + maxWorkerId + ": " + workerId);
+            }
+            return workerId;
+        };
+    }
+
+    /**
+     * Derives the worker id from a host address and the current process, like the default identifier generator of
+     * MyBatis-Plus. Two processes may still get the same id, prefer a lease or a coordinator when possible.
+     *
+     * @param address the address of the host
+     * @return the assigner
+     */
+    static WorkerIdAssigner fromAddress(InetAddress address) {
+        return maxWorkerId -> {
+            int hash = Arrays.hashCode(address == null ? null : address.getAddress()) * 31
+                    + ManagementFactory.getRuntimeMXBean().getName().hashCode();
+            return (hash ^ (hash >>> 16)) & maxWorkerId;
+        };
+    }
+
+    /**
+     * Leases the first free worker id by locking a file in the given directory, until the process exits or the
+     * returned assigner is closed.
+     *
+     * @param directory the directory shared by the processes of the host
+     * @return the assigner
+     */
+    static FileLeaseWorkerIdAssigner fileLease(Path directory) {
+        return new FileLeaseWorkerIdAssigner(directory);
+    }
+}
@@ -17,14 +17,13 @@ package io.github.rose.core.util.text;
 
 import io.github.rose.core.util.StringPool;
 import java.util.Map;
-import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * The utility class of text format
  *
+ * <p>Templates are compiled once by {@link TextTemplate} and rendered in a single pass, so the cost of formatting
+ * is linear in the length of the output.
+ *
  * @since 0.0.1
  */
 public abstract class TextFormatUtils {
@@ -46,7 +45,7 @@ public abstract class TextFormatUtils {
 
     /**
      * <p>
-     * formatVariables.
+     * formatVariables. Placeholders whose value is missing, null, empty or {@code "null"} are kept verbatim.
      * </p>
      *
      * @param template a {@link String} object
@@ -63,24 +62,19 @@ public abstract class TextFormatUtils {
         if (null == map || map.isEmpty()) {
             return template;
         }
-
-        String template2 = template;
-        String value;
-        for (final Map.Entry<String, ?> entry : map.entrySet()) {
-            value = Objects.toString(entry.getValue(), StringPool.EMPTY);
-            if (entry.getValue().equals(StringPool.NULL)) {
-                value = StringPool.EMPTY;
-            }
-            if (!StringUtils.isEmpty(value)) {
-                template2 = StringUtils.replace(template2, prefix + entry.getKey() + suffix, value);
+        return TextTemplate.compile(template, prefix, suffix).render(null, name -> {
+            Object value = map.get(name);
+            if (value == null || StringPool.NULL.equals(value)) {
+                return null;
             }
-        }
-        return template2;
+            String text = value.toString();
+            return text.isEmpty() ? null : text;
+        });
     }
 
     /**
      * <p>
-     * format.
+     * format. Also accepts indexed placeholders such as {@code {0}}.
      * </p>
      *
      * @param template a {@link String} object
@@ -103,36 +97,40 @@ public abstract class TextFormatUtils {
      */
     public static String formatWithPlaceholder(final String template, final String placeholder, final Object... args) {
         int argsLength = args == null ? 0 : args.length;
-        if (argsLength == 0) {
+        if (argsLength == 0 || template == null) {
             return template;
         }
+        if (DEFAULT_PLACEHOLDER.equals(placeholder)) {
+            return TextTemplate.compile(template).render(args, null);
+        }
 
-        StringBuilder stringBuilder = new StringBuilder(template);
-        int index = -1;
+        StringBuilder stringBuilder = new StringBuilder(template.length() + 16 * argsLength);
+        int start = 0;
         for (int i = 0; i < argsLength; i++) {
-            index = stringBuilder.indexOf(placeholder);
+            int index = template.indexOf(placeholder, start);
             if (index == -1) {
                 break;
             }
-            String value = String.valueOf(args[i]);
-            stringBuilder.replace(index, index + placeholder.length(), value);
+            stringBuilder.append(template, start, index).append(args[i]);
+            start = index + placeholder.length();
         }
-        return stringBuilder.toString();
+        return stringBuilder.append(template, start, template.length()).toString();
     }
 
+    /**
+     * <p>
+     * substituteVariables. Replaces the {@code ${name}} placeholders, missing variables are replaced by an empty
+     * string.
+     * </p>
+     *
+     * @param template  a {@link String} object
+     * @param variables a {@link Map} object
+     * @return a {@link String} object
+     */
     public static String substituteVariables(String template, Map<String, Object> variables) {
-        Pattern pattern = Pattern.compile("\\$\\{(.+?)\\}");
-        Matcher matcher = pattern.matcher(template);
-        StringBuffer buffer = new StringBuffer();
-        while (matcher.find()) {
-            Object replacement = variables.get(matcher.group(1));
-            matcher.appendReplacement(buffer, "");
-
-            if (replacement != null) {
-                buffer.append(replacement.toString());
-            }
+        if (template == null) {
+            return null;
         }
-        matcher.appendTail(buffer);
-        return buffer.toString();
+        return TextTemplate.compile(template).format(variables);
     }
 }
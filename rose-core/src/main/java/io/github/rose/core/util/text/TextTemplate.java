@@ -0,0 +1,384 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.text;
+
+import io.github.rose.core.util.StringPool;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * A text template parsed once into literal segments and placeholders, then rendered in a single pass.
+ *
+ * <p>Templates created with {@link #compile(String)} recognize three kinds of placeholders:
+ * <ul>
+ *   <li>{@code {}}: positional, the n-th {@code {}} of the template is replaced by the n-th argument;</li>
+ *   <li>{@code {0}}: indexed, replaced by the argument at that index;</li>
+ *   <li>{@code ${name}}: named, replaced by the value of that variable.</li>
+ * </ul>
+ * Templates created with {@link #compile(String, String, String)} only recognize named placeholders with custom
+ * delimiters. As with {@link TextFormatUtils}, there is no escape syntax: a placeholder without a value is rendered
+ * verbatim, and values are never parsed as templates themselves.
+ *
+ * <p>Compiled templates are immutable and kept in {@link ConcurrentLruCache least recently used caches} bounded by
+ * the {@value #CACHE_MAXIMUM_SIZE_PROPERTY} system property. Rendering to a {@link String} reuses a per-thread
+ * {@link StringBuilder}.
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class TextTemplate {
+    public static final String CACHE_MAXIMUM_SIZE_PROPERTY = "rose.text-template-cache.maximum-size";
+    private static final int CACHE_MAXIMUM_SIZE = Integer.getInteger(CACHE_MAXIMUM_SIZE_PROPERTY, 1024);
+    private static final String POSITIONAL_PLACEHOLDER = "{}";
+    private static final int MAXIMUM_INDEX_DIGITS = 9;
+    private static final int MAXIMUM_RETAINED_CAPACITY = 8192;
+    private static final ConcurrentLruCache<String, TextTemplate> TEMPLATES =
+            new ConcurrentLruCache<>(CACHE_MAXIMUM_SIZE, TextTemplate::parse);
+    private static final ConcurrentLruCache<Delimited, TextTemplate> DELIMITED_TEMPLATES =
+            new ConcurrentLruCache<>(CACHE_MAXIMUM_SIZE, key -> parse(key.template, key.prefix, key.suffix));
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+
+    private final String template;
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final int literalLength;
+
+    private TextTemplate(String template, List<String> literals, List<Placeholder> placeholders) {
+        this.template = template;
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new Placeholder[0]);
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the compiled form of a template with {@code {}}, {@code {0}} and {@code ${name}} placeholders.
+     *
+     * @param template the template.
+     * @return the cached compiled template.
+     */
+    public static TextTemplate compile(String template) {
+        return TEMPLATES.get(Objects.requireNonNull(template, "template"));
+    }
+
+    /**
+     * Returns the compiled form of a template with named placeholders delimited by the specified prefix and suffix.
+     *
+     * @param template the template.
+     * @param prefix   the non-empty prefix of the placeholders, such as {@code "{"}.
+     * @param suffix   the non-empty suffix of the placeholders, such as {@code "}"}.
+     * @return the cached compiled template.
+     */
+    public static TextTemplate compile(String template, String prefix, String suffix) {
+        if (prefix == null || prefix.isEmpty() || suffix == null || suffix.isEmpty()) {
+            throw new IllegalArgumentException("Placeholder prefix and suffix cannot be empty");
+        }
+        return DELIMITED_TEMPLATES.get(new Delimited(Objects.requireNonNull(template, "template"), prefix, suffix));
+    }
+
+    /**
+     * Renders the template with positional and indexed arguments. Named placeholders, and placeholders without a
+     * matching argument, are rendered verbatim.
+     *
+     * @param args the arguments, rendered with {@link String#valueOf(Object)}.
+     * @return the rendered text.
+     */
+    public String format(Object... args) {
+        return render(args, null);
+    }
+
+    /**
+     * Renders the template with named variables. Variables which are missing or null are rendered as an empty
+     * string, positional and indexed placeholders are rendered verbatim.
+     *
+     * @param variables the variables.
+     * @return the rendered text.
+     */
+    public String format(Map<String, ?> variables) {
+        return render(null, name -> {
+            Object value = variables.get(name);
+            return value == null ? StringPool.EMPTY : value.toString();
+        });
+    }
+
+    /**
+     * Renders the template with positional and indexed arguments into the specified builder.
+     *
+     * @param builder the builder to append to.
+     * @param args    the arguments, rendered with {@link String#valueOf(Object)}.
+     * @return the builder.
+     * @see #format(Object...)
+     */
+    public StringBuilder formatTo(StringBuilder builder, Object... args) {
+        renderTo(builder, args, null);
+        return builder;
+    }
+
+    /**
+     * Renders the template with named variables into the specified builder.
+     *
+     * @param builder   the builder to append to.
+     * @param variables the variables.
+     * @return the builder.
+     * @see #format(Map)
+     */
+    public StringBuilder formatTo(StringBuilder builder, Map<String, ?> variables) {
+        renderTo(builder, null, name -> {
+            Object value = variables.get(name);
+            return value == null ? StringPool.EMPTY : value.toString();
+        });
+        return builder;
+    }
+
+    /**
+     * Returns the number of placeholders of the template.
+     *
+     * @return the number of placeholders.
+     */
+    public int getPlaceholderCount() {
+        return placeholders.length;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param args      the positional and indexed arguments, or null.
+     * @param variables resolves the value of named placeholders, or null. Placeholders resolved to null are
+     *                  rendered verbatim.
+     * @return the rendered text.
+     */
+    String render(Object[] args, Function<String, String> variables) {
+        if (placeholders.length == 0) {
+            return template;
+        }
+        Buffer buffer = BUFFERS.get();
+        if (buffer.inUse) {
+            // an argument is being rendered with a template on the same thread
+            StringBuilder builder = new StringBuilder(literalLength + 16 * placeholders.length);
+            renderTo(builder, args, variables);
+            return builder.toString();
+        }
+        buffer.inUse = true;
+        try {
+            StringBuilder builder = buffer.builder;
+            builder.setLength(0);
+            renderTo(builder, args, variables);
+            return builder.toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void renderTo(StringBuilder builder, Object[] args, Function<String, String> variables) {
+        int argsLength = args == null ? 0 : args.length;
+        int position = 0;
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            Placeholder placeholder = placeholders[i];
+            switch (placeholder.kind) {
+                case POSITIONAL:
+                    if (position < argsLength) {
+                        builder.append(args[position]);
+                    } else {
+                        builder.append(placeholder.text);
+                    }
+                    position++;
+                    break;
+                case INDEXED:
+                    if (placeholder.index < argsLength) {
+                        builder.append(args[placeholder.index]);
+                    } else {
+                        builder.append(placeholder.text);
+                    }
+                    break;
+                default:
+                    String value = variables == null ? null : variables.apply(placeholder.name);
+                    builder.append(value == null ? placeholder.text : value);
+                    break;
+            }
+            builder.append(literals[i + 1]);
+        }
+    }
+
+    private static TextTemplate parse(String template) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int length = template.length();
+        int literalStart = 0;
+        int i = 0;
+        while (i < length) {
+            char c = template.charAt(i);
+            int end = -1;
+            Placeholder placeholder = null;
+            if (c == '$' && i + 1 < length && template.charAt(i + 1) == '{') {
+                // same rule as the former \$\{(.+?)\} pattern: a non-empty name on a single line
+                int close = template.indexOf('}', i + 3);
+                if (close > 0 && !containsLineTerminator(template, i + 2, close)) {
+                    end = close + 1;
+                    placeholder = new Placeholder(
+                            Kind.NAMED, -1, template.substring(i + 2, close), template.substring(i, end));
+                }
+            } else if (c == '{') {
+                end = indexedEnd(template, i + 1);
+                if (end == i + 2) {
+                    placeholder = new Placeholder(Kind.POSITIONAL, -1, null, POSITIONAL_PLACEHOLDER);
+                } else if (end > 0) {
+                    int index = Integer.parseInt(template.substring(i + 1, end - 1));
+                    placeholder = new Placeholder(Kind.INDEXED, index, null, template.substring(i, end));
+                }
+            }
+            if (placeholder == null) {
+                i++;
+                continue;
+            }
+            literals.add(template.substring(literalStart, i));
+            placeholders.add(placeholder);
+            literalStart = end;
+            i = end;
+        }
+        literals.add(template.substring(literalStart));
+        return new TextTemplate(template, literals, placeholders);
+    }
+
+    private static TextTemplate parse(String template, String prefix, String suffix) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        while (true) {
+            int open = template.indexOf(prefix, literalStart);
+            if (open < 0) {
+                break;
+            }
+            int close = template.indexOf(suffix, open + prefix.length());
+            if (close < 0) {
+                break;
+            }
+            // the innermost prefix opens the placeholder, as "{{name}}" renders "{value}"
+            open = template.lastIndexOf(prefix, close - prefix.length());
+            int end = close + suffix.length();
+            literals.add(template.substring(literalStart, open));
+            placeholders.add(new Placeholder(
+                    Kind.NAMED, -1, template.substring(open + prefix.length(), close), template.substring(open, end)));
+            literalStart = end;
+        }
+        literals.add(template.substring(literalStart));
+        return new TextTemplate(template, literals, placeholders);
+    }
+
+    /**
+     * Returns the end of an indexed placeholder whose digits start at the specified position, or -1.
+     */
+    private static int indexedEnd(String template, int start) {
+        int i = start;
+        int length = template.length();
+        while (i < length && i - start <= MAXIMUM_INDEX_DIGITS) {
+            char c = template.charAt(i);
+            if (c == '}') {
+                return i + 1;
+            }
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static boolean containsLineTerminator(String template, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = template.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private enum Kind {
+        POSITIONAL,
+        INDEXED,
+        NAMED
+    }
+
+    private static final class Placeholder {
+        private final Kind kind;
+        private final int index;
+        private final String name;
+        private final String text;
+
+        private Placeholder(Kind kind, int index, String name, String text) {
+            this.kind = kind;
+            this.index = index;
+            this.name = name;
+            this.text = text;
+        }
+    }
+
+    private static final class Buffer {
+        private StringBuilder builder = new StringBuilder(256);
+        private boolean inUse;
+
+        private void release() {
+            inUse = false;
+            if (builder.capacity() > MAXIMUM_RETAINED_CAPACITY) {
+                builder = new StringBuilder(256);
+            }
+        }
+    }
+
+    private static final class Delimited {
+        private final String template;
+        private final String prefix;
+        private final String suffix;
+        private final int hash;
+
+        private Delimited(String template, String prefix, String suffix) {
+            this.template = template;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.hash = (template.hashCode() * 31 + prefix.hashCode()) * 31 + suffix.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Delimited)) {
+                return false;
+            }
+            Delimited other = (Delimited) o;
+            return template.equals(other.template) && prefix.equals(other.prefix) && suffix.equals(other.suffix);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * 紧凑的树节点，与{@link Tree}不同，ID、父ID、名称、权重和子节点保存在字段中，扩展属性按需创建，适合节点数量较多的树。
+ *
+ * <p>通过{@link CompactTreeSerializer}序列化为与{@link Tree}相同结构的JSON，值为null的属性不输出。
+ *
+ * @param <T> ID类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+@JsonSerialize(using = CompactTreeSerializer.class)
+public class CompactTree<T> implements Node<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TreeNodeConfig treeNodeConfig;
+
+    private T id;
+
+    private T parentId;
+
+    private CharSequence name;
+
+    private Comparable<?> weight;
+
+    private List<CompactTree<T>> children;
+
+    private Map<String, Object> extra;
+
+    private CompactTree<T> parent;
+
+    public CompactTree() {
+        this(null);
+    }
+
+    /**
+     * 构造
+     *
+     * @param treeNodeConfig TreeNode配置
+     */
+    public CompactTree(TreeNodeConfig treeNodeConfig) {
+        this.treeNodeConfig = ObjectUtils.defaultIfNull(treeNodeConfig, TreeNodeConfig.DEFAULT_CONFIG);
+    }
+
+    /**
+     * 获取节点配置
+     *
+     * @return 节点配置
+     */
+    public TreeNodeConfig getConfig() {
+        return this.treeNodeConfig;
+    }
+
+    /**
+     * 获取父节点
+     *
+     * @return 父节点
+     */
+    public CompactTree<T> getParent() {
+        return parent;
+    }
+
+    /**
+     * 设置父节点
+     *
+     * @param parent 父节点
+     * @return this
+     */
+    public CompactTree<T> setParent(CompactTree<T> parent) {
+        this.parent = parent;
+        if (null != parent) {
+            this.parentId = parent.getId();
+        }
+        return this;
+    }
+
+    @Override
+    public T getId() {
+        return id;
+    }
+
+    @Override
+    public CompactTree<T> setId(T id) {
+        this.id = id;
+        return this;
+    }
+
+    @Override
+    public T getParentId() {
+        return parentId;
+    }
+
+    @Override
+    public CompactTree<T> setParentId(T parentId) {
+        this.parentId = parentId;
+        return this;
+    }
+
+    @Override
+    public CharSequence getName() {
+        return name;
+    }
+
+    @Override
+    public CompactTree<T> setName(CharSequence name) {
+        this.name = name;
+        return this;
+    }
+
+    @Override
+    public Comparable<?> getWeight() {
+        return weight;
+    }
+
+    @Override
+    public CompactTree<T> setWeight(Comparable<?> weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    /**
+     * 获取所有子节点
+     *
+     * @return 所有子节点，没有子节点时返回null
+     */
+    public List<CompactTree<T>> getChildren() {
+        return children;
+    }
+
+    /**
+     * 设置子节点，设置后会覆盖所有原有子节点
+     *
+     * @param children 子节点列表
+     * @return this
+     */
+    public CompactTree<T> setChildren(List<CompactTree<T>> children) {
+        this.children = children;
+        return this;
+    }
+
+    /**
+     * 增加子节点，同时关联子节点的父节点为当前节点，添加后排序一次
+     *
+     * @param children 子节点列表
+     * @return this
+     */
+    @SafeVarargs
+    public final CompactTree<T> addChildren(CompactTree<T>... children) {
+        if (children.length > 0) {
+            if (null == this.children) {
+                this.children = new ArrayList<>(children.length);
+            }
+            for (CompactTree<T> child : children) {
+                child.setParent(this);
+                this.children.add(child);
+            }
+            Collections.sort(this.children);
+        }
+        return this;
+    }
+
+    /**
+     * 扩展属性
+     *
+     * @param key   键
+     * @param value 扩展值
+     */
+    public void putExtra(String key, Object value) {
+        if (key.length() == 0) {
+            throw new RuntimeException("Key must be not empty !");
+        }
+        if (null == extra) {
+            extra = new LinkedHashMap<>(4);
+        }
+        extra.put(key, value);
+    }
+
+    /**
+     * 获取扩展属性
+     *
+     * @param key 键
+     * @return 扩展值
+     */
+    public Object getExtra(String key) {
+        return null == extra ? null : extra.get(key);
+    }
+
+    /**
+     * 获取所有扩展属性
+     *
+     * @return 扩展属性，不可修改
+     */
+    public Map<String, Object> getExtra() {
+        return null == extra ? Collections.emptyMap() : Collections.unmodifiableMap(extra);
+    }
+
+    /**
+     * 获取ID对应的节点，如果有多个ID相同的节点，只返回第一个。<br>
+     * 此方法只查找此节点及子节点，采用深度优先遍历。
+     *
+     * @param id ID
+     * @return 节点
+     */
+    public CompactTree<T> getNode(T id) {
+        final Deque<CompactTree<T>> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            final CompactTree<T> current = stack.pop();
+            if (Objects.equals(id, current.getId())) {
+                return current;
+            }
+            if (null != current.children) {
+                final ListIterator<CompactTree<T>> iterator = current.children.listIterator(current.children.size());
+                while (iterator.hasPrevious()) {
+                    stack.push(iterator.previous());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取所有父节点名称列表
+     *
+     * @param includeCurrentNode 是否包含当前节点的名称
+     * @return 所有父节点名称列表
+     */
+    public List<CharSequence> getParentsName(boolean includeCurrentNode) {
+        final List<CharSequence> result = new ArrayList<>();
+        if (includeCurrentNode) {
+            result.add(this.name);
+        }
+        CompactTree<T> current = this.parent;
+        while (null != current) {
+            result.add(current.name);
+            current = current.parent;
+        }
+        return result;
+    }
+
+    @Override
+    public int compareTo(Node node) {
+        Comparable weight = this.getWeight();
+        if (null != weight) {
+            Comparable weightOther = node.getWeight();
+            return treeNodeConfig.getReversed() ? weightOther.compareTo(weight) : weight.compareTo(weightOther);
+        } else {
+            return 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompactTree{id=" + id + ", parentId=" + parentId + ", name=" + name + ", weight=" + weight
+                + (null == extra ? "" : ", extra=" + extra)
+                + (null == children ? "" : ", children=" + children.size())
+                + "}";
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 将{@link CompactTree}序列化为与{@link Tree}相同结构的JSON，属性名取自{@link TreeNodeConfig}，值为null的属性不输出
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+@SuppressWarnings("rawtypes")
+public class CompactTreeSerializer extends StdSerializer<CompactTree> {
+
+    private static final long serialVersionUID = 1L;
+
+    public CompactTreeSerializer() {
+        super(CompactTree.class);
+    }
+
+    @Override
+    public void serialize(CompactTree tree, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final TreeNodeConfig config = tree.getConfig();
+        gen.writeStartObject(tree);
+        writeField(config.getIdKey(), tree.getId(), gen, provider);
+        writeField(config.getParentIdKey(), tree.getParentId(), gen, provider);
+        writeField(config.getWeightKey(), tree.getWeight(), gen, provider);
+        if (null != tree.getName()) {
+            gen.writeStringField(config.getNameKey(), tree.getName().toString());
+        }
+        for (Object entry : tree.getExtra().entrySet()) {
+            final Map.Entry extra = (Map.Entry) entry;
+            provider.defaultSerializeField((String) extra.getKey(), extra.getValue(), gen);
+        }
+        final List children = tree.getChildren();
+        if (null != children && !children.isEmpty()) {
+            gen.writeArrayFieldStart(config.getChildrenKey());
+            for (Object child : children) {
+                serialize((CompactTree) child, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeField(String name, Object value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (null != value) {
+            provider.defaultSerializeField(name, value, gen);
+        }
+    }
+}
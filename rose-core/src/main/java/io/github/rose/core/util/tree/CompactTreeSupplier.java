@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link CompactTree}构建器，节点按ID哈希索引，相同权重的兄弟节点保持源数据顺序
+ *
+ * <p>构建流程与{@link TreeSupplier#ofHashed(Object, TreeNodeConfig)}相同，仅节点的存储方式不同。
+ *
+ * @param <E> ID类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class CompactTreeSupplier<E> implements Supplier<CompactTree<E>> {
+
+    private final TreeAssembler<E, CompactTree<E>> assembler;
+
+    /**
+     * 构造
+     *
+     * @param rootId 根节点ID
+     * @param config 配置
+     */
+    public CompactTreeSupplier(E rootId, TreeNodeConfig config) {
+        final CompactTree<E> root = new CompactTree<>(config);
+        root.setId(rootId);
+        this.assembler = new TreeAssembler<E, CompactTree<E>>(root, root.getConfig(), new LinkedHashMap<>()) {
+            @Override
+            CompactTree<E> newNode(TreeNodeConfig config) {
+                return new CompactTree<>(config);
+            }
+
+            @Override
+            List<CompactTree<E>> getChildren(CompactTree<E> node) {
+                return node.getChildren();
+            }
+
+            @Override
+            void setChildren(CompactTree<E> node, List<CompactTree<E>> children) {
+                node.setChildren(children);
+            }
+
+            @Override
+            void setParent(CompactTree<E> node, CompactTree<E> parent) {
+                node.setParent(parent);
+            }
+        };
+    }
+
+    /**
+     * 创建CompactTree构建器
+     *
+     * @param rootId 根节点ID
+     * @param config 配置
+     * @param <T>    ID类型
+     * @return {@link CompactTreeSupplier}
+     */
+    public static <T> CompactTreeSupplier<T> of(T rootId, TreeNodeConfig config) {
+        return new CompactTreeSupplier<>(rootId, config);
+    }
+
+    /**
+     * 使用fork/join并行转换{@link #append(List, CompactNodeParser)}的源数据，节点转换器需线程安全
+     *
+     * @return this
+     */
+    public CompactTreeSupplier<E> parallel() {
+        assembler.parallel();
+        return this;
+    }
+
+    /**
+     * 增加节点列表，增加的节点是不带子节点的
+     *
+     * @param trees 节点列表
+     * @return this
+     */
+    public CompactTreeSupplier<E> append(Iterable<CompactTree<E>> trees) {
+        for (CompactTree<E> tree : trees) {
+            assembler.put(tree);
+        }
+        return this;
+    }
+
+    /**
+     * 增加节点列表，增加的节点是不带子节点的
+     *
+     * @param list       Bean列表
+     * @param <T>        Bean类型
+     * @param nodeParser 节点转换器，用于定义一个Bean如何转换为CompactTree节点
+     * @return this
+     */
+    public <T> CompactTreeSupplier<E> append(List<T> list, CompactNodeParser<T, E> nodeParser) {
+        assembler.append(list, nodeParser::parse);
+        return this;
+    }
+
+    /**
+     * 重置Builder，实现复用
+     *
+     * @return this
+     */
+    public CompactTreeSupplier<E> reset() {
+        assembler.reset();
+        return this;
+    }
+
+    @Override
+    public CompactTree<E> get() {
+        return assembler.build();
+    }
+
+    /**
+     * 构建树列表，没有顶层节点
+     *
+     * @return 树列表
+     */
+    public List<CompactTree<E>> buildList() {
+        final List<CompactTree<E>> children =
+                assembler.isBuild() ? assembler.getRoot().getChildren() : get().getChildren();
+        return null == children ? new ArrayList<>() : children;
+    }
+}
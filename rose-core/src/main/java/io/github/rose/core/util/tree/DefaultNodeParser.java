@@ -24,7 +24,7 @@ import org.apache.commons.lang3.ObjectUtils;
  * @param <T> ID类型
  * @author liangbaikai
  */
-public class DefaultNodeParser<T> implements NodeParser<TreeNode<T>, T> {
+public class DefaultNodeParser<T> implements NodeParser<TreeNode<T>, T>, CompactNodeParser<TreeNode<T>, T> {
 
     @Override
     public void parse(TreeNode<T> treeNode, Tree<T> tree) {
@@ -39,4 +39,18 @@ public class DefaultNodeParser<T> implements NodeParser<TreeNode<T>, T> {
             extra.forEach(tree::putExtra);
         }
     }
+
+    @Override
+    public void parse(TreeNode<T> treeNode, CompactTree<T> tree) {
+        tree.setId(treeNode.getId());
+        tree.setParentId(treeNode.getParentId());
+        tree.setWeight(treeNode.getWeight());
+        tree.setName(treeNode.getName());
+
+        // 扩展字段
+        final Map<String, Object> extra = treeNode.getExtra();
+        if (ObjectUtils.isNotEmpty(extra)) {
+            extra.forEach(tree::putExtra);
+        }
+    }
 }
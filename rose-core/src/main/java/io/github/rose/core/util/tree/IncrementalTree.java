@@ -0,0 +1,324 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 支持增量修改的树，避免节点变更时从完整列表重新构建。
+ *
+ * <p>维护ID到节点的映射，插入、移动、删除和修改权重的代价为O(深度 + 兄弟节点数)，删除子树时还需移除子树中所有节点的映射。
+ * 兄弟节点始终按权重有序，相同权重时后加入的节点排在后面，与{@link TreeSupplier}构建的结果一致。
+ * {@link #index()}返回的{@link TreeIndex}在修改后失效，下次调用时重新构建。
+ *
+ * <p>此类不是线程安全的，并发修改需要外部同步；监听器在修改完成后同步调用。
+ *
+ * @param <E> ID类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class IncrementalTree<E> {
+
+    private final Tree<E> root;
+
+    private final Map<E, Tree<E>> nodes = new HashMap<>();
+
+    private final List<TreeChangeListener<E>> listeners = new CopyOnWriteArrayList<>();
+
+    private TreeIndex<E> index;
+
+    /**
+     * 构造
+     *
+     * @param root 根节点，可以是{@link TreeSupplier}构建的树
+     */
+    public IncrementalTree(Tree<E> root) {
+        this.root = Objects.requireNonNull(root, "Root must not be null");
+        register(root);
+    }
+
+    /**
+     * 创建支持增量修改的树
+     *
+     * @param root 根节点
+     * @param <E>  ID类型
+     * @return {@link IncrementalTree}
+     */
+    public static <E> IncrementalTree<E> of(Tree<E> root) {
+        return new IncrementalTree<>(root);
+    }
+
+    /**
+     * 创建只有根节点的树
+     *
+     * @param rootId 根节点ID
+     * @param config 配置
+     * @param <E>    ID类型
+     * @return {@link IncrementalTree}
+     */
+    public static <E> IncrementalTree<E> of(E rootId, TreeNodeConfig config) {
+        return new IncrementalTree<>(new Tree<E>(config).setId(rootId));
+    }
+
+    /**
+     * 添加监听器
+     *
+     * @param listener 监听器
+     * @return this
+     */
+    public IncrementalTree<E> addListener(TreeChangeListener<E> listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * 移除监听器
+     *
+     * @param listener 监听器
+     */
+    public void removeListener(TreeChangeListener<E> listener) {
+        listeners.remove(listener);
+    }
+
+    public Tree<E> getRoot() {
+        return root;
+    }
+
+    /**
+     * 获取ID对应的节点
+     *
+     * @param id ID
+     * @return 节点，不存在时返回null
+     */
+    public Tree<E> getNode(E id) {
+        return nodes.get(id);
+    }
+
+    public boolean contains(E id) {
+        return nodes.containsKey(id);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 判断ancestorId对应的节点是否为descendantId对应节点的祖先，沿父节点查找，代价为O(深度)
+     *
+     * @param ancestorId   祖先ID
+     * @param descendantId 后代ID
+     * @return 是否为祖先
+     */
+    public boolean isAncestor(E ancestorId, E descendantId) {
+        final Tree<E> ancestor = nodes.get(ancestorId);
+        final Tree<E> descendant = nodes.get(descendantId);
+        if (null == ancestor || null == descendant) {
+            return false;
+        }
+        for (Tree<E> current = descendant.getParent(); null != current; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取当前树的索引，树未修改时返回同一个索引
+     *
+     * @return 索引
+     */
+    public TreeIndex<E> index() {
+        if (null == index) {
+            index = TreeIndex.of(root);
+        }
+        return index;
+    }
+
+    /**
+     * 插入节点，父节点由{@link Tree#getParentId()}确定，节点可以带有子节点
+     *
+     * @param node 节点
+     * @return 插入的节点
+     * @throws IllegalArgumentException 父节点不存在或ID已存在时
+     */
+    public Tree<E> insert(Tree<E> node) {
+        final Tree<E> parent = requireNode(node.getParentId());
+        checkAbsent(node);
+        register(node);
+        attach(parent, node);
+        fire(new TreeChangeEvent<>(TreeChangeEvent.Type.INSERT, node, null, parent));
+        return node;
+    }
+
+    /**
+     * 移动子树到新的父节点下
+     *
+     * @param id          子树根节点ID
+     * @param newParentId 新的父节点ID
+     * @return 移动的节点
+     * @throws IllegalArgumentException 节点不存在、移动根节点或移动到自身子树下时
+     */
+    public Tree<E> move(E id, E newParentId) {
+        final Tree<E> node = requireNonRoot(id);
+        final Tree<E> newParent = requireNode(newParentId);
+        if (newParent == node || isAncestor(id, newParentId)) {
+            throw new IllegalArgumentException("Cannot move node " + id + " under its own subtree");
+        }
+        final Tree<E> previousParent = node.getParent();
+        detach(previousParent, node);
+        attach(newParent, node);
+        fire(new TreeChangeEvent<>(TreeChangeEvent.Type.MOVE, node, previousParent, newParent));
+        return node;
+    }
+
+    /**
+     * 删除子树
+     *
+     * @param id 子树根节点ID
+     * @return 删除的节点，不存在时返回null
+     * @throws IllegalArgumentException 删除根节点时
+     */
+    public Tree<E> remove(E id) {
+        if (!nodes.containsKey(id)) {
+            return null;
+        }
+        final Tree<E> node = requireNonRoot(id);
+        final Tree<E> previousParent = node.getParent();
+        detach(previousParent, node);
+        unregister(node);
+        node.setParent(null);
+        fire(new TreeChangeEvent<>(TreeChangeEvent.Type.REMOVE, node, previousParent, null));
+        return node;
+    }
+
+    /**
+     * 修改节点权重，并调整其在兄弟节点中的位置
+     *
+     * @param id     节点ID
+     * @param weight 权重
+     * @return 修改的节点
+     */
+    public Tree<E> updateWeight(E id, Comparable<?> weight) {
+        final Tree<E> node = requireNode(id);
+        node.setWeight(weight);
+        final Tree<E> parent = node.getParent();
+        if (null != parent) {
+            detach(parent, node);
+            attach(parent, node);
+        }
+        fire(new TreeChangeEvent<>(TreeChangeEvent.Type.UPDATE_WEIGHT, node, parent, parent));
+        return node;
+    }
+
+    /**
+     * 在第一个权重大于节点的兄弟节点之前插入，保持与稳定排序一致的顺序
+     */
+    @SuppressWarnings("unchecked")
+    private void attach(Tree<E> parent, Tree<E> node) {
+        List<Tree<E>> children = (List<Tree<E>>) parent.get(parent.getConfig().getChildrenKey());
+        if (null == children) {
+            children = new ArrayList<>();
+            parent.setChildren(children);
+        }
+        final ListIterator<Tree<E>> iterator = children.listIterator();
+        while (iterator.hasNext()) {
+            if (node.compareTo(iterator.next()) < 0) {
+                iterator.previous();
+                break;
+            }
+        }
+        iterator.add(node);
+        node.setParent(parent);
+    }
+
+    private void detach(Tree<E> parent, Tree<E> node) {
+        final List<Tree<E>> children = parent.getChildren();
+        final ListIterator<Tree<E>> iterator = children.listIterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == node) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private void register(Tree<E> subtree) {
+        forEach(subtree, node -> nodes.put(node.getId(), node));
+    }
+
+    private void unregister(Tree<E> subtree) {
+        forEach(subtree, node -> nodes.remove(node.getId()));
+    }
+
+    private void checkAbsent(Tree<E> subtree) {
+        forEach(subtree, node -> {
+            if (nodes.containsKey(node.getId())) {
+                throw new IllegalArgumentException("Node " + node.getId() + " already exists");
+            }
+        });
+    }
+
+    /**
+     * 使用显式栈遍历子树，避免深层级时栈溢出
+     */
+    private static <E> void forEach(Tree<E> subtree, Consumer<Tree<E>> action) {
+        final Deque<Tree<E>> stack = new ArrayDeque<>();
+        stack.push(subtree);
+        while (!stack.isEmpty()) {
+            final Tree<E> node = stack.pop();
+            action.accept(node);
+            final List<Tree<E>> children = node.getChildren();
+            if (null != children) {
+                for (Tree<E> child : children) {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    private Tree<E> requireNode(E id) {
+        final Tree<E> node = nodes.get(id);
+        if (null == node) {
+            throw new IllegalArgumentException("Node " + id + " does not exist");
+        }
+        return node;
+    }
+
+    private Tree<E> requireNonRoot(E id) {
+        final Tree<E> node = requireNode(id);
+        if (node == root) {
+            throw new IllegalArgumentException("Cannot move or remove the root node");
+        }
+        return node;
+    }
+
+    private void fire(TreeChangeEvent<E> event) {
+        this.index = null;
+        for (TreeChangeListener<E> listener : listeners) {
+            listener.onChange(event);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * {@link TreeSupplier}与{@link CompactTreeSupplier}共用的构建流程：转换源数据、一次遍历关联父子节点、排序兄弟节点及剪枝
+ *
+ * <p>节点的创建及父子节点的存取由子类按节点的存储方式实现。
+ *
+ * @param <E> ID类型
+ * @param <N> 节点类型
+ */
+abstract class TreeAssembler<E, N extends Node<E>> {
+
+    private final N root;
+
+    private final TreeNodeConfig config;
+
+    private final Map<E, N> idTreeMap;
+
+    private boolean parallel;
+
+    private boolean isBuild;
+
+    /**
+     * 构造
+     *
+     * @param root      根节点
+     * @param config    根节点的配置
+     * @param idTreeMap 按ID索引节点的map，其遍历顺序决定相同权重的兄弟节点的顺序
+     */
+    TreeAssembler(N root, TreeNodeConfig config, Map<E, N> idTreeMap) {
+        this.root = root;
+        this.config = config;
+        this.idTreeMap = idTreeMap;
+    }
+
+    /**
+     * 创建节点
+     *
+     * @param config 配置
+     * @return 节点
+     */
+    abstract N newNode(TreeNodeConfig config);
+
+    /**
+     * 获取子节点列表
+     *
+     * @param node 节点
+     * @return 子节点列表，没有子节点时返回null或空列表
+     */
+    abstract List<N> getChildren(N node);
+
+    /**
+     * 设置子节点列表
+     *
+     * @param node     节点
+     * @param children 子节点列表
+     */
+    abstract void setChildren(N node, List<N> children);
+
+    /**
+     * 设置父节点
+     *
+     * @param node   节点
+     * @param parent 父节点
+     */
+    abstract void setParent(N node, N parent);
+
+    N getRoot() {
+        return root;
+    }
+
+    boolean isBuild() {
+        return isBuild;
+    }
+
+    void parallel() {
+        checkBuilt();
+        this.parallel = true;
+    }
+
+    void putAll(Map<E, ? extends N> map) {
+        checkBuilt();
+        this.idTreeMap.putAll(map);
+    }
+
+    void put(N node) {
+        checkBuilt();
+        this.idTreeMap.put(node.getId(), node);
+    }
+
+    /**
+     * 转换并增加节点，开启并行且节点较多时使用fork/join并行转换
+     *
+     * @param list   Bean列表
+     * @param parser 节点转换器
+     * @param <T>    Bean类型
+     */
+    <T> void append(List<T> list, BiConsumer<T, N> parser) {
+        checkBuilt();
+
+        if (parallel && list.size() >= TreeSupplier.PARALLEL_THRESHOLD) {
+            final List<T> source = list instanceof RandomAccess ? list : new ArrayList<>(list);
+            final List<N> nodes = new ArrayList<>(Collections.nCopies(source.size(), null));
+            IntStream.range(0, source.size()).parallel().forEach(i -> {
+                final N node = newNode(config);
+                parser.accept(source.get(i), node);
+                nodes.set(i, node);
+            });
+            for (N node : nodes) {
+                this.idTreeMap.put(node.getId(), node);
+            }
+            return;
+        }
+
+        N node;
+        for (T t : list) {
+            node = newNode(config);
+            parser.accept(t, node);
+            this.idTreeMap.put(node.getId(), node);
+        }
+    }
+
+    void reset() {
+        this.idTreeMap.clear();
+        setChildren(this.root, null);
+        this.isBuild = false;
+    }
+
+    N build() {
+        checkBuilt();
+
+        buildFromMap();
+        cutTree();
+
+        this.isBuild = true;
+        this.idTreeMap.clear();
+
+        return root;
+    }
+
+    /**
+     * 开始构建，一次遍历关联父子节点，最后对每个兄弟节点列表排序一次
+     */
+    private void buildFromMap() {
+        if (ObjectUtils.isEmpty(this.idTreeMap)) {
+            return;
+        }
+
+        final Map<E, N> eTreeMap = idTreeMap;
+        final Set<List<N>> siblings = Collections.newSetFromMap(new IdentityHashMap<>());
+        E parentId;
+        for (N node : eTreeMap.values()) {
+            if (null == node) {
+                continue;
+            }
+            parentId = node.getParentId();
+            final N parentNode = Objects.equals(this.root.getId(), parentId) ? this.root : eTreeMap.get(parentId);
+            if (null != parentNode) {
+                link(parentNode, node, siblings);
+            }
+        }
+
+        // 排序是稳定的，结果与每次添加子节点后排序一致
+        for (List<N> children : siblings) {
+            if (children.size() > 1) {
+                Collections.sort(children);
+            }
+        }
+    }
+
+    /**
+     * 关联父子节点，不排序
+     */
+    private void link(N parent, N child, Set<List<N>> siblings) {
+        List<N> children = getChildren(parent);
+        if (null == children) {
+            children = new ArrayList<>();
+            setChildren(parent, children);
+        }
+        siblings.add(children);
+        setParent(child, parent);
+        children.add(child);
+    }
+
+    /**
+     * 树剪枝，逐层遍历，避免深层级时栈溢出
+     */
+    private void cutTree() {
+        final Integer deep = config.getDeep();
+        if (null == deep || deep < 0) {
+            return;
+        }
+
+        Deque<N> level = new ArrayDeque<>();
+        level.add(this.root);
+        for (int currentDeep = 0; !level.isEmpty(); currentDeep++) {
+            if (currentDeep == deep) {
+                // 剪枝
+                for (N tree : level) {
+                    setChildren(tree, null);
+                }
+                return;
+            }
+            final Deque<N> next = new ArrayDeque<>();
+            for (N tree : level) {
+                final List<N> children = getChildren(tree);
+                if (ObjectUtils.isNotEmpty(children)) {
+                    next.addAll(children);
+                }
+            }
+            level = next;
+        }
+    }
+
+    /**
+     * 检查是否已经构建
+     */
+    private void checkBuilt() {
+        if (isBuild) {
+            throw new RuntimeException("Current tree has been built.");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 树变更事件
+ *
+ * @param <E> ID类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class TreeChangeEvent<E> {
+
+    private final Type type;
+
+    private final Tree<E> node;
+
+    private final Tree<E> previousParent;
+
+    private final Tree<E> parent;
+
+    public TreeChangeEvent(Type type, Tree<E> node, Tree<E> previousParent, Tree<E> parent) {
+        this.type = type;
+        this.node = node;
+        this.previousParent = previousParent;
+        this.parent = parent;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 变更的节点，移动和删除时为子树的根节点
+     *
+     * @return 节点
+     */
+    public Tree<E> getNode() {
+        return node;
+    }
+
+    /**
+     * 变更前的父节点，插入时为null
+     *
+     * @return 父节点
+     */
+    public Tree<E> getPreviousParent() {
+        return previousParent;
+    }
+
+    /**
+     * 变更后的父节点，删除时为null
+     *
+     * @return 父节点
+     */
+    public Tree<E> getParent() {
+        return parent;
+    }
+
+    /**
+     * 渲染结果受影响的节点ID，即变更前后父节点及其所有祖先，其它子树的缓存无需失效
+     *
+     * @return 受影响的节点ID，由近及远
+     */
+    public Set<E> getAffectedIds() {
+        final Set<E> ids = new LinkedHashSet<>();
+        if (Type.UPDATE_WEIGHT == type) {
+            ids.add(node.getId());
+        }
+        for (Tree<E> current = previousParent; null != current; current = current.getParent()) {
+            ids.add(current.getId());
+        }
+        for (Tree<E> current = parent; null != current; current = current.getParent()) {
+            ids.add(current.getId());
+        }
+        return ids;
+    }
+
+    @Override
+    public String toString() {
+        return "TreeChangeEvent{type=" + type + ", id=" + node.getId() + "}";
+    }
+
+    /**
+     * 变更类型
+     */
+    public enum Type {
+        INSERT,
+        MOVE,
+        REMOVE,
+        UPDATE_WEIGHT
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+/**
+ * 树变更监听器，可用于按需失效受影响子树的缓存
+ *
+ * @param <E> ID类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface TreeChangeListener<E> {
+
+    /**
+     * 树发生变更
+     *
+     * @param event 变更事件
+     */
+    void onChange(TreeChangeEvent<E> event);
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 不可变的树索引，构建一次后可在多线程间共享，适合按租户缓存。
+ *
+ * <p>节点按先序遍历编号，编号即欧拉序的进入时间，同时记录子树最后一个节点的编号作为离开时间，因此：
+ *
+ * <ul>
+ *   <li>按ID查找节点为O(1)
+ *   <li>判断祖先/后代关系为O(1)
+ *   <li>某节点的所有后代是先序序列中连续的一段，获取后代列表为O(1)的视图
+ * </ul>
+ *
+ * <p>构建后对树的修改不会反映到索引中，需要重新构建。ID重复时与{@link TreeUtil#getNode(Tree, Object)}一致，使用先序遍历中的第一个节点。
+ *
+ * @param <E> ID类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class TreeIndex<E> {
+
+    private final List<Node<E>> nodes;
+
+    private final Map<E, Integer> positions;
+
+    private final int[] exits;
+
+    private final int[] depths;
+
+    private final int[] parents;
+
+    private <N extends Node<E>> TreeIndex(N root, Function<N, List<N>> childrenGetter) {
+        final List<Node<E>> preOrder = new ArrayList<>();
+        int[] parentArray = new int[16];
+
+        // 显式栈先序遍历，避免深层级时栈溢出
+        final Deque<N> stack = new ArrayDeque<>();
+        final Deque<Integer> parentStack = new ArrayDeque<>();
+        stack.push(root);
+        parentStack.push(-1);
+        while (!stack.isEmpty()) {
+            final N node = stack.pop();
+            final int position = preOrder.size();
+            if (position == parentArray.length) {
+                parentArray = Arrays.copyOf(parentArray, position * 2);
+            }
+            preOrder.add(node);
+            parentArray[position] = parentStack.pop();
+
+            final List<N> children = childrenGetter.apply(node);
+            if (null != children) {
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    stack.push(children.get(i));
+                    parentStack.push(position);
+                }
+            }
+        }
+
+        final int size = preOrder.size();
+        this.nodes = Collections.unmodifiableList(preOrder);
+        this.positions = new HashMap<>(size * 4 / 3 + 1);
+        this.parents = Arrays.copyOf(parentArray, size);
+        this.depths = new int[size];
+        this.exits = new int[size];
+        for (int i = 0; i < size; i++) {
+            this.positions.putIfAbsent(preOrder.get(i).getId(), i);
+            // 父节点总在子节点之前
+            this.depths[i] = this.parents[i] < 0 ? 0 : this.depths[this.parents[i]] + 1;
+            this.exits[i] = i;
+        }
+        // 逆先序回填离开时间：子树的最后一个节点编号
+        for (int i = size - 1; i > 0; i--) {
+            final int parent = this.parents[i];
+            if (this.exits[i] > this.exits[parent]) {
+                this.exits[parent] = this.exits[i];
+            }
+        }
+    }
+
+    /**
+     * 为{@link Tree}构建索引
+     *
+     * @param root 根节点
+     * @param <E>  ID类型
+     * @return 索引
+     */
+    public static <E> TreeIndex<E> of(Tree<E> root) {
+        return new TreeIndex<>(root, Tree::getChildren);
+    }
+
+    /**
+     * 为{@link CompactTree}构建索引
+     *
+     * @param root 根节点
+     * @param <E>  ID类型
+     * @return 索引
+     */
+    public static <E> TreeIndex<E> of(CompactTree<E> root) {
+        return new TreeIndex<>(root, CompactTree::getChildren);
+    }
+
+    /**
+     * 节点数量，包含根节点
+     *
+     * @return 节点数量
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 是否包含ID对应的节点
+     *
+     * @param id ID
+     * @return 是否包含
+     */
+    public boolean contains(E id) {
+        return positions.containsKey(id);
+    }
+
+    /**
+     * 获取ID对应的节点
+     *
+     * @param id ID
+     * @return 节点，不存在时返回null
+     */
+    public Node<E> getNode(E id) {
+        final Integer position = positions.get(id);
+        return null == position ? null : nodes.get(position);
+    }
+
+    /**
+     * 获取父节点
+     *
+     * @param id ID
+     * @return 父节点，节点不存在或为根节点时返回null
+     */
+    public Node<E> getParent(E id) {
+        final Integer position = positions.get(id);
+        if (null == position || parents[position] < 0) {
+            return null;
+        }
+        return nodes.get(parents[position]);
+    }
+
+    /**
+     * 获取节点深度，根节点为0
+     *
+     * @param id ID
+     * @return 深度，节点不存在时返回-1
+     */
+    public int getDepth(E id) {
+        final Integer position = positions.get(id);
+        return null == position ? -1 : depths[position];
+    }
+
+    /**
+     * 判断ancestorId对应的节点是否为descendantId对应节点的祖先，节点不是自身的祖先
+     *
+     * @param ancestorId   祖先ID
+     * @param descendantId 后代ID
+     * @return 是否为祖先
+     */
+    public boolean isAncestor(E ancestorId, E descendantId) {
+        final Integer ancestor = positions.get(ancestorId);
+        final Integer descendant = positions.get(descendantId);
+        return null != ancestor && null != descendant && ancestor < descendant && descendant <= exits[ancestor];
+    }
+
+    /**
+     * 判断ancestorId对应的节点是否为descendantId对应节点本身或其祖先，例如判断部门X是否属于部门Y
+     *
+     * @param ancestorId   祖先ID
+     * @param descendantId 后代ID
+     * @return 是否为自身或祖先
+     */
+    public boolean isAncestorOrSelf(E ancestorId, E descendantId) {
+        final Integer ancestor = positions.get(ancestorId);
+        final Integer descendant = positions.get(descendantId);
+        return null != ancestor && null != descendant && ancestor <= descendant && descendant <= exits[ancestor];
+    }
+
+    /**
+     * 获取所有后代节点，按先序遍历排列，不包含自身
+     *
+     * @param id ID
+     * @return 后代节点的不可变视图，节点不存在时返回空列表
+     */
+    public List<Node<E>> getDescendants(E id) {
+        final Integer position = positions.get(id);
+        if (null == position) {
+            return Collections.emptyList();
+        }
+        return nodes.subList(position + 1, exits[position] + 1);
+    }
+
+    /**
+     * 获取后代节点数量，不包含自身
+     *
+     * @param id ID
+     * @return 后代节点数量，节点不存在时返回0
+     */
+    public int getDescendantCount(E id) {
+        final Integer position = positions.get(id);
+        return null == position ? 0 : exits[position] - position;
+    }
+
+    /**
+     * 获取所有后代节点的ID，不包含自身
+     *
+     * @param id ID
+     * @return 后代节点ID列表
+     */
+    public List<E> getDescendantIds(E id) {
+        final List<Node<E>> descendants = getDescendants(id);
+        final List<E> ids = new ArrayList<>(descendants.size());
+        for (Node<E> descendant : descendants) {
+            ids.add(descendant.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * 获取所有祖先节点，从父节点到根节点
+     *
+     * @param id ID
+     * @return 祖先节点列表，节点不存在时返回空列表
+     */
+    public List<Node<E>> getAncestors(E id) {
+        final Integer position = positions.get(id);
+        if (null == position) {
+            return Collections.emptyList();
+        }
+        final List<Node<E>> ancestors = new ArrayList<>(depths[position]);
+        for (int parent = parents[position]; parent >= 0; parent = parents[parent]) {
+            ancestors.add(nodes.get(parent));
+        }
+        return ancestors;
+    }
+
+    /**
+     * 获取所有父节点名称列表
+     *
+     * <p>
+     * 比如有个人在研发1部，他上面有研发部，接着上面有技术中心<br>
+     * 返回结果就是：[研发一部, 研发中心, 技术中心]
+     *
+     * @param id                 节点ID
+     * @param includeCurrentNode 是否包含当前节点的名称
+     * @return 所有父节点名称列表，节点不存在时返回空列表
+     */
+    public List<CharSequence> getParentsName(E id, boolean includeCurrentNode) {
+        final Integer position = positions.get(id);
+        if (null == position) {
+            return new ArrayList<>();
+        }
+        final List<CharSequence> result = new ArrayList<>(depths[position] + 1);
+        if (includeCurrentNode) {
+            result.add(nodes.get(position).getName());
+        }
+        for (int parent = parents[position]; parent >= 0; parent = parents[parent]) {
+            result.add(nodes.get(parent).getName());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TreeIndex{size=" + size() + ", maxDepth=" + Arrays.stream(depths).max().orElse(0) + "}";
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * 流式输出树形JSON，不创建{@link Tree}节点对象，适合导出大量数据。
+ *
+ * <p>第一次遍历源数据建立父节点到子节点下标的索引，第二次按深度优先使用显式栈直接写入{@link JsonGenerator}，
+ * 整个过程只复用一个临时节点用于调用{@link NodeParser}，因此节点转换器会对每个元素调用两次，且必须没有副作用。
+ *
+ * <p>输出与{@link TreeSupplier#ofHashed(Object, TreeNodeConfig)}构建后序列化的结果一致，即相同权重的兄弟节点保持源数据顺序；
+ * 使用{@link ObjectMapper}时遵循其{@link SerializationFeature#ORDER_MAP_ENTRIES_BY_KEYS}和非null包含规则。节点ID需唯一。
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class TreeJsonWriter {
+
+    private TreeJsonWriter() {
+        // no instantiation allowed
+    }
+
+    /**
+     * 将树列表写入输出流，输出结构与{@link TreeUtil#build(List, Object, TreeNodeConfig, NodeParser)}的结果序列化一致
+     *
+     * @param out          输出流，写入后不关闭
+     * @param objectMapper 用于序列化属性值
+     * @param list         源数据集合
+     * @param rootId       最顶层父id值 一般为 0 之类
+     * @param config       配置
+     * @param nodeParser   转换器，需无副作用
+     * @param <T>          转换的实体 为数据源里的对象类型
+     * @param <E>          ID类型
+     * @throws IOException 写入失败时
+     */
+    public static <T, E> void write(
+            OutputStream out,
+            ObjectMapper objectMapper,
+            List<T> list,
+            E rootId,
+            TreeNodeConfig config,
+            NodeParser<T, E> nodeParser)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            write(generator, list, rootId, config, nodeParser);
+        }
+    }
+
+    /**
+     * 将树列表写入{@link JsonGenerator}，属性值通过生成器的{@link ObjectCodec}序列化
+     *
+     * @param generator  JSON生成器
+     * @param list       源数据集合
+     * @param rootId     最顶层父id值 一般为 0 之类
+     * @param config     配置
+     * @param nodeParser 转换器，需无副作用
+     * @param <T>        转换的实体 为数据源里的对象类型
+     * @param <E>        ID类型
+     * @throws IOException 写入失败时
+     */
+    public static <T, E> void write(
+            JsonGenerator generator, List<T> list, E rootId, TreeNodeConfig config, NodeParser<T, E> nodeParser)
+            throws IOException {
+        config = ObjectUtils.defaultIfNull(config, TreeNodeConfig.DEFAULT_CONFIG);
+        final Tree<E> scratch = new Tree<>(config);
+        final Index<T, E> index = new Index<>(list, rootId, scratch, nodeParser);
+        final Options options = new Options(generator.getCodec());
+        final String childrenKey = config.getChildrenKey();
+        final Integer deep = config.getDeep();
+        final int maxDepth = null == deep || deep < 0 ? Integer.MAX_VALUE : deep;
+
+        generator.writeStartArray();
+        if (0 == maxDepth) {
+            generator.writeEndArray();
+            return;
+        }
+
+        final Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(index.childrenOf(rootId), 1, Collections.emptyList()));
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.peek();
+            if (frame.position == frame.children.size()) {
+                stack.pop();
+                generator.writeEndArray();
+                if (!stack.isEmpty()) {
+                    // 关闭父节点：先写出排在children之后的属性
+                    writeEntries(generator, frame.trailing, options);
+                    generator.writeEndObject();
+                }
+                continue;
+            }
+
+            final int element = frame.children.get(frame.position++);
+            scratch.clear();
+            nodeParser.parse(list.get(element), scratch);
+            scratch.remove(childrenKey);
+            final boolean cut = frame.depth == maxDepth;
+            final List<Integer> children =
+                    cut || Objects.equals(rootId, index.ids[element]) ? null : index.childrenOf(index.ids[element]);
+
+            final List<Map.Entry<String, Object>> entries = new ArrayList<>(scratch.entrySet());
+            if (cut || null != children) {
+                entries.add(new AbstractMap.SimpleEntry<>(childrenKey, null));
+            }
+            if (options.orderByKeys) {
+                entries.sort(Map.Entry.comparingByKey());
+            }
+
+            generator.writeStartObject();
+            final Iterator<Map.Entry<String, Object>> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<String, Object> entry = iterator.next();
+                if (!childrenKey.equals(entry.getKey())) {
+                    writeEntry(generator, entry, options);
+                } else if (cut) {
+                    writeEntry(generator, entry, options);
+                } else {
+                    // 先写子节点，剩余属性在子节点写完后输出
+                    generator.writeArrayFieldStart(childrenKey);
+                    final List<Map.Entry<String, Object>> trailing = new ArrayList<>();
+                    iterator.forEachRemaining(trailing::add);
+                    stack.push(new Frame(children, frame.depth + 1, trailing));
+                    break;
+                }
+            }
+            if (cut || null == children) {
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    private static void writeEntries(JsonGenerator generator, List<Map.Entry<String, Object>> entries, Options options)
+            throws IOException {
+        for (Map.Entry<String, Object> entry : entries) {
+            writeEntry(generator, entry, options);
+        }
+    }
+
+    private static void writeEntry(JsonGenerator generator, Map.Entry<String, Object> entry, Options options)
+            throws IOException {
+        final Object value = entry.getValue();
+        if (null == value && options.suppressNulls) {
+            return;
+        }
+        generator.writeFieldName(entry.getKey());
+        if (null == value) {
+            generator.writeNull();
+        } else if (value instanceof CharSequence) {
+            generator.writeString(value.toString());
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    /**
+     * 父节点ID到子节点下标的索引，子节点按权重稳定排序
+     */
+    private static final class Index<T, E> {
+        private final Object[] ids;
+        private final Map<Object, List<Integer>> children = new HashMap<>();
+
+        private Index(List<T> list, E rootId, Tree<E> scratch, NodeParser<T, E> nodeParser) {
+            final int size = list.size();
+            final Comparable<?>[] weights = new Comparable<?>[size];
+            this.ids = new Object[size];
+            for (int i = 0; i < size; i++) {
+                scratch.clear();
+                nodeParser.parse(list.get(i), scratch);
+                ids[i] = scratch.getId();
+                weights[i] = scratch.getWeight();
+                children.computeIfAbsent(scratch.getParentId(), k -> new ArrayList<>())
+                        .add(i);
+            }
+            final boolean reversed = Boolean.TRUE.equals(scratch.getConfig().getReversed());
+            for (List<Integer> siblings : children.values()) {
+                if (siblings.size() > 1) {
+                    siblings.sort((a, b) -> compare(weights[a], weights[b], reversed));
+                }
+            }
+        }
+
+        /**
+         * 与{@link Tree#compareTo(Node)}一致
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static int compare(Comparable weight, Comparable weightOther, boolean reversed) {
+            if (null == weight) {
+                return 0;
+            }
+            return reversed ? weightOther.compareTo(weight) : weight.compareTo(weightOther);
+        }
+
+        private List<Integer> childrenOf(Object id) {
+            return children.get(id);
+        }
+    }
+
+    private static final class Frame {
+        private final List<Integer> children;
+        private final int depth;
+        private final List<Map.Entry<String, Object>> trailing;
+        private int position;
+
+        private Frame(List<Integer> children, int depth, List<Map.Entry<String, Object>> trailing) {
+            this.children = null == children ? Collections.emptyList() : children;
+            this.depth = depth;
+            this.trailing = trailing;
+        }
+    }
+
+    /**
+     * 从{@link ObjectMapper}读取影响Map序列化结果的配置
+     */
+    private static final class Options {
+        private final boolean orderByKeys;
+        private final boolean suppressNulls;
+
+        private Options(ObjectCodec codec) {
+            if (codec instanceof ObjectMapper) {
+                final ObjectMapper objectMapper = (ObjectMapper) codec;
+                final JsonInclude.Include inclusion = objectMapper
+                        .getSerializationConfig()
+                        .getDefaultPropertyInclusion()
+                        .getValueInclusion();
+                this.orderByKeys = objectMapper.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+                this.suppressNulls = JsonInclude.Include.ALWAYS != inclusion
+                        && JsonInclude.Include.USE_DEFAULTS != inclusion;
+            } else {
+                this.orderByKeys = false;
+                this.suppressNulls = false;
+            }
+        }
+    }
+}
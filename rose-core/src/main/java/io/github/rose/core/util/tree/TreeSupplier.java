@@ -15,25 +15,28 @@
  */
 package io.github.rose.core.util.tree;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.TreeMap;
 import java.util.function.Supplier;
-import org.apache.commons.lang3.ObjectUtils;
 
 /**
  * 树构建器
  *
+ * <p>默认使用有序map按ID排序节点，ID需实现{@link Comparable}。大数据量时可使用{@link #ofHashed(Object, TreeNodeConfig)}
+ * 创建基于哈希索引的构建器，并通过{@link #parallel()}并行转换源数据。
+ *
  * @param <E> ID类型
  */
 public class TreeSupplier<E> implements Supplier<Tree<E>> {
 
-    private final Tree<E> root;
-
-    private final Map<E, Tree<E>> idTreeMap;
+    /**
+     * 并行转换的最小节点数，节点较少时并行的开销大于收益
+     */
+    public static final int PARALLEL_THRESHOLD = 4096;
 
-    private boolean isBuild;
+    private final TreeAssembler<E, Tree<E>> assembler;
 
     /**
      * 构造
@@ -42,9 +45,44 @@ public class TreeSupplier<E> implements Supplier<Tree<E>> {
      * @param config 配置
      */
     public TreeSupplier(E rootId, TreeNodeConfig config) {
-        root = new Tree<>(config);
+        this(rootId, config, false);
+    }
+
+    /**
+     * 构造
+     *
+     * @param rootId 根节点ID
+     * @param config 配置
+     * @param hashed 是否使用哈希索引，为true时相同权重的兄弟节点保持源数据顺序，否则按ID排序
+     */
+    public TreeSupplier(E rootId, TreeNodeConfig config, boolean hashed) {
+        final Tree<E> root = new Tree<>(config);
         root.setId(rootId);
-        this.idTreeMap = new TreeMap<>(); // 使用有序map
+        // 使用有序map
+        final Map<E, Tree<E>> idTreeMap = hashed ? new LinkedHashMap<>() : new TreeMap<>();
+        this.assembler = new TreeAssembler<E, Tree<E>>(root, root.getConfig(), idTreeMap) {
+            @Override
+            Tree<E> newNode(TreeNodeConfig config) {
+                return new Tree<>(config);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            List<Tree<E>> getChildren(Tree<E> node) {
+                // 不使用getChildren()，其在没有子节点时返回新的列表
+                return (List<Tree<E>>) node.get(node.getConfig().getChildrenKey());
+            }
+
+            @Override
+            void setChildren(Tree<E> node, List<Tree<E>> children) {
+                node.setChildren(children);
+            }
+
+            @Override
+            void setParent(Tree<E> node, Tree<E> parent) {
+                node.setParent(parent);
+            }
+        };
     }
 
     /**
@@ -70,6 +108,28 @@ public class TreeSupplier<E> implements Supplier<Tree<E>> {
         return new TreeSupplier<>(rootId, config);
     }
 
+    /**
+     * 创建基于哈希索引的Tree构建器，ID无需实现{@link Comparable}，相同权重的兄弟节点保持源数据顺序
+     *
+     * @param rootId 根节点ID
+     * @param config 配置
+     * @param <T>    ID类型
+     * @return {@link TreeSupplier}
+     */
+    public static <T> TreeSupplier<T> ofHashed(T rootId, TreeNodeConfig config) {
+        return new TreeSupplier<>(rootId, config, true);
+    }
+
+    /**
+     * 使用fork/join并行转换{@link #append(List, NodeParser)}的源数据，节点转换器需线程安全
+     *
+     * @return this
+     */
+    public TreeSupplier<E> parallel() {
+        assembler.parallel();
+        return this;
+    }
+
     /**
      * 增加节点列表，增加的节点是不带子节点的
      *
@@ -77,8 +137,7 @@ public class TreeSupplier<E> implements Supplier<Tree<E>> {
      * @return this
      */
     public TreeSupplier<E> append(Map<E, Tree<E>> map) {
-        checkBuilt();
-        this.idTreeMap.putAll(map);
+        assembler.putAll(map);
         return this;
     }
 
@@ -89,10 +148,8 @@ public class TreeSupplier<E> implements Supplier<Tree<E>> {
      * @return this
      */
     public TreeSupplier<E> append(Iterable<Tree<E>> trees) {
-        checkBuilt();
-
         for (Tree<E> tree : trees) {
-            this.idTreeMap.put(tree.getId(), tree);
+            assembler.put(tree);
         }
         return this;
     }
@@ -106,17 +163,8 @@ public class TreeSupplier<E> implements Supplier<Tree<E>> {
      * @return this
      */
     public <T> TreeSupplier<E> append(List<T> list, NodeParser<T, E> nodeParser) {
-        checkBuilt();
-
-        final TreeNodeConfig config = this.root.getConfig();
-        final Map<E, Tree<E>> map = new TreeMap<>(); // 使用有序map
-        Tree<E> node;
-        for (T t : list) {
-            node = new Tree<>(config);
-            nodeParser.parse(t, node);
-            map.put(node.getId(), node);
-        }
-        return append(map);
+        assembler.append(list, nodeParser::parse);
+        return this;
     }
 
     /**
@@ -125,23 +173,13 @@ public class TreeSupplier<E> implements Supplier<Tree<E>> {
      * @return this
      */
     public TreeSupplier<E> reset() {
-        this.idTreeMap.clear();
-        this.root.setChildren(null);
-        this.isBuild = false;
+        assembler.reset();
         return this;
     }
 
     @Override
     public Tree<E> get() {
-        checkBuilt();
-
-        buildFromMap();
-        cutTree();
-
-        this.isBuild = true;
-        this.idTreeMap.clear();
-
-        return root;
+        return assembler.build();
     }
 
     /**
@@ -159,85 +197,10 @@ public class TreeSupplier<E> implements Supplier<Tree<E>> {
      * @return 树列表
      */
     public List<Tree<E>> buildList() {
-        if (isBuild) {
+        if (assembler.isBuild()) {
             // 已经构建过了
-            return this.root.getChildren();
+            return assembler.getRoot().getChildren();
         }
         return get().getChildren();
     }
-
-    /**
-     * 开始构建
-     */
-    private void buildFromMap() {
-        if (ObjectUtils.isEmpty(this.idTreeMap)) {
-            return;
-        }
-
-        final Map<E, Tree<E>> eTreeMap = idTreeMap; // 使用有序map
-        // MapUtils.sortByValue(this.idTreeMap,
-        // false);
-        E parentId;
-        for (Tree<E> node : eTreeMap.values()) {
-            if (null == node) {
-                continue;
-            }
-            parentId = node.getParentId();
-            if (Objects.equals(this.root.getId(), parentId)) {
-                this.root.addChildren(node);
-                continue;
-            }
-
-            final Tree<E> parentNode = eTreeMap.get(parentId);
-            if (null != parentNode) {
-                parentNode.addChildren(node);
-            }
-        }
-    }
-
-    /**
-     * 树剪枝
-     */
-    private void cutTree() {
-        final TreeNodeConfig config = this.root.getConfig();
-        final Integer deep = config.getDeep();
-        if (null == deep || deep < 0) {
-            return;
-        }
-        cutTree(this.root, 0, deep);
-    }
-
-    /**
-     * 树剪枝叶
-     *
-     * @param tree        节点
-     * @param currentDepp 当前层级
-     * @param maxDeep     最大层级
-     */
-    private void cutTree(Tree<E> tree, int currentDepp, int maxDeep) {
-        if (null == tree) {
-            return;
-        }
-        if (currentDepp == maxDeep) {
-            // 剪枝
-            tree.setChildren(null);
-            return;
-        }
-
-        final List<Tree<E>> children = tree.getChildren();
-        if (ObjectUtils.isNotEmpty(children)) {
-            for (Tree<E> child : children) {
-                cutTree(child, currentDepp + 1, maxDeep);
-            }
-        }
-    }
-
-    /**
-     * 检查是否已经构建
-     */
-    private void checkBuilt() {
-        if (isBuild) {
-            throw new RuntimeException("Current tree has been built.");
-        }
-    }
 }
@@ -151,6 +151,54 @@ public class TreeUtil {
         return createEmptyNode(rootId);
     }
 
+    /**
+     * 紧凑树构建，节点为{@link CompactTree}
+     *
+     * @param <E>    ID类型
+     * @param list   源数据集合
+     * @param rootId 最顶层父id值 一般为 0 之类
+     * @return List
+     */
+    public static <E> List<CompactTree<E>> buildCompact(List<TreeNode<E>> list, E rootId) {
+        return buildCompact(list, rootId, TreeNodeConfig.DEFAULT_CONFIG, new DefaultNodeParser<>());
+    }
+
+    /**
+     * 紧凑树构建，节点为{@link CompactTree}
+     *
+     * @param <T>            转换的实体 为数据源里的对象类型
+     * @param <E>            ID类型
+     * @param list           源数据集合
+     * @param rootId         最顶层父id值 一般为 0 之类
+     * @param treeNodeConfig 配置
+     * @param nodeParser     转换器
+     * @return List
+     */
+    public static <T, E> List<CompactTree<E>> buildCompact(
+            List<T> list, E rootId, TreeNodeConfig treeNodeConfig, CompactNodeParser<T, E> nodeParser) {
+        return CompactTreeSupplier.of(rootId, treeNodeConfig)
+                .append(list, nodeParser)
+                .buildList();
+    }
+
+    /**
+     * 构建单root节点紧凑树
+     *
+     * @param <T>            转换的实体 为数据源里的对象类型
+     * @param <E>            ID类型
+     * @param list           源数据集合
+     * @param rootId         最顶层父id值 一般为 0 之类
+     * @param treeNodeConfig 配置
+     * @param nodeParser     转换器
+     * @return {@link CompactTree}
+     */
+    public static <T, E> CompactTree<E> buildCompactSingle(
+            List<T> list, E rootId, TreeNodeConfig treeNodeConfig, CompactNodeParser<T, E> nodeParser) {
+        return CompactTreeSupplier.of(rootId, treeNodeConfig)
+                .append(list, nodeParser)
+                .get();
+    }
+
     public static <T> T getFirstNoneNull(Iterable<T> iterable) {
         if (null == iterable) {
             return null;
@@ -169,7 +217,7 @@ public class TreeUtil {
 
     /**
      * 获取ID对应的节点，如果有多个ID相同的节点，只返回第一个。<br>
-     * 此方法只查找此节点及子节点，采用递归深度优先遍历。
+     * 此方法只查找此节点及子节点，采用深度优先遍历，使用显式栈避免深层级时栈溢出。
      *
      * @param <T>  ID类型
      * @param node 节点
@@ -178,21 +226,21 @@ public class TreeUtil {
      * @since 5.2.4
      */
     public static <T> Tree<T> getNode(Tree<T> node, T id) {
-        if (Objects.equals(id, node.getId())) {
-            return node;
-        }
-
-        final List<Tree<T>> children = node.getChildren();
-        if (null == children) {
-            return null;
-        }
+        final Deque<Tree<T>> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            final Tree<T> current = stack.pop();
+            if (Objects.equals(id, current.getId())) {
+                return current;
+            }
 
-        // 查找子节点
-        Tree<T> childNode;
-        for (Tree<T> child : children) {
-            childNode = child.getNode(id);
-            if (null != childNode) {
-                return childNode;
+            final List<Tree<T>> children = current.getChildren();
+            if (null != children) {
+                // 逆序入栈，保证按子节点顺序查找
+                final ListIterator<Tree<T>> iterator = children.listIterator(children.size());
+                while (iterator.hasPrevious()) {
+                    stack.push(iterator.previous());
+                }
             }
         }
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.reflect.Accessors;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class AccessorsBenchmark {
+    private Field field;
+    private Constructor<Bean> constructor;
+    private Accessors.Getter<Bean, String> getter;
+    private Accessors.Setter<Bean, String> setter;
+    private Accessors.Factory<Bean> factory;
+    private Bean bean;
+
+    @Setup
+    public void setUp() throws Exception {
+        field = Bean.class.getDeclaredField("value");
+        field.setAccessible(true);
+        constructor = Bean.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        getter = Accessors.getter(field);
+        setter = Accessors.setter(field);
+        factory = Accessors.factory(constructor);
+        bean = new Bean();
+        bean.value = "value";
+    }
+
+    @Benchmark
+    public Object reflectiveGetter() throws Exception {
+        return field.get(bean);
+    }
+
+    @Benchmark
+    public String compiledGetter() {
+        return getter.get(bean);
+    }
+
+    @Benchmark
+    public void reflectiveSetter() throws Exception {
+        field.set(bean, "value");
+    }
+
+    @Benchmark
+    public void compiledSetter() {
+        setter.set(bean, "value");
+    }
+
+    @Benchmark
+    public Bean reflectiveConstructor() throws Exception {
+        return constructor.newInstance();
+    }
+
+    @Benchmark
+    public Bean compiledConstructor() {
+        return factory.newInstance();
+    }
+
+    @Benchmark
+    public String cachedGetterLookup() {
+        return Accessors.<Bean, String>getter(field).get(bean);
+    }
+
+    static class Bean {
+        private String value;
+
+        private Bean() {}
+    }
+}
@@ -21,17 +21,25 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 
+/**
+ * Run with {@code -prof gc} to measure the allocations of cache hits: the lookups by type no longer filter the
+ * annotations, but each call still creates its {@link Annotations.OnClass} and its cache key.
+ */
 @State(Scope.Benchmark)
 public class AnnotationsBenchmark {
     private static Method notAnnotatedMethod;
+    private static Method annotatedMethod;
 
     static {
         try {
             notAnnotatedMethod = MetaAnnotatedByInterface.class.getDeclaredMethod("notAnnotatedMethod");
+            annotatedMethod = MetaAnnotatedByInterface.class.getDeclaredMethod("annotatedMethod");
         } catch (NoSuchMethodException e) {
             throw new RuntimeException(e);
         }
@@ -48,10 +56,29 @@ public class AnnotationsBenchmark {
                 .get();
     }
 
+    @Benchmark
+    public Optional<MethodAnnotation> findCachedAnnotation() {
+        return Annotations.on(annotatedMethod).find(MethodAnnotation.class);
+    }
+
+    @Benchmark
+    public Optional<TypeAnnotation> findCachedMissingAnnotation() {
+        return Annotations.on(annotatedMethod).find(TypeAnnotation.class);
+    }
+
+    @Benchmark
+    public Stream<MethodAnnotation> findAllCachedAnnotations() {
+        return Annotations.on(annotatedMethod).findAll(MethodAnnotation.class);
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     @Target({ElementType.TYPE})
     private @interface TypeAnnotation {}
 
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    private @interface MethodAnnotation {}
+
     @Retention(RetentionPolicy.RUNTIME)
     @Target({ElementType.TYPE})
     @TypeAnnotation
@@ -69,6 +96,9 @@ public class AnnotationsBenchmark {
 
         public void notAnnotatedMethod() {}
 
+        @MethodAnnotation
+        public void annotatedMethod() {}
+
         void notAnnotatedLocalMethod() {}
     }
 }
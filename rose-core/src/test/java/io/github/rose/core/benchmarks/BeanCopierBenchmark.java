@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.spring.BeanUtils;
+import io.github.rose.core.spring.PropertyCopier;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cglib.beans.BeanCopier;
+
+/**
+ * Compares the legacy copies, which generated a new {@link BeanCopier} on every call or resolved the null
+ * properties through a {@code BeanWrapper} before {@code BeanUtils.copyProperties}, with the cached
+ * {@link BeanCopier} and the {@link PropertyCopier} built on method handles.
+ */
+@State(Scope.Benchmark)
+public class BeanCopierBenchmark {
+    @Param({"1", "100"})
+    private int size;
+
+    private final PropertyCopier<Order, OrderDto> copier = PropertyCopier.of(Order.class, OrderDto.class);
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new Order((long) i, "order-" + i, i % 2 == 0 ? null : "remark-" + i, i * 10));
+        }
+    }
+
+    @Benchmark
+    public List<OrderDto> legacyCopy() {
+        List<OrderDto> copies = new ArrayList<>(size);
+        for (Order order : orders) {
+            OrderDto copy = new OrderDto();
+            BeanCopier.create(Order.class, OrderDto.class, false).copy(order, copy, null);
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    @Benchmark
+    public List<OrderDto> cachedCopy() {
+        return BeanUtils.copyList(orders, OrderDto::new);
+    }
+
+    @Benchmark
+    public List<OrderDto> propertyCopier() {
+        List<OrderDto> copies = new ArrayList<>(size);
+        for (Order order : orders) {
+            copies.add(copier.copy(order, new OrderDto()));
+        }
+        return copies;
+    }
+
+    @Benchmark
+    public List<OrderDto> legacyCopyIgnoringNulls() {
+        List<OrderDto> copies = new ArrayList<>(size);
+        for (Order order : orders) {
+            OrderDto copy = new OrderDto();
+            org.springframework.beans.BeanUtils.copyProperties(order, copy, BeanUtils.getNullPropertyNames(order));
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    @Benchmark
+    public List<OrderDto> propertyCopierIgnoringNulls() {
+        return BeanUtils.copyList(orders, OrderDto::new, true);
+    }
+
+    public static class Order {
+        private Long id;
+        private String name;
+        private String remark;
+        private int amount;
+
+        public Order() {}
+
+        Order(Long id, String name, String remark, int amount) {
+            this.id = id;
+            this.name = name;
+            this.remark = remark;
+            this.amount = amount;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getRemark() {
+            return remark;
+        }
+
+        public void setRemark(String remark) {
+            this.remark = remark;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public void setAmount(int amount) {
+            this.amount = amount;
+        }
+    }
+
+    public static class OrderDto {
+        private Long id;
+        private String name;
+        private String remark;
+        private int amount;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getRemark() {
+            return remark;
+        }
+
+        public void setRemark(String remark) {
+            this.remark = remark;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public void setAmount(int amount) {
+            this.amount = amount;
+        }
+    }
+}
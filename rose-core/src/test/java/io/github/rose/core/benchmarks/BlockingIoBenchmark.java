@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.concurrent.TaskExecutors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Runs a batch of simulated blocking I/O calls (a sleep of {@code latency} milliseconds each) and waits for all of
+ * them, in the bounded pool of platform threads used before and in the {@link TaskExecutors#newBlockingExecutor
+ * blocking executor}, which starts a virtual thread per task on Java 21 and later. On older runtimes both
+ * benchmarks measure a platform pool.
+ */
+@State(Scope.Benchmark)
+public class BlockingIoBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int tasks;
+
+    @Param({"10"})
+    private long latency;
+
+    private ExecutorService platformExecutor;
+
+    private ExecutorService blockingExecutor;
+
+    @Setup
+    public void setUp() {
+        int poolSize = 8 * Runtime.getRuntime().availableProcessors();
+        platformExecutor =
+                new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        blockingExecutor = TaskExecutors.newBlockingExecutor("benchmark-blocking");
+    }
+
+    @TearDown
+    public void tearDown() {
+        platformExecutor.shutdownNow();
+        blockingExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void platformThreads() throws InterruptedException {
+        runBatch(platformExecutor);
+    }
+
+    @Benchmark
+    public void blockingExecutor() throws InterruptedException {
+        runBatch(blockingExecutor);
+    }
+
+    private void runBatch(ExecutorService executor) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(latency);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+    }
+}
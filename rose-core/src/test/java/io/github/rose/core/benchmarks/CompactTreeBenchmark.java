@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rose.core.util.tree.CompactTree;
+import io.github.rose.core.util.tree.DefaultNodeParser;
+import io.github.rose.core.util.tree.Tree;
+import io.github.rose.core.util.tree.TreeNode;
+import io.github.rose.core.util.tree.TreeNodeConfig;
+import io.github.rose.core.util.tree.TreeUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares building and serializing {@link Tree} and {@link CompactTree}. Run with {@code -prof gc} to compare the
+ * allocated bytes per node.
+ */
+@State(Scope.Benchmark)
+public class CompactTreeBenchmark {
+    @Param({"10000", "100000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<TreeNode<Long>> nodes;
+    private DefaultNodeParser<Long> parser;
+    private Tree<Long> tree;
+    private CompactTree<Long> compactTree;
+
+    @Setup
+    public void setUp() {
+        nodes = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            nodes.add(new TreeNode<>(i, (i - 1) / 10, "node" + i, (int) (i % 100)));
+        }
+        parser = new DefaultNodeParser<>();
+        tree = buildTree();
+        compactTree = buildCompactTree();
+    }
+
+    @Benchmark
+    public Tree<Long> buildTree() {
+        return TreeUtil.buildSingle(nodes, 0L, TreeNodeConfig.DEFAULT_CONFIG, parser);
+    }
+
+    @Benchmark
+    public CompactTree<Long> buildCompactTree() {
+        return TreeUtil.buildCompactSingle(nodes, 0L, TreeNodeConfig.DEFAULT_CONFIG, parser);
+    }
+
+    @Benchmark
+    public byte[] serializeTree() throws Exception {
+        return objectMapper.writeValueAsBytes(tree);
+    }
+
+    @Benchmark
+    public byte[] serializeCompactTree() throws Exception {
+        return objectMapper.writeValueAsBytes(compactTree);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.context.ContextSlot;
+import io.github.rose.core.util.context.ContextSnapshot;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the per-task cost of propagating N contexts to another thread: capturing them in the submitting thread,
+ * applying them in the worker and restoring the worker values afterwards. The legacy benchmark copies each thread
+ * local into a map, as the per-context copy/restore logic and TTL did, while the current one uses one
+ * {@link ContextSnapshot} for all the {@link ContextSlot}s. The state is per thread since the contexts are thread
+ * locals.
+ */
+@State(Scope.Thread)
+public class ContextPropagationBenchmark {
+    private static final int MAXIMUM_CONTEXTS = 16;
+    private static final List<ThreadLocal<Object>> threadLocals = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < MAXIMUM_CONTEXTS; i++) {
+            ThreadLocal<Object> threadLocal = new ThreadLocal<>();
+            threadLocals.add(threadLocal);
+            ContextSlot.register("benchmark-" + i, threadLocal);
+        }
+    }
+
+    @Param({"1", "4", "16"})
+    private int contexts;
+
+    private final Runnable task = () -> threadLocals.get(0).get();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < MAXIMUM_CONTEXTS; i++) {
+            if (i < contexts) {
+                threadLocals.get(i).set("value-" + i);
+            } else {
+                threadLocals.get(i).remove();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ContextSnapshot.empty().restore();
+    }
+
+    @Benchmark
+    public void legacyPropagate() {
+        Map<ThreadLocal<Object>, Object> captured = legacyCapture();
+        Map<ThreadLocal<Object>, Object> backup = legacyCapture();
+        legacyRestore(captured);
+        try {
+            task.run();
+        } finally {
+            legacyRestore(backup);
+        }
+    }
+
+    @Benchmark
+    public void propagate() {
+        ContextSnapshot.capture().wrap(task).run();
+    }
+
+    @Benchmark
+    public ContextSnapshot capture() {
+        return ContextSnapshot.capture();
+    }
+
+    private static Map<ThreadLocal<Object>, Object> legacyCapture() {
+        Map<ThreadLocal<Object>, Object> values = new HashMap<>();
+        for (ThreadLocal<Object> threadLocal : threadLocals) {
+            Object value = threadLocal.get();
+            if (value != null) {
+                values.put(threadLocal, value);
+            }
+        }
+        return values;
+    }
+
+    private static void legacyRestore(Map<ThreadLocal<Object>, Object> values) {
+        for (ThreadLocal<Object> threadLocal : threadLocals) {
+            Object value = values.get(threadLocal);
+            if (value == null) {
+                threadLocal.remove();
+            } else {
+                threadLocal.set(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.EnumBitSetCodec;
+import io.github.rose.core.util.EnumUtil;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the former stream based {@link EnumUtil#enumSetOf(long, Class)} with the current one, and measures the
+ * {@link EnumBitSetCodec} operations on an enum too large for a {@code long} bit set.
+ */
+@State(Scope.Benchmark)
+public class EnumBitSetBenchmark {
+    private final long smallBitSet = EnumUtil.bitSetOf(Small.A, Small.C, Small.F, Small.H);
+    private final EnumBitSetCodec<Large> codec = EnumBitSetCodec.of(Large.class);
+    private final EnumSet<Large> largeSet = EnumSet.of(Large.L01, Large.L17, Large.L42, Large.L63, Large.L64, Large.L99);
+    private final String hex = codec.toHex(largeSet);
+    private final String base64 = codec.toBase64(largeSet);
+    private final String otherHex = codec.toHex(EnumSet.of(Large.L02, Large.L17, Large.L80));
+
+    @Benchmark
+    public EnumSet<Small> legacyEnumSetOf() {
+        return EnumSet.copyOf(Arrays.stream(Small.class.getEnumConstants())
+                .filter(e -> EnumUtil.hasEnum(smallBitSet, e))
+                .collect(Collectors.toSet()));
+    }
+
+    @Benchmark
+    public EnumSet<Small> enumSetOf() {
+        return EnumUtil.enumSetOf(smallBitSet, Small.class);
+    }
+
+    @Benchmark
+    public String encodeHex() {
+        return codec.toHex(largeSet);
+    }
+
+    @Benchmark
+    public EnumSet<Large> decodeHex() {
+        return codec.fromHex(hex);
+    }
+
+    @Benchmark
+    public String encodeBase64() {
+        return codec.toBase64(largeSet);
+    }
+
+    @Benchmark
+    public EnumSet<Large> decodeBase64() {
+        return codec.fromBase64(base64);
+    }
+
+    @Benchmark
+    public boolean decodeAndContains() {
+        return codec.fromHex(hex).contains(Large.L64);
+    }
+
+    @Benchmark
+    public boolean containsHex() {
+        return codec.containsHex(hex, Large.L64);
+    }
+
+    @Benchmark
+    public boolean containsBase64() {
+        return codec.containsBase64(base64, Large.L64);
+    }
+
+    @Benchmark
+    public String unionHex() {
+        return EnumBitSetCodec.unionHex(hex, otherHex);
+    }
+
+    enum Small {
+        A,
+        B,
+        C,
+        D,
+        E,
+        F,
+        G,
+        H
+    }
+
+    enum Large {
+        L00,
+        L01,
+        L02,
+        L03,
+        L04,
+        L05,
+        L06,
+        L07,
+        L08,
+        L09,
+        L10,
+        L11,
+        L12,
+        L13,
+        L14,
+        L15,
+        L16,
+        L17,
+        L18,
+        L19,
+        L20,
+        L21,
+        L22,
+        L23,
+        L24,
+        L25,
+        L26,
+        L27,
+        L28,
+        L29,
+        L30,
+        L31,
+        L32,
+        L33,
+        L34,
+        L35,
+        L36,
+        L37,
+        L38,
+        L39,
+        L40,
+        L41,
+        L42,
+        L43,
+        L44,
+        L45,
+        L46,
+        L47,
+        L48,
+        L49,
+        L50,
+        L51,
+        L52,
+        L53,
+        L54,
+        L55,
+        L56,
+        L57,
+        L58,
+        L59,
+        L60,
+        L61,
+        L62,
+        L63,
+        L64,
+        L65,
+        L66,
+        L67,
+        L68,
+        L69,
+        L70,
+        L71,
+        L72,
+        L73,
+        L74,
+        L75,
+        L76,
+        L77,
+        L78,
+        L79,
+        L80,
+        L81,
+        L82,
+        L83,
+        L84,
+        L85,
+        L86,
+        L87,
+        L88,
+        L89,
+        L90,
+        L91,
+        L92,
+        L93,
+        L94,
+        L95,
+        L96,
+        L97,
+        L98,
+        L99
+    }
+}
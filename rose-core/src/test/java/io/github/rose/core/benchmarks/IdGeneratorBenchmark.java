@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.Uuids;
+import io.github.rose.core.util.id.IdEncoding;
+import io.github.rose.core.util.id.SnowflakeIdGenerator;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures single and batched Snowflake identifier generation, with and without contention, and the encoding of
+ * UUIDs compared with the former {@link ByteBuffer} based Base64 encoding.
+ */
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+    private static final Base64.Encoder URL_SAFE_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+    private final UUID uuid = Uuids.getUUID();
+    private final char[] buffer = new char[IdEncoding.BASE62_UUID_LENGTH];
+
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long nextIdContended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public long[] nextIds() {
+        return generator.nextIds(100);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long[] nextIdsContended() {
+        return generator.nextIds(100);
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return Uuids.getUUID();
+    }
+
+    @Benchmark
+    public String legacyBase64() {
+        ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return URL_SAFE_ENCODER.encodeToString(bb.array());
+    }
+
+    @Benchmark
+    public String base64() {
+        return IdEncoding.toBase64(uuid);
+    }
+
+    @Benchmark
+    public String base62() {
+        return IdEncoding.toBase62(uuid);
+    }
+
+    @Benchmark
+    public char[] writeBase62() {
+        IdEncoding.writeBase62(uuid, buffer, 0);
+        return buffer;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rose.core.json.JsonCopier;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the former string round-trip of {@code JsonUtils.clone} with the {@code TokenBuffer} based
+ * {@link JsonCopier} and with registered field copiers, on order graphs of increasing size.
+ */
+@State(Scope.Benchmark)
+public class JsonCopierBenchmark {
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final JsonCopier copier = new JsonCopier(objectMapper);
+    private final JsonCopier fieldCopier = new JsonCopier(objectMapper)
+            .registerFields(Order.class)
+            .registerFields(Line.class)
+            .registerFields(Address.class);
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = new Order();
+        order.id = 42L;
+        order.createdAt = LocalDateTime.now();
+        order.shipping = new Address("Main street", "Springfield");
+        order.billing = new Address("Elm street", "Shelbyville");
+        for (int i = 0; i < lines; i++) {
+            Line line = new Line();
+            line.sku = "SKU-" + i;
+            line.quantity = i + 1;
+            line.price = BigDecimal.valueOf(i * 100 + 99, 2);
+            line.attributes.put("color", "red");
+            line.attributes.put("size", String.valueOf(i % 5));
+            order.lines.add(line);
+        }
+    }
+
+    @Benchmark
+    public Order legacyClone() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(order), Order.class);
+    }
+
+    @Benchmark
+    public Order tokenBufferCopy() {
+        return copier.copy(order);
+    }
+
+    @Benchmark
+    public Order fieldCopy() {
+        return fieldCopier.copy(order);
+    }
+
+    public static class Order {
+        public Long id;
+        public LocalDateTime createdAt;
+        public Address shipping;
+        public Address billing;
+        public List<Line> lines = new ArrayList<>();
+    }
+
+    public static class Line {
+        public String sku;
+        public int quantity;
+        public BigDecimal price;
+        public Map<String, String> attributes = new LinkedHashMap<>();
+    }
+
+    public static class Address {
+        public String street;
+        public String city;
+
+        public Address() {}
+
+        public Address(String street, String city) {
+            this.street = street;
+            this.city = city;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.rose.core.json.JsonFlattener;
+import io.github.rose.core.json.JsonUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the former tree based {@code JsonUtils.toFlatMap} with the streaming {@link JsonFlattener} on 1KB, 100KB
+ * and 10MB documents. Run with {@code -prof gc} to compare the allocated bytes.
+ */
+@State(Scope.Benchmark)
+public class JsonFlattenerBenchmark {
+    @Param({"1024", "102400", "10485760"})
+    private int bytes;
+
+    private byte[] json;
+    private Map<String, String> flatMap;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder(bytes + 256).append('{');
+        for (int i = 0; sb.length() < bytes; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"section")
+                    .append(i)
+                    .append("\":{\"name\":\"section ")
+                    .append(i)
+                    .append("\",\"enabled\":true,\"limits\":{\"max\":")
+                    .append(i * 10)
+                    .append(",\"min\":")
+                    .append(i)
+                    .append("},\"owner\":{\"id\":")
+                    .append(i)
+                    .append(",\"address\":{\"city\":\"city")
+                    .append(i % 7)
+                    .append("\",\"zip\":\"0")
+                    .append(i)
+                    .append("\"}}}");
+        }
+        json = sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        flatMap = JsonFlattener.OBJECTS_ONLY.flatten(json);
+    }
+
+    @Benchmark
+    public Map<String, String> legacyToFlatMap() throws IOException {
+        JsonNode node = JsonUtils.OBJECT_MAPPER.readTree(json);
+        Map<String, String> map = new HashMap<>();
+        legacyToFlatMap(node, "", map);
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, String> flatten() {
+        return JsonFlattener.OBJECTS_ONLY.flatten(json);
+    }
+
+    @Benchmark
+    public Map<String, String> flattenWithArrays() {
+        return JsonFlattener.DEFAULT.flatten(json);
+    }
+
+    @Benchmark
+    public JsonNode unflatten() {
+        return JsonFlattener.OBJECTS_ONLY.unflatten(flatMap);
+    }
+
+    private static void legacyToFlatMap(JsonNode node, String currentPath, Map<String, String> map) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            currentPath = currentPath.isEmpty() ? "" : currentPath + ".";
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                legacyToFlatMap(entry.getValue(), currentPath + entry.getKey(), map);
+            }
+        } else if (node.isValueNode()) {
+            map.put(currentPath, node.asText());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.json.JsonProfile;
+import java.util.HashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of sorting map keys: {@link JsonProfile#CANONICAL} sorts them, {@link JsonProfile#FAST} does
+ * not. The payload is a map of maps, as produced by request parameters or message headers.
+ */
+@State(Scope.Benchmark)
+public class JsonProfileBenchmark {
+    @Param({"10", "100", "1000"})
+    private int entries;
+
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        payload = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            Map<String, Object> nested = new HashMap<>();
+            for (int j = 0; j < 10; j++) {
+                nested.put("field" + (j * 7919 % 10), "value" + j);
+            }
+            payload.put("key" + (i * 7919 % entries), nested);
+        }
+    }
+
+    @Benchmark
+    public byte[] canonical() {
+        return JsonProfile.CANONICAL.toBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] fast() {
+        return JsonProfile.FAST.toBytes(payload);
+    }
+
+    @Benchmark
+    public String logging() {
+        return JsonProfile.LOGGING.toJson(payload);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.concurrent.KeyedLocks;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the hand-rolled map of locks which never shrinks, the striped {@link KeyedLocks} and the weak
+ * {@link KeyedLocks} when several threads lock keys drawn from a uniform or a skewed (Zipf-like, a few hot tenants)
+ * distribution. To be run with several threads, for instance {@code -t 8}, for the contention to show.
+ */
+@State(Scope.Benchmark)
+public class KeyedLocksBenchmark {
+    private static final int KEYS = 10_000;
+    private static final int SAMPLES = 1 << 16;
+    private static final AtomicInteger instances = new AtomicInteger();
+
+    @Param({"uniform", "skewed"})
+    private String distribution;
+
+    @Param({"64"})
+    private int stripes;
+
+    private final Map<Integer, ReentrantLock> legacyLocks = new ConcurrentHashMap<>();
+    private KeyedLocks<Integer> stripedLocks;
+    private KeyedLocks<Integer> weakLocks;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp() {
+        int instance = instances.incrementAndGet();
+        stripedLocks = KeyedLocks.striped("benchmark-striped-" + instance, stripes);
+        weakLocks = KeyedLocks.weak("benchmark-weak-" + instance);
+        Random random = new Random(42);
+        keys = new Integer[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            keys[i] = "uniform".equals(distribution) ? random.nextInt(KEYS) : skewed(random);
+        }
+    }
+
+    @Benchmark
+    public int legacyMap(Cursor cursor) {
+        ReentrantLock lock = legacyLocks.computeIfAbsent(cursor.next(keys), key -> new ReentrantLock());
+        lock.lock();
+        try {
+            return criticalSection(cursor);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Benchmark
+    public int striped(Cursor cursor) {
+        try (KeyedLocks.Handle handle = stripedLocks.tryLock(cursor.next(keys))) {
+            return criticalSection(cursor, handle);
+        }
+    }
+
+    @Benchmark
+    public int weak(Cursor cursor) {
+        try (KeyedLocks.Handle handle = weakLocks.tryLock(cursor.next(keys))) {
+            return criticalSection(cursor, handle);
+        }
+    }
+
+    private static int criticalSection(Cursor cursor, KeyedLocks.Handle handle) {
+        if (handle == null) {
+            // a timeout would run the critical section unlocked and skew the results
+            throw new IllegalStateException("Lock not acquired within the timeout");
+        }
+        return criticalSection(cursor);
+    }
+
+    private static int criticalSection(Cursor cursor) {
+        int value = cursor.position;
+        for (int i = 0; i < 32; i++) {
+            value = value * 31 + i;
+        }
+        return value;
+    }
+
+    /**
+     * Draws a key with a probability inversely proportional to its rank, so that the first keys are much hotter.
+     */
+    private static int skewed(Random random) {
+        double harmonic = Math.log(KEYS) + 0.5772;
+        return Math.min(KEYS - 1, (int) Math.exp(random.nextDouble() * harmonic) - 1);
+    }
+
+    /**
+     * The position of each thread in the sampled keys.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = new Random().nextInt(SAMPLES);
+
+        Integer next(Integer[] keys) {
+            position = (position + 1) & (SAMPLES - 1);
+            return keys[position];
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.NanoId;
+import io.github.rose.core.util.NanoIdGenerator;
+import java.security.SecureRandom;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the former {@code NanoId.randomNanoId()}, which shared one {@link SecureRandom} and allocated a buffer per
+ * loop pass, with {@link NanoIdGenerator} drawing from per-thread pools, with 1, 8 and 32 threads.
+ */
+@State(Scope.Benchmark)
+public class NanoIdBenchmark {
+    private static final SecureRandom SHARED_RANDOM = new SecureRandom();
+    private static final NanoIdGenerator FAST =
+            NanoIdGenerator.of(NanoId.DEFAULT_ALPHABET, NanoId.DEFAULT_SIZE, NanoIdGenerator.EntropySource.FAST);
+
+    @Benchmark
+    @Threads(1)
+    public String legacy1() {
+        return legacyNanoId(SHARED_RANDOM, NanoId.DEFAULT_ALPHABET, NanoId.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String legacy8() {
+        return legacyNanoId(SHARED_RANDOM, NanoId.DEFAULT_ALPHABET, NanoId.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String legacy32() {
+        return legacyNanoId(SHARED_RANDOM, NanoId.DEFAULT_ALPHABET, NanoId.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String secure1() {
+        return NanoIdGenerator.DEFAULT.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String secure8() {
+        return NanoIdGenerator.DEFAULT.next();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String secure32() {
+        return NanoIdGenerator.DEFAULT.next();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String fast1() {
+        return FAST.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String fast8() {
+        return FAST.next();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String fast32() {
+        return FAST.next();
+    }
+
+    private static String legacyNanoId(final Random random, final char[] alphabet, final int size) {
+        final int mask = (2 << (int) Math.floor(Math.log(alphabet.length - 1) / Math.log(2))) - 1;
+        final int step = (int) Math.ceil(1.6 * mask * size / alphabet.length);
+
+        final StringBuilder idBuilder = new StringBuilder();
+        while (true) {
+            final byte[] bytes = new byte[step];
+            random.nextBytes(bytes);
+
+            for (int i = 0; i < step; i++) {
+                final int alphabetIndex = bytes[i] & mask;
+                if (alphabetIndex < alphabet.length) {
+                    idBuilder.append(alphabet[alphabetIndex]);
+                    if (idBuilder.length() == size) {
+                        return idBuilder.toString();
+                    }
+                }
+            }
+        }
+    }
+}
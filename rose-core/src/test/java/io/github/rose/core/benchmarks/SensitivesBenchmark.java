@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rose.core.json.sensitive.FieldSensitive;
+import io.github.rose.core.json.sensitive.SensitiveType;
+import io.github.rose.core.json.sensitive.Sensitives;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the former {@link StringBuilder} based {@link Sensitives#deSensitive} with the current one, and measures
+ * the serialization of masked properties. The former serializer resolved the {@code disabled} expression for every
+ * value and cannot run without a Spring context, so only the current serializer is measured.
+ */
+@State(Scope.Benchmark)
+public class SensitivesBenchmark {
+    private static final String PHONE = "13812345678";
+    private static final String ID_CARD = "110101199003074578";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Person person = new Person();
+
+    @Benchmark
+    public String legacyDeSensitive() {
+        return legacyDeSensitive(ID_CARD, 6, 4, "*");
+    }
+
+    @Benchmark
+    public String deSensitive() {
+        return Sensitives.deSensitive(ID_CARD, 6, 4, "*");
+    }
+
+    @Benchmark
+    public String phone() {
+        return Sensitives.phone(PHONE);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(person);
+    }
+
+    private static String legacyDeSensitive(String origin, int prefixKeep, int suffixKeep, String mask) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0, n = origin.length(); i < n; i++) {
+            if (i < prefixKeep) {
+                sb.append(origin.charAt(i));
+                continue;
+            }
+            if (i > (n - suffixKeep - 1)) {
+                sb.append(origin.charAt(i));
+                continue;
+            }
+            sb.append(mask);
+        }
+        return sb.toString();
+    }
+
+    public static class Person {
+        @FieldSensitive(type = SensitiveType.PHONE)
+        private String phone = PHONE;
+
+        @FieldSensitive(type = SensitiveType.ID_CARD)
+        private String idCard = ID_CARD;
+
+        @FieldSensitive(prefixKeep = 1, suffixKeep = 1)
+        private String name = "chensoul";
+
+        public String getPhone() {
+            return phone;
+        }
+
+        public String getIdCard() {
+            return idCard;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.PriorityUtils;
+import io.github.rose.core.util.ServiceRegistry;
+import io.github.rose.processor.AutoService;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Compares the former {@code ServiceLoaders} implementation, which ran {@link ServiceLoader} and sorted the new
+ * instances on every call, with the {@link ServiceRegistry}. The startup benchmarks use a new class loader for each
+ * invocation so the registry has to read the service declarations again.
+ */
+@State(Scope.Benchmark)
+public class ServiceRegistryBenchmark {
+
+    @Benchmark
+    public List<Service> legacyLoad() {
+        return legacyLoad(Thread.currentThread().getContextClassLoader());
+    }
+
+    @Benchmark
+    public List<Service> load() {
+        return ServiceRegistry.get().load(Service.class);
+    }
+
+    @Benchmark
+    public Service first() {
+        return ServiceRegistry.get().first(Service.class).orElse(null);
+    }
+
+    @Benchmark
+    public List<Service> legacyStartup(ColdClassLoader cold) {
+        return legacyLoad(cold.classLoader);
+    }
+
+    @Benchmark
+    public List<ServiceRegistry.Provider<Service>> startup(ColdClassLoader cold) {
+        return ServiceRegistry.get(cold.classLoader).providers(Service.class);
+    }
+
+    private static List<Service> legacyLoad(ClassLoader classLoader) {
+        List<Service> services = new ArrayList<>();
+        for (Service service : ServiceLoader.load(Service.class, classLoader)) {
+            services.add(service);
+        }
+        PriorityUtils.sortByObjectPriority(services);
+        return services;
+    }
+
+    @State(Scope.Thread)
+    public static class ColdClassLoader {
+        private URLClassLoader classLoader;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            classLoader = new URLClassLoader(new URL[0], ServiceRegistryBenchmark.class.getClassLoader());
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() throws IOException {
+            ServiceRegistry.invalidate(classLoader);
+            classLoader.close();
+        }
+    }
+
+    public interface Service {}
+
+    @Order(1)
+    @AutoService(Service.class)
+    public static class FirstService implements Service {}
+
+    @Order(2)
+    @AutoService(Service.class)
+    public static class SecondService implements Service {}
+
+    @Order(3)
+    @AutoService(Service.class)
+    public static class ThirdService implements Service {}
+
+    @AutoService(Service.class)
+    public static class FourthService implements Service {}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.spring.expression.SpringExpressionResolver;
+import java.util.UUID;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Compares {@link SpringExpressionResolver} with the former resolver under contention. The former one regenerated
+ * its dynamic variables in a synchronized {@code getInstance()} and parsed the template at each call.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class SpringExpressionResolverBenchmark {
+    private static final String TEMPLATE = "${#sysProps['java.version'] + '-' + #zoneId}";
+    private static final String DYNAMIC_TEMPLATE = "order-${#randomNumber6}";
+    private static final String EXPRESSION = "#user + ':' + #action";
+
+    private static final ParserContext PARSER_CONTEXT = new TemplateParserContext("${", "}");
+    private static final SpelExpressionParser LEGACY_PARSER = new SpelExpressionParser(new SpelParserConfiguration(
+            SpelCompilerMode.IMMEDIATE, SpringExpressionResolverBenchmark.class.getClassLoader()));
+    private static final StandardEvaluationContext LEGACY_CONTEXT = new StandardEvaluationContext();
+
+    static {
+        LEGACY_CONTEXT.setVariable("sysProps", System.getProperties());
+        LEGACY_CONTEXT.setVariable("zoneId", "UTC");
+    }
+
+    @Benchmark
+    public Object legacyResolve() {
+        return legacyInstance().getValue(LEGACY_CONTEXT);
+    }
+
+    @Benchmark
+    public Object resolve() {
+        return SpringExpressionResolver.getInstance().resolve(TEMPLATE);
+    }
+
+    @Benchmark
+    public Object resolveDynamic() {
+        return SpringExpressionResolver.getInstance().resolve(DYNAMIC_TEMPLATE);
+    }
+
+    @Benchmark
+    public Object legacyEvaluate() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("user", "rose");
+        context.setVariable("action", "login");
+        return new SpelExpressionParser().parseExpression(EXPRESSION).getValue(context, String.class);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        EvaluationContext context = SpringExpressionResolver.getInstance().createEvaluationContext();
+        context.setVariable("user", "rose");
+        context.setVariable("action", "login");
+        return SpringExpressionResolver.parseExpression(EXPRESSION).getValue(context, String.class);
+    }
+
+    private static synchronized Expression legacyInstance() {
+        LEGACY_CONTEXT.setVariable("randomNumber6", RandomStringUtils.randomNumeric(6));
+        LEGACY_CONTEXT.setVariable("randomString8", RandomStringUtils.randomAlphabetic(8));
+        LEGACY_CONTEXT.setVariable("uuid", UUID.randomUUID().toString());
+        return LEGACY_PARSER.parseExpression(TEMPLATE, PARSER_CONTEXT);
+    }
+}
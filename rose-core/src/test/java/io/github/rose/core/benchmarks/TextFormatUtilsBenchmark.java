@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.StringPool;
+import io.github.rose.core.util.text.TextFormatUtils;
+import io.github.rose.core.util.text.TextTemplate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the former {@link TextFormatUtils} implementations, which rescan the template for each argument or
+ * variable, with the ones rendering a compiled {@link TextTemplate}.
+ */
+@State(Scope.Benchmark)
+public class TextFormatUtilsBenchmark {
+    @Param({"2", "8", "32"})
+    private int placeholders;
+
+    private String positionalTemplate;
+    private String namedTemplate;
+    private String variablesTemplate;
+    private Object[] args;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        StringBuilder positional = new StringBuilder("Processing request");
+        StringBuilder named = new StringBuilder("Processing request");
+        StringBuilder braces = new StringBuilder("Processing request");
+        args = new Object[placeholders];
+        variables = new HashMap<>();
+        for (int i = 0; i < placeholders; i++) {
+            positional.append(" arg").append(i).append("={}");
+            named.append(" arg").append(i).append("=${arg").append(i).append('}');
+            braces.append(" arg").append(i).append("={arg").append(i).append('}');
+            args[i] = "value" + i;
+            variables.put("arg" + i, "value" + i);
+        }
+        positionalTemplate = positional.toString();
+        namedTemplate = named.toString();
+        variablesTemplate = braces.toString();
+    }
+
+    @Benchmark
+    public String legacyFormat() {
+        return legacyFormat(positionalTemplate, args);
+    }
+
+    @Benchmark
+    public String format() {
+        return TextFormatUtils.format(positionalTemplate, args);
+    }
+
+    @Benchmark
+    public String legacySubstituteVariables() {
+        return legacySubstituteVariables(namedTemplate, variables);
+    }
+
+    @Benchmark
+    public String substituteVariables() {
+        return TextFormatUtils.substituteVariables(namedTemplate, variables);
+    }
+
+    @Benchmark
+    public String legacyFormatVariables() {
+        return legacyFormatVariables(variablesTemplate, variables);
+    }
+
+    @Benchmark
+    public String formatVariables() {
+        return TextFormatUtils.formatVariables(variablesTemplate, variables);
+    }
+
+    private static String legacyFormat(String template, Object... args) {
+        StringBuilder stringBuilder = new StringBuilder(template);
+        for (Object arg : args) {
+            int index = stringBuilder.indexOf("{}");
+            if (index == -1) {
+                break;
+            }
+            stringBuilder.replace(index, index + 2, String.valueOf(arg));
+        }
+        return stringBuilder.toString();
+    }
+
+    private static String legacySubstituteVariables(String template, Map<String, Object> variables) {
+        Pattern pattern = Pattern.compile("\\$\\{(.+?)\\}");
+        Matcher matcher = pattern.matcher(template);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find()) {
+            Object replacement = variables.get(matcher.group(1));
+            matcher.appendReplacement(buffer, "");
+            if (replacement != null) {
+                buffer.append(replacement.toString());
+            }
+        }
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    private static String legacyFormatVariables(String template, Map<String, ?> map) {
+        String result = template;
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            String value = Objects.toString(entry.getValue(), StringPool.EMPTY);
+            if (!StringUtils.isEmpty(value)) {
+                result = StringUtils.replace(result, "{" + entry.getKey() + "}", value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.benchmarks;
+
+import io.github.rose.core.util.tree.DefaultNodeParser;
+import io.github.rose.core.util.tree.Tree;
+import io.github.rose.core.util.tree.TreeNode;
+import io.github.rose.core.util.tree.TreeNodeConfig;
+import io.github.rose.core.util.tree.TreeSupplier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the tree builders on a tree with a fan-out of 10. {@link #legacy()} reproduces the previous
+ * implementation, which sorted the sibling list after each insertion.
+ */
+@State(Scope.Benchmark)
+public class TreeSupplierBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<TreeNode<Long>> nodes;
+    private DefaultNodeParser<Long> parser;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        nodes = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            nodes.add(new TreeNode<>(i, (i - 1) / 10, "node" + i, random.nextInt(100)));
+        }
+        parser = new DefaultNodeParser<>();
+    }
+
+    @Benchmark
+    public Tree<Long> legacy() {
+        Tree<Long> root = new Tree<Long>(TreeNodeConfig.DEFAULT_CONFIG).setId(0L);
+        Map<Long, Tree<Long>> map = new TreeMap<>();
+        for (TreeNode<Long> treeNode : nodes) {
+            Tree<Long> node = new Tree<>(TreeNodeConfig.DEFAULT_CONFIG);
+            parser.parse(treeNode, node);
+            map.put(node.getId(), node);
+        }
+        for (Tree<Long> node : map.values()) {
+            Tree<Long> parent = Objects.equals(root.getId(), node.getParentId()) ? root : map.get(node.getParentId());
+            if (parent != null) {
+                parent.addChildren(node);
+            }
+        }
+        return root;
+    }
+
+    @Benchmark
+    public Tree<Long> sorted() {
+        return TreeSupplier.of(0L, TreeNodeConfig.DEFAULT_CONFIG).append(nodes, parser).get();
+    }
+
+    @Benchmark
+    public Tree<Long> hashed() {
+        return TreeSupplier.ofHashed(0L, TreeNodeConfig.DEFAULT_CONFIG)
+                .append(nodes, parser)
+                .get();
+    }
+
+    @Benchmark
+    public Tree<Long> hashedParallel() {
+        return TreeSupplier.ofHashed(0L, TreeNodeConfig.DEFAULT_CONFIG)
+                .parallel()
+                .append(nodes, parser)
+                .get();
+    }
+}
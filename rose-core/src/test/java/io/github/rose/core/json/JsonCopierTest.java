@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class JsonCopierTest {
+    @Test
+    public void copiesNestedBeans() {
+        Order order = order();
+
+        Order copy = new JsonCopier(new ObjectMapper()).copy(order);
+
+        assertDeepCopy(order, copy);
+    }
+
+    @Test
+    public void copiesWithFieldCopiers() {
+        Order order = order();
+        JsonCopier copier =
+                new JsonCopier(new ObjectMapper()).registerFields(Order.class).registerFields(Item.class);
+
+        Order copy = copier.copy(order);
+
+        assertDeepCopy(order, copy);
+        assertThat(copy.version).isEqualTo(order.version);
+    }
+
+    @Test
+    public void keepsGenericTypes() {
+        Item item = order().main;
+
+        List<Item> copy = JsonUtils.clone(Collections.singletonList(item), new TypeReference<List<Item>>() {});
+
+        assertThat(copy).hasSize(1);
+        assertThat(copy.get(0)).isNotSameAs(item).isInstanceOf(Item.class);
+        assertThat(copy.get(0).price).isEqualTo(item.price);
+    }
+
+    @Test
+    public void returnsImmutableValues() {
+        String value = "value";
+        LocalDate date = LocalDate.now();
+
+        assertThat(JsonUtils.clone(value)).isSameAs(value);
+        assertThat(JsonUtils.clone(date)).isSameAs(date);
+        assertThat(JsonUtils.clone(JsonUtilsTest.Gender.MALE)).isSameAs(JsonUtilsTest.Gender.MALE);
+        assertThat(JsonUtils.<Object>clone(null)).isNull();
+    }
+
+    private static Order order() {
+        Item item = new Item();
+        item.name = "book";
+        item.price = new BigDecimal("10.50");
+        item.tags.add("paper");
+        Order order = new Order();
+        order.id = 1L;
+        order.main = item;
+        order.items.add(item);
+        order.byName.put(item.name, item);
+        order.version = 3;
+        return order;
+    }
+
+    private static void assertDeepCopy(Order order, Order copy) {
+        assertThat(copy).isNotSameAs(order);
+        assertThat(copy.id).isEqualTo(order.id);
+        assertThat(copy.main).isNotSameAs(order.main);
+        assertThat(copy.main.price).isEqualTo(new BigDecimal("10.50"));
+        assertThat(copy.main.tags).isNotSameAs(order.main.tags).containsExactly("paper");
+        assertThat(copy.items).hasSize(1);
+        assertThat(copy.items.get(0)).isInstanceOf(Item.class).isNotSameAs(order.main);
+        assertThat(copy.byName.get("book")).isInstanceOf(Item.class).isNotSameAs(order.main);
+    }
+
+    public static class Item {
+        public String name;
+        public BigDecimal price;
+        public List<String> tags = new ArrayList<>();
+    }
+
+    public static class Order {
+        public long id;
+        public Item main;
+        public List<Item> items = new ArrayList<>();
+        public Map<String, Item> byName = new HashMap<>();
+        public transient int version;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.rose.core.json.JsonFlattener.ArrayNotation;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class JsonFlattenerTest {
+    private static final String JSON = "{\"a\":{\"b\":1,\"c\":[1,{\"d\":null},[true,\"x\"]],\"e\":{}},\"f\":\"s\"}";
+
+    @Test
+    public void flattensWithBrackets() {
+        assertThat(JsonFlattener.DEFAULT.flatten(JSON))
+                .containsExactly(
+                        entry("a.b", "1"),
+                        entry("a.c[0]", "1"),
+                        entry("a.c[1].d", "null"),
+                        entry("a.c[2][0]", "true"),
+                        entry("a.c[2][1]", "x"),
+                        entry("f", "s"));
+    }
+
+    @Test
+    public void flattensWithDots() {
+        assertThat(JsonFlattener.DEFAULT.withArrayNotation(ArrayNotation.DOTS).flatten(JSON))
+                .containsKeys("a.c.0", "a.c.1.d", "a.c.2.1");
+    }
+
+    @Test
+    public void ignoresArraysLikeTreeFlattening() throws Exception {
+        assertThat(JsonFlattener.OBJECTS_ONLY.flatten(JSON)).containsExactly(entry("a.b", "1"), entry("f", "s"));
+        assertThat(JsonUtils.toFlatMap(JsonUtils.OBJECT_MAPPER.readTree(JSON)))
+                .isEqualTo(JsonUtils.toFlatMap(JSON));
+    }
+
+    @Test
+    public void keepsDeeperStructuresAsJson() {
+        assertThat(JsonFlattener.DEFAULT.withMaxDepth(1).flatten(JSON))
+                .containsEntry("a", "{\"b\":1,\"c\":[1,{\"d\":null},[true,\"x\"]],\"e\":{}}")
+                .containsEntry("f", "s");
+    }
+
+    @Test
+    public void stopsAfterCurrentValue() throws Exception {
+        try (JsonParser parser = JsonUtils.OBJECT_MAPPER.getFactory().createParser("{\"k\":{\"v\":1},\"z\":2}")) {
+            parser.nextToken();
+            parser.nextToken();
+            parser.nextToken();
+
+            assertThat(JsonFlattener.DEFAULT.flatten(parser)).containsExactly(entry("v", "1"));
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.FIELD_NAME);
+            assertThat(parser.currentName()).isEqualTo("z");
+        }
+    }
+
+    @Test
+    public void unflattens() {
+        for (ArrayNotation notation : new ArrayNotation[] {ArrayNotation.BRACKETS, ArrayNotation.DOTS}) {
+            JsonFlattener flattener = JsonFlattener.DEFAULT.withArrayNotation(notation);
+            assertThat(flattener.unflatten(flattener.flatten(JSON)).toString())
+                    .isEqualTo("{\"a\":{\"b\":\"1\",\"c\":[\"1\",{\"d\":\"null\"},[\"true\",\"x\"]]},\"f\":\"s\"}");
+        }
+        assertThat(JsonFlattener.DEFAULT.unflatten(JsonFlattener.DEFAULT.flatten("[1,[2]]")).toString())
+                .isEqualTo("[\"1\",[\"2\"]]");
+    }
+
+    @Test
+    public void unflattensTypedValues() {
+        Map<String, Object> flatMap = new LinkedHashMap<>();
+        flatMap.put("a.b", 1);
+        flatMap.put("a.c", true);
+        flatMap.put("x[2]", 1.5);
+        flatMap.put("y", null);
+
+        assertThat(JsonFlattener.DEFAULT.unflatten(flatMap).toString())
+                .isEqualTo("{\"a\":{\"b\":1,\"c\":true},\"x\":[null,null,1.5],\"y\":null}");
+    }
+
+    @Test
+    public void rejectsConflictingPaths() {
+        Map<String, Object> flatMap = new LinkedHashMap<>();
+        flatMap.put("a", 1);
+        flatMap.put("a.b", 2);
+
+        assertThatThrownBy(() -> JsonUtils.fromFlatMap(flatMap))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("a.b");
+    }
+}
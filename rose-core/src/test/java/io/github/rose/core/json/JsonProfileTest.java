@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class JsonProfileTest {
+    @Test
+    public void sortsMapKeysOnlyInCanonicalProfile() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", 1);
+        map.put("a", 2);
+
+        assertThat(JsonProfile.CANONICAL.toJson(map)).isEqualTo("{\"a\":2,\"b\":1}");
+        assertThat(JsonProfile.FAST.toJson(map)).isEqualTo("{\"b\":1,\"a\":2}");
+        assertThat(JsonProfile.FAST.fromJson("{\"b\":1}", Map.class)).containsEntry("b", 1);
+    }
+
+    @Test
+    public void writesSelfReferencesAsNullWhenLogging() {
+        Node node = new Node();
+        node.self = node;
+
+        assertThat(JsonProfile.LOGGING.toJson(node)).isEqualTo("{\"name\":\"node\"}");
+    }
+
+    @Test
+    public void cachesReadersAndWriters() {
+        assertThat(JsonProfile.FAST.writerFor(Node.class)).isSameAs(JsonProfile.FAST.writerFor(Node.class));
+        assertThat(JsonProfile.FAST.readerFor(Node.class)).isSameAs(JsonProfile.FAST.readerFor(Node.class));
+    }
+
+    @Test
+    public void registersProfiles() {
+        assertThat(JsonProfile.get("logging")).isSameAs(JsonProfile.LOGGING);
+        assertThatThrownBy(() -> JsonProfile.register("fast", JsonUtils.OBJECT_MAPPER))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> JsonProfile.get("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public static class Node {
+        public String name = "node";
+        public Node self;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.json.sensitive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+public class SensitivesTest {
+    @Test
+    public void masksBetweenPrefixAndSuffix() {
+        assertThat(Sensitives.deSensitive("abcdefg", 2, 2, "*")).isEqualTo("ab***fg");
+        assertThat(Sensitives.deSensitive("abcdefg", 2, 2, "#-")).isEqualTo("ab#-#-#-fg");
+        assertThat(Sensitives.deSensitive("abcdefg", 0, 0, "*")).isEqualTo("*******");
+    }
+
+    @Test
+    public void keepsOriginWhenNothingToMask() {
+        assertThat(Sensitives.deSensitive("abcdefg", 5, 5, "*")).isEqualTo("abcdefg");
+        assertThat(Sensitives.deSensitive("abc", -1, -1, "*")).isEqualTo("***");
+        assertThat(Sensitives.deSensitive(" ", 1, 1, "*")).isEmpty();
+        assertThat(Sensitives.deSensitive(null, 1, 1, "*")).isEmpty();
+    }
+
+    @Test
+    public void serializesAnnotatedProperties() throws Exception {
+        assertThat(new ObjectMapper().writeValueAsString(new Person()))
+                .isEqualTo("{\"phone\":\"138****5678\",\"name\":\"c******l\"}");
+    }
+
+    public static class Person {
+        @FieldSensitive(type = SensitiveType.PHONE)
+        public String phone = "13812345678";
+
+        @FieldSensitive(prefixKeep = 1, suffixKeep = 1)
+        public String name = "chensoul";
+    }
+}
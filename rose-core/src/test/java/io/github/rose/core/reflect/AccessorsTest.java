@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.rose.core.exception.RoseException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import org.junit.jupiter.api.Test;
+
+public class AccessorsTest {
+    @Test
+    public void getAndSetPrivateField() throws Exception {
+        Field field = SomeClass.class.getDeclaredField("someField");
+        SomeClass someObject = new SomeClass();
+
+        Accessors.<SomeClass, String>setter(field).set(someObject, "value");
+
+        assertThat(Accessors.<SomeClass, String>getter(field).get(someObject)).isEqualTo("value");
+        assertThat(Accessors.<SomeClass, String>getter(field)).isSameAs(Accessors.getter(field));
+    }
+
+    @Test
+    public void getAndSetStaticField() throws Exception {
+        Field field = SomeClass.class.getDeclaredField("someStaticField");
+
+        Accessors.setter(field).set(null, 42);
+
+        assertThat(Accessors.<SomeClass, Integer>getter(field).get(null)).isEqualTo(42);
+    }
+
+    @Test
+    public void invokeMethods() throws Exception {
+        SomeClass someObject = new SomeClass();
+
+        assertThat(Accessors.<SomeClass, String>invoker(
+                                SomeClass.class.getDeclaredMethod("concat", String.class, int.class))
+                        .invoke(someObject, "a", 1))
+                .isEqualTo("a1");
+        assertThat(Accessors.<SomeClass, Integer>invoker(
+                                SomeClass.class.getDeclaredMethod("twice", int.class))
+                        .invoke(null, 2))
+                .isEqualTo(4);
+        assertThat(Accessors.<SomeClass, Object>invoker(SomeClass.class.getDeclaredMethod("doNothing"))
+                        .invoke(someObject))
+                .isNull();
+    }
+
+    @Test
+    public void checkedInvocationFailuresAreWrapped() throws Exception {
+        Accessors.Invoker<SomeClass, Object> invoker =
+                Accessors.invoker(SomeClass.class.getDeclaredMethod("failChecked"));
+
+        assertThatThrownBy(() -> invoker.invoke(new SomeClass()))
+                .isInstanceOf(RoseException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void uncheckedInvocationFailuresArePropagated() throws Exception {
+        Accessors.Invoker<SomeClass, Object> invoker = Accessors.invoker(SomeClass.class.getDeclaredMethod("fail"));
+
+        assertThatThrownBy(() -> invoker.invoke(new SomeClass()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failure");
+    }
+
+    @Test
+    public void instantiateWithPrivateConstructors() throws Exception {
+        assertThat(Accessors.factory(SomeClass.class).newInstance()).isInstanceOf(SomeClass.class);
+        assertThat(Accessors.factory(SomeClass.class.getDeclaredConstructor(String.class))
+                        .newInstance("value")
+                        .someField)
+                .isEqualTo("value");
+    }
+
+    @Test
+    public void instantiateAbstractClassFails() {
+        assertThatThrownBy(() -> Accessors.factory(AbstractClass.class).newInstance())
+                .isInstanceOf(RoseException.class);
+    }
+
+    static class SomeClass {
+        private static int someStaticField;
+        private String someField;
+
+        private SomeClass() {}
+
+        private SomeClass(String someField) {
+            this.someField = someField;
+        }
+
+        private String concat(String value, int number) {
+            return value + number;
+        }
+
+        private static int twice(int value) {
+            return value * 2;
+        }
+
+        private void doNothing() {}
+
+        private void fail() {
+            throw new IllegalStateException("failure");
+        }
+
+        private void failChecked() throws IOException {
+            throw new IOException("failure");
+        }
+    }
+
+    abstract static class AbstractClass {}
+}
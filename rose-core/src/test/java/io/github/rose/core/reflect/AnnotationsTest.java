@@ -299,6 +299,29 @@ public class AnnotationsTest {
                 .isPresent();
     }
 
+    @Test
+    public void findAllByClassOnColdContext() throws Exception {
+        Method metaAnnotatedMethod = NotAnnotatedClass.class.getDeclaredMethod("metaAnnotatedMethod");
+        assertThat(Annotations.on(metaAnnotatedMethod)
+                        .includingMetaAnnotations()
+                        .traversingInterfaces()
+                        .findAll(MethodAnnotation.class)
+                        .count())
+                .isEqualTo(1L);
+        assertThat(Annotations.on(metaAnnotatedMethod)
+                        .traversingSuperclasses()
+                        .findAll(MethodAnnotation.class)
+                        .count())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    public void findReturnsCachedResult() throws Exception {
+        Method annotatedMethod = NotAnnotatedClass.class.getDeclaredMethod("annotatedMethod");
+        assertThat(Annotations.on(annotatedMethod).find(MethodAnnotation.class))
+                .isSameAs(Annotations.on(annotatedMethod).find(MethodAnnotation.class));
+    }
+
     @Test
     public void classAnnotationScopeIsLimited() throws Exception {
         Method notAnnotatedMethod = AnnotatedByInterface.class.getDeclaredMethod("notAnnotatedMethod");
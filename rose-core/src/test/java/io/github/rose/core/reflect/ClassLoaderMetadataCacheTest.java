@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+public class ClassLoaderMetadataCacheTest {
+    @Test
+    public void recordsHitsAndMisses() {
+        MetadataCache<Class<?>, String> cache =
+                new ClassLoaderMetadataCache<>("test", Function.identity(), ClassLoaderMetadataCache.UNBOUNDED);
+
+        assertThat(cache.get(String.class, Class::getSimpleName)).isEqualTo("String");
+        assertThat(cache.get(String.class, c -> "other")).isEqualTo("String");
+        assertThat(cache.get(ClassLoaderMetadataCacheTest.class, Class::getSimpleName))
+                .isEqualTo("ClassLoaderMetadataCacheTest");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+        assertThat(cache.stats().evictionCount()).isZero();
+    }
+
+    @Test
+    public void loadsConcurrentMissesOnce() throws Exception {
+        MetadataCache<Class<?>, String> cache =
+                new ClassLoaderMetadataCache<>("test", Function.identity(), ClassLoaderMetadataCache.UNBOUNDED);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(First.class, c -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return c.getSimpleName();
+            }));
+            await(loading);
+            Future<String> second = executor.submit(() -> cache.get(First.class, c -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("First");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("First");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void loadersMayLookUpOtherKeys() {
+        MetadataCache<Class<?>, String> cache =
+                new ClassLoaderMetadataCache<>("test", Function.identity(), ClassLoaderMetadataCache.UNBOUNDED);
+
+        assertThat(cache.get(First.class, c -> cache.get(Second.class, Class::getSimpleName)))
+                .isEqualTo("Second");
+        assertThatThrownBy(() -> cache.get(Third.class, c -> cache.get(Third.class, Class::getSimpleName)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(Third.class, Class::getSimpleName)).isEqualTo("Third");
+    }
+
+    @Test
+    public void evictsBeyondMaximumSize() {
+        MetadataCache<Class<?>, String> cache = new ClassLoaderMetadataCache<>("test", Function.identity(), 2);
+
+        cache.get(First.class, Class::getSimpleName);
+        cache.get(Second.class, Class::getSimpleName);
+        cache.get(First.class, Class::getSimpleName);
+        cache.get(Third.class, Class::getSimpleName);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+        assertThat(cache.get(First.class, c -> "reloaded")).isEqualTo("First");
+        assertThat(cache.get(Second.class, c -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    public void evictsWhenResized() {
+        ClassLoaderMetadataCache<Class<?>, String> cache =
+                new ClassLoaderMetadataCache<>("test", Function.identity(), ClassLoaderMetadataCache.UNBOUNDED);
+        cache.get(First.class, Class::getSimpleName);
+        cache.get(Second.class, Class::getSimpleName);
+        cache.get(Third.class, Class::getSimpleName);
+        cache.get(First.class, Class::getSimpleName);
+
+        cache.setMaximumSize(1);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.stats().evictionCount()).isEqualTo(2);
+        assertThat(cache.get(First.class, c -> "reloaded")).isEqualTo("First");
+    }
+
+    @Test
+    public void invalidatesByClassLoader() {
+        MetadataCache<Class<?>, String> cache =
+                new ClassLoaderMetadataCache<>("test", Function.identity(), ClassLoaderMetadataCache.UNBOUNDED);
+        cache.get(String.class, Class::getSimpleName);
+        cache.get(First.class, Class::getSimpleName);
+
+        cache.invalidate(First.class.getClassLoader());
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(First.class, c -> "reloaded")).isEqualTo("reloaded");
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void keysWithoutOwnerAreCached() {
+        MetadataCache<String, String> cache =
+                new ClassLoaderMetadataCache<>("test", key -> null, ClassLoaderMetadataCache.UNBOUNDED);
+
+        assertThat(cache.get("key", String::toUpperCase)).isEqualTo("KEY");
+        assertThat(cache.get("key", k -> "other")).isEqualTo("KEY");
+    }
+
+    @Test
+    public void registersReflectionCaches() {
+        Classes.from(First.class).classes();
+        Annotations.on(First.class).findAll();
+
+        assertThat(MetadataCaches.caches())
+                .extracting(MetadataCache::name)
+                .contains("classes", "annotations");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class First {}
+
+    static class Second {}
+
+    static class Third {}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import org.junit.jupiter.api.Test;
+
+public class ClasspathAnnotationIndexTest {
+    @Test
+    public void resolvesIndexedElements() throws Exception {
+        ClasspathAnnotationIndex index = ClasspathAnnotationIndex.get(getClass().getClassLoader());
+
+        assertThat(index.isPresent()).isTrue();
+        assertThat(index.isIndexed(Indexed.class)).isTrue();
+        assertThat(index.getEntries(Indexed.class)).hasSize(4);
+        assertThat(index.types(Indexed.class)).containsExactly(Target.class);
+        assertThat(index.fields(Indexed.class)).containsExactly(Target.class.getDeclaredField("field"));
+        assertThat(index.methods(Indexed.class))
+                .containsExactly(Target.class.getDeclaredMethod("method", String.class, int[].class));
+    }
+
+    @Test
+    public void unknownAnnotationIsNotIndexed() {
+        ClasspathAnnotationIndex index = ClasspathAnnotationIndex.get(getClass().getClassLoader());
+
+        assertThat(index.isIndexed(Deprecated.class)).isFalse();
+        assertThat(index.elements(Deprecated.class)).isEmpty();
+    }
+
+    @Test
+    public void coversClassesOfIndexedRoots() {
+        ClasspathAnnotationIndex index = ClasspathAnnotationIndex.get(getClass().getClassLoader());
+
+        assertThat(index.covers(Target.class)).isTrue();
+        assertThat(index.covers(String.class)).isFalse();
+    }
+
+    @Test
+    public void provesAbsenceOnCoveredClasses() {
+        ClasspathAnnotationIndex index = ClasspathAnnotationIndex.get(getClass().getClassLoader());
+
+        assertThat(index.mayBeAnnotated(Target.class, Indexed.class)).isTrue();
+        assertThat(index.mayBeAnnotated(SubTarget.class, Indexed.class)).isTrue();
+        assertThat(index.mayBeAnnotated(Unrelated.class, Indexed.class)).isFalse();
+        assertThat(index.mayBeAnnotated(Unrelated.class, Deprecated.class)).isTrue();
+    }
+
+    @Test
+    public void facadesUseIndex() {
+        assertThat(Classes.annotatedWith(Indexed.class)).containsExactly(Target.class);
+        assertThat(Annotations.indexed(Indexed.class)).hasSize(3);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Indexed {}
+
+    @Indexed
+    static class Target {
+        @Indexed
+        String field;
+
+        @Indexed
+        void method(String value, int[] values) {}
+    }
+
+    static class SubTarget extends Target {}
+
+    static class Unrelated implements Runnable {
+        @Override
+        public void run() {}
+    }
+}
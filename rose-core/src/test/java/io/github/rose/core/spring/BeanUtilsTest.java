@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.cglib.beans.BeanCopier;
+
+public class BeanUtilsTest {
+    @Test
+    public void cachesBeanCopiers() {
+        BeanCopier copier = BeanUtils.BeanCopierCache.INSTANCE.get(User.class, UserDto.class, null);
+
+        assertThat(BeanUtils.BeanCopierCache.INSTANCE.get(User.class, UserDto.class, null))
+                .isSameAs(copier);
+        assertThat(BeanUtils.BeanCopierCache.INSTANCE.get(User.class, UserDto.class, (value, target, context) -> value))
+                .isNotSameAs(copier);
+    }
+
+    @Test
+    public void copiesProperties() {
+        UserDto dto = BeanUtils.copy(new User("alice", 30), new UserDto());
+
+        assertThat(dto.getName()).isEqualTo("alice");
+    }
+
+    @Test
+    public void copiesPropertiesWithHandles() {
+        UserDto dto = BeanUtils.copy(new User("alice", 30), new UserDto(), false);
+
+        assertThat(dto.getName()).isEqualTo("alice");
+        assertThat(dto.getAge()).isEqualTo(30);
+        assertThat(PropertyCopier.of(User.class, UserDto.class).propertyNames())
+                .containsExactly("age", "name");
+        assertThat(PropertyCopier.of(User.class, UserDto.class)).isSameAs(PropertyCopier.of(User.class, UserDto.class));
+    }
+
+    @Test
+    public void ignoresNullProperties() {
+        UserDto dto = new UserDto();
+        dto.setName("bob");
+        dto.setAge(40);
+
+        BeanUtils.copy(new User(null, null), dto, true);
+
+        assertThat(dto.getName()).isEqualTo("bob");
+        assertThat(dto.getAge()).isEqualTo(40);
+
+        BeanUtils.copy(new User(null, null), dto, false);
+
+        assertThat(dto.getName()).isNull();
+        assertThat(dto.getAge()).isEqualTo(40);
+    }
+
+    @Test
+    public void rethrowsErrors() {
+        assertThatThrownBy(() -> BeanUtils.copy(new FailingUser(), new UserDto(), false))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("name");
+    }
+
+    @Test
+    public void copiesLists() {
+        List<User> users = Arrays.asList(new User("alice", 30), null, new User("bob", null));
+
+        List<UserDto> copies = BeanUtils.copyList(users, UserDto::new);
+        List<UserDto> handleCopies = BeanUtils.copyList(users, UserDto::new, true);
+
+        assertThat(copies.get(0).getName()).isEqualTo("alice");
+        assertThat(copies.get(1)).isNull();
+        assertThat(copies.get(2).getName()).isEqualTo("bob");
+        assertThat(handleCopies.get(0).getAge()).isEqualTo(30);
+        assertThat(handleCopies.get(1)).isNull();
+        assertThat(handleCopies.get(2).getAge()).isZero();
+        assertThat(BeanUtils.copyList(null, UserDto::new)).isEmpty();
+    }
+
+    public static class User {
+        private String name;
+        private Integer age;
+
+        public User() {}
+
+        User(String name, Integer age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+    }
+
+    public static class FailingUser extends User {
+        @Override
+        public String getName() {
+            throw new AssertionError("name");
+        }
+    }
+
+    public static class UserDto {
+        private String name;
+        private int age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.spring.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+
+public class SpringExpressionResolverTest {
+    private final SpringExpressionResolver resolver = SpringExpressionResolver.getInstance();
+
+    @Test
+    public void resolvesTemplates() {
+        assertThat(resolver.resolve("${#tempDir}")).isEqualTo(System.getProperty("java.io.tmpdir"));
+        assertThat(resolver.resolve("${1 + 1}")).isEqualTo(2);
+        assertThat(resolver.resolve("plain")).isEqualTo("plain");
+        assertThat(resolver.resolve(" ")).isEqualTo(" ");
+    }
+
+    @Test
+    public void computesDynamicVariablesAtEachEvaluation() {
+        Object first = resolver.resolve("${#uuid}");
+        Object second = resolver.resolve("${#uuid}");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat((String) resolver.resolve("${randomNumber6}")).hasSize(6).containsOnlyDigits();
+    }
+
+    @Test
+    public void cachesParsedExpressions() {
+        assertThat(SpringExpressionResolver.parse("${#zoneId}")).isSameAs(SpringExpressionResolver.parse("${#zoneId}"));
+        assertThat(SpringExpressionResolver.parseExpression("#zoneId"))
+                .isSameAs(SpringExpressionResolver.parseExpression("#zoneId"));
+    }
+
+    @Test
+    public void keepsVariablesLocalToCreatedContexts() {
+        EvaluationContext context = resolver.createEvaluationContext();
+        context.setVariable("tempDir", "local");
+        context.setVariable("name", "rose");
+
+        assertThat(SpringExpressionResolver.parseExpression("#name + ':' + #tempDir")
+                        .getValue(context))
+                .isEqualTo("rose:local");
+        assertThat(SpringExpressionResolver.parseExpression("#zoneId").getValue(context))
+                .isEqualTo(resolver.resolve("${#zoneId}"));
+        assertThat(resolver.resolve("${#name}")).isNull();
+        assertThat(resolver.resolve("${#tempDir}")).isEqualTo(System.getProperty("java.io.tmpdir"));
+    }
+
+    @Test
+    public void keepsAssignmentsLocalToEvaluations() {
+        assertThat(resolver.resolve("${#assigned = 'value'}")).isEqualTo("value");
+        assertThat(resolver.resolve("${#assigned}")).isNull();
+        assertThat(resolver.getValue(SpringExpressionResolver.parse("${#tempDir = 'changed'}")))
+                .isEqualTo("changed");
+        assertThat(resolver.resolve("${#tempDir}")).isEqualTo(System.getProperty("java.io.tmpdir"));
+    }
+}
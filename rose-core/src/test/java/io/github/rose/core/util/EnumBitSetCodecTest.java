@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class EnumBitSetCodecTest {
+    private final EnumBitSetCodec<Large> codec = EnumBitSetCodec.of(Large.class);
+
+    @Test
+    public void encodesLargeEnums() {
+        long[] words = codec.encode(Large.L00, Large.L63, Large.L64, Large.L69);
+
+        assertThat(codec.getWordCount()).isEqualTo(2);
+        assertThat(words).containsExactly(1L | 1L << 63, 1L | 1L << 5);
+        assertThat(codec.decode(words)).containsExactly(Large.L00, Large.L63, Large.L64, Large.L69);
+        assertThat(codec.contains(words, Large.L64)).isTrue();
+        assertThat(codec.contains(words, Large.L65)).isFalse();
+        assertThat(codec.contains(new long[1], Large.L64)).isFalse();
+        assertThat(EnumBitSetCodec.cardinality(words)).isEqualTo(4);
+    }
+
+    @Test
+    public void ignoresUnknownBits() {
+        assertThat(codec.decode(new long[] {2L, -1L, -1L})).hasSize(7).contains(Large.L01, Large.L64, Large.L69);
+        assertThat(codec.decode(null)).isEmpty();
+    }
+
+    @Test
+    public void encodesHex() {
+        assertThat(codec.toHex(EnumSet.noneOf(Large.class))).isEqualTo("0");
+        assertThat(codec.toHex(EnumSet.of(Large.L00, Large.L05))).isEqualTo("21");
+        assertThat(codec.toHex(EnumSet.of(Large.L64))).isEqualTo("10000000000000000");
+        assertThat(codec.fromHex("10000000000000021")).containsExactly(Large.L00, Large.L05, Large.L64);
+        assertThat(codec.fromHex("0000FF")).hasSize(8);
+        assertThat(codec.fromHex(null)).isEmpty();
+        assertThat(EnumBitSetCodec.toHex(new long[] {EnumUtil.bitSetOf(Large.L03, Large.L40)}))
+                .isEqualTo(Long.toHexString(EnumUtil.bitSetOf(Large.L03, Large.L40)));
+        assertThatThrownBy(() -> codec.fromHex("xyz")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void encodesBase64() {
+        assertThat(codec.toBase64(EnumSet.noneOf(Large.class))).isEmpty();
+        assertThat(codec.toBase64(EnumSet.of(Large.L00))).isEqualTo("AQ");
+        assertThat(codec.fromBase64("AQ")).containsExactly(Large.L00);
+        assertThat(codec.fromBase64("")).isEmpty();
+        assertThatThrownBy(() -> codec.fromBase64("A+")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void roundTripsRandomSets() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            EnumSet<Large> set = EnumSet.noneOf(Large.class);
+            for (Large e : Large.values()) {
+                if (random.nextInt(4) == 0) {
+                    set.add(e);
+                }
+            }
+            String hex = codec.toHex(set);
+            String base64 = codec.toBase64(set);
+
+            assertThat(codec.fromHex(hex)).isEqualTo(set);
+            assertThat(codec.fromBase64(base64)).isEqualTo(set);
+            for (Large e : Large.values()) {
+                assertThat(codec.containsHex(hex, e)).isEqualTo(set.contains(e));
+                assertThat(codec.containsBase64(base64, e)).isEqualTo(set.contains(e));
+            }
+        }
+    }
+
+    @Test
+    public void combinesWords() {
+        long[] first = codec.encode(Large.L01, Large.L65);
+        long[] second = codec.encode(Large.L01, Large.L02);
+
+        assertThat(codec.decode(EnumBitSetCodec.union(first, second)))
+                .containsExactly(Large.L01, Large.L02, Large.L65);
+        assertThat(codec.decode(EnumBitSetCodec.intersect(first, second))).containsExactly(Large.L01);
+        assertThat(codec.decode(EnumBitSetCodec.difference(first, second))).containsExactly(Large.L65);
+        assertThat(EnumBitSetCodec.containsAll(first, codec.encode(Large.L65))).isTrue();
+        assertThat(EnumBitSetCodec.containsAll(first, second)).isFalse();
+        assertThat(EnumBitSetCodec.containsAny(first, second)).isTrue();
+        assertThat(EnumBitSetCodec.containsAny(first, codec.encode(Large.L02))).isFalse();
+
+        long[] target = Arrays.copyOf(first, first.length);
+        assertThat(codec.decode(EnumBitSetCodec.addAll(target, second)))
+                .containsExactly(Large.L01, Large.L02, Large.L65);
+        assertThat(codec.decode(EnumBitSetCodec.retainAll(target, second))).containsExactly(Large.L01, Large.L02);
+        assertThatThrownBy(() -> EnumBitSetCodec.addAll(new long[1], first))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void combinesHex() {
+        String first = codec.toHex(EnumSet.of(Large.L01, Large.L65));
+        String second = codec.toHex(EnumSet.of(Large.L01, Large.L02));
+
+        assertThat(codec.fromHex(EnumBitSetCodec.unionHex(first, second)))
+                .containsExactly(Large.L01, Large.L02, Large.L65);
+        assertThat(EnumBitSetCodec.intersectHex(first, second)).isEqualTo("2");
+        assertThat(EnumBitSetCodec.intersectHex("10", "1")).isEqualTo("0");
+    }
+
+    @Test
+    public void rejectsLargeEnumsInLongBitSets() {
+        assertThat(EnumUtil.bitSetOf(Large.L63)).isEqualTo(Long.MIN_VALUE);
+        assertThatThrownBy(() -> EnumUtil.bitSetOf(Large.L64)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    enum Large {
+        L00,
+        L01,
+        L02,
+        L03,
+        L04,
+        L05,
+        L06,
+        L07,
+        L08,
+        L09,
+        L10,
+        L11,
+        L12,
+        L13,
+        L14,
+        L15,
+        L16,
+        L17,
+        L18,
+        L19,
+        L20,
+        L21,
+        L22,
+        L23,
+        L24,
+        L25,
+        L26,
+        L27,
+        L28,
+        L29,
+        L30,
+        L31,
+        L32,
+        L33,
+        L34,
+        L35,
+        L36,
+        L37,
+        L38,
+        L39,
+        L40,
+        L41,
+        L42,
+        L43,
+        L44,
+        L45,
+        L46,
+        L47,
+        L48,
+        L49,
+        L50,
+        L51,
+        L52,
+        L53,
+        L54,
+        L55,
+        L56,
+        L57,
+        L58,
+        L59,
+        L60,
+        L61,
+        L62,
+        L63,
+        L64,
+        L65,
+        L66,
+        L67,
+        L68,
+        L69
+    }
+}
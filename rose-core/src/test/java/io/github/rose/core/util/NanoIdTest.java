@@ -18,7 +18,9 @@ package io.github.rose.core.util;
 import static io.github.rose.core.util.NanoId.DEFAULT_ALPHABET;
 import static io.github.rose.core.util.NanoId.DEFAULT_SIZE;
 
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +48,37 @@ class NanoIdTest {
         Assertions.assertThrows(
                 IllegalArgumentException.class, () -> NanoId.randomNanoId(random, DEFAULT_ALPHABET, -1));
     }
+
+    @Test
+    void testGenerator() {
+        Assertions.assertEquals(DEFAULT_SIZE, NanoIdGenerator.DEFAULT.next().length());
+        Assertions.assertEquals(10, NanoIdGenerator.DEFAULT.next(10).length());
+
+        NanoIdGenerator generator = NanoIdGenerator.of("abc".toCharArray(), 12, NanoIdGenerator.EntropySource.FAST);
+        Assertions.assertEquals(12, generator.getSize());
+        Assertions.assertTrue(generator.next().matches("[abc]{12}"));
+        Assertions.assertEquals("xxxx", NanoIdGenerator.of("x".toCharArray(), 4).next());
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add(NanoIdGenerator.DEFAULT.next());
+        }
+        Assertions.assertEquals(10000, ids.size());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NanoIdGenerator.of(null, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NanoIdGenerator.of(new char[256], 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NanoIdGenerator.of(DEFAULT_ALPHABET, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NanoIdGenerator.of(DEFAULT_ALPHABET, 10, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NanoIdGenerator.DEFAULT.next(0));
+    }
+
+    @Test
+    void testMask() {
+        Assertions.assertEquals(1, NanoIdGenerator.mask(1));
+        Assertions.assertEquals(1, NanoIdGenerator.mask(2));
+        Assertions.assertEquals(3, NanoIdGenerator.mask(3));
+        Assertions.assertEquals(63, NanoIdGenerator.mask(64));
+        Assertions.assertEquals(127, NanoIdGenerator.mask(65));
+        Assertions.assertEquals(255, NanoIdGenerator.mask(255));
+    }
 }
@@ -15,8 +15,12 @@
  */
 package io.github.rose.core.util;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.github.rose.processor.AutoService;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
@@ -48,6 +52,29 @@ class ServiceLoadersTest {
     @Test
     void testLoad() {}
 
+    @Test
+    void loadReturnsNewInstances() {
+        List<Service> first = new ArrayList<>(ServiceLoaders.load(Service.class));
+        List<Service> second = new ArrayList<>(ServiceLoaders.load(Service.class));
+
+        assertThat(first).hasSize(2).hasSameSizeAs(second);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).isNotSameAs(first.get(i)).hasSameClassAs(first.get(i));
+        }
+    }
+
+    @Test
+    void loadSharedReturnsSameInstances() {
+        List<Service> first = new ArrayList<>(ServiceLoaders.loadShared(Service.class));
+        List<Service> second = new ArrayList<>(ServiceLoaders.loadShared(Service.class));
+
+        assertThat(first).hasSize(2);
+        assertThat(second).containsExactlyElementsOf(first);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).isSameAs(first.get(i));
+        }
+    }
+
     public interface Service {}
 
     @AutoService(Service.class)
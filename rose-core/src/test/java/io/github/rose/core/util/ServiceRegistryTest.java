@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.rose.processor.AutoService;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+public class ServiceRegistryTest {
+    private static final AtomicInteger instantiations = new AtomicInteger();
+    private static volatile ClassLoader registryLoader;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void ordersProcessedProvidersByDescendingPriority() {
+        List<Indexed> services = ServiceRegistry.get().load(Indexed.class);
+
+        assertThat(services)
+                .extracting(Object::getClass)
+                .containsExactly(OrderedIndexed.class, HighIndexed.class, PlainIndexed.class, LowIndexed.class);
+        assertThat(ServiceRegistry.get().load(Indexed.class)).isEqualTo(services);
+        assertThat(ServiceRegistry.get().first(Indexed.class)).containsSame(services.get(0));
+    }
+
+    @Test
+    public void instantiatesProvidersLazily() throws IOException {
+        try (URLClassLoader classLoader = declare(
+                Greeter.class,
+                "# comment",
+                FirstGreeter.class.getName() + " # priority=1",
+                SecondGreeter.class.getName() + " #priority=5",
+                "",
+                AnnotatedGreeter.class.getName(),
+                "com.example.MissingGreeter # priority=9",
+                FirstGreeter.class.getName() + " # priority=100")) {
+            ServiceRegistry registry = ServiceRegistry.get(classLoader);
+            int before = instantiations.get();
+
+            List<ServiceRegistry.Provider<Greeter>> providers = registry.providers(Greeter.class);
+
+            assertThat(providers)
+                    .extracting(ServiceRegistry.Provider::getClassName)
+                    .containsExactly(
+                            "com.example.MissingGreeter",
+                            SecondGreeter.class.getName(),
+                            AnnotatedGreeter.class.getName(),
+                            FirstGreeter.class.getName());
+            assertThat(providers).extracting(ServiceRegistry.Provider::getPriority).containsExactly(9, 5, 3, 1);
+            assertThat(instantiations.get()).isEqualTo(before);
+
+            assertThat(registry.first(Greeter.class)).get().isInstanceOf(SecondGreeter.class);
+            assertThat(instantiations.get()).isEqualTo(before + 1);
+
+            assertThat(registry.load(Greeter.class))
+                    .extracting(Object::getClass)
+                    .containsExactly(SecondGreeter.class, AnnotatedGreeter.class, FirstGreeter.class);
+            assertThat(registry.load(Greeter.class)).hasSize(3);
+            assertThat(instantiations.get()).isEqualTo(before + 3);
+        }
+    }
+
+    @Test
+    public void providersMayLoadOtherServices() throws IOException {
+        declare(Greeter.class, ThirdGreeter.class.getName()).close();
+        try (URLClassLoader classLoader = declare(Composite.class, ComposingService.class.getName())) {
+            registryLoader = classLoader;
+
+            List<Composite> services = ServiceRegistry.get(classLoader).load(Composite.class);
+
+            assertThat(services).hasSize(1);
+            assertThat(((ComposingService) services.get(0)).greeters)
+                    .extracting(Object::getClass)
+                    .containsExactly(ThirdGreeter.class);
+        }
+    }
+
+    @Test
+    public void cachesRegistriesPerClassLoader() throws IOException {
+        try (URLClassLoader classLoader = declare(Greeter.class)) {
+            ServiceRegistry registry = ServiceRegistry.get(classLoader);
+
+            assertThat(ServiceRegistry.get(classLoader)).isSameAs(registry);
+            assertThat(ServiceRegistry.get(getClass().getClassLoader())).isNotSameAs(registry);
+            assertThat(registry.load(Greeter.class)).isEmpty();
+
+            ServiceRegistry.invalidate(classLoader);
+
+            assertThat(ServiceRegistry.get(classLoader)).isNotSameAs(registry);
+        }
+    }
+
+    private URLClassLoader declare(Class<?> contract, String... lines) throws IOException {
+        Path file = tempDir.resolve(ServiceRegistry.SERVICES_LOCATION + contract.getName());
+        Files.createDirectories(file.getParent());
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    public interface Indexed {}
+
+    @AutoService(Indexed.class)
+    public static class PlainIndexed implements Indexed {}
+
+    @Order(10)
+    @AutoService(Indexed.class)
+    public static class HighIndexed implements Indexed {}
+
+    @Order(-10)
+    @AutoService(Indexed.class)
+    public static class LowIndexed implements Indexed {}
+
+    @AutoService(Indexed.class)
+    public static class OrderedIndexed implements Indexed, Ordered {
+        @Override
+        public int getOrder() {
+            return 20;
+        }
+    }
+
+    /**
+     * Declared in a temporary services file only, not processed.
+     */
+    public interface Greeter {}
+
+    public static class FirstGreeter implements Greeter {
+        public FirstGreeter() {
+            instantiations.incrementAndGet();
+        }
+    }
+
+    public static class SecondGreeter implements Greeter {
+        public SecondGreeter() {
+            instantiations.incrementAndGet();
+        }
+    }
+
+    @Order(3)
+    public static class AnnotatedGreeter implements Greeter {
+        public AnnotatedGreeter() {
+            instantiations.incrementAndGet();
+        }
+    }
+
+    public static class ThirdGreeter implements Greeter {}
+
+    public interface Composite {}
+
+    /**
+     * Instantiated while its contract is read, to get its order, and looks another contract up meanwhile.
+     */
+    public static class ComposingService implements Composite, Ordered {
+        private final List<Greeter> greeters;
+
+        public ComposingService() {
+            greeters = ServiceRegistry.get(registryLoader).load(Greeter.class);
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+}
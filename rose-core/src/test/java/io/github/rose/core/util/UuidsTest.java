@@ -54,4 +54,12 @@ class UuidsTest {
         Map<String, Object> map2 = JsonUtils.toMap(json);
         log.info("Map2: " + map2);
     }
+
+    @Test
+    void testBase62() {
+        UUID uuid = Uuids.getUUID();
+        String base62 = Uuids.uuidToBase62(uuid);
+        Assertions.assertEquals(22, base62.length());
+        Assertions.assertEquals(uuid, Uuids.base62ToUuid(base62));
+    }
 }
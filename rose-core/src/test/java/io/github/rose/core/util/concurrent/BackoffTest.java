@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class BackoffTest {
+    @Test
+    void fixed() {
+        Backoff backoff = Backoff.fixed(Duration.ofMillis(100));
+
+        assertThat(backoff.delayMillis(1, 0)).isEqualTo(100);
+        assertThat(backoff.delayMillis(5, 100)).isEqualTo(100);
+    }
+
+    @Test
+    void exponential() {
+        Backoff backoff = Backoff.exponential(Duration.ofMillis(100), 2, Duration.ofMillis(500));
+
+        assertThat(backoff.delayMillis(1, 0)).isEqualTo(100);
+        assertThat(backoff.delayMillis(2, 100)).isEqualTo(200);
+        assertThat(backoff.delayMillis(3, 200)).isEqualTo(400);
+        assertThat(backoff.delayMillis(4, 400)).isEqualTo(500);
+        assertThat(backoff.delayMillis(1000, 500)).isEqualTo(500);
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatThrownBy(() -> Backoff.fixed(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Backoff.exponential(Duration.ofMillis(100), 0.5, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Backoff.fixed(Duration.ofMillis(100)).withJitter(2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void jitter() {
+        Backoff backoff = Backoff.fixed(Duration.ofMillis(100)).withJitter(0.5);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(backoff.delayMillis(1, 0)).isBetween(50L, 100L);
+        }
+    }
+
+    @Test
+    void decorrelatedJitter() {
+        Backoff backoff = Backoff.decorrelatedJitter(Duration.ofMillis(100), Duration.ofMillis(1000));
+
+        long previousDelay = 0;
+        for (int attempt = 1; attempt < 1000; attempt++) {
+            long delay = backoff.delayMillis(attempt, previousDelay);
+            assertThat(delay).isBetween(100L, Math.min(1000L, Math.max(100L, previousDelay) * 3));
+            previousDelay = delay;
+        }
+    }
+
+    @Test
+    void policyBudget() {
+        RetryPolicy policy = RetryPolicy.DEFAULT
+                .withMaxAttempts(3)
+                .withBackoff(Backoff.fixed(Duration.ofMillis(100)))
+                .withMaxElapsed(Duration.ofMillis(250));
+        RuntimeException failure = new RuntimeException();
+
+        assertThat(policy.nextDelayMillis(1, 0, 0, failure)).isEqualTo(100);
+        assertThat(policy.nextDelayMillis(2, 100, 100, failure)).isEqualTo(100);
+        assertThat(policy.nextDelayMillis(2, 100, 200, failure)).isEqualTo(RetryPolicy.GIVE_UP);
+        assertThat(policy.nextDelayMillis(3, 100, 0, failure)).isEqualTo(RetryPolicy.GIVE_UP);
+    }
+
+    @Test
+    void policyRetryableFailures() {
+        RetryPolicy policy = RetryPolicy.DEFAULT.retryOn(IOException.class);
+
+        assertThat(policy.isRetryable(new IOException())).isTrue();
+        assertThat(policy.isRetryable(new UncheckedIOException(new IOException()))).isTrue();
+        assertThat(policy.isRetryable(new IllegalStateException())).isFalse();
+        assertThat(RetryPolicy.DEFAULT.isRetryable(new IllegalStateException())).isTrue();
+        assertThat(RetryPolicy.DEFAULT.isRetryable(new AssertionError())).isFalse();
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.rose.core.util.concurrent.FanOut.DelayScheduler;
+import io.github.rose.core.util.context.ContextSlot;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FanOutTest {
+    private static final ThreadLocal<String> USER = new ThreadLocal<>();
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    static {
+        ContextSlot.register("fan-out-user", USER);
+    }
+
+    private final FakeClock clock = new FakeClock();
+    private final ManualExecutor executor = new ManualExecutor();
+
+    @AfterEach
+    void clear() {
+        USER.remove();
+    }
+
+    @Test
+    void allCompletesInTaskOrderWithBoundedParallelism() {
+        CompletableFuture<List<String>> result =
+                FanOut.all(Arrays.asList(() -> "a", () -> "b", () -> "c"), TIMEOUT, executor, 2, clock);
+
+        assertThat(executor.queued()).isEqualTo(2);
+        executor.runLast();
+        assertThat(executor.queued()).isEqualTo(2);
+        executor.runAll();
+
+        assertThat(result.join()).containsExactly("a", "b", "c");
+        assertThat(clock.pending()).isZero();
+    }
+
+    @Test
+    void allFailsFastAndDropsSiblings() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<List<String>> result = FanOut.all(
+                Arrays.<Supplier<String>>asList(
+                        () -> {
+                            throw new IllegalStateException("failed");
+                        },
+                        () -> "b" + calls.incrementAndGet(),
+                        () -> "c" + calls.incrementAndGet()),
+                TIMEOUT,
+                executor,
+                2,
+                clock);
+
+        executor.runNext();
+        executor.runAll();
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void allTimesOut() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<List<Integer>> result = FanOut.all(
+                Arrays.asList(calls::incrementAndGet, calls::incrementAndGet), TIMEOUT, executor, 2, clock);
+
+        clock.advance(999);
+        assertThat(result.isDone()).isFalse();
+        clock.advance(1);
+        executor.runAll();
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void allOfNothingIsEmpty() {
+        CompletableFuture<List<String>> result =
+                FanOut.all(Collections.<Supplier<String>>emptyList(), TIMEOUT, executor, 1, clock);
+
+        assertThat(result.join()).isEmpty();
+    }
+
+    @Test
+    void anyCompletesWithFirstOutcome() {
+        CompletableFuture<String> success =
+                FanOut.any(Arrays.asList(() -> "a", () -> "b"), TIMEOUT, executor, 2, clock);
+        executor.runLast();
+        executor.runAll();
+
+        CompletableFuture<String> failure = FanOut.any(
+                Arrays.<Supplier<String>>asList(
+                        () -> {
+                            throw new IllegalStateException("failed");
+                        },
+                        () -> "b"),
+                TIMEOUT,
+                executor,
+                2,
+                clock);
+        executor.runNext();
+        executor.runAll();
+
+        assertThat(success.join()).isEqualTo("b");
+        assertThatThrownBy(failure::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void firstSuccessfulSkipsFailures() {
+        CompletableFuture<String> result = FanOut.firstSuccessful(
+                Arrays.<Supplier<String>>asList(
+                        () -> {
+                            throw new IllegalStateException("failed");
+                        },
+                        () -> "b",
+                        () -> "c"),
+                TIMEOUT,
+                executor,
+                1,
+                clock);
+
+        executor.runAll();
+
+        assertThat(result.join()).isEqualTo("b");
+    }
+
+    @Test
+    void firstSuccessfulSuppressesOtherFailures() {
+        CompletableFuture<String> result = FanOut.firstSuccessful(
+                Arrays.<Supplier<String>>asList(
+                        () -> {
+                            throw new IllegalStateException("first");
+                        },
+                        () -> {
+                            throw new IllegalArgumentException("second");
+                        }),
+                TIMEOUT,
+                executor,
+                2,
+                clock);
+
+        executor.runAll();
+
+        Throwable failure = result.handle((value, error) -> error).join();
+        assertThat(failure).isInstanceOf(IllegalStateException.class);
+        assertThat(failure.getSuppressed()[0]).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void hedgesSlowAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<Integer> result =
+                FanOut.hedged(attempts::incrementAndGet, Duration.ofMillis(100), executor, clock);
+
+        assertThat(executor.queued()).isEqualTo(1);
+        clock.advance(100);
+        assertThat(executor.queued()).isEqualTo(2);
+        executor.runLast();
+        executor.runAll();
+
+        assertThat(result.join()).isEqualTo(1);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgesFailedAttemptRightAway() {
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<Integer> result = FanOut.hedged(
+                () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException("failed");
+                    }
+                    return attempts.get();
+                },
+                Duration.ofMillis(100),
+                executor,
+                clock);
+
+        executor.runNext();
+        assertThat(executor.queued()).isEqualTo(1);
+        executor.runNext();
+
+        assertThat(result.join()).isEqualTo(2);
+        assertThat(clock.pending()).isZero();
+    }
+
+    @Test
+    void doesNotHedgeFastAttempt() {
+        CompletableFuture<String> result = FanOut.hedged(() -> "a", Duration.ofMillis(100), executor, clock);
+
+        executor.runNext();
+        clock.advance(100);
+
+        assertThat(result.join()).isEqualTo("a");
+        assertThat(executor.queued()).isZero();
+    }
+
+    @Test
+    void cancellationInterruptsRunningSiblings() throws InterruptedException {
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            CompletableFuture<List<String>> result = FanOut.all(
+                    Arrays.<Supplier<String>>asList(
+                            () -> {
+                                started.countDown();
+                                try {
+                                    new CountDownLatch(1).await();
+                                } catch (InterruptedException e) {
+                                    interrupted.countDown();
+                                }
+                                return "a";
+                            },
+                            () -> {
+                                try {
+                                    started.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                throw new IllegalStateException("failed");
+                            }),
+                    TIMEOUT,
+                    threads,
+                    2,
+                    clock);
+
+            assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancellingResultCancelsTasks() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Integer> result =
+                FanOut.any(Arrays.asList(calls::incrementAndGet, calls::incrementAndGet), TIMEOUT, executor, 2, clock);
+
+        result.cancel(true);
+        executor.runAll();
+
+        assertThat(calls.get()).isZero();
+        assertThat(clock.pending()).isZero();
+    }
+
+    @Test
+    void propagatesContextAndPinsExecutor() {
+        USER.set("alice");
+        CompletableFuture<String> result = Async.all(
+                        Arrays.<Supplier<String>>asList(USER::get, () -> "b"), TIMEOUT, executor, 2)
+                .thenApplyAsync(users -> users.get(0) + users.get(1))
+                .toCompletableFuture();
+        USER.remove();
+
+        executor.runNext();
+        executor.runNext();
+        assertThat(executor.queued()).isEqualTo(1);
+        executor.runNext();
+
+        assertThat(result.join()).isEqualTo("aliceb");
+        assertThat(USER.get()).isNull();
+    }
+
+    @Test
+    void defaultsToBoundedBlockingExecutor() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximum = new AtomicInteger();
+        List<Supplier<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < Async.DEFAULT_PARALLELISM * 3; i++) {
+            tasks.add(() -> {
+                maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return !(Thread.currentThread() instanceof ForkJoinWorkerThread);
+            });
+        }
+
+        List<Boolean> outsideCommonPool =
+                Async.all(tasks, Duration.ofSeconds(10)).toCompletableFuture().join();
+
+        assertThat(outsideCommonPool).hasSize(tasks.size()).doesNotContain(false);
+        assertThat(maximum.get()).isBetween(1, Async.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Runs the submitted tasks when asked to, in the calling thread.
+     */
+    private static final class ManualExecutor implements Executor {
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int queued() {
+            return tasks.size();
+        }
+
+        void runNext() {
+            tasks.removeFirst().run();
+        }
+
+        void runLast() {
+            tasks.removeLast().run();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                runNext();
+            }
+        }
+    }
+
+    /**
+     * Runs the scheduled commands when the time is advanced past their deadline.
+     */
+    private static final class FakeClock implements DelayScheduler {
+        private final List<Scheduled> scheduled = new ArrayList<>();
+        private long now;
+
+        @Override
+        public Future<?> schedule(Runnable command, long delayMillis) {
+            Scheduled task = new Scheduled(command, now + delayMillis);
+            scheduled.add(task);
+            return task;
+        }
+
+        void advance(long millis) {
+            now += millis;
+            for (Iterator<Scheduled> iterator = new ArrayList<>(scheduled).iterator(); iterator.hasNext(); ) {
+                Scheduled task = iterator.next();
+                if (task.deadline <= now) {
+                    scheduled.remove(task);
+                    task.run();
+                }
+            }
+        }
+
+        int pending() {
+            int pending = 0;
+            for (Scheduled task : scheduled) {
+                if (!task.isDone()) {
+                    pending++;
+                }
+            }
+            return pending;
+        }
+    }
+
+    private static final class Scheduled extends FutureTask<Void> {
+        private final long deadline;
+
+        private Scheduled(Runnable command, long deadline) {
+            super(command, null);
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class KeyedLocksTest {
+    private static final AtomicInteger names = new AtomicInteger();
+
+    @Test
+    void excludesSameKey() throws Exception {
+        assertExcludesSameKey(KeyedLocks.striped(nextName(), 16));
+        assertExcludesSameKey(KeyedLocks.weak(nextName()));
+    }
+
+    @Test
+    void weakLocksDoNotExcludeOtherKeys() throws Exception {
+        KeyedLocks<String> locks = KeyedLocks.weak(nextName());
+
+        try (KeyedLocks.Handle handle = locks.tryLock("a")) {
+            assertThat(handle).isNotNull();
+            Boolean locked = CompletableFuture.supplyAsync(() -> {
+                        try (KeyedLocks.Handle other = locks.tryLock("b")) {
+                            return other != null;
+                        }
+                    })
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(locked).isTrue();
+        }
+    }
+
+    @Test
+    void roundsStripesToPowerOfTwo() {
+        assertThat(KeyedLocks.striped(nextName(), 1).size()).isEqualTo(1);
+        assertThat(KeyedLocks.striped(nextName(), 5).size()).isEqualTo(8);
+        assertThat(KeyedLocks.striped(nextName(), 64).size()).isEqualTo(64);
+        assertThatThrownBy(() -> KeyedLocks.striped(nextName(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void locksAreReentrantAndHandlesIdempotent() {
+        KeyedLocks<String> locks = KeyedLocks.striped(nextName(), 4, true, Duration.ofMillis(100));
+
+        KeyedLocks.Handle outer = locks.tryLock("a");
+        KeyedLocks.Handle inner = locks.tryLock("a");
+        inner.close();
+        inner.close();
+
+        assertThat(locks.isHeldByCurrentThread("a")).isTrue();
+        outer.close();
+        assertThat(locks.isHeldByCurrentThread("a")).isFalse();
+        assertThat(locks.stats().uncontendedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recordsContention() throws Exception {
+        KeyedLocks<String> locks = KeyedLocks.weak(nextName());
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = hold(locks, "a", release);
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try (KeyedLocks.Handle handle = locks.tryLock("a")) {
+                return handle != null;
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!locks.hasQueuedThreads("a") && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        assertThat(locks.hasQueuedThreads("a")).isTrue();
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+
+        assertThat(waiter.get(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(locks.stats().uncontendedCount()).isEqualTo(1);
+        assertThat(locks.stats().contendedCount()).isEqualTo(1);
+        assertThat(locks.stats().totalWaitTime()).isGreaterThan(0L);
+    }
+
+    @Test
+    void evictsUnusedWeakLocks() throws InterruptedException {
+        KeyedLocks<Integer> locks = KeyedLocks.weak(nextName());
+        KeyedLocks.Handle held = locks.tryLock(-1);
+        for (int i = 0; i < 1000; i++) {
+            locks.tryLock(i).close();
+        }
+
+        for (int i = 0; i < 50 && locks.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(locks.size()).isEqualTo(1);
+        assertThat(locks.isHeldByCurrentThread(-1)).isTrue();
+        held.close();
+    }
+
+    @Test
+    void keepsInterruption() throws Exception {
+        KeyedLocks<String> locks = KeyedLocks.striped(nextName(), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = hold(locks, "a", release);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(locks.tryLock("a")).isNull();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+            release.countDown();
+        }
+        holder.get(10, TimeUnit.SECONDS);
+        assertThat(locks.stats().timeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsDuplicateNamesAndNullKeys() {
+        KeyedLocks<String> locks = KeyedLocks.weak(nextName());
+
+        assertThatThrownBy(() -> KeyedLocks.weak(locks.name())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> locks.tryLock(null)).isInstanceOf(NullPointerException.class);
+        assertThat(KeyedLocks.locks()).contains(locks);
+    }
+
+    @Test
+    void closeUnregistersLocks() {
+        KeyedLocks<String> locks = KeyedLocks.striped(nextName(), 4);
+
+        locks.close();
+        locks.close();
+
+        assertThat(KeyedLocks.locks()).doesNotContain(locks);
+        try (KeyedLocks<String> registered = KeyedLocks.striped(locks.name(), 4)) {
+            assertThat(KeyedLocks.locks()).contains(registered);
+        }
+        try (KeyedLocks.Handle handle = locks.tryLock("a")) {
+            assertThat(handle).isNotNull();
+        }
+    }
+
+    @Test
+    void notifiesListeners() {
+        KeyedLocks<String> existing = KeyedLocks.weak(nextName());
+        List<String> events = new CopyOnWriteArrayList<>();
+        KeyedLocks.Listener listener = new KeyedLocks.Listener() {
+            @Override
+            public void registered(KeyedLocks<?> locks) {
+                events.add("registered " + locks.name());
+            }
+
+            @Override
+            public void closed(KeyedLocks<?> locks) {
+                events.add("closed " + locks.name());
+            }
+        };
+
+        KeyedLocks.addListener(listener);
+        try {
+            KeyedLocks<String> created = KeyedLocks.striped(nextName(), 1);
+            created.close();
+            existing.close();
+
+            assertThat(events)
+                    .containsSubsequence(
+                            "registered " + existing.name(),
+                            "registered " + created.name(),
+                            "closed " + created.name(),
+                            "closed " + existing.name());
+        } finally {
+            KeyedLocks.removeListener(listener);
+        }
+        int notified = events.size();
+        KeyedLocks.striped(nextName(), 1).close();
+        assertThat(events).hasSize(notified);
+    }
+
+    private static void assertExcludesSameKey(KeyedLocks<String> locks) throws Exception {
+        try (KeyedLocks.Handle handle = locks.tryLock("a")) {
+            assertThat(handle).isNotNull();
+            KeyedLocks.Handle other = CompletableFuture.supplyAsync(() -> locks.tryLock("a", Duration.ofMillis(50)))
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(other).isNull();
+        }
+        assertThat(locks.stats().timeoutCount()).isEqualTo(1);
+    }
+
+    /**
+     * Holds the lock of the key in another thread until released, returning once the lock is held.
+     */
+    private static CompletableFuture<Void> hold(KeyedLocks<String> locks, String key, CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try (KeyedLocks.Handle handle = locks.tryLock(key)) {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        locked.await();
+        return holder;
+    }
+
+    private static String nextName() {
+        return "test-" + names.incrementAndGet();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RetrySchedulerTest {
+    private static final RetryPolicy FAST =
+            RetryPolicy.DEFAULT.withMaxAttempts(4).withBackoff(Backoff.fixed(Duration.ofMillis(10)));
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    private final RetryScheduler scheduler = RetryScheduler.register(new RetryScheduler(
+            "test-" + System.identityHashCode(this),
+            RetryScheduler.newScheduledExecutor("test-retry", 1),
+            clock::get,
+            millis -> {
+                sleeps.add(millis);
+                clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+            }));
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void callsUntilSuccess() throws Throwable {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = scheduler.call(
+                () -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw new IOException("attempt " + attempts.get());
+                    }
+                    return "done";
+                },
+                RetryPolicy.DEFAULT.withBackoff(Backoff.exponential(Duration.ofMillis(100), 2, Duration.ofSeconds(1))));
+
+        assertThat(result).isEqualTo("done");
+        assertThat(sleeps).containsExactly(100L, 200L);
+        assertThat(scheduler.stats().attemptCount()).isEqualTo(3);
+        assertThat(scheduler.stats().retryCount()).isEqualTo(2);
+        assertThat(scheduler.stats().successCount()).isEqualTo(1);
+        assertThat(scheduler.stats().giveUpCount()).isZero();
+    }
+
+    @Test
+    void callGivesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> scheduler.call(
+                        () -> {
+                            throw new IOException("attempt " + attempts.incrementAndGet());
+                        },
+                        FAST))
+                .isInstanceOf(IOException.class)
+                .hasMessage("attempt 4");
+        assertThat(scheduler.stats().giveUpCount()).isEqualTo(1);
+    }
+
+    @Test
+    void callGivesUpWhenElapsedBudgetIsExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.DEFAULT
+                .withMaxAttempts(Integer.MAX_VALUE)
+                .withBackoff(Backoff.fixed(Duration.ofSeconds(1)))
+                .withMaxElapsed(Duration.ofMillis(3500));
+
+        assertThatThrownBy(() -> scheduler.call(
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw new IllegalStateException();
+                        },
+                        policy))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(attempts.get()).isEqualTo(4);
+        assertThat(sleeps).containsExactly(1000L, 1000L, 1000L);
+    }
+
+    @Test
+    void callDoesNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> scheduler.call(
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw new IllegalStateException();
+                        },
+                        FAST.retryOn(IOException.class)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void submitsUntilSuccess() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryHandle<Integer> handle = scheduler.submit(
+                () -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw new IOException();
+                    }
+                    return attempts.get();
+                },
+                FAST);
+
+        assertThat(handle.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(handle.getAttempts()).isEqualTo(3);
+        assertThat(scheduler.stats().retryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void submitGivesUp() {
+        RetryHandle<Object> handle = scheduler.submit(
+                () -> {
+                    throw new IOException();
+                },
+                FAST);
+
+        assertThatThrownBy(() -> handle.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(handle.getAttempts()).isEqualTo(4);
+        assertThat(scheduler.stats().giveUpCount()).isEqualTo(1);
+    }
+
+    @Test
+    void submitsToExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "attempts"));
+        try {
+            List<String> threads = new ArrayList<>();
+            RetryHandle<List<String>> handle = scheduler.submit(
+                    () -> {
+                        threads.add(Thread.currentThread().getName());
+                        if (threads.size() < 2) {
+                            throw new IOException();
+                        }
+                        return threads;
+                    },
+                    FAST,
+                    executor);
+
+            assertThat(handle.get(5, TimeUnit.SECONDS)).containsExactly("attempts", "attempts");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void cancelsPendingRetry() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryHandle<Object> handle = scheduler.submit(
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new IOException();
+                },
+                FAST.withBackoff(Backoff.fixed(Duration.ofSeconds(10))));
+        while (attempts.get() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertThat(handle.cancel(false)).isTrue();
+
+        assertThatThrownBy(handle::join).isInstanceOf(CancellationException.class);
+        Thread.sleep(50);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failsWhenShutDown() {
+        scheduler.shutdown();
+
+        RetryHandle<Object> handle = scheduler.submit(() -> "never", FAST);
+
+        assertThatThrownBy(handle::join).isInstanceOf(CompletionException.class);
+        assertThat(RetryScheduler.schedulers()).doesNotContain(scheduler).contains(RetryScheduler.shared());
+    }
+
+    @Test
+    void rejectsDuplicateNames() {
+        assertThatThrownBy(() -> RetryScheduler.create(scheduler.name(), Executors.newSingleThreadScheduledExecutor()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> RetryScheduler.shared().shutdown()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void notifiesListeners() {
+        List<String> events = new ArrayList<>();
+        RetryScheduler.Listener listener = new RetryScheduler.Listener() {
+            @Override
+            public void registered(RetryScheduler registered) {
+                events.add("registered " + registered.name());
+            }
+
+            @Override
+            public void shutdown(RetryScheduler shutdown) {
+                events.add("shutdown " + shutdown.name());
+            }
+        };
+        RetryScheduler.addListener(listener);
+        try {
+            assertThat(events).contains("registered " + scheduler.name(), "registered " + RetryScheduler.SHARED_NAME);
+
+            RetryScheduler later = RetryScheduler.create(
+                    "later-" + System.identityHashCode(this), Executors.newSingleThreadScheduledExecutor());
+            later.shutdown();
+
+            assertThat(events).endsWith("registered " + later.name(), "shutdown " + later.name());
+        } finally {
+            RetryScheduler.removeListener(listener);
+        }
+    }
+}
@@ -18,7 +18,11 @@ package io.github.rose.core.util.concurrent;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
@@ -53,4 +57,108 @@ class RetryingExecutorTest {
             executor.stop();
         }
     }
+
+    @Test
+    public void testRetryAfterRestart() throws InterruptedException {
+        RecordingScheduler scheduled = new RecordingScheduler();
+        RetryScheduler scheduler = scheduled.register("restart");
+        RetryingExecutor restartable = new RetryingExecutor("test", Backoff.fixed(Duration.ofMillis(100)), scheduler);
+        FailingCommand command = new FailingCommand();
+        restartable.execute(command);
+        try {
+            restartable.start();
+            assertThat(scheduled.next().delayMillis).isEqualTo(100);
+            restartable.stop();
+
+            restartable.start();
+
+            assertThat(scheduled.next().delayMillis).isEqualTo(100);
+            assertThat(command.count.get()).isEqualTo(2);
+        } finally {
+            restartable.stop();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testBackoff() throws InterruptedException {
+        RecordingScheduler scheduled = new RecordingScheduler();
+        RetryScheduler scheduler = scheduled.register("backoff");
+        RetryingExecutor backingOff = new RetryingExecutor(
+                "test", Backoff.exponential(Duration.ofMillis(50), 10, Duration.ofSeconds(10)), scheduler);
+        FailingCommand command = new FailingCommand();
+        backingOff.execute(command);
+        try {
+            backingOff.start();
+            Scheduled restart = scheduled.next();
+            assertThat(restart.delayMillis).isEqualTo(50);
+
+            command.awaitTermination();
+            restart.command.run();
+
+            assertThat(scheduled.next().delayMillis).isEqualTo(500);
+            assertThat(command.count.get()).isEqualTo(2);
+        } finally {
+            backingOff.stop();
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Fails on each run, remembering the thread to wait for its termination before restarting it.
+     */
+    private static final class FailingCommand implements Runnable {
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile Thread thread;
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            count.incrementAndGet();
+            throw new RuntimeException("");
+        }
+
+        void awaitTermination() throws InterruptedException {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Records the scheduled restarts instead of running them, the test running them explicitly.
+     */
+    private static final class RecordingScheduler extends ScheduledThreadPoolExecutor {
+        private final BlockingQueue<Scheduled> scheduled = new LinkedBlockingQueue<>();
+
+        RecordingScheduler() {
+            super(1);
+            setRemoveOnCancelPolicy(true);
+        }
+
+        RetryScheduler register(String name) {
+            String schedulerName = "test-" + name + "-" + System.identityHashCode(this);
+            return RetryScheduler.register(new RetryScheduler(schedulerName, this, System::nanoTime, millis -> {}));
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            scheduled.add(new Scheduled(command, unit.toMillis(delay)));
+            return super.schedule(command, 1, TimeUnit.DAYS);
+        }
+
+        Scheduled next() throws InterruptedException {
+            Scheduled next = scheduled.poll(5, TimeUnit.SECONDS);
+            assertThat(next).isNotNull();
+            return next;
+        }
+    }
+
+    private static final class Scheduled {
+        private final Runnable command;
+        private final long delayMillis;
+
+        private Scheduled(Runnable command, long delayMillis) {
+            this.command = command;
+            this.delayMillis = delayMillis;
+        }
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.rose.core.util.context.ContextSlot;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TaskExecutorsTest {
+    private static final ThreadLocal<String> USER = new ThreadLocal<>();
+
+    static {
+        ContextSlot.register("task-executors-user", USER);
+    }
+
+    @AfterEach
+    void clear() {
+        USER.remove();
+        System.clearProperty(TaskExecutors.VIRTUAL_THREADS_PROPERTY);
+    }
+
+    @Test
+    void detectsVirtualThreads() {
+        boolean supported = !System.getProperty("java.specification.version").startsWith("1.")
+                && Integer.parseInt(System.getProperty("java.specification.version")) >= 21;
+
+        assertThat(TaskExecutors.isVirtualThreadsEnabled()).isEqualTo(supported);
+        assertThat(TaskExecutors.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    void blockingExecutorUsesVirtualThreadsWhenEnabled() throws Exception {
+        ExecutorService executor = TaskExecutors.newBlockingExecutor("test-blocking");
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+            assertThat(TaskExecutors.isVirtual(thread)).isEqualTo(TaskExecutors.isVirtualThreadsEnabled());
+            assertThat(thread.getName()).startsWith("test-blocking-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void blockingExecutorFallsBackToPlatformThreads() throws Exception {
+        System.setProperty(TaskExecutors.VIRTUAL_THREADS_PROPERTY, "false");
+        ExecutorService executor = TaskExecutors.newBlockingExecutor("test-platform");
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+            assertThat(TaskExecutors.isVirtualThreadsEnabled()).isFalse();
+            assertThat(TaskExecutors.isVirtual(thread)).isFalse();
+            assertThat(thread.isDaemon()).isTrue();
+            assertThat(thread.getName()).startsWith("test-platform-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void cpuExecutorUsesPlatformThreads() throws Exception {
+        ExecutorService executor = TaskExecutors.newCpuExecutor("test-cpu", 2);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+            assertThat(TaskExecutors.isVirtual(thread)).isFalse();
+            assertThat(thread.getName()).startsWith("test-cpu-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void runsBlockingStagesWithContext() {
+        USER.set("alice");
+
+        String user = Async.supplyBlocking(USER::get).toCompletableFuture().join();
+        String thread = Async.supplyBlocking(() -> "bob")
+                .thenApplyAsync(ignored -> Thread.currentThread().getName())
+                .toCompletableFuture()
+                .join();
+
+        assertThat(user).isEqualTo("alice");
+        assertThat(thread).startsWith("blocking-executor-");
+    }
+
+    @Test
+    void blockingSupplierComputesEachCall() {
+        AtomicInteger counter = new AtomicInteger();
+        Supplier<Integer> supplier = Blocking.supplier(counter::incrementAndGet);
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertThat(CompletableFuture.supplyAsync(supplier, pool).join()).isEqualTo(1);
+            assertThat(CompletableFuture.supplyAsync(supplier, pool).join()).isEqualTo(2);
+            assertThat(supplier.get()).isEqualTo(3);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.alibaba.ttl.TtlRunnable;
+import io.github.rose.core.util.CurrentInstance;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ContextSnapshotTest {
+    private static final ThreadLocal<String> USER = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> REQUEST = new ThreadLocal<>();
+    private static final ContextSlot<String> USER_SLOT = ContextSlot.register("test-user", USER);
+    private static final ContextSlot<Integer> REQUEST_SLOT = ContextSlot.register("test-request", REQUEST);
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void createExecutor() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterAll
+    static void shutdownExecutor() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void clear() {
+        ContextSnapshot.empty().restore();
+    }
+
+    @Test
+    void registersBuiltinSlots() {
+        assertThat(ContextSlot.names())
+                .startsWith(BuiltinSlots.MDC_SLOT, BuiltinSlots.CURRENT_INSTANCE_SLOT)
+                .contains("test-user", "test-request");
+    }
+
+    @Test
+    void rejectsDuplicateNames() {
+        assertThatThrownBy(() -> ContextSlot.register("test-user", new ThreadLocal<String>()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sharesEmptySnapshot() {
+        assertThat(ContextSnapshot.capture()).isSameAs(ContextSnapshot.empty());
+        assertThat(ContextSnapshot.capture().isEmpty()).isTrue();
+
+        USER.set("alice");
+
+        assertThat(ContextSnapshot.capture().isEmpty()).isFalse();
+    }
+
+    @Test
+    void capturesValues() {
+        USER.set("alice");
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        USER.set("bob");
+        REQUEST.set(42);
+
+        assertThat(USER_SLOT.get(snapshot)).isEqualTo("alice");
+        assertThat(REQUEST_SLOT.get(snapshot)).isNull();
+        assertThat(USER_SLOT.get()).isEqualTo("bob");
+    }
+
+    @Test
+    void appliesAndRestoresValues() {
+        USER.set("alice");
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        USER.set("bob");
+        REQUEST.set(42);
+
+        ContextSnapshot backup = snapshot.apply();
+
+        assertThat(USER.get()).isEqualTo("alice");
+        assertThat(REQUEST.get()).isNull();
+
+        backup.restore();
+
+        assertThat(USER.get()).isEqualTo("bob");
+        assertThat(REQUEST.get()).isEqualTo(42);
+    }
+
+    @Test
+    void propagatesToOtherThreads() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        USER.set("alice");
+        Runnable task = ContextSnapshot.capture().wrap((Runnable) () -> seen.set(USER.get()));
+        USER.remove();
+
+        executor.submit(task).get();
+
+        assertThat(seen.get()).isEqualTo("alice");
+        assertThat(executor.submit(USER::get).get()).isNull();
+    }
+
+    @Test
+    void restoresWorkerValues() throws Exception {
+        executor.submit(() -> USER.set("worker")).get();
+        USER.set("alice");
+
+        Callable<String> task = ContextSnapshot.capture().wrap((Callable<String>) USER::get);
+
+        String seen = executor.submit(task).get();
+
+        assertThat(seen).isEqualTo("alice");
+        assertThat(executor.submit(USER::get).get()).isEqualTo("worker");
+        executor.submit(USER::remove).get();
+    }
+
+    @Test
+    void wrapsExecutors() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        USER.set("alice");
+
+        executor.submit(() -> ContextSnapshot.wrap(executor).execute(() -> seen.set(USER.get())))
+                .get();
+        executor.submit(() -> {}).get();
+
+        assertThat(seen.get()).isNull();
+
+        ContextSnapshot.wrap(executor).execute(() -> seen.set(USER.get()));
+        executor.submit(() -> {}).get();
+
+        assertThat(seen.get()).isEqualTo("alice");
+    }
+
+    @Test
+    void propagatesCurrentInstances() throws Exception {
+        CurrentInstance.set(ContextSnapshotTest.class, this);
+
+        Callable<ContextSnapshotTest> current = () -> CurrentInstance.get(ContextSnapshotTest.class);
+        Callable<ContextSnapshotTest> task = ContextSnapshot.capture().wrap(current);
+
+        assertThat(executor.submit(task).get()).isSameAs(this);
+        assertThat(executor.submit(current).get()).isNull();
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    void propagatesThroughTtlWrappers() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        USER.set("alice");
+        Runnable task = TtlRunnable.get(() -> seen.set(USER.get()));
+        USER.remove();
+
+        executor.submit(task).get();
+
+        assertThat(seen.get()).isEqualTo("alice");
+        assertThat(executor.submit(USER::get).get()).isNull();
+    }
+}
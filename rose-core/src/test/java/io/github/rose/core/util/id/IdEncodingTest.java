@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class IdEncodingTest {
+    @Test
+    public void encodesBase64LikeTheJdk() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            byte[] bytes = ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+            String expected = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+            assertThat(IdEncoding.toBase64(uuid)).isEqualTo(expected);
+            assertThat(IdEncoding.base64ToUuid(expected)).isEqualTo(uuid);
+            assertThat(IdEncoding.base64ToUuid(expected + "==")).isEqualTo(uuid);
+        }
+    }
+
+    @Test
+    public void roundTripsBase62() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            long value = random.nextLong();
+
+            assertThat(IdEncoding.base62ToUuid(IdEncoding.toBase62(uuid))).isEqualTo(uuid);
+            assertThat(IdEncoding.base62ToLong(IdEncoding.toBase62(value))).isEqualTo(value);
+        }
+        assertThat(IdEncoding.toBase62(0L)).isEqualTo("00000000000");
+        assertThat(IdEncoding.toBase62(-1L)).isEqualTo("LygHa16AHYF");
+        assertThat(IdEncoding.toBase62(new UUID(0, 61))).isEqualTo("000000000000000000000z");
+    }
+
+    @Test
+    public void sortsLikeUnsignedValues() {
+        assertThat(IdEncoding.toBase62(999L)).isLessThan(IdEncoding.toBase62(1000L));
+        assertThat(IdEncoding.toBase62(Long.MAX_VALUE)).isLessThan(IdEncoding.toBase62(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void rejectsInvalidValues() {
+        assertThatThrownBy(() -> IdEncoding.base62ToLong("zzzzzzzzzzz")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdEncoding.base62ToLong("0000000000-")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdEncoding.base62ToUuid("0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdEncoding.base64ToUuid("AAAA")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class SnowflakeIdGeneratorTest {
+    @Test
+    public void encodesTimestampWorkerAndSequence() {
+        MutableClock clock = new MutableClock(1_700_000_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, SnowflakeIdGenerator.DEFAULT_EPOCH, clock);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(generator.timestampOf(first)).isEqualTo(clock.millis());
+        assertThat(SnowflakeIdGenerator.workerIdOf(first)).isEqualTo(5);
+        assertThat(SnowflakeIdGenerator.sequenceOf(first)).isZero();
+        assertThat(SnowflakeIdGenerator.sequenceOf(second)).isEqualTo(1);
+    }
+
+    @Test
+    public void staysMonotonicWhenClockGoesBackwards() {
+        MutableClock clock = new MutableClock(1_700_000_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, SnowflakeIdGenerator.DEFAULT_EPOCH, clock);
+        long previous = generator.nextId();
+
+        clock.millis -= 5_000;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(generator.getClockDrift()).isGreaterThanOrEqualTo(5_000);
+
+        clock.millis += 10_000;
+        long id = generator.nextId();
+        assertThat(id).isGreaterThan(previous);
+        assertThat(generator.timestampOf(id)).isEqualTo(clock.millis());
+        assertThat(generator.getClockDrift()).isZero();
+    }
+
+    @Test
+    public void reservesBatches() {
+        MutableClock clock = new MutableClock(1_700_000_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, SnowflakeIdGenerator.DEFAULT_EPOCH, clock);
+        long previous = generator.nextId();
+
+        long[] ids = generator.nextIds(10_000);
+
+        for (long id : ids) {
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(generator.nextId()).isGreaterThan(previous);
+        assertThatThrownBy(() -> generator.nextIds(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void generatesUniqueIdsConcurrently() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    public void assignsWorkerIds() throws Exception {
+        assertThat(new SnowflakeIdGenerator(WorkerIdAssigner.fixed(7)).getWorkerId())
+                .isEqualTo(7);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(WorkerIdAssigner.fixed(1024)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Path directory = Files.createTempDirectory("worker-lease");
+        Set<Integer> workerIds = new HashSet<>();
+        try (FileLeaseWorkerIdAssigner first = WorkerIdAssigner.fileLease(directory);
+                FileLeaseWorkerIdAssigner second = WorkerIdAssigner.fileLease(directory)) {
+            workerIds.add(first.assign(SnowflakeIdGenerator.MAX_WORKER_ID));
+            workerIds.add(second.assign(SnowflakeIdGenerator.MAX_WORKER_ID));
+            assertThat(first.assign(SnowflakeIdGenerator.MAX_WORKER_ID)).isEqualTo(first.getWorkerId());
+        }
+        assertThat(workerIds).containsExactlyInAnyOrder(0, 1);
+    }
+
+    static class MutableClock extends Clock {
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -42,6 +42,23 @@ public class TextFormatUtilsTest {
 
         message = TextFormatUtils.format("A,{},C,{},E", 1, 2, 3);
         assertEquals("A,1,C,2,E", message);
+
+        message = TextFormatUtils.format("A,{1},C,{0},E", "D", "B");
+        assertEquals("A,B,C,D,E", message);
+
+        message = TextFormatUtils.formatWithPlaceholder("A,%s,C,%s,E", "%s", "B", "D", "F");
+        assertEquals("A,B,C,D,E", message);
+    }
+
+    @Test
+    public void testFormatVariables() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("v1", "abc");
+        variables.put("v2", "");
+        variables.put("v3", "null");
+
+        assertEquals("abc,{v2},{v3},{v4}", TextFormatUtils.formatVariables("{v1},{v2},{v3},{v4}", variables));
+        assertEquals("abc,{v1}", TextFormatUtils.formatVariables("${v1},{v1}", "${", "}", variables));
     }
 
     @Test
@@ -54,5 +71,6 @@ public class TextFormatUtilsTest {
         String expect = "This is a test for abc and def";
 
         Assertions.assertEquals(expect, TextFormatUtils.substituteVariables(text, variables));
+        Assertions.assertEquals("abc and ", TextFormatUtils.substituteVariables("${v1} and ${v3}", variables));
     }
 }
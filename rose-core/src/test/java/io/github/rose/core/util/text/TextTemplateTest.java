@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class TextTemplateTest {
+    @Test
+    public void rendersPositionalAndIndexedPlaceholders() {
+        TextTemplate template = TextTemplate.compile("{1}-{}-{0}-{}");
+
+        assertThat(template.getPlaceholderCount()).isEqualTo(4);
+        assertThat(template.format("a", "b")).isEqualTo("b-a-a-b");
+        assertThat(template.format("a")).isEqualTo("{1}-a-a-{}");
+        assertThat(template.format((Object) null)).isEqualTo("{1}-null-null-{}");
+    }
+
+    @Test
+    public void rendersNamedPlaceholders() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("name", "rose");
+        variables.put("nested", "${name}");
+
+        TextTemplate template = TextTemplate.compile("${name}/${missing}/${nested}/{}/{0}");
+
+        assertThat(template.format(variables)).isEqualTo("rose//${name}/{}/{0}");
+        assertThat(template.format("a")).isEqualTo("${name}/${missing}/${nested}/a/a");
+    }
+
+    @Test
+    public void keepsInvalidPlaceholdersVerbatim() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", "x");
+
+        assertThat(TextTemplate.compile("{a}{ }{-1}{1234567890}").format("v")).isEqualTo("{a}{ }{-1}{1234567890}");
+        assertThat(TextTemplate.compile("${}").format("v")).isEqualTo("$v");
+        assertThat(TextTemplate.compile("${a\n}${a}").format(variables)).isEqualTo("${a\n}x");
+        assertThat(TextTemplate.compile("${a").format(variables)).isEqualTo("${a");
+    }
+
+    @Test
+    public void argumentsAreNotParsed() {
+        assertThat(TextTemplate.compile("{}{}").format("{}", "b")).isEqualTo("{}b");
+    }
+
+    @Test
+    public void rendersNestedTemplatesOnTheSameThread() {
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                return TextTemplate.compile("<{}>").format("inner");
+            }
+        };
+
+        assertThat(TextTemplate.compile("[{}] {}").format(argument, "outer")).isEqualTo("[<inner>] outer");
+    }
+
+    @Test
+    public void rendersIntoBuilder() {
+        StringBuilder builder = new StringBuilder("> ");
+
+        TextTemplate.compile("{} and {}").formatTo(builder, 1, 2);
+
+        assertThat(builder.toString()).isEqualTo("> 1 and 2");
+    }
+
+    @Test
+    public void rendersCustomDelimiters() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", "x");
+        TextTemplate template = TextTemplate.compile("{{a}} #[a] #[b]", "#[", "]");
+
+        assertThat(template.format(variables)).isEqualTo("{{a}} x ");
+        assertThat(TextTemplate.compile("{{a}}", "{", "}").format(variables)).isEqualTo("{x}");
+        assertThatThrownBy(() -> TextTemplate.compile("a", "", "}")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void cachesCompiledTemplates() {
+        assertThat(TextTemplate.compile("cached {}")).isSameAs(TextTemplate.compile("cached {}"));
+        assertThat(TextTemplate.compile("cached {}", "{", "}")).isSameAs(TextTemplate.compile("cached {}", "{", "}"));
+    }
+}
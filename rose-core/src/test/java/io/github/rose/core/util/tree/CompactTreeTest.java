@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class CompactTreeTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void serializesToSameJsonAsTree() throws Exception {
+        List<TreeNode<Long>> nodes = new ArrayList<>();
+        nodes.add(new TreeNode<>(1L, 0L, "b", 2));
+        nodes.add(new TreeNode<>(2L, 0L, "a", 1));
+        nodes.add(new TreeNode<Long>(3L, 1L, "c", 1).setExtra(Collections.singletonMap("code", "x")));
+
+        assertThat(objectMapper.writeValueAsString(TreeUtil.buildCompactSingle(
+                        nodes, 0L, TreeNodeConfig.DEFAULT_CONFIG, new DefaultNodeParser<>())))
+                .isEqualTo(objectMapper.writeValueAsString(TreeUtil.buildSingle(nodes, 0L)));
+    }
+
+    @Test
+    public void usesConfiguredKeys() throws Exception {
+        TreeNodeConfig config = new TreeNodeConfig();
+        config.setIdKey("key");
+        config.setNameKey("title");
+        config.setChildrenKey("items");
+        CompactTree<String> root = new CompactTree<String>(config).setId("root");
+        root.addChildren(new CompactTree<String>(config).setId("leaf").setName("Leaf"));
+
+        assertThat(objectMapper.writeValueAsString(root))
+                .isEqualTo("{\"key\":\"root\",\"items\":[{\"key\":\"leaf\",\"parentId\":\"root\",\"title\":\"Leaf\"}]}");
+    }
+
+    @Test
+    public void findsNodesAndParentNames() {
+        List<TreeNode<Integer>> nodes = new ArrayList<>();
+        nodes.add(new TreeNode<>(1, 0, "技术中心", 0));
+        nodes.add(new TreeNode<>(2, 1, "研发中心", 0));
+        nodes.add(new TreeNode<>(3, 2, "研发一部", 0));
+
+        CompactTree<Integer> root =
+                TreeUtil.buildCompactSingle(nodes, 0, TreeNodeConfig.DEFAULT_CONFIG, new DefaultNodeParser<>());
+
+        assertThat(root.getNode(3).getParentsName(true)).startsWith("研发一部", "研发中心", "技术中心");
+        assertThat(root.getNode(4)).isNull();
+        assertThat(root.getNode(1).getExtra()).isEmpty();
+    }
+}
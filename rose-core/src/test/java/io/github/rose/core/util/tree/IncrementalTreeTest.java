@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalTreeTest {
+    private IncrementalTree<Integer> tree;
+    private List<TreeChangeEvent<Integer>> events;
+
+    @BeforeEach
+    public void setUp() {
+        List<TreeNode<Integer>> nodes = new ArrayList<>();
+        nodes.add(new TreeNode<>(1, 0, "a", 0));
+        nodes.add(new TreeNode<>(2, 1, "b", 0));
+        nodes.add(new TreeNode<>(3, 2, "c", 0));
+        nodes.add(new TreeNode<>(4, 1, "d", 1));
+        nodes.add(new TreeNode<>(5, 0, "e", 1));
+        tree = IncrementalTree.of(TreeSupplier.ofHashed(0, null)
+                .append(nodes, new DefaultNodeParser<>())
+                .get());
+        events = new ArrayList<>();
+        tree.addListener(events::add);
+    }
+
+    @Test
+    public void insertKeepsSiblingOrder() {
+        tree.insert(new Tree<Integer>().setId(6).setParentId(1).setWeight(0));
+
+        assertThat(tree.getNode(1).getChildren()).extracting(Tree::getId).containsExactly(2, 6, 4);
+        assertThat(tree.getNode(6).getParent()).isSameAs(tree.getNode(1));
+        assertThat(events).extracting(TreeChangeEvent::getType).containsExactly(TreeChangeEvent.Type.INSERT);
+        assertThat(events.get(0).getAffectedIds()).containsExactly(1, 0);
+    }
+
+    @Test
+    public void moveRelinksSubtreeAndRefreshesIndex() {
+        TreeIndex<Integer> before = tree.index();
+
+        tree.move(2, 5);
+
+        assertThat(tree.index()).isNotSameAs(before);
+        assertThat(tree.index().getDescendantIds(5)).containsExactly(2, 3);
+        assertThat(tree.isAncestor(5, 3)).isTrue();
+        assertThat(tree.isAncestor(1, 3)).isFalse();
+        assertThat(events.get(0).getAffectedIds()).containsExactly(1, 0, 5);
+    }
+
+    @Test
+    public void updateWeightRepositionsNode() {
+        tree.updateWeight(2, 2);
+
+        assertThat(tree.getNode(1).getChildren()).extracting(Tree::getId).containsExactly(4, 2);
+    }
+
+    @Test
+    public void removeDropsWholeSubtree() {
+        assertThat(tree.remove(2)).isNotNull();
+
+        assertThat(tree.contains(3)).isFalse();
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.getNode(1).getChildren()).extracting(Tree::getId).containsExactly(4);
+        assertThat(tree.remove(42)).isNull();
+    }
+
+    @Test
+    public void rejectsInvalidChanges() {
+        assertThatThrownBy(() -> tree.move(1, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.remove(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.insert(new Tree<Integer>().setId(4).setParentId(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.insert(new Tree<Integer>().setId(7).setParentId(42)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(events).isEmpty();
+    }
+}
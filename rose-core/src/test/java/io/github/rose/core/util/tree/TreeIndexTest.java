@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TreeIndexTest {
+    private List<TreeNode<Integer>> nodes;
+
+    @BeforeEach
+    public void setUp() {
+        nodes = new ArrayList<>();
+        nodes.add(new TreeNode<>(1, 0, "技术中心", 0));
+        nodes.add(new TreeNode<>(2, 1, "研发中心", 0));
+        nodes.add(new TreeNode<>(3, 2, "研发一部", 0));
+        nodes.add(new TreeNode<>(4, 1, "测试中心", 1));
+        nodes.add(new TreeNode<>(5, 0, "财务中心", 1));
+    }
+
+    @Test
+    public void answersAncestorQueries() {
+        TreeIndex<Integer> index = TreeIndex.of(TreeUtil.buildSingle(nodes, 0));
+
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.isAncestor(1, 3)).isTrue();
+        assertThat(index.isAncestor(0, 5)).isTrue();
+        assertThat(index.isAncestor(2, 4)).isFalse();
+        assertThat(index.isAncestor(3, 3)).isFalse();
+        assertThat(index.isAncestorOrSelf(3, 3)).isTrue();
+        assertThat(index.isAncestor(1, 42)).isFalse();
+    }
+
+    @Test
+    public void listsDescendantsAndAncestors() {
+        TreeIndex<Integer> index = TreeIndex.of(TreeUtil.buildSingle(nodes, 0));
+
+        assertThat(index.getDescendantIds(1)).containsExactly(2, 3, 4);
+        assertThat(index.getDescendantCount(5)).isZero();
+        assertThat(index.getDepth(3)).isEqualTo(3);
+        assertThat(index.getDepth(42)).isEqualTo(-1);
+        assertThat(index.getParent(4).getId()).isEqualTo(1);
+        assertThat(index.getAncestors(3)).extracting(Node::getId).containsExactly(2, 1, 0);
+        assertThat(index.getParentsName(3, true)).startsWith("研发一部", "研发中心", "技术中心");
+    }
+
+    @Test
+    public void indexesCompactTrees() {
+        TreeIndex<Integer> index = TreeIndex.of(
+                TreeUtil.buildCompactSingle(nodes, 0, TreeNodeConfig.DEFAULT_CONFIG, new DefaultNodeParser<>()));
+
+        assertThat(index.getNode(3)).isInstanceOf(CompactTree.class);
+        assertThat(index.getDescendantIds(1)).containsExactly(2, 3, 4);
+    }
+}
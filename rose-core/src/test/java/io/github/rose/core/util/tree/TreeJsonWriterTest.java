@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TreeJsonWriterTest {
+    @Test
+    public void writesSameJsonAsBuiltTree() throws Exception {
+        List<TreeNode<Long>> nodes = new ArrayList<>();
+        for (long i = 1; i <= 500; i++) {
+            TreeNode<Long> node = new TreeNode<>(i, (i - 1) / 3, i % 4 == 0 ? null : "node" + i, (int) (i % 5));
+            if (i % 7 == 0) {
+                node.setExtra(Collections.singletonMap("code", "c" + i));
+            }
+            nodes.add(node);
+        }
+        ObjectMapper ordered = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        TreeNodeConfig cut = new TreeNodeConfig();
+        cut.setDeep(2);
+
+        for (ObjectMapper objectMapper : new ObjectMapper[] {new ObjectMapper(), ordered}) {
+            for (TreeNodeConfig config : new TreeNodeConfig[] {TreeNodeConfig.DEFAULT_CONFIG, cut}) {
+                String expected = objectMapper.writeValueAsString(TreeSupplier.ofHashed(0L, config)
+                        .append(nodes, new DefaultNodeParser<>())
+                        .buildList());
+
+                assertThat(write(objectMapper, nodes, config)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void writesEmptyArrayWithoutNodes() throws Exception {
+        assertThat(write(new ObjectMapper(), Collections.emptyList(), null)).isEqualTo("[]");
+    }
+
+    private static String write(ObjectMapper objectMapper, List<TreeNode<Long>> nodes, TreeNodeConfig config)
+            throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TreeJsonWriter.write(out, objectMapper, nodes, 0L, config, new DefaultNodeParser<>());
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.core.util.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TreeSupplierTest {
+    @Test
+    public void sortsSiblingsByWeight() {
+        List<TreeNode<Long>> nodes = Arrays.asList(
+                new TreeNode<>(1L, 0L, "b", 2),
+                new TreeNode<>(2L, 0L, "a", 1),
+                new TreeNode<>(3L, 1L, "c", 1),
+                new TreeNode<>(4L, 9L, "orphan", 1));
+
+        List<Tree<Long>> sorted = TreeSupplier.of(0L, null)
+                .append(nodes, new DefaultNodeParser<>())
+                .buildList();
+        List<Tree<Long>> hashed = TreeSupplier.ofHashed(0L, null)
+                .append(nodes, new DefaultNodeParser<>())
+                .buildList();
+
+        assertThat(sorted).extracting(Tree::getId).containsExactly(2L, 1L);
+        assertThat(hashed).extracting(Tree::getId).containsExactly(2L, 1L);
+        assertThat(sorted.get(1).getChildren()).extracting(Tree::getId).containsExactly(3L);
+        assertThat(hashed.get(1).getChildren().get(0).getParent()).isSameAs(hashed.get(1));
+    }
+
+    @Test
+    public void hashedModeKeepsSourceOrderForEqualWeights() {
+        List<TreeNode<String>> nodes = Arrays.asList(
+                new TreeNode<>("z", "root", "z", 1), new TreeNode<>("a", "root", "a", 1));
+
+        assertThat(TreeSupplier.ofHashed("root", null)
+                        .append(nodes, new DefaultNodeParser<>())
+                        .buildList())
+                .extracting(Tree::getId)
+                .containsExactly("z", "a");
+    }
+
+    @Test
+    public void parallelModeBuildsSameTree() {
+        List<TreeNode<Long>> nodes = new ArrayList<>();
+        for (long i = 1; i <= TreeSupplier.PARALLEL_THRESHOLD * 2; i++) {
+            nodes.add(new TreeNode<>(i, (i - 1) / 4, "node" + i, (int) (i % 7)));
+        }
+
+        Tree<Long> sequential =
+                TreeSupplier.ofHashed(0L, null).append(nodes, new DefaultNodeParser<>()).get();
+        Tree<Long> parallel = TreeSupplier.ofHashed(0L, null)
+                .parallel()
+                .append(nodes, new DefaultNodeParser<>())
+                .get();
+
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    public void handlesDeepTreesWithoutRecursion() {
+        int depth = 100_000;
+        List<TreeNode<Integer>> nodes = new ArrayList<>();
+        for (int i = 1; i <= depth; i++) {
+            nodes.add(new TreeNode<>(i, i - 1, "node" + i, 0));
+        }
+        TreeNodeConfig config = new TreeNodeConfig();
+        config.setDeep(depth - 1);
+
+        Tree<Integer> root = TreeSupplier.ofHashed(0, config)
+                .append(nodes, new DefaultNodeParser<>())
+                .get();
+
+        Tree<Integer> last = root.getNode(depth - 1);
+        assertThat(last).isNotNull();
+        assertThat(last.getChildren()).isNull();
+        assertThat(root.getNode(depth)).isNull();
+        assertThat(last.getParentsName(true)).hasSize(depth).startsWith("node" + (depth - 1));
+    }
+}
@@ -16,11 +16,13 @@
 package io.github.rose.mybatis.datapermission.annotation;
 
 import io.github.rose.mybatis.datapermission.rule.DataPermissionRule;
+import io.github.rose.processor.IndexedAnnotation;
 import java.lang.annotation.*;
 
 /**
  * 数据权限注解 可声明在类或者方法上，标识使用的数据权限规则
  */
+@IndexedAnnotation
 @Target({ElementType.TYPE, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
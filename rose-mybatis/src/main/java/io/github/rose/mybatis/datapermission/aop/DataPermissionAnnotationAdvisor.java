@@ -15,6 +15,7 @@
  */
 package io.github.rose.mybatis.datapermission.aop;
 
+import io.github.rose.core.spring.IndexedAnnotationClassFilter;
 import io.github.rose.mybatis.datapermission.annotation.DataPermission;
 import org.aopalliance.aop.Advice;
 import org.springframework.aop.Pointcut;
@@ -49,6 +50,9 @@ public class DataPermissionAnnotationAdvisor extends AbstractPointcutAdvisor {
     protected Pointcut buildPointcut() {
         Pointcut classPointcut = new AnnotationMatchingPointcut(DataPermission.class, true);
         Pointcut methodPointcut = new AnnotationMatchingPointcut(null, DataPermission.class, true);
-        return new ComposablePointcut(classPointcut).union(methodPointcut);
+        // 编译期注解索引证明未使用 @DataPermission 的类，跳过逐个方法的匹配
+        return new ComposablePointcut(classPointcut)
+                .union(methodPointcut)
+                .intersection(new IndexedAnnotationClassFilter(DataPermission.class));
     }
 }
@@ -15,13 +15,16 @@
  */
 package io.github.rose.mybatis.datapermission.aop;
 
-import com.alibaba.ttl.TransmittableThreadLocal;
+import io.github.rose.core.util.context.ContextSlot;
+import io.github.rose.core.util.context.ContextSnapshot;
 import io.github.rose.mybatis.datapermission.annotation.DataPermission;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
- * {@link DataPermission} 注解的 Context 上下文
+ * {@link DataPermission} 注解的 Context 上下文，新建的子线程通过 {@link InheritableThreadLocal} 继承，
+ * 线程池中的异步任务通过 {@link ContextSnapshot} 传递
  *
  * @author EnjoyIot
  */
@@ -31,7 +34,22 @@ public class DataPermissionContextHolder {
      * 使用 List 的原因，可能存在方法的嵌套调用
      */
     private static final ThreadLocal<LinkedList<DataPermission>> DATA_PERMISSIONS =
-            TransmittableThreadLocal.withInitial(LinkedList::new);
+            new InheritableThreadLocal<LinkedList<DataPermission>>() {
+                @Override
+                protected LinkedList<DataPermission> childValue(LinkedList<DataPermission> parentValue) {
+                    // 子线程继承栈的副本，与父线程的入栈、出栈互不影响
+                    return new LinkedList<>(parentValue);
+                }
+            };
+
+    static {
+        // 传递的是栈的副本，异步任务的入栈、出栈不影响提交任务的线程
+        ContextSlot.<List<DataPermission>>register(
+                "data-permissions",
+                DataPermissionContextHolder::copy,
+                dataPermissions -> DATA_PERMISSIONS.set(new LinkedList<>(dataPermissions)),
+                DATA_PERMISSIONS::remove);
+    }
 
     /**
      * 获得当前的 DataPermission 注解
@@ -39,7 +57,8 @@ public class DataPermissionContextHolder {
      * @return DataPermission 注解
      */
     public static DataPermission get() {
-        return DATA_PERMISSIONS.get().peekLast();
+        LinkedList<DataPermission> dataPermissions = DATA_PERMISSIONS.get();
+        return dataPermissions == null ? null : dataPermissions.peekLast();
     }
 
     /**
@@ -48,7 +67,12 @@ public class DataPermissionContextHolder {
      * @param dataPermission DataPermission 注解
      */
     public static void add(DataPermission dataPermission) {
-        DATA_PERMISSIONS.get().addLast(dataPermission);
+        LinkedList<DataPermission> dataPermissions = DATA_PERMISSIONS.get();
+        if (dataPermissions == null) {
+            dataPermissions = new LinkedList<>();
+            DATA_PERMISSIONS.set(dataPermissions);
+        }
+        dataPermissions.addLast(dataPermission);
     }
 
     /**
@@ -57,9 +81,13 @@ public class DataPermissionContextHolder {
      * @return DataPermission 注解
      */
     public static DataPermission remove() {
-        DataPermission dataPermission = DATA_PERMISSIONS.get().removeLast();
+        LinkedList<DataPermission> dataPermissions = DATA_PERMISSIONS.get();
+        if (dataPermissions == null) {
+            throw new NoSuchElementException();
+        }
+        DataPermission dataPermission = dataPermissions.removeLast();
         // 无元素时，清空 ThreadLocal
-        if (DATA_PERMISSIONS.get().isEmpty()) {
+        if (dataPermissions.isEmpty()) {
             DATA_PERMISSIONS.remove();
         }
         return dataPermission;
@@ -71,7 +99,8 @@ public class DataPermissionContextHolder {
      * @return DataPermission 队列
      */
     public static List<DataPermission> getAll() {
-        return DATA_PERMISSIONS.get();
+        LinkedList<DataPermission> dataPermissions = DATA_PERMISSIONS.get();
+        return dataPermissions == null ? new LinkedList<>() : dataPermissions;
     }
 
     /**
@@ -82,4 +111,9 @@ public class DataPermissionContextHolder {
     public static void clear() {
         DATA_PERMISSIONS.remove();
     }
+
+    private static List<DataPermission> copy() {
+        LinkedList<DataPermission> dataPermissions = DATA_PERMISSIONS.get();
+        return dataPermissions == null || dataPermissions.isEmpty() ? null : new LinkedList<>(dataPermissions);
+    }
 }
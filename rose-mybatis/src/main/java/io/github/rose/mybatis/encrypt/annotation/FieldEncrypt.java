@@ -17,12 +17,14 @@ package io.github.rose.mybatis.encrypt.annotation;
 
 import io.github.rose.mybatis.encrypt.IEncryptor;
 import io.github.rose.mybatis.encrypt.util.Algorithm;
+import io.github.rose.processor.IndexedAnnotation;
 import java.lang.annotation.*;
 
 /**
  * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
  * @since 0.0.1
  */
+@IndexedAnnotation
 @Documented
 @Inherited
 @Retention(RetentionPolicy.RUNTIME)
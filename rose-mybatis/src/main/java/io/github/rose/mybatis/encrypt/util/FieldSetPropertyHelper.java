@@ -16,6 +16,7 @@
 package io.github.rose.mybatis.encrypt.util;
 
 import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
+import io.github.rose.core.reflect.ClasspathAnnotationIndex;
 import io.github.rose.mybatis.encrypt.FieldSetProperty;
 import io.github.rose.mybatis.encrypt.annotation.FieldBind;
 import io.github.rose.mybatis.encrypt.annotation.FieldEncrypt;
@@ -61,7 +62,7 @@ public class FieldSetPropertyHelper {
             return fieldSetPropertyList;
         }
 
-        if (clazz.isAssignableFrom(HashMap.class)) {
+        if (clazz.isAssignableFrom(HashMap.class) || isIndexedWithoutFields(clazz)) {
             excludeClazzSet.add(clazz);
         } else {
             List<FieldSetProperty> finalFieldSetPropertyList = new ArrayList<>();
@@ -96,6 +97,15 @@ public class FieldSetPropertyHelper {
         return fieldSetPropertyList;
     }
 
+    /**
+     * 编译期注解索引证明类及其父类的字段未使用 {@link FieldEncrypt} 和 {@link FieldBind} 时，跳过字段扫描
+     */
+    private static boolean isIndexedWithoutFields(Class<?> clazz) {
+        ClasspathAnnotationIndex index = ClasspathAnnotationIndex.get(clazz.getClassLoader());
+        return (!hasFieldEncrypt || !index.mayBeAnnotated(clazz, FieldEncrypt.class))
+                && (!hasFieldBind || !index.mayBeAnnotated(clazz, FieldBind.class));
+    }
+
     public static boolean foreachValue(
             Configuration configuration, Object value, BiConsumer<MetaObject, FieldSetProperty> consumer) {
         if (value == null) {
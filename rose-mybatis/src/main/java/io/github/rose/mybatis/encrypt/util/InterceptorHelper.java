@@ -16,11 +16,13 @@
 package io.github.rose.mybatis.encrypt.util;
 
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import io.github.rose.core.reflect.Accessors;
+import io.github.rose.core.reflect.Classes;
 import io.github.rose.mybatis.encrypt.FieldSetProperty;
 import io.github.rose.mybatis.encrypt.IEncryptor;
 import io.github.rose.mybatis.encrypt.annotation.FieldEncrypt;
-import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
@@ -31,7 +33,6 @@ import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.session.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
@@ -40,7 +41,12 @@ import org.springframework.util.ReflectionUtils;
 public class InterceptorHelper {
     private static final Logger log = LoggerFactory.getLogger(InterceptorHelper.class);
 
-    private static Map<Class<? extends IEncryptor>, IEncryptor> encryptorMap;
+    private static final Map<Class<? extends IEncryptor>, IEncryptor> encryptorMap = new ConcurrentHashMap<>();
+
+    private static final Accessors.Getter<DefaultResultSetHandler, MappedStatement> mappedStatementGetter =
+            Accessors.getter(Classes.from(DefaultResultSetHandler.class)
+                    .field("mappedStatement")
+                    .orElseThrow(() -> new IllegalStateException("DefaultResultSetHandler.mappedStatement not found")));
 
     private InterceptorHelper() {}
 
@@ -110,12 +116,8 @@ public class InterceptorHelper {
     public static IEncryptor getEncryptor(IEncryptor encryptor, Class<? extends IEncryptor> customEncryptor) {
         IEncryptor result = encryptor;
         if (IEncryptor.class != customEncryptor) {
-            if (null == encryptorMap) {
-                encryptorMap = new HashMap<>();
-            }
-
             try {
-                result = encryptorMap.putIfAbsent(customEncryptor, customEncryptor.newInstance());
+                result = encryptorMap.computeIfAbsent(customEncryptor, Classes::instantiateDefault);
             } catch (Exception var4) {
                 log.error("fieldEncrypt encryptor newInstance error", var4);
             }
@@ -130,9 +132,7 @@ public class InterceptorHelper {
             return result;
         } else {
             DefaultResultSetHandler defaultResultSetHandler = (DefaultResultSetHandler) invocation.getTarget();
-            Field field = defaultResultSetHandler.getClass().getDeclaredField("mappedStatement");
-            ReflectionUtils.makeAccessible(field);
-            MappedStatement mappedStatement = (MappedStatement) field.get(defaultResultSetHandler);
+            MappedStatement mappedStatement = mappedStatementGetter.get(defaultResultSetHandler);
             Configuration configuration = mappedStatement.getConfiguration();
             Iterator<?> iterator = result.iterator();
 
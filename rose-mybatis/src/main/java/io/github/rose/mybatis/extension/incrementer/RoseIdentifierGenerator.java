@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.mybatis.extension.incrementer;
+
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import io.github.rose.core.util.Uuids;
+import io.github.rose.core.util.id.IdGenerator;
+import java.util.UUID;
+
+/**
+ * 基于{@link IdGenerator}的 MyBatis-Plus 主键生成器，ASSIGN_UUID 使用不带横线的 UUIDv7
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class RoseIdentifierGenerator implements IdentifierGenerator {
+
+    private final IdGenerator idGenerator;
+
+    public RoseIdentifierGenerator(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Long nextId(Object entity) {
+        return idGenerator.nextId();
+    }
+
+    @Override
+    public String nextUUID(Object entity) {
+        UUID uuid = Uuids.getUUID();
+        return digits(uuid.getMostSignificantBits()) + digits(uuid.getLeastSignificantBits());
+    }
+
+    private static String digits(long value) {
+        String hex = Long.toHexString(value);
+        return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex;
+    }
+}
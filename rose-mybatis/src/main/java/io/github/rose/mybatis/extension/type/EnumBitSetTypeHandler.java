@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.mybatis.extension.type;
+
+import io.github.rose.core.util.EnumBitSetCodec;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Set;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Set&lt;Enum&gt; 的类型转换器实现类，使用 {@link EnumBitSetCodec} 将枚举集合编码为位图，支持任意数量的枚举常量。
+ *
+ * <p>默认对应数据库的 varchar 类型，以十六进制（或 Base64）存储；jdbcType 为 BIGINT 等数值类型时以 long 存储，
+ * 与 {@link io.github.rose.core.util.EnumUtil#bitSetOf(java.util.Collection)} 的结果一致，
+ * 仅适用于常量不超过 64 个的枚举。
+ * 读取时同时兼容字符串和数值列。
+ *
+ * <p>需要为每个枚举定义子类（抽象类不会被 MyBatis 的 typeHandlersPackage 扫描注册），例如：
+ * <pre>{@code
+ * public class PermissionSetTypeHandler extends EnumBitSetTypeHandler<Permission> {
+ *     public PermissionSetTypeHandler() {
+ *         super(Permission.class);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <E> 枚举类型
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+@MappedJdbcTypes(JdbcType.VARCHAR)
+public abstract class EnumBitSetTypeHandler<E extends Enum<E>> implements TypeHandler<Set<E>> {
+
+    private final EnumBitSetCodec<E> codec;
+    private final Encoding encoding;
+
+    protected EnumBitSetTypeHandler(Class<E> enumClass) {
+        this(enumClass, Encoding.HEX);
+    }
+
+    protected EnumBitSetTypeHandler(Class<E> enumClass, Encoding encoding) {
+        this.codec = EnumBitSetCodec.of(enumClass);
+        this.encoding = encoding;
+    }
+
+    @Override
+    public void setParameter(PreparedStatement ps, int i, Set<E> parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter == null) {
+            ps.setNull(i, jdbcType == null ? Types.VARCHAR : jdbcType.TYPE_CODE);
+            return;
+        }
+        long[] words = codec.encode(parameter);
+        if (isNumeric(jdbcType)) {
+            for (int w = 1; w < words.length; w++) {
+                if (words[w] != 0) {
+                    throw new SQLException("Enum set " + parameter + " does not fit in a numeric column");
+                }
+            }
+            ps.setLong(i, words.length == 0 ? 0L : words[0]);
+        } else {
+            String value = encoding == Encoding.BASE64 ? EnumBitSetCodec.toBase64(words) : EnumBitSetCodec.toHex(words);
+            ps.setString(i, value);
+        }
+    }
+
+    @Override
+    public Set<E> getResult(ResultSet rs, String columnName) throws SQLException {
+        return getResult(rs.getObject(columnName));
+    }
+
+    @Override
+    public Set<E> getResult(ResultSet rs, int columnIndex) throws SQLException {
+        return getResult(rs.getObject(columnIndex));
+    }
+
+    @Override
+    public Set<E> getResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return getResult(cs.getObject(columnIndex));
+    }
+
+    private Set<E> getResult(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return codec.decode(new long[] {((Number) value).longValue()});
+        }
+        String text = value.toString();
+        return encoding == Encoding.BASE64 ? codec.fromBase64(text) : codec.fromHex(text);
+    }
+
+    private static boolean isNumeric(JdbcType jdbcType) {
+        return jdbcType == JdbcType.BIGINT
+                || jdbcType == JdbcType.INTEGER
+                || jdbcType == JdbcType.NUMERIC
+                || jdbcType == JdbcType.DECIMAL;
+    }
+
+    /**
+     * 字符串列的编码方式
+     */
+    public enum Encoding {
+        /**
+         * 十六进制，常量少于 64 个时与 {@code Long.toHexString} 的结果一致
+         */
+        HEX,
+        /**
+         * URL 安全且不带填充的 Base64，更紧凑
+         */
+        BASE64
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.github.rose.mybatis.tenant.annotation;
 
+import io.github.rose.processor.IndexedAnnotation;
 import java.lang.annotation.*;
 
 /**
@@ -25,6 +26,7 @@ import java.lang.annotation.*;
  *
  * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
  */
+@IndexedAnnotation
 @Target({ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
@@ -15,24 +15,41 @@
  */
 package io.github.rose.mybatis.tenant.aspect;
 
+import io.github.rose.core.spring.IndexedAnnotationClassFilter;
 import io.github.rose.mybatis.tenant.annotation.TenantIgnore;
 import io.github.rose.mybatis.tenant.util.TenantUtils;
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 
 /**
  * 忽略多租户的 Aspect，基于 {@link TenantIgnore} 注解实现，用于一些全局的逻辑。 例如说，一个定时任务，读取所有数据，进行处理。
  * 又例如说，读取所有数据，进行缓存。
  * <p>
  * 整体逻辑的实现，和 TenantUtils#executeIgnore(CheckedRunnable) 需要保持一致
+ * <p>
+ * 以 Advisor 实现，编译期注解索引证明未使用 {@link TenantIgnore} 的类跳过逐个方法的匹配
  *
  * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
  */
-@Aspect
-public class TenantIgnoreAspect {
-    @Around("@annotation(tenantIgnore)")
-    public Object around(ProceedingJoinPoint joinPoint, TenantIgnore tenantIgnore) throws Throwable {
-        return TenantUtils.executeIgnore(() -> joinPoint.proceed());
+public class TenantIgnoreAspect extends AbstractPointcutAdvisor {
+
+    private final Advice advice =
+            (MethodInterceptor) invocation -> TenantUtils.executeIgnore(() -> invocation.proceed());
+
+    private final Pointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(null, TenantIgnore.class))
+            .intersection(new IndexedAnnotationClassFilter(TenantIgnore.class));
+
+    @Override
+    public Advice getAdvice() {
+        return advice;
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+        return pointcut;
     }
 }
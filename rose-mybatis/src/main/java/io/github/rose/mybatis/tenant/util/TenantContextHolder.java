@@ -15,27 +15,46 @@
  */
 package io.github.rose.mybatis.tenant.util;
 
-import com.alibaba.ttl.TransmittableThreadLocal;
 import io.github.rose.core.exception.RoseErrorCode;
 import io.github.rose.core.exception.RoseException;
+import io.github.rose.core.util.context.ContextSlot;
+import io.github.rose.core.util.context.ContextSnapshot;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * 租户上下文，新建的子线程通过 {@link InheritableThreadLocal} 继承，线程池中的异步任务通过 {@link ContextSnapshot} 传递，
+ * 避免子线程中的查询丢失租户条件
+ */
 public class TenantContextHolder {
 
-    private static final ThreadLocal<String> THREAD_LOCAL_TENANT = new TransmittableThreadLocal<>();
+    private static final ThreadLocal<String> THREAD_LOCAL_TENANT = new InheritableThreadLocal<>();
+
+    private static final ThreadLocal<Boolean> THREAD_LOCAL_IGNORED = new InheritableThreadLocal<>();
 
-    private static final ThreadLocal<Boolean> THREAD_LOCAL_IGNORED = TransmittableThreadLocal.withInitial(() -> false);
+    static {
+        ContextSlot.register("tenant-id", THREAD_LOCAL_TENANT);
+        ContextSlot.register("tenant-ignored", THREAD_LOCAL_IGNORED);
+    }
 
     public static String getTenantId() {
         return THREAD_LOCAL_TENANT.get();
     }
 
     public static void setTenantId(String tenantId) {
-        THREAD_LOCAL_TENANT.set(tenantId);
+        if (tenantId == null) {
+            THREAD_LOCAL_TENANT.remove();
+        } else {
+            THREAD_LOCAL_TENANT.set(tenantId);
+        }
     }
 
     public static void setIgnore(Boolean ignored) {
-        THREAD_LOCAL_IGNORED.set(ignored);
+        // 不忽略时不保留值，避免传递空的上下文
+        if (Boolean.TRUE.equals(ignored)) {
+            THREAD_LOCAL_IGNORED.set(Boolean.TRUE);
+        } else {
+            THREAD_LOCAL_IGNORED.remove();
+        }
     }
 
     public static String getRequiredTenantId() {
@@ -47,7 +66,7 @@ public class TenantContextHolder {
     }
 
     public static Boolean isIgnored() {
-        return THREAD_LOCAL_IGNORED.get();
+        return Boolean.TRUE.equals(THREAD_LOCAL_IGNORED.get());
     }
 
     public static void clear() {
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.processor;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.*;
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Records the types, methods and fields annotated with an {@link IndexedAnnotation indexed annotation} in the
+ * {@value #INDEX_LOCATION} resource.
+ *
+ * <p>The index is a properties file mapping each annotation binary name to a semicolon-separated list of elements:
+ *
+ * <ul>
+ *   <li>{@code com.example.Foo} for a type
+ *   <li>{@code com.example.Foo#bar} for a field
+ *   <li>{@code com.example.Foo#bar(java.lang.String,int[])} for a method
+ *   <li>{@code com.example.Foo#<init>(java.lang.String)} for a constructor
+ * </ul>
+ *
+ * <p>An existing index is merged with the entries of the current compilation, which may be partial. Its entries
+ * whose owner type was compiled again, or no longer exists, are dropped, so an incremental build does not keep the
+ * elements that lost their annotation.
+ */
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+@SupportedOptions({AnnotationIndexProcessor.ANNOTATIONS_OPTION})
+@SupportedAnnotationTypes("*")
+public class AnnotationIndexProcessor extends AbstractProcessor {
+    public static final String INDEX_LOCATION = "META-INF/rose/annotation-index";
+    public static final String ANNOTATIONS_OPTION = "rose.index.annotations";
+    private static final String ENTRY_SEPARATOR = ";";
+    private static final String INDEXED_ANNOTATION = IndexedAnnotation.class.getName();
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+    // binary names of the types compiled in any round, whose existing entries are superseded by the new ones
+    private final Set<String> compiledTypes = new HashSet<>();
+    private Set<String> optionAnnotations;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        optionAnnotations = new HashSet<>();
+        String option = processingEnv.getOptions().get(ANNOTATIONS_OPTION);
+        if (option != null) {
+            for (String annotation : option.split(",")) {
+                if (!annotation.trim().isEmpty()) {
+                    optionAnnotations.add(annotation.trim());
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        Elements elements = processingEnv.getElementUtils();
+        for (Element e : roundEnv.getRootElements()) {
+            if (e.getKind().isClass() || e.getKind().isInterface()) {
+                addCompiledType((TypeElement) e);
+            }
+        }
+        for (TypeElement annotation : annotations) {
+            if (!isIndexed(annotation)) {
+                continue;
+            }
+            String annotationName = elements.getBinaryName(annotation).toString();
+            for (Element e : roundEnv.getElementsAnnotatedWith(annotation)) {
+                String entry = toEntry(e);
+                if (entry != null) {
+                    index.computeIfAbsent(annotationName, k -> new TreeSet<>()).add(entry);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addCompiledType(TypeElement type) {
+        compiledTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        for (Element e : type.getEnclosedElements()) {
+            if (e.getKind().isClass() || e.getKind().isInterface()) {
+                addCompiledType((TypeElement) e);
+            }
+        }
+    }
+
+    private boolean isIndexed(TypeElement annotation) {
+        if (optionAnnotations.contains(annotation.getQualifiedName().toString())) {
+            return true;
+        }
+        for (AnnotationMirror mirror : annotation.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(INDEXED_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String toEntry(Element e) {
+        Elements elements = processingEnv.getElementUtils();
+        if (e.getKind().isClass() || e.getKind().isInterface()) {
+            return elements.getBinaryName((TypeElement) e).toString();
+        }
+        if (!(e.getEnclosingElement() instanceof TypeElement)) {
+            return null; // parameters, local variables, packages... are not indexed
+        }
+        String owner = elements.getBinaryName((TypeElement) e.getEnclosingElement()) + "#";
+        if (e.getKind().isField()) {
+            return owner + e.getSimpleName();
+        }
+        if (e.getKind() == ElementKind.METHOD || e.getKind() == ElementKind.CONSTRUCTOR) {
+            StringJoiner parameters = new StringJoiner(",", "(", ")");
+            for (VariableElement parameter : ((ExecutableElement) e).getParameters()) {
+                parameters.add(toTypeName(parameter.asType()));
+            }
+            return owner + e.getSimpleName() + parameters;
+        }
+        return null;
+    }
+
+    private String toTypeName(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erasure = types.erasure(type);
+        if (erasure instanceof ArrayType) {
+            return toTypeName(((ArrayType) erasure).getComponentType()) + "[]";
+        }
+        if (erasure instanceof DeclaredType) {
+            return processingEnv
+                    .getElementUtils()
+                    .getBinaryName((TypeElement) ((DeclaredType) erasure).asElement())
+                    .toString();
+        }
+        return erasure.toString();
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+
+        // also load up any existing values, since this compilation may be partial
+        boolean existing = false;
+        try {
+            FileObject f = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            BufferedReader r = new BufferedReader(new InputStreamReader(f.openInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = r.readLine()) != null) {
+                int separator = line.indexOf('=');
+                if (line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                Set<String> entries =
+                        index.computeIfAbsent(line.substring(0, separator).trim(), k -> new TreeSet<>());
+                for (String entry : line.substring(separator + 1).split(ENTRY_SEPARATOR)) {
+                    if (!entry.trim().isEmpty() && !isStale(entry.trim())) {
+                        entries.add(entry.trim());
+                    }
+                }
+            }
+            r.close();
+            existing = true;
+        } catch (FileNotFoundException | NoSuchFileException x) {
+            // doesn't exist
+        } catch (IOException x) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to load existing annotation index: " + x);
+        }
+
+        index.values().removeIf(Set::isEmpty);
+        if (index.isEmpty() && !existing) {
+            return;
+        }
+        try {
+            processingEnv.getMessager().printMessage(Kind.NOTE, "Writing " + INDEX_LOCATION);
+            FileObject f = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            PrintWriter pw = new PrintWriter(new OutputStreamWriter(f.openOutputStream(), StandardCharsets.UTF_8));
+            for (Map.Entry<String, Set<String>> e : index.entrySet()) {
+                pw.println(e.getKey() + "=" + String.join(ENTRY_SEPARATOR, e.getValue()));
+            }
+            pw.close();
+        } catch (IOException x) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write annotation index: " + x);
+        }
+    }
+
+    /**
+     * Returns whether an entry of the existing index is superseded by this compilation, because its owner type was
+     * compiled again or was deleted.
+     */
+    private boolean isStale(String entry) {
+        int separator = entry.indexOf('#');
+        String owner = separator < 0 ? entry : entry.substring(0, separator);
+        if (compiledTypes.contains(owner)) {
+            return true;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        return elements.getTypeElement(owner) == null && elements.getTypeElement(owner.replace('$', '.')) == null;
+    }
+}
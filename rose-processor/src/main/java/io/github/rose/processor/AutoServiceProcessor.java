@@ -21,13 +21,17 @@ import java.nio.file.NoSuchFileException;
 import java.util.*;
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypesException;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
@@ -36,6 +40,13 @@ import javax.tools.StandardLocation;
  * Processes {@link AutoService} annotations and generates the service provider configuration files
  * described in {@link java.util.ServiceLoader}.
  *
+ * <p>When the priority of a provider is known at compile time, it is appended to its entry as a comment, such as
+ * {@code com.example.FooImpl # priority=10}, which {@link java.util.ServiceLoader} ignores and the rose-core
+ * {@code ServiceRegistry} uses to order providers without loading or instantiating them. The priority is the value
+ * of the first {@code @Order}, then of the first {@code @Priority} (jakarta or javax) found on the provider, its
+ * superclasses or its interfaces, and 0 when there is none. Providers implementing {@code Ordered} only know their
+ * priority at runtime and have no comment.
+ *
  * @author Kohsuke Kawaguchi
  * @see <a href="https://github.com/kohsuke/metainf-services/">metainf-services</a>
  */
@@ -43,6 +54,13 @@ import javax.tools.StandardLocation;
 @SupportedOptions({"debug", "verify"})
 @SupportedAnnotationTypes("io.github.rose.processor.AutoService")
 public class AutoServiceProcessor extends AbstractProcessor {
+    public static final String PRIORITY_COMMENT = "priority=";
+    private static final String ORDERED = "org.springframework.core.Ordered";
+    private static final List<String> ORDER_ANNOTATIONS =
+            Collections.singletonList("org.springframework.core.annotation.Order");
+    private static final List<String> PRIORITY_ANNOTATIONS =
+            Arrays.asList("jakarta.annotation.Priority", "javax.annotation.Priority");
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -71,7 +89,8 @@ public class AutoServiceProcessor extends AbstractProcessor {
             return false;
         }
 
-        Map<String, Set<String>> services = new HashMap<>();
+        // provider binary name to the comment of its entry, null when its priority is only known at runtime
+        Map<String, Map<String, String>> services = new HashMap<>();
         Elements elements = processingEnv.getElementUtils();
 
         // discover services from the current compilation sources
@@ -89,16 +108,18 @@ public class AutoServiceProcessor extends AbstractProcessor {
                 continue; // error should have already been reported
             }
 
+            Integer priority = getPriority(type);
+            String comment = priority == null ? null : PRIORITY_COMMENT + priority;
             for (TypeElement contract : contracts) {
                 String cn = elements.getBinaryName(contract).toString();
-                Set<String> v = services.computeIfAbsent(cn, k -> new TreeSet<>());
-                v.add(elements.getBinaryName(type).toString());
+                Map<String, String> v = services.computeIfAbsent(cn, k -> new TreeMap<>());
+                v.put(elements.getBinaryName(type).toString(), comment);
             }
         }
 
         // also load up any existing values, since this compilation may be partial
         Filer filer = processingEnv.getFiler();
-        for (Map.Entry<String, Set<String>> e : services.entrySet()) {
+        for (Map.Entry<String, Map<String, String>> e : services.entrySet()) {
             try {
                 String contract = e.getKey();
                 FileObject f = filer.getResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + contract);
@@ -106,7 +127,12 @@ public class AutoServiceProcessor extends AbstractProcessor {
                         new BufferedReader(new InputStreamReader(f.openInputStream(), StandardCharsets.UTF_8));
                 String line;
                 while ((line = r.readLine()) != null) {
-                    e.getValue().add(line);
+                    int commentIndex = line.indexOf('#');
+                    String provider = (commentIndex < 0 ? line : line.substring(0, commentIndex)).trim();
+                    if (!provider.isEmpty() && !e.getValue().containsKey(provider)) {
+                        String comment = commentIndex < 0 ? null : line.substring(commentIndex + 1).trim();
+                        e.getValue().put(provider, comment == null || comment.isEmpty() ? null : comment);
+                    }
                 }
                 r.close();
             } catch (FileNotFoundException | NoSuchFileException x) {
@@ -119,14 +145,14 @@ public class AutoServiceProcessor extends AbstractProcessor {
         }
 
         // now write them back out
-        for (Map.Entry<String, Set<String>> e : services.entrySet()) {
+        for (Map.Entry<String, Map<String, String>> e : services.entrySet()) {
             try {
                 String contract = e.getKey();
                 processingEnv.getMessager().printMessage(Kind.NOTE, "Writing META-INF/services/" + contract);
                 FileObject f = filer.createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + contract);
                 PrintWriter pw = new PrintWriter(new OutputStreamWriter(f.openOutputStream(), StandardCharsets.UTF_8));
-                for (String value : e.getValue()) {
-                    pw.println(value);
+                for (Map.Entry<String, String> value : e.getValue().entrySet()) {
+                    pw.println(value.getValue() == null ? value.getKey() : value.getKey() + " # " + value.getValue());
                 }
                 pw.close();
             } catch (IOException x) {
@@ -175,6 +201,56 @@ public class AutoServiceProcessor extends AbstractProcessor {
         return typeElementList;
     }
 
+    /**
+     * Returns the priority of a provider as computed at runtime by {@code PriorityUtils}, or null if the provider
+     * implements {@code Ordered}.
+     */
+    private Integer getPriority(TypeElement type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeElement ordered = processingEnv.getElementUtils().getTypeElement(ORDERED);
+        if (ordered != null && types.isAssignable(types.erasure(type.asType()), types.erasure(ordered.asType()))) {
+            return null;
+        }
+        Integer priority = findAnnotationValue(type, ORDER_ANNOTATIONS);
+        if (priority == null) {
+            priority = findAnnotationValue(type, PRIORITY_ANNOTATIONS);
+        }
+        return priority == null ? 0 : priority;
+    }
+
+    private Integer findAnnotationValue(TypeElement type, List<String> annotationNames) {
+        Deque<TypeElement> queue = new ArrayDeque<>();
+        Set<TypeElement> visited = new HashSet<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            TypeElement current = queue.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+            for (AnnotationMirror mirror : current.getAnnotationMirrors()) {
+                TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+                if (!annotationNames.contains(annotation.getQualifiedName().toString())) {
+                    continue;
+                }
+                Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                        processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : values.entrySet()) {
+                    if (value.getKey().getSimpleName().contentEquals("value")
+                            && value.getValue().getValue() instanceof Integer) {
+                        return (Integer) value.getValue().getValue();
+                    }
+                }
+            }
+            if (current.getSuperclass() instanceof DeclaredType) {
+                queue.add((TypeElement) ((DeclaredType) current.getSuperclass()).asElement());
+            }
+            for (TypeMirror anInterface : current.getInterfaces()) {
+                queue.add((TypeElement) ((DeclaredType) anInterface).asElement());
+            }
+        }
+        return null;
+    }
+
     private boolean isObject(TypeMirror t) {
         if (t instanceof DeclaredType) {
             DeclaredType dt = (DeclaredType) t;
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.processor;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an annotation type whose usages are recorded by the {@link AnnotationIndexProcessor} in the
+ * {@code META-INF/rose/annotation-index} resource, so that annotated types, methods and fields can be discovered at
+ * runtime without scanning the classpath.
+ *
+ * <p>Annotations which cannot be marked (third-party ones) can be indexed with the {@code rose.index.annotations}
+ * processor option, a comma-separated list of annotation names.
+ */
+@Retention(CLASS)
+@Documented
+@Target(ANNOTATION_TYPE)
+public @interface IndexedAnnotation {}
@@ -15,7 +15,7 @@
  */
 package io.github.rose.gateway.util;
 
-import io.github.rose.core.json.JsonUtils;
+import io.github.rose.core.json.JsonProfile;
 import java.util.Objects;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
@@ -30,7 +30,7 @@ public final class WebfluxUtils {
         response.setStatusCode(status);
         response.getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
 
-        DataBuffer dataBuffer = response.bufferFactory().wrap(Objects.requireNonNull(JsonUtils.toBytes(object)));
+        DataBuffer dataBuffer = response.bufferFactory().wrap(Objects.requireNonNull(JsonProfile.FAST.toBytes(object)));
         return response.writeWith(Mono.just(dataBuffer));
     }
 }
@@ -17,7 +17,6 @@ package io.github.rose.mybatis;
 
 import com.baomidou.mybatisplus.autoconfigure.MybatisPlusAutoConfiguration;
 import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
-import com.baomidou.mybatisplus.core.incrementer.DefaultIdentifierGenerator;
 import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
 import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
 import com.baomidou.mybatisplus.core.injector.ISqlInjector;
@@ -26,6 +25,9 @@ import com.baomidou.mybatisplus.extension.parser.cache.JdkSerialCaffeineJsqlPars
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
 import io.github.rose.core.util.NetUtils;
+import io.github.rose.core.util.id.SnowflakeIdGenerator;
+import io.github.rose.core.util.id.WorkerIdAssigner;
+import io.github.rose.mybatis.extension.incrementer.RoseIdentifierGenerator;
 import io.github.rose.mybatis.extension.interceptor.DefaultMetaObjectHandler;
 import io.github.rose.mybatis.mq.rabbitmq.TenantRabbitMQInitializer;
 import io.github.rose.mybatis.mq.redis.TenantRedisMessageInterceptor;
@@ -51,9 +53,15 @@ public class MybatisCoreConfiguration {
     }
 
     @Bean
-    public IdentifierGenerator idGenerator() {
-        // 通过本地 生成 workerId 和 dataCenterId
-        return new DefaultIdentifierGenerator(NetUtils.getLocalInetAddress());
+    @ConditionalOnMissingBean
+    public SnowflakeIdGenerator snowflakeIdGenerator() {
+        // 通过本地 IP 和进程生成 workerId，与 DefaultIdentifierGenerator 的时间起点和位布局相同，已有主键保持递增
+        return new SnowflakeIdGenerator(WorkerIdAssigner.fromAddress(NetUtils.getLocalInetAddress()));
+    }
+
+    @Bean
+    public IdentifierGenerator idGenerator(SnowflakeIdGenerator snowflakeIdGenerator) {
+        return new RoseIdentifierGenerator(snowflakeIdGenerator);
     }
 
     @Bean
@@ -15,7 +15,7 @@
  */
 package io.github.rose.redis.mq;
 
-import io.github.rose.core.json.JsonUtils;
+import io.github.rose.core.json.JsonProfile;
 import io.github.rose.redis.mq.interceptor.RedisMessageInterceptor;
 import io.github.rose.redis.mq.message.AbstractRedisMessage;
 import io.github.rose.redis.mq.pubsub.AbstractRedisChannelMessage;
@@ -61,7 +61,7 @@ public class RedisMQTemplate {
         try {
             sendMessageBefore(message);
             // 发送消息
-            redisTemplate.convertAndSend(message.getChannel(), JsonUtils.toJson(message));
+            redisTemplate.convertAndSend(message.getChannel(), JsonProfile.FAST.toJson(message));
         } finally {
             sendMessageAfter(message);
         }
@@ -80,7 +80,7 @@ public class RedisMQTemplate {
             return redisTemplate
                     .opsForStream()
                     .add(StreamRecords.newRecord()
-                            .ofObject(Objects.requireNonNull(JsonUtils.toJson(message))) // 设置内容
+                            .ofObject(Objects.requireNonNull(JsonProfile.FAST.toJson(message))) // 设置内容
                             .withStreamKey(message.getStreamKey())); // 设置 stream key
         } finally {
             sendMessageAfter(message);
@@ -15,8 +15,12 @@
  */
 package io.github.rose.redis.mq.job;
 
+import io.github.rose.core.util.concurrent.Backoff;
+import io.github.rose.core.util.concurrent.RetryPolicy;
+import io.github.rose.core.util.concurrent.RetryScheduler;
 import io.github.rose.redis.mq.RedisMQTemplate;
 import io.github.rose.redis.mq.stream.AbstractRedisStreamMessageListener;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +28,7 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.stream.*;
 import org.springframework.data.redis.core.StreamOperations;
@@ -45,6 +50,17 @@ public class RedisPendingMessageResendJob {
      */
     private static final int EXPIRE_TIME = 5 * 60;
 
+    /**
+     * 单条消息重新投递、ack 失败时的重试策略，重试耗尽后跳过该消息，等待下一次扫描
+     * <p>
+     * 重新投递（XADD）不是幂等的：超时等 {@link DataAccessException} 发生时，命令可能已在 Redis 执行，重试会再投递一次；
+     * 投递成功而 ack 失败时，下一次扫描也会再投递一次。因此同一消息可能被重复消费，消费者需按业务主键保证幂等
+     */
+    private static final RetryPolicy RESEND_POLICY = RetryPolicy.DEFAULT
+            .withBackoff(Backoff.exponential(Duration.ofMillis(200), 2, Duration.ofSeconds(2))
+                    .withJitter(0.5))
+            .retryOn(DataAccessException.class);
+
     private final List<AbstractRedisStreamMessageListener<?>> listeners;
 
     private final RedisMQTemplate redisTemplate;
@@ -122,15 +138,15 @@ public class RedisPendingMessageResendJob {
                     if (CollectionUtils.isEmpty(records)) {
                         return;
                     }
-                    // 重新投递消息
-                    redisTemplate
-                            .getRedisTemplate()
-                            .opsForStream()
-                            .add(StreamRecords.newRecord()
-                                    .ofObject(records.get(0).getValue()) // 设置内容
-                                    .withStreamKey(listener.getStreamKey()));
-                    // ack 消息消费完成
-                    redisTemplate.getRedisTemplate().opsForStream().acknowledge(groupName, records.get(0));
+                    try {
+                        resend(ops, listener, records.get(0));
+                    } catch (DataAccessException ex) {
+                        log.error(
+                                "[processPendingMessage][消息({})重新投递失败]",
+                                records.get(0).getId(),
+                                ex);
+                        return;
+                    }
                     log.info(
                             "[processPendingMessage][消息({})重新投递成功]",
                             records.get(0).getId());
@@ -138,4 +154,26 @@ public class RedisPendingMessageResendJob {
             });
         });
     }
+
+    private void resend(
+            StreamOperations<String, Object, Object> ops,
+            AbstractRedisStreamMessageListener<?> listener,
+            MapRecord<String, Object, Object> record) {
+        try {
+            // 重新投递消息
+            RetryScheduler.shared()
+                    .call(
+                            () -> ops.add(StreamRecords.newRecord()
+                                    .ofObject(record.getValue()) // 设置内容
+                                    .withStreamKey(listener.getStreamKey())),
+                            RESEND_POLICY);
+            // ack 消息消费完成，与投递分开重试，避免 ack 失败时重复投递
+            RetryScheduler.shared().call(() -> ops.acknowledge(groupName, record), RESEND_POLICY);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // 投递与 ack 只会抛出运行时异常
+            throw new IllegalStateException(e);
+        }
+    }
 }
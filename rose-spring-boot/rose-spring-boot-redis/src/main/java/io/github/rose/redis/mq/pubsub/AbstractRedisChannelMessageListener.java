@@ -15,7 +15,7 @@
  */
 package io.github.rose.redis.mq.pubsub;
 
-import io.github.rose.core.json.JsonUtils;
+import io.github.rose.core.json.JsonProfile;
 import io.github.rose.core.reflect.Types;
 import io.github.rose.redis.mq.RedisMQTemplate;
 import io.github.rose.redis.mq.interceptor.RedisMessageInterceptor;
@@ -82,7 +82,7 @@ public abstract class AbstractRedisChannelMessageListener<T extends AbstractRedi
 
     @Override
     public final void onMessage(Message message, byte[] bytes) {
-        T messageObj = JsonUtils.fromJson(message.getBody(), messageType);
+        T messageObj = JsonProfile.FAST.fromJson(message.getBody(), messageType);
         try {
             consumeMessageBefore(messageObj);
             // 消费消息
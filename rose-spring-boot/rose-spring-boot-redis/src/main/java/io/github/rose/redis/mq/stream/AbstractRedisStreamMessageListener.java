@@ -15,7 +15,7 @@
  */
 package io.github.rose.redis.mq.stream;
 
-import io.github.rose.core.json.JsonUtils;
+import io.github.rose.core.json.JsonProfile;
 import io.github.rose.core.reflect.Types;
 import io.github.rose.redis.mq.RedisMQTemplate;
 import io.github.rose.redis.mq.interceptor.RedisMessageInterceptor;
@@ -89,7 +89,7 @@ public abstract class AbstractRedisStreamMessageListener<T extends AbstractRedis
     @Override
     public void onMessage(ObjectRecord<String, String> message) {
         // 消费消息
-        T messageObj = JsonUtils.fromJson(message.getValue(), messageType);
+        T messageObj = JsonProfile.FAST.fromJson(message.getValue(), messageType);
         try {
             consumeMessageBefore(messageObj);
             // 消费消息
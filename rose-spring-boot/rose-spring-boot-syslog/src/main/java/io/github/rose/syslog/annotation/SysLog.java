@@ -15,11 +15,13 @@
  */
 package io.github.rose.syslog.annotation;
 
+import io.github.rose.processor.IndexedAnnotation;
 import java.lang.annotation.*;
 
 /**
  * 操作日志注解
  */
+@IndexedAnnotation
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
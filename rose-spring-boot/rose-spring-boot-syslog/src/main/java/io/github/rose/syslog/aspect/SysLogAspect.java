@@ -15,36 +15,66 @@
  */
 package io.github.rose.syslog.aspect;
 
+import io.github.rose.core.spring.IndexedAnnotationClassFilter;
 import io.github.rose.core.spring.SpringContextHolder;
 import io.github.rose.syslog.annotation.SysLog;
 import io.github.rose.syslog.event.SysLogEvent;
 import io.github.rose.syslog.event.SysLogInfo;
 import io.github.rose.syslog.util.SysLogUtils;
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
+import java.lang.reflect.Method;
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 
 /**
  * 操作日志使用spring event异步入库
+ * <p>
+ * 以 Advisor 实现，编译期注解索引证明未使用 {@link SysLog} 的类跳过逐个方法的匹配
  */
-@Aspect
-public class SysLogAspect {
+public class SysLogAspect extends AbstractPointcutAdvisor {
     private static final Logger log = LoggerFactory.getLogger(SysLogAspect.class);
 
-    @Around("@annotation(sysLog)")
-    public Object around(ProceedingJoinPoint joinPoint, SysLog sysLog) {
-        String strClassName = joinPoint.getTarget().getClass().getName();
-        String strMethodName = joinPoint.getSignature().getName();
+    private final Advice advice = (MethodInterceptor) this::around;
+
+    private final Pointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(null, SysLog.class))
+            .intersection(new IndexedAnnotationClassFilter(SysLog.class));
+
+    @Override
+    public Advice getAdvice() {
+        return advice;
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+        return pointcut;
+    }
+
+    private Object around(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        Method method = invocation.getMethod();
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+        // 与切点一致，注解在被调用的方法或目标类中最具体的方法上
+        SysLog sysLog = AopUtils.getMostSpecificMethod(method, targetClass).getAnnotation(SysLog.class);
+        if (sysLog == null) {
+            sysLog = method.getAnnotation(SysLog.class);
+        }
+        String strClassName = targetClass.getName();
+        String strMethodName = method.getName();
         log.debug("[类名]:{},[方法]:{}", strClassName, strMethodName);
 
-        SysLogInfo sysLogInfo = SysLogUtils.getSysLog(joinPoint, sysLog);
+        SysLogInfo sysLogInfo = SysLogUtils.getSysLog(method, invocation.getArguments(), sysLog);
 
         long startTime = System.currentTimeMillis();
         Object result = null;
         try {
-            result = joinPoint.proceed();
+            result = invocation.proceed();
         } catch (Throwable e) {
             sysLogInfo.setException(e.getMessage());
             sysLogInfo.setSuccess(false);
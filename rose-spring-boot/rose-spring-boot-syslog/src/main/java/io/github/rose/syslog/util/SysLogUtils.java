@@ -15,8 +15,9 @@
  */
 package io.github.rose.syslog.util;
 
-import io.github.rose.core.json.JsonUtils;
+import io.github.rose.core.json.JsonProfile;
 import io.github.rose.core.spring.WebUtils;
+import io.github.rose.core.spring.expression.SpringExpressionResolver;
 import io.github.rose.core.util.NetUtils;
 import io.github.rose.syslog.annotation.SysLog;
 import io.github.rose.syslog.annotation.SysLogIgnore;
@@ -35,8 +36,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.StandardReflectionParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.http.HttpMethod;
 import org.springframework.validation.BindingResult;
@@ -47,8 +46,12 @@ public class SysLogUtils {
     private static final Logger log = LoggerFactory.getLogger(SysLogUtils.class);
 
     public static SysLogInfo getSysLog(ProceedingJoinPoint joinPoint, SysLog sysLog) {
+        return getSysLog(((MethodSignature) joinPoint.getSignature()).getMethod(), joinPoint.getArgs(), sysLog);
+    }
+
+    public static SysLogInfo getSysLog(Method method, Object[] args, SysLog sysLog) {
         SysLogInfo sysLogInfo = new SysLogInfo();
-        sysLogInfo.setName(getSysLogValue(joinPoint, sysLog));
+        sysLogInfo.setName(getSysLogValue(method, args, sysLog));
         sysLogInfo.setSuccess(true);
         sysLogInfo.setServerIp(NetUtils.getLocalAddress());
         sysLogInfo.setCreatedBy(WebUtils.getUsername());
@@ -64,21 +67,20 @@ public class SysLogUtils {
 
             if (HttpMethod.PUT.name().equals(sysLogInfo.getRequestMethod())
                     || HttpMethod.POST.name().equals(sysLogInfo.getRequestMethod())) {
-                sysLogInfo.setRequestParams(JsonUtils.toJson(dealArgs(joinPoint.getArgs())));
+                sysLogInfo.setRequestParams(JsonProfile.LOGGING.toJson(dealArgs(args)));
             } else {
-                sysLogInfo.setRequestParams(JsonUtils.toJson(request.getParameterMap()));
+                sysLogInfo.setRequestParams(JsonProfile.LOGGING.toJson(request.getParameterMap()));
             }
         }
         return sysLogInfo;
     }
 
-    private static String getSysLogValue(ProceedingJoinPoint joinPoint, SysLog sysLog) {
+    static String getSysLogValue(Method method, Object[] args, SysLog sysLog) {
         String value = sysLog.value();
         String expression = sysLog.expression();
 
         if (StringUtils.isNotBlank(expression)) {
-            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-            EvaluationContext context = getContext(joinPoint.getArgs(), signature.getMethod());
+            EvaluationContext context = getContext(args, method);
             try {
                 value = getValue(context, expression, String.class);
             } catch (Exception e) {
@@ -134,9 +136,7 @@ public class SysLogUtils {
      * @return 参数值
      */
     private static <T> T getValue(EvaluationContext context, String key, Class<T> clazz) {
-        SpelExpressionParser spelExpressionParser = new SpelExpressionParser();
-        Expression expression = spelExpressionParser.parseExpression(key);
-        return expression.getValue(context, clazz);
+        return SpringExpressionResolver.parseExpression(key).getValue(context, clazz);
     }
 
     /**
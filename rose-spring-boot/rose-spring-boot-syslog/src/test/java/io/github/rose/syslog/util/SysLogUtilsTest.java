@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.syslog.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.rose.syslog.annotation.SysLog;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+
+class SysLogUtilsTest {
+
+    @Test
+    void evaluatesTypeReferences() throws Exception {
+        Method method = SysLogUtilsTest.class.getDeclaredMethod("typeReference");
+
+        assertThat(SysLogUtils.getSysLogValue(method, new Object[0], method.getAnnotation(SysLog.class)))
+                .isEqualTo("42");
+    }
+
+    @Test
+    void evaluatesRootObject() throws Exception {
+        Method method = SysLogUtilsTest.class.getDeclaredMethod("rootObject");
+
+        assertThat(SysLogUtils.getSysLogValue(method, new Object[0], method.getAnnotation(SysLog.class)))
+                .isEqualTo("no root");
+    }
+
+    @Test
+    void keepsValueWhenExpressionFails() throws Exception {
+        Method method = SysLogUtilsTest.class.getDeclaredMethod("invalidExpression");
+
+        assertThat(SysLogUtils.getSysLogValue(method, new Object[0], method.getAnnotation(SysLog.class)))
+                .isEqualTo("invalid");
+    }
+
+    @SysLog(value = "type", expression = "T(java.lang.Integer).toString(42)")
+    void typeReference() {}
+
+    @SysLog(value = "root", expression = "#root?.toString() ?: 'no root'")
+    void rootObject() {}
+
+    @SysLog(value = "invalid", expression = "T(io.github.rose.Missing).value")
+    void invalidExpression() {}
+}
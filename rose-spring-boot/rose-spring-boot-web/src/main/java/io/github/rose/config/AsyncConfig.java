@@ -18,6 +18,7 @@ package io.github.rose.config;
 import static org.springframework.aop.interceptor.AsyncExecutionAspectSupport.DEFAULT_TASK_EXECUTOR_BEAN_NAME;
 
 import io.github.rose.core.spring.ExceptionHandleAsyncTaskExecutor;
+import io.github.rose.core.util.concurrent.TaskExecutors;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -28,8 +29,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -43,13 +47,19 @@ public class AsyncConfig implements AsyncConfigurer {
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfig(TaskExecutionProperties taskExecutionProperties) {
+    private final Environment environment;
+
+    public AsyncConfig(TaskExecutionProperties taskExecutionProperties, Environment environment) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.environment = environment;
     }
 
     @Override
     @Bean(name = DEFAULT_TASK_EXECUTOR_BEAN_NAME)
     public Executor getAsyncExecutor() {
+        if (Threading.VIRTUAL.isActive(environment) && TaskExecutors.isVirtualThreadsEnabled()) {
+            return new ExceptionHandleAsyncTaskExecutor(virtualThreadTaskExecutor());
+        }
         log.info("Initializing ThreadPoolTaskExecutor");
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
@@ -66,6 +76,28 @@ public class AsyncConfig implements AsyncConfigurer {
         return new ExceptionHandleAsyncTaskExecutor(executor);
     }
 
+    /**
+     * Async methods mostly block on I/O (remote calls, JDBC, Redis), so when virtual threads are enabled with
+     * {@code spring.threads.virtual.enabled} each task runs in its own virtual thread, the concurrency being bounded
+     * by {@code spring.task.execution.simple.concurrency-limit} only.
+     */
+    private SimpleAsyncTaskExecutor virtualThreadTaskExecutor() {
+        log.info("Initializing virtual thread TaskExecutor");
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(taskExecutionProperties.getThreadNamePrefix());
+        executor.setVirtualThreads(true);
+        Integer concurrencyLimit = taskExecutionProperties.getSimple().getConcurrencyLimit();
+        if (concurrencyLimit != null) {
+            executor.setConcurrencyLimit(concurrencyLimit);
+        }
+        if (taskExecutionProperties.getShutdown().isAwaitTermination()) {
+            executor.setTaskTerminationTimeout(taskExecutionProperties
+                    .getShutdown()
+                    .getAwaitTerminationPeriod()
+                    .toMillis());
+        }
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
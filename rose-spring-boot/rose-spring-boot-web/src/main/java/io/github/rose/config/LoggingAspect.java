@@ -17,7 +17,7 @@ package io.github.rose.config;
 
 import static io.github.rose.core.util.Constants.PROFILE_NOT_PROD;
 
-import io.github.rose.core.json.JsonUtils;
+import io.github.rose.core.json.JsonProfile;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
@@ -103,18 +103,21 @@ public class LoggingAspect {
             log.debug(
                     "Enter {}() with arguments = {}",
                     joinPoint.getSignature().getName(),
-                    JsonUtils.toJson(joinPoint.getArgs()));
+                    JsonProfile.LOGGING.toJson(joinPoint.getArgs()));
         }
         try {
             Object result = joinPoint.proceed();
             if (log.isDebugEnabled()) {
-                log.debug("Exit {}() with result = {}", joinPoint.getSignature().getName(), JsonUtils.toJson(result));
+                log.debug(
+                        "Exit {}() with result = {}",
+                        joinPoint.getSignature().getName(),
+                        JsonProfile.LOGGING.toJson(result));
             }
             return result;
         } catch (IllegalArgumentException e) {
             log.error(
                     "Illegal argument: {} in {}()",
-                    JsonUtils.toJson(joinPoint.getArgs()),
+                    JsonProfile.LOGGING.toJson(joinPoint.getArgs()),
                     joinPoint.getSignature().getName());
             throw e;
         }
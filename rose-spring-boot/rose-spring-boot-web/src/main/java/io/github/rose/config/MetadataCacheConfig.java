@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.config;
+
+import io.github.rose.core.reflect.MetadataCaches;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+@Configuration
+@EnableConfigurationProperties({MetadataCacheProperties.class})
+public class MetadataCacheConfig {
+    private static final Logger log = LoggerFactory.getLogger(MetadataCacheConfig.class);
+
+    public MetadataCacheConfig(MetadataCacheProperties metadataCacheProperties) {
+        if (metadataCacheProperties.getMaximumSize() != null) {
+            MetadataCaches.setMaximumSize(metadataCacheProperties.getMaximumSize());
+        }
+    }
+
+    /**
+     * 在单例初始化完成后、接收请求前预热反射元数据缓存
+     */
+    @Bean
+    public SmartInitializingSingleton metadataCachePrewarmer(MetadataCacheProperties metadataCacheProperties) {
+        return () -> {
+            if (metadataCacheProperties.getPrewarmPackages().isEmpty()) {
+                return;
+            }
+            log.info("Pre-warming metadata caches for packages {}", metadataCacheProperties.getPrewarmPackages());
+            MetadataCaches.prewarm(
+                    ClassUtils.getDefaultClassLoader(),
+                    metadataCacheProperties.getPrewarmPackages().toArray(new String[0]));
+        };
+    }
+}
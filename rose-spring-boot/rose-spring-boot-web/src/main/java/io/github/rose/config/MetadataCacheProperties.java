@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.config;
+
+import io.github.rose.core.util.Constants;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+@ConfigurationProperties(Constants.PROJECT_NAME + ".metadata-cache")
+public class MetadataCacheProperties {
+
+    /**
+     * 启动时预热反射元数据缓存的包
+     */
+    private List<String> prewarmPackages = new ArrayList<>();
+
+    /**
+     * 每个类加载器缓存的最大条目数，0 表示不限制，未设置时使用同名系统属性
+     */
+    private Integer maximumSize;
+
+    public List<String> getPrewarmPackages() {
+        return prewarmPackages;
+    }
+
+    public void setPrewarmPackages(List<String> prewarmPackages) {
+        this.prewarmPackages = prewarmPackages;
+    }
+
+    public Integer getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(Integer maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+}
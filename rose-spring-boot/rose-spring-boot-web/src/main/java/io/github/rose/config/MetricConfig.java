@@ -18,6 +18,9 @@ package io.github.rose.config;
 import io.github.rose.core.util.NetUtils;
 import io.github.rose.feign.MetricsInterceptor;
 import io.github.rose.micrometer.AggravateMetricsEndpoint;
+import io.github.rose.micrometer.KeyedLocksMetrics;
+import io.github.rose.micrometer.MetadataCacheMetrics;
+import io.github.rose.micrometer.RetrySchedulerMetrics;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -57,6 +60,21 @@ public class MetricConfig {
         return new TimedAspect(registry);
     }
 
+    @Bean
+    MetadataCacheMetrics metadataCacheMetrics() {
+        return new MetadataCacheMetrics();
+    }
+
+    @Bean
+    RetrySchedulerMetrics retrySchedulerMetrics() {
+        return new RetrySchedulerMetrics();
+    }
+
+    @Bean
+    KeyedLocksMetrics keyedLocksMetrics() {
+        return new KeyedLocksMetrics();
+    }
+
     @Bean
     MeterRegistryCustomizer<MeterRegistry> meterRegistryCustomizer() {
         return registry -> registry.config()
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.micrometer;
+
+import io.github.rose.core.util.concurrent.KeyedLocks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 键锁竞争监控指标，之后创建的键锁也会注册指标，关闭时移除
+ * <p>
+ * 键锁的监听器是静态注册的，{@link #close()} 移除监听器及其注册的指标，作为 Spring bean 时在容器关闭时调用
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class KeyedLocksMetrics implements MeterBinder, AutoCloseable {
+    private static final String PREFIX = "rose.keyed.locks";
+
+    private final List<RegistryListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegistryListener listener = new RegistryListener(registry);
+        listeners.add(listener);
+        KeyedLocks.addListener(listener);
+    }
+
+    @Override
+    public void close() {
+        for (RegistryListener listener : listeners) {
+            KeyedLocks.removeListener(listener);
+            listener.removeAll();
+        }
+        listeners.clear();
+    }
+
+    private static final class RegistryListener implements KeyedLocks.Listener {
+        private final MeterRegistry registry;
+        private final Map<KeyedLocks<?>, List<Meter>> meters = new ConcurrentHashMap<>();
+
+        private RegistryListener(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public void registered(KeyedLocks<?> locks) {
+            List<Meter> locksMeters = new ArrayList<>(5);
+            locksMeters.add(FunctionCounter.builder(PREFIX + ".acquisitions", locks, l -> l.stats().uncontendedCount())
+                    .tag("locks", locks.name())
+                    .tag("result", "uncontended")
+                    .description("The number of locks acquired right away.")
+                    .register(registry));
+            locksMeters.add(FunctionCounter.builder(PREFIX + ".acquisitions", locks, l -> l.stats().contendedCount())
+                    .tag("locks", locks.name())
+                    .tag("result", "contended")
+                    .description("The number of locks acquired after waiting for another thread.")
+                    .register(registry));
+            locksMeters.add(FunctionCounter.builder(PREFIX + ".acquisitions", locks, l -> l.stats().timeoutCount())
+                    .tag("locks", locks.name())
+                    .tag("result", "timeout")
+                    .description("The number of locks not acquired within the timeout.")
+                    .register(registry));
+            locksMeters.add(FunctionTimer.builder(
+                            PREFIX + ".wait",
+                            locks,
+                            l -> l.stats().contendedCount() + l.stats().timeoutCount(),
+                            l -> l.stats().totalWaitTime(),
+                            TimeUnit.NANOSECONDS)
+                    .tag("locks", locks.name())
+                    .description("The time spent waiting for locks held by other threads.")
+                    .register(registry));
+            locksMeters.add(Gauge.builder(PREFIX + ".size", locks, KeyedLocks::size)
+                    .tag("locks", locks.name())
+                    .description("The number of stripes, or of keys whose lock is not reclaimed yet.")
+                    .register(registry));
+            meters.put(locks, locksMeters);
+        }
+
+        @Override
+        public void closed(KeyedLocks<?> locks) {
+            List<Meter> locksMeters = meters.remove(locks);
+            if (locksMeters != null) {
+                locksMeters.forEach(registry::remove);
+            }
+        }
+
+        private void removeAll() {
+            meters.keySet().forEach(this::closed);
+        }
+    }
+}
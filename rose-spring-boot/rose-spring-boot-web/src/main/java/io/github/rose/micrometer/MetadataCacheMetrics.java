@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.micrometer;
+
+import io.github.rose.core.reflect.MetadataCache;
+import io.github.rose.core.reflect.MetadataCaches;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 反射元数据缓存监控指标
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class MetadataCacheMetrics implements MeterBinder {
+    private static final String PREFIX = "rose.metadata.cache";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MetadataCache<?, ?> cache : MetadataCaches.caches()) {
+            FunctionCounter.builder(PREFIX + ".gets", cache, c -> c.stats().hitCount())
+                    .tag("cache", cache.name())
+                    .tag("result", "hit")
+                    .description("The number of times cache lookup methods have returned a cached value.")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + ".gets", cache, c -> c.stats().missCount())
+                    .tag("cache", cache.name())
+                    .tag("result", "miss")
+                    .description("The number of times cache lookup methods have computed a value.")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + ".evictions", cache, c -> c.stats().evictionCount())
+                    .tag("cache", cache.name())
+                    .description("The number of times the cache was evicted.")
+                    .register(registry);
+            Gauge.builder(PREFIX + ".size", cache, MetadataCache::size)
+                    .tag("cache", cache.name())
+                    .description("The number of entries in this cache.")
+                    .register(registry);
+        }
+    }
+}
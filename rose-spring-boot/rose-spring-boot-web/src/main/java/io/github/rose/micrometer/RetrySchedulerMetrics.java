@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.micrometer;
+
+import io.github.rose.core.util.concurrent.RetryScheduler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 重试调度器监控指标，之后创建的调度器也会注册指标，关闭时移除
+ * <p>
+ * 调度器的监听器是静态注册的，{@link #close()} 移除监听器及其注册的指标，作为 Spring bean 时在容器关闭时调用
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public class RetrySchedulerMetrics implements MeterBinder, AutoCloseable {
+    private static final String PREFIX = "rose.retry";
+
+    private final List<RegistryListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegistryListener listener = new RegistryListener(registry);
+        listeners.add(listener);
+        RetryScheduler.addListener(listener);
+    }
+
+    @Override
+    public void close() {
+        for (RegistryListener listener : listeners) {
+            RetryScheduler.removeListener(listener);
+            listener.removeAll();
+        }
+        listeners.clear();
+    }
+
+    private static FunctionCounter.Builder<RetryScheduler> counter(
+            String name, RetryScheduler scheduler, ToDoubleFunction<RetryScheduler> count) {
+        return FunctionCounter.builder(PREFIX + name, scheduler, count).tag("scheduler", scheduler.name());
+    }
+
+    private static final class RegistryListener implements RetryScheduler.Listener {
+        private final MeterRegistry registry;
+        private final Map<RetryScheduler, List<Meter>> meters = new ConcurrentHashMap<>();
+
+        private RegistryListener(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public void registered(RetryScheduler scheduler) {
+            List<Meter> schedulerMeters = new ArrayList<>(4);
+            schedulerMeters.add(counter(".attempts", scheduler, s -> s.stats().attemptCount())
+                    .description("The number of attempts, including the first ones.")
+                    .register(registry));
+            schedulerMeters.add(counter(".retries", scheduler, s -> s.stats().retryCount())
+                    .description("The number of retries scheduled after a failed attempt.")
+                    .register(registry));
+            schedulerMeters.add(counter(".calls", scheduler, s -> s.stats().successCount())
+                    .tag("result", "success")
+                    .description("The number of tasks which eventually succeeded.")
+                    .register(registry));
+            schedulerMeters.add(counter(".calls", scheduler, s -> s.stats().giveUpCount())
+                    .tag("result", "give_up")
+                    .description("The number of tasks which failed without being retried anymore.")
+                    .register(registry));
+            meters.put(scheduler, schedulerMeters);
+        }
+
+        @Override
+        public void shutdown(RetryScheduler scheduler) {
+            List<Meter> schedulerMeters = meters.remove(scheduler);
+            if (schedulerMeters != null) {
+                schedulerMeters.forEach(registry::remove);
+            }
+        }
+
+        private void removeAll() {
+            meters.keySet().forEach(this::shutdown);
+        }
+    }
+}
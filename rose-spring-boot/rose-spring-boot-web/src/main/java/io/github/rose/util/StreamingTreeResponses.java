@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rose.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rose.core.json.JsonUtils;
+import io.github.rose.core.util.tree.NodeParser;
+import io.github.rose.core.util.tree.TreeJsonWriter;
+import io.github.rose.core.util.tree.TreeNodeConfig;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 以流式响应输出树形JSON，不在内存中构建{@code Tree}，适合导出接口
+ *
+ * <pre>
+ * &#64;GetMapping("/dept/tree")
+ * public ResponseEntity&lt;StreamingResponseBody&gt; tree() {
+ *     return StreamingTreeResponses.ok(deptService.list(), 0L, TreeNodeConfig.DEFAULT_CONFIG, parser);
+ * }
+ * </pre>
+ *
+ * @author <a href="mailto:ichensoul@gmail.com">chensoul</a>
+ * @since 0.0.1
+ */
+public final class StreamingTreeResponses {
+
+    private StreamingTreeResponses() {
+        // no instantiation allowed
+    }
+
+    /**
+     * 创建输出树形JSON的响应体，使用{@link JsonUtils#OBJECT_MAPPER}序列化属性值
+     *
+     * @param list       源数据集合
+     * @param rootId     最顶层父id值 一般为 0 之类
+     * @param config     配置
+     * @param nodeParser 转换器，需无副作用
+     * @param <T>        转换的实体 为数据源里的对象类型
+     * @param <E>        ID类型
+     * @return 响应体
+     */
+    public static <T, E> StreamingResponseBody body(
+            List<T> list, E rootId, TreeNodeConfig config, NodeParser<T, E> nodeParser) {
+        return body(JsonUtils.OBJECT_MAPPER, list, rootId, config, nodeParser);
+    }
+
+    /**
+     * 创建输出树形JSON的响应体
+     *
+     * @param objectMapper 用于序列化属性值
+     * @param list         源数据集合
+     * @param rootId       最顶层父id值 一般为 0 之类
+     * @param config       配置
+     * @param nodeParser   转换器，需无副作用
+     * @param <T>          转换的实体 为数据源里的对象类型
+     * @param <E>          ID类型
+     * @return 响应体
+     */
+    public static <T, E> StreamingResponseBody body(
+            ObjectMapper objectMapper, List<T> list, E rootId, TreeNodeConfig config, NodeParser<T, E> nodeParser) {
+        return out -> TreeJsonWriter.write(out, objectMapper, list, rootId, config, nodeParser);
+    }
+
+    /**
+     * 创建内容类型为JSON的树形流式响应
+     *
+     * @param list       源数据集合
+     * @param rootId     最顶层父id值 一般为 0 之类
+     * @param config     配置
+     * @param nodeParser 转换器，需无副作用
+     * @param <T>        转换的实体 为数据源里的对象类型
+     * @param <E>        ID类型
+     * @return 响应
+     */
+    public static <T, E> ResponseEntity<StreamingResponseBody> ok(
+            List<T> list, E rootId, TreeNodeConfig config, NodeParser<T, E> nodeParser) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(list, rootId, config, nodeParser));
+    }
+}
@@ -15,11 +15,13 @@
  */
 package io.github.rose.xxljob.anntation;
 
+import io.github.rose.processor.IndexedAnnotation;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+@IndexedAnnotation
 @Target({ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface XxlRegister {
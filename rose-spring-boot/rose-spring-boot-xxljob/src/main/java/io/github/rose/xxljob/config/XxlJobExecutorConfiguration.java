@@ -71,7 +71,7 @@ public class XxlJobExecutorConfiguration {
                 if (!(bean instanceof ThreadPoolTaskExecutor)) {
                     return bean;
                 }
-                // 修改提交的任务，接入 TransmittableThreadLocal
+                // 修改提交的任务，接入 TransmittableThreadLocal，同时传递 ContextSnapshot 中注册的上下文
                 ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) bean;
                 executor.setTaskDecorator(TtlRunnable::get);
                 return executor;
@@ -16,6 +16,8 @@
 package io.github.rose.xxljob.core;
 
 import com.xxl.job.core.handler.annotation.XxlJob;
+import io.github.rose.core.reflect.Classes;
+import io.github.rose.core.reflect.ClasspathAnnotationIndex;
 import io.github.rose.core.spring.SpringContextHolder;
 import io.github.rose.xxljob.anntation.XxlRegister;
 import io.github.rose.xxljob.config.XxlJobProperties;
@@ -24,6 +26,7 @@ import io.github.rose.xxljob.model.XxlJobInfo;
 import io.github.rose.xxljob.service.JobGroupService;
 import io.github.rose.xxljob.service.JobInfoService;
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +40,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.MethodIntrospector;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
 public class XxlJobAutoRegister implements ApplicationListener<ApplicationReadyEvent>, ApplicationContextAware {
@@ -81,37 +85,68 @@ public class XxlJobAutoRegister implements ApplicationListener<ApplicationReadyE
     }
 
     private void addJobInfo(XxlJobGroup xxlJobGroup) {
+        ClasspathAnnotationIndex index = ClasspathAnnotationIndex.get(applicationContext.getClassLoader());
+        Map<Method, XxlJob> jobs = new LinkedHashMap<>();
+        // 使用编译期生成的注解索引，避免实例化并扫描使用 rose-processor 编译的 bean
+        index.methods(XxlRegister.class)
+                .filter(method ->
+                        applicationContext.getBeanNamesForType(method.getDeclaringClass(), false, true).length > 0)
+                .forEach(method -> {
+                    XxlJob xxlJob = AnnotatedElementUtils.findMergedAnnotation(method, XxlJob.class);
+                    if (xxlJob != null) {
+                        jobs.put(method, xxlJob);
+                    }
+                });
+
+        // 索引只覆盖使用 rose-processor 编译的类，其余的 bean 仍需实例化并扫描
         String[] beanDefinitionNames = applicationContext.getBeanNamesForType(Object.class, false, true);
         for (String beanDefinitionName : beanDefinitionNames) {
+            Class<?> beanType = applicationContext.getType(beanDefinitionName);
+            if (beanType != null && isIndexed(index, ClassUtils.getUserClass(beanType))) {
+                continue;
+            }
             Object bean = applicationContext.getBean(beanDefinitionName);
 
             Map<Method, XxlJob> annotatedMethods =
                     MethodIntrospector.selectMethods(bean.getClass(), (MethodIntrospector.MetadataLookup<XxlJob>)
                             method -> AnnotatedElementUtils.findMergedAnnotation(method, XxlJob.class));
-            for (Map.Entry<Method, XxlJob> methodXxlJobEntry : annotatedMethods.entrySet()) {
-                Method executeMethod = methodXxlJobEntry.getKey();
-                XxlJob xxlJob = methodXxlJobEntry.getValue();
-
-                if (executeMethod.isAnnotationPresent(XxlRegister.class)) {
-                    XxlRegister xxlRegister = executeMethod.getAnnotation(XxlRegister.class);
-                    List<XxlJobInfo> jobInfo = jobInfoService.listJob(xxlJobGroup.getId(), xxlJob.value());
-                    if (!jobInfo.isEmpty()) {
-                        // 服务端是模糊查询，需要再判断一次
-                        Optional<XxlJobInfo> first = jobInfo.stream()
-                                .filter(xxlJobInfo ->
-                                        xxlJobInfo.getExecutorHandler().equals(xxlJob.value()))
-                                .findFirst();
-                        if (first.isPresent()) {
-                            continue;
-                        }
-                    }
+            jobs.putAll(annotatedMethods);
+        }
+
+        for (Map.Entry<Method, XxlJob> methodXxlJobEntry : jobs.entrySet()) {
+            addJobInfo(xxlJobGroup, methodXxlJobEntry.getKey(), methodXxlJobEntry.getValue());
+        }
+    }
+
+    /**
+     * {@link XxlRegister} 只在类的方法上生效，bean 类型及其父类（JDK 类除外）都被索引覆盖时才可以跳过扫描
+     */
+    private boolean isIndexed(ClasspathAnnotationIndex index, Class<?> beanType) {
+        return Classes.from(beanType)
+                .traversingSuperclasses()
+                .classes()
+                .allMatch(type -> type.getClassLoader() == null || index.covers(type));
+    }
 
-                    XxlJobInfo xxlJobInfo = createXxlJobInfo(xxlJobGroup, xxlJob, xxlRegister);
-                    Integer jobId = jobInfoService.addJob(xxlJobInfo);
-                    log.info("Auto register xxljob {} success, jobId: {}", xxlRegister.jobDesc(), jobId);
-                }
+    private void addJobInfo(XxlJobGroup xxlJobGroup, Method executeMethod, XxlJob xxlJob) {
+        if (!executeMethod.isAnnotationPresent(XxlRegister.class)) {
+            return;
+        }
+        XxlRegister xxlRegister = executeMethod.getAnnotation(XxlRegister.class);
+        List<XxlJobInfo> jobInfo = jobInfoService.listJob(xxlJobGroup.getId(), xxlJob.value());
+        if (!jobInfo.isEmpty()) {
+            // 服务端是模糊查询，需要再判断一次
+            Optional<XxlJobInfo> first = jobInfo.stream()
+                    .filter(xxlJobInfo -> xxlJobInfo.getExecutorHandler().equals(xxlJob.value()))
+                    .findFirst();
+            if (first.isPresent()) {
+                return;
             }
         }
+
+        XxlJobInfo xxlJobInfo = createXxlJobInfo(xxlJobGroup, xxlJob, xxlRegister);
+        Integer jobId = jobInfoService.addJob(xxlJobInfo);
+        log.info("Auto register xxljob {} success, jobId: {}", xxlRegister.jobDesc(), jobId);
     }
 
     private XxlJobInfo createXxlJobInfo(XxlJobGroup xxlJobGroup, XxlJob xxlJob, XxlRegister xxlRegister) {
@@ -16,20 +16,38 @@
 package io.github.rose.feign;
 
 import io.github.rose.feign.retry.FeignRetryAspect;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.support.RetryTemplate;
 
 /**
  * 重试配置
+ * <p>
+ * 需要显式开启：设置 {@code feign.retry.enabled=true}，或者兼容以前的行为，classpath 中存在 spring-retry 时开启。
  */
 @Configuration(proxyBeanMethods = false)
-@ConditionalOnClass(RetryTemplate.class)
+@ConditionalOnClass(ProceedingJoinPoint.class)
+@Conditional(FeignRetryAutoConfiguration.OnFeignRetryEnabled.class)
 public class FeignRetryAutoConfiguration {
 
     @Bean
     public FeignRetryAspect feignRetryAspect() {
         return new FeignRetryAspect();
     }
+
+    static class OnFeignRetryEnabled extends AnyNestedCondition {
+        OnFeignRetryEnabled() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(name = "feign.retry.enabled", havingValue = "true")
+        static class PropertyEnabled {}
+
+        @ConditionalOnClass(name = "org.springframework.retry.support.RetryTemplate")
+        static class SpringRetryPresent {}
+    }
 }
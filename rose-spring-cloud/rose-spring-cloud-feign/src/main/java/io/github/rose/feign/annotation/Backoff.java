@@ -29,6 +29,9 @@ public @interface Backoff {
 
     long delay() default 1000L;
 
+    /**
+     * 指数退避的最大间隔（毫秒），小于等于 0 时为 30 秒
+     */
     long maxDelay() default 0L;
 
     double multiplier() default 0.0D;
@@ -16,10 +16,17 @@
 package io.github.rose.feign.retry;
 
 import feign.RetryableException;
+import io.github.rose.core.util.concurrent.Backoff;
+import io.github.rose.core.util.concurrent.RetryPolicy;
+import io.github.rose.core.util.concurrent.RetryScheduler;
 import io.github.rose.feign.annotation.FeignRetry;
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -27,77 +34,89 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.retry.backoff.BackOffPolicy;
-import org.springframework.retry.backoff.ExponentialBackOffPolicy;
-import org.springframework.retry.backoff.FixedBackOffPolicy;
-import org.springframework.retry.policy.SimpleRetryPolicy;
-import org.springframework.retry.support.RetryTemplate;
 
 /**
- * FeignRetry 注解切面注入 retryTemplate
+ * FeignRetry 注解切面，通过 {@link RetryScheduler} 在当前线程中重试
  * <p>
- * {@link org.springframework.cloud.loadbalancer.blocking.retry.BlockingLoadBalancedRetryPolicy}.
+ * 每个方法的重试策略只构造一次。
  */
 @Aspect
 public class FeignRetryAspect {
     private static final Logger log = LoggerFactory.getLogger(FeignRetryAspect.class);
 
+    /**
+     * 未设置 maxDelay 时的最大间隔，即 spring-retry 的 ExponentialBackOffPolicy 的默认值。
+     * 以前使用 spring-retry 时 maxDelay 为 0 会被修正为 1 毫秒，实际上几乎不等待就重试。
+     */
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+
+    private final Map<Method, RetryPolicy> policies = new ConcurrentHashMap<>();
+
+    private final RetryScheduler retryScheduler;
+
+    public FeignRetryAspect() {
+        this(RetryScheduler.shared());
+    }
+
+    public FeignRetryAspect(RetryScheduler retryScheduler) {
+        this.retryScheduler = retryScheduler;
+    }
+
     @Around("@annotation(feignRetry)")
     public Object retry(ProceedingJoinPoint joinPoint, FeignRetry feignRetry) throws Throwable {
         Method method = getCurrentMethod(joinPoint);
-
-        RetryTemplate retryTemplate = new RetryTemplate();
-        retryTemplate.setBackOffPolicy(prepareBackOffPolicy(feignRetry));
-        retryTemplate.setRetryPolicy(prepareSimpleRetryPolicy(feignRetry));
+        RetryPolicy policy = policies.computeIfAbsent(method, m -> prepareRetryPolicy(feignRetry));
+        AtomicInteger retryCount = new AtomicInteger();
 
         // 重试
-        return retryTemplate.execute(arg0 -> {
-            int retryCount = arg0.getRetryCount();
-            log.info(
-                    "Sending request method: {}, max attempt: {}, delay: {}, retryCount: {}",
-                    method.getName(),
-                    feignRetry.maxAttempt(),
-                    feignRetry.backoff().delay(),
-                    retryCount);
-            return joinPoint.proceed(joinPoint.getArgs());
-        });
+        return retryScheduler.call(
+                () -> {
+                    log.info(
+                            "Sending request method: {}, max attempt: {}, delay: {}, retryCount: {}",
+                            method.getName(),
+                            feignRetry.maxAttempt(),
+                            feignRetry.backoff().delay(),
+                            retryCount.getAndIncrement());
+                    return joinPoint.proceed(joinPoint.getArgs());
+                },
+                policy);
     }
 
     /**
      * 构造重试策略
      *
      * @param feignRetry 重试注解
-     * @return BackOffPolicy
+     * @return RetryPolicy
      */
-    private BackOffPolicy prepareBackOffPolicy(FeignRetry feignRetry) {
-        if (feignRetry.backoff().multiplier() != 0) {
-            ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
-            backOffPolicy.setInitialInterval(feignRetry.backoff().delay());
-            backOffPolicy.setMaxInterval(feignRetry.backoff().maxDelay());
-            backOffPolicy.setMultiplier(feignRetry.backoff().multiplier());
-            return backOffPolicy;
-        } else {
-            FixedBackOffPolicy fixedBackOffPolicy = new FixedBackOffPolicy();
-            fixedBackOffPolicy.setBackOffPeriod(feignRetry.backoff().delay());
-            return fixedBackOffPolicy;
+    private RetryPolicy prepareRetryPolicy(FeignRetry feignRetry) {
+        List<Class<? extends Throwable>> retryable = new ArrayList<>();
+        retryable.add(RetryableException.class); // Connection refused or time out
+        for (Class<? extends Throwable> t : feignRetry.include()) {
+            retryable.add(t);
         }
+
+        return RetryPolicy.DEFAULT
+                .withMaxAttempts(Math.max(1, feignRetry.maxAttempt()))
+                .withBackoff(prepareBackoff(feignRetry))
+                .retryOn(retryable.toArray(new Class[0]));
     }
 
     /**
-     * 构造重试策略
+     * 构造退避策略
      *
      * @param feignRetry 重试注解
-     * @return SimpleRetryPolicy
+     * @return Backoff
      */
-    private SimpleRetryPolicy prepareSimpleRetryPolicy(FeignRetry feignRetry) {
-        Map<Class<? extends Throwable>, Boolean> policyMap = new HashMap<>();
-        policyMap.put(RetryableException.class, true); // Connection refused or time out
-
-        for (Class<? extends Throwable> t : feignRetry.include()) {
-            policyMap.put(t, true);
+    private Backoff prepareBackoff(FeignRetry feignRetry) {
+        Duration delay = Duration.ofMillis(feignRetry.backoff().delay());
+        if (feignRetry.backoff().multiplier() != 0) {
+            Duration maxDelay = feignRetry.backoff().maxDelay() > 0
+                    ? Duration.ofMillis(feignRetry.backoff().maxDelay())
+                    : DEFAULT_MAX_DELAY;
+            return Backoff.exponential(delay, Math.max(1, feignRetry.backoff().multiplier()), maxDelay);
+        } else {
+            return Backoff.fixed(delay);
         }
-
-        return new SimpleRetryPolicy(feignRetry.maxAttempt(), policyMap, true);
     }
 
     private Method getCurrentMethod(JoinPoint joinPoint) {